@@ -20,6 +20,8 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
 
 import org.commonmark.node.AbstractVisitor;
 import org.commonmark.node.BlockQuote;
@@ -111,6 +113,29 @@ public class MarkdownDocumentReader implements DocumentReader {
 		}
 	}
 
+	/**
+	 * Builds the documents of the resource lazily, visiting one top level block of the
+	 * parsed Markdown at a time as the stream is consumed.
+	 * @return Stream of extracted {@link Document}
+	 */
+	@Override
+	public Stream<Document> stream() {
+		Node node;
+		try (var input = this.markdownResource.getInputStream()) {
+			node = this.parser.parseReader(new InputStreamReader(input));
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+
+		DocumentVisitor documentVisitor = new DocumentVisitor(this.config);
+		Stream<Document> blockDocuments = Stream.iterate(node.getFirstChild(), Objects::nonNull, Node::getNext)
+			.flatMap(block -> documentVisitor.visitBlock(block).stream());
+		Stream<Document> remainingDocuments = Stream.of(documentVisitor)
+			.flatMap(visitor -> visitor.getDocuments().stream());
+		return Stream.concat(blockDocuments, remainingDocuments);
+	}
+
 	/**
 	 * A convenient class for visiting handled nodes in the Markdown document.
 	 */
@@ -222,6 +247,19 @@ public class MarkdownDocumentReader implements DocumentReader {
 			return this.documents;
 		}
 
+		/**
+		 * Visits a single top level block and hands over the documents it completed.
+		 */
+		List<Document> visitBlock(Node block) {
+			if (this.currentDocumentBuilder == null) {
+				this.currentDocumentBuilder = Document.builder();
+			}
+			block.accept(this);
+			List<Document> completed = List.copyOf(this.documents);
+			this.documents.clear();
+			return completed;
+		}
+
 		private void buildAndFlush() {
 			if (!this.currentParagraphs.isEmpty()) {
 				String content = String.join("", this.currentParagraphs);
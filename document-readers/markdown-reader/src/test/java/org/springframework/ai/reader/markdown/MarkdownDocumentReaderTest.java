@@ -18,6 +18,7 @@ package org.springframework.ai.reader.markdown;
 
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 
@@ -244,4 +245,20 @@ class MarkdownDocumentReaderTest {
 		assertThat(documentsFirst.getText()).startsWith("Lorem ipsum dolor sit amet, consectetur adipiscing elit.");
 	}
 
+	@Test
+	void testStreamMatchesGet() {
+		for (String resource : List.of("classpath:/only-headers.md", "classpath:/with-formatting.md",
+				"classpath:/code.md", "classpath:/blockquote.md", "classpath:/lists.md")) {
+			MarkdownDocumentReader reader = new MarkdownDocumentReader(resource);
+
+			try (Stream<Document> documents = reader.stream()) {
+				assertThat(documents.toList()).extracting(Document::getMetadata, Document::getText)
+					.containsExactlyElementsOf(reader.get()
+						.stream()
+						.map(document -> tuple(document.getMetadata(), document.getText()))
+						.toList());
+			}
+		}
+	}
+
 }
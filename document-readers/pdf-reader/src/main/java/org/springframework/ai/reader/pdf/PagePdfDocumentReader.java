@@ -19,8 +19,14 @@ package org.springframework.ai.reader.pdf;
 import java.awt.Rectangle;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.apache.pdfbox.pdfparser.PDFParser;
 import org.apache.pdfbox.pdmodel.PDDocument;
@@ -55,6 +61,12 @@ public class PagePdfDocumentReader implements DocumentReader {
 
 	private static final String PDF_PAGE_REGION = "pdfPageRegion";
 
+	/**
+	 * Number of pages extracted by each worker per batch in the parallel mode, bounding
+	 * the pages extracted ahead of the consumer.
+	 */
+	private static final int PAGES_PER_WORKER_BATCH = 8;
+
 	protected final PDDocument document;
 
 	private final Logger logger = LoggerFactory.getLogger(getClass());
@@ -63,6 +75,8 @@ public class PagePdfDocumentReader implements DocumentReader {
 
 	private PdfDocumentReaderConfig config;
 
+	private ParallelPdfExtractor.Source source;
+
 	public PagePdfDocumentReader(String resourceUrl) {
 		this(new DefaultResourceLoader().getResource(resourceUrl));
 	}
@@ -77,9 +91,15 @@ public class PagePdfDocumentReader implements DocumentReader {
 
 	public PagePdfDocumentReader(Resource pdfResource, PdfDocumentReaderConfig config) {
 		try {
-			PDFParser pdfParser = new PDFParser(
-					new org.apache.pdfbox.io.RandomAccessReadBuffer(pdfResource.getInputStream()));
-			this.document = pdfParser.parse();
+			if (config.parallelism > 1) {
+				this.source = ParallelPdfExtractor.source(pdfResource);
+				this.document = new PDFParser(this.source.open()).parse();
+			}
+			else {
+				PDFParser pdfParser = new PDFParser(
+						new org.apache.pdfbox.io.RandomAccessReadBuffer(pdfResource.getInputStream()));
+				this.document = pdfParser.parse();
+			}
 
 			this.resourceFileName = pdfResource.getFilename();
 			this.config = config;
@@ -91,86 +111,203 @@ public class PagePdfDocumentReader implements DocumentReader {
 
 	@Override
 	public List<Document> get() {
+		try (Stream<Document> documents = stream()) {
+			return documents.toList();
+		}
+	}
 
-		List<Document> readDocuments = new ArrayList<>();
-		try {
-			var pdfTextStripper = new PDFLayoutTextStripperByArea();
+	/**
+	 * Extracts the pages one at a time as the stream is consumed, so that a page group
+	 * can be processed downstream before the following pages are extracted. With a
+	 * {@link PdfDocumentReaderConfig#parallelism} greater than 1, the pages are extracted
+	 * ahead in small batches split across the workers.
+	 * @return the stream of page group documents, to be closed once consumed
+	 */
+	@Override
+	public Stream<Document> stream() {
+		PageGroupIterator pageGroups = new PageGroupIterator();
+		return StreamSupport
+			.stream(Spliterators.spliteratorUnknownSize(pageGroups, Spliterator.ORDERED | Spliterator.NONNULL), false)
+			.onClose(pageGroups::close);
+	}
+
+	/**
+	 * Extracts the formatted text of a page.
+	 * @return the formatted text, or null if the page has no text
+	 */
+	private String extractPageText(PDFLayoutTextStripperByArea pdfTextStripper, PDPage page, int pageNumber)
+			throws IOException {
+		int x0 = (int) page.getMediaBox().getLowerLeftX();
+		int xW = (int) page.getMediaBox().getWidth();
+
+		int y0 = (int) page.getMediaBox().getLowerLeftY() + this.config.pageTopMargin;
+		int yW = (int) page.getMediaBox().getHeight() - (this.config.pageTopMargin + this.config.pageBottomMargin);
+
+		pdfTextStripper.addRegion(PDF_PAGE_REGION, new Rectangle(x0, y0, xW, yW));
+		pdfTextStripper.extractRegions(page);
+		var pageText = pdfTextStripper.getTextForRegion(PDF_PAGE_REGION);
+		pdfTextStripper.removeRegion(PDF_PAGE_REGION);
+
+		return StringUtils.hasText(pageText) ? this.config.pageExtractedTextFormatter.format(pageText, pageNumber)
+				: null;
+	}
+
+	private List<String> extractPageTexts(PDDocument document, int fromPage, int toPage) throws IOException {
+		var pdfTextStripper = new PDFLayoutTextStripperByArea();
+		List<String> pageTexts = new ArrayList<>(toPage - fromPage);
+		for (int pageNumber = fromPage; pageNumber < toPage; pageNumber++) {
+			pageTexts.add(extractPageText(pdfTextStripper, document.getPage(pageNumber), pageNumber));
+		}
+		return pageTexts;
+	}
+
+	protected Document toDocument(PDPage page, String docText, int startPageNumber, int endPageNumber) {
+		Document doc = new Document(docText);
+		doc.getMetadata().put(METADATA_START_PAGE_NUMBER, startPageNumber);
+		if (startPageNumber != endPageNumber) {
+			doc.getMetadata().put(METADATA_END_PAGE_NUMBER, endPageNumber);
+		}
+		doc.getMetadata().put(METADATA_FILE_NAME, this.resourceFileName);
+		return doc;
+	}
 
-			int pageNumber = 0;
-			int pagesPerDocument = 0;
-			int startPageNumber = pageNumber;
+	/**
+	 * Groups the pages into documents, extracting the text of the next pages only when
+	 * the next document is requested.
+	 */
+	private final class PageGroupIterator implements Iterator<Document>, AutoCloseable {
 
-			List<String> pageTextGroupList = new ArrayList<>();
+		private final PDFLayoutTextStripperByArea pdfTextStripper;
 
-			int totalPages = this.document.getDocumentCatalog().getPages().getCount();
-			int logFrequency = totalPages > 10 ? totalPages / 10 : 1; // if less than 10
-			// pages, print
-			// each iteration
-			int counter = 0;
+		private final Iterator<PDPage> pages;
 
-			PDPage lastPage = this.document.getDocumentCatalog().getPages().iterator().next();
-			for (PDPage page : this.document.getDocumentCatalog().getPages()) {
-				lastPage = page;
-				if (counter % logFrequency == 0 && counter / logFrequency < 10) {
-					logger.info("Processing PDF page: {}", (counter + 1));
-				}
-				counter++;
+		private final int totalPages;
 
-				pagesPerDocument++;
+		private final int logFrequency;
 
-				if (this.config.pagesPerDocument != PdfDocumentReaderConfig.ALL_PAGES
-						&& pagesPerDocument >= this.config.pagesPerDocument) {
-					pagesPerDocument = 0;
+		private final List<String> pageTextGroupList = new ArrayList<>();
 
-					var aggregatedPageTextGroup = pageTextGroupList.stream().collect(Collectors.joining());
-					if (StringUtils.hasText(aggregatedPageTextGroup)) {
-						readDocuments.add(toDocument(page, aggregatedPageTextGroup, startPageNumber, pageNumber));
-					}
-					pageTextGroupList.clear();
+		private int pageNumber = 0;
 
-					startPageNumber = pageNumber + 1;
-				}
-				int x0 = (int) page.getMediaBox().getLowerLeftX();
-				int xW = (int) page.getMediaBox().getWidth();
+		private int pagesPerDocument = 0;
+
+		private int startPageNumber = 0;
+
+		private int counter = 0;
+
+		private PDPage lastPage;
+
+		private Document nextDocument;
+
+		private boolean completed;
 
-				int y0 = (int) page.getMediaBox().getLowerLeftY() + this.config.pageTopMargin;
-				int yW = (int) page.getMediaBox().getHeight()
-						- (this.config.pageTopMargin + this.config.pageBottomMargin);
+		private final ParallelPdfExtractor parallelExtractor;
 
-				pdfTextStripper.addRegion(PDF_PAGE_REGION, new Rectangle(x0, y0, xW, yW));
-				pdfTextStripper.extractRegions(page);
-				var pageText = pdfTextStripper.getTextForRegion(PDF_PAGE_REGION);
+		private List<String> batchPageTexts = List.of();
 
-				if (StringUtils.hasText(pageText)) {
+		private int batchStartPage = 0;
 
-					pageText = this.config.pageExtractedTextFormatter.format(pageText, pageNumber);
+		PageGroupIterator() {
+			try {
+				this.pdfTextStripper = new PDFLayoutTextStripperByArea();
+			}
+			catch (IOException e) {
+				throw new RuntimeException(e);
+			}
+			this.pages = PagePdfDocumentReader.this.document.getDocumentCatalog().getPages().iterator();
+			this.totalPages = PagePdfDocumentReader.this.document.getDocumentCatalog().getPages().getCount();
+			// if less than 10 pages, print each iteration
+			this.logFrequency = this.totalPages > 10 ? this.totalPages / 10 : 1;
+			this.parallelExtractor = (PagePdfDocumentReader.this.source != null) ? new ParallelPdfExtractor(
+					PagePdfDocumentReader.this.source, PagePdfDocumentReader.this.config.parallelism) : null;
+		}
 
-					pageTextGroupList.add(pageText);
+		@Override
+		public boolean hasNext() {
+			while (this.nextDocument == null && !this.completed) {
+				if (this.pages.hasNext()) {
+					processPage(this.pages.next());
+				}
+				else {
+					if (!CollectionUtils.isEmpty(this.pageTextGroupList)) {
+						this.nextDocument = toDocument(this.lastPage,
+								this.pageTextGroupList.stream().collect(Collectors.joining()), this.startPageNumber,
+								this.pageNumber);
+						this.pageTextGroupList.clear();
+					}
+					logger.info("Processing {} pages", this.totalPages);
+					this.completed = true;
+					close();
 				}
-				pageNumber++;
-				pdfTextStripper.removeRegion(PDF_PAGE_REGION);
 			}
-			if (!CollectionUtils.isEmpty(pageTextGroupList)) {
-				readDocuments.add(toDocument(lastPage, pageTextGroupList.stream().collect(Collectors.joining()),
-						startPageNumber, pageNumber));
+			return this.nextDocument != null;
+		}
+
+		@Override
+		public Document next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			Document document = this.nextDocument;
+			this.nextDocument = null;
+			return document;
+		}
+
+		private void processPage(PDPage page) {
+			this.lastPage = page;
+			if (this.counter % this.logFrequency == 0 && this.counter / this.logFrequency < 10) {
+				logger.info("Processing PDF page: {}", (this.counter + 1));
 			}
-			logger.info("Processing {} pages", totalPages);
-			return readDocuments;
+			this.counter++;
+
+			this.pagesPerDocument++;
+
+			if (PagePdfDocumentReader.this.config.pagesPerDocument != PdfDocumentReaderConfig.ALL_PAGES
+					&& this.pagesPerDocument >= PagePdfDocumentReader.this.config.pagesPerDocument) {
+				this.pagesPerDocument = 0;
 
+				var aggregatedPageTextGroup = this.pageTextGroupList.stream().collect(Collectors.joining());
+				if (StringUtils.hasText(aggregatedPageTextGroup)) {
+					this.nextDocument = toDocument(page, aggregatedPageTextGroup, this.startPageNumber,
+							this.pageNumber);
+				}
+				this.pageTextGroupList.clear();
+
+				this.startPageNumber = this.pageNumber + 1;
+			}
+			var pageText = pageText(page);
+			if (pageText != null) {
+				this.pageTextGroupList.add(pageText);
+			}
+			this.pageNumber++;
 		}
-		catch (IOException e) {
-			throw new RuntimeException(e);
+
+		private String pageText(PDPage page) {
+			try {
+				if (this.parallelExtractor == null) {
+					return extractPageText(this.pdfTextStripper, page, this.pageNumber);
+				}
+				if (this.pageNumber >= this.batchStartPage + this.batchPageTexts.size()) {
+					this.batchStartPage = this.pageNumber;
+					int batchEndPage = Math.min(this.totalPages, this.batchStartPage
+							+ PagePdfDocumentReader.this.config.parallelism * PAGES_PER_WORKER_BATCH);
+					this.batchPageTexts = this.parallelExtractor.extract(this.batchStartPage, batchEndPage,
+							PagePdfDocumentReader.this::extractPageTexts);
+				}
+				return this.batchPageTexts.get(this.pageNumber - this.batchStartPage);
+			}
+			catch (IOException e) {
+				throw new RuntimeException(e);
+			}
 		}
-	}
 
-	protected Document toDocument(PDPage page, String docText, int startPageNumber, int endPageNumber) {
-		Document doc = new Document(docText);
-		doc.getMetadata().put(METADATA_START_PAGE_NUMBER, startPageNumber);
-		if (startPageNumber != endPageNumber) {
-			doc.getMetadata().put(METADATA_END_PAGE_NUMBER, endPageNumber);
+		@Override
+		public void close() {
+			if (this.parallelExtractor != null) {
+				this.parallelExtractor.close();
+			}
 		}
-		doc.getMetadata().put(METADATA_FILE_NAME, this.resourceFileName);
-		return doc;
+
 	}
 
 }
@@ -18,8 +18,10 @@ package org.springframework.ai.reader.pdf;
 
 import java.awt.Rectangle;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.apache.pdfbox.pdfparser.PDFParser;
 import org.apache.pdfbox.pdmodel.PDDocument;
@@ -60,6 +62,12 @@ public class ParagraphPdfDocumentReader implements DocumentReader {
 
 	private static final String METADATA_FILE_NAME = "file_name";
 
+	/**
+	 * Number of paragraphs extracted by each worker per batch in the parallel mode,
+	 * bounding the paragraphs extracted ahead of the consumer.
+	 */
+	private static final int PARAGRAPHS_PER_WORKER_BATCH = 4;
+
 	protected final PDDocument document;
 
 	private final Logger logger = LoggerFactory.getLogger(getClass());
@@ -70,6 +78,14 @@ public class ParagraphPdfDocumentReader implements DocumentReader {
 
 	private PdfDocumentReaderConfig config;
 
+	private ParallelPdfExtractor.Source source;
+
+	/**
+	 * The document of the parallel worker running on the current thread, read instead of
+	 * {@link #document} while the worker extracts its paragraphs.
+	 */
+	private final ThreadLocal<PDDocument> workerDocument = new ThreadLocal<>();
+
 	/**
 	 * Constructs a ParagraphPdfDocumentReader using a resource URL.
 	 * @param resourceUrl The URL of the PDF resource.
@@ -103,9 +119,15 @@ public class ParagraphPdfDocumentReader implements DocumentReader {
 	public ParagraphPdfDocumentReader(Resource pdfResource, PdfDocumentReaderConfig config) {
 
 		try {
-			PDFParser pdfParser = new PDFParser(
-					new org.apache.pdfbox.io.RandomAccessReadBuffer(pdfResource.getInputStream()));
-			this.document = pdfParser.parse();
+			if (config.parallelism > 1) {
+				this.source = ParallelPdfExtractor.source(pdfResource);
+				this.document = new PDFParser(this.source.open()).parse();
+			}
+			else {
+				PDFParser pdfParser = new PDFParser(
+						new org.apache.pdfbox.io.RandomAccessReadBuffer(pdfResource.getInputStream()));
+				this.document = pdfParser.parse();
+			}
 
 			this.config = config;
 
@@ -127,35 +149,76 @@ public class ParagraphPdfDocumentReader implements DocumentReader {
 	 */
 	@Override
 	public List<Document> get() {
+		try (Stream<Document> documents = stream()) {
+			return documents.toList();
+		}
+	}
 
-		var paragraphs = this.paragraphTextExtractor.flatten();
+	/**
+	 * Extracts the text of the paragraphs one at a time as the stream is consumed, so
+	 * that only the pages spanned by the current paragraph are processed. With a
+	 * {@link PdfDocumentReaderConfig#parallelism} greater than 1, the paragraphs are
+	 * extracted ahead in small batches split across the workers.
+	 * @return A stream of {@link Document} objects representing paragraphs.
+	 */
+	@Override
+	public Stream<Document> stream() {
 
-		List<Document> documents = new ArrayList<>(paragraphs.size());
+		var paragraphs = this.paragraphTextExtractor.flatten();
 
-		if (!CollectionUtils.isEmpty(paragraphs)) {
-			logger.info("Start processing paragraphs from PDF");
-			Iterator<Paragraph> itr = paragraphs.iterator();
+		if (CollectionUtils.isEmpty(paragraphs)) {
+			logger.info("End processing paragraphs from PDF");
+			return Stream.empty();
+		}
 
-			var current = itr.next();
+		logger.info("Start processing paragraphs from PDF");
 
-			if (!itr.hasNext()) {
-				documents.add(toDocument(current, current));
-			}
-			else {
-				while (itr.hasNext()) {
-					var next = itr.next();
-					Document document = toDocument(current, next);
-					if (document != null && StringUtils.hasText(document.getText())) {
-						documents.add(toDocument(current, next));
-					}
-					current = next;
-				}
-			}
+		Stream<Document> documents;
+		if (paragraphs.size() == 1) {
+			documents = Stream.of(paragraphs.get(0))
+				.map(paragraph -> toDocument(paragraph, paragraph))
+				.filter(Objects::nonNull);
+		}
+		else if (this.source == null) {
+			documents = IntStream.range(1, paragraphs.size())
+				.mapToObj(i -> toDocument(paragraphs.get(i - 1), paragraphs.get(i)))
+				.filter(document -> document != null && StringUtils.hasText(document.getText()));
+		}
+		else {
+			var extractor = new ParallelPdfExtractor(this.source, this.config.parallelism);
+			int batchSize = this.config.parallelism * PARAGRAPHS_PER_WORKER_BATCH;
+			documents = IntStream.iterate(1, from -> from < paragraphs.size(), from -> from + batchSize)
+				.mapToObj(from -> extractor.extract(from, Math.min(from + batchSize, paragraphs.size()),
+						(document, fromIndex, toIndex) -> {
+							List<Document> slice = new ArrayList<>(toIndex - fromIndex);
+							// The overridable toDocument reads the worker document.
+							this.workerDocument.set(document);
+							try {
+								for (int i = fromIndex; i < toIndex; i++) {
+									slice.add(toDocument(paragraphs.get(i - 1), paragraphs.get(i)));
+								}
+							}
+							finally {
+								this.workerDocument.remove();
+							}
+							return slice;
+						}))
+				.flatMap(List::stream)
+				.filter(document -> document != null && StringUtils.hasText(document.getText()))
+				.onClose(extractor::close);
 		}
-		logger.info("End processing paragraphs from PDF");
-		return documents;
+		return documents.onClose(() -> logger.info("End processing paragraphs from PDF"));
 	}
 
+	/**
+	 * Creates the document of the text between the given paragraphs. With a
+	 * {@link PdfDocumentReaderConfig#parallelism} greater than 1, it is called from the
+	 * worker threads, where {@link #getTextBetweenParagraphs} reads the worker's copy of
+	 * the PDF instead of {@link #document}.
+	 * @param from the first paragraph
+	 * @param to the next paragraph
+	 * @return the document, or null when there is no text between the paragraphs
+	 */
 	protected Document toDocument(Paragraph from, Paragraph to) {
 
 		String docText = this.getTextBetweenParagraphs(from, to);
@@ -180,6 +243,9 @@ public class ParagraphPdfDocumentReader implements DocumentReader {
 
 	public String getTextBetweenParagraphs(Paragraph fromParagraph, Paragraph toParagraph) {
 
+		PDDocument workerDocument = this.workerDocument.get();
+		PDDocument pdfDocument = (workerDocument != null) ? workerDocument : this.document;
+
 		// Page started from index 0, while PDFBOx getPage return them from index 1.
 		int startPage = fromParagraph.startPageNumber() - 1;
 		int endPage = toParagraph.startPageNumber() - 1;
@@ -193,7 +259,7 @@ public class ParagraphPdfDocumentReader implements DocumentReader {
 
 			for (int pageNumber = startPage; pageNumber <= endPage; pageNumber++) {
 
-				var page = this.document.getPage(pageNumber);
+				var page = pdfDocument.getPage(pageNumber);
 
 				int fromPosition = fromParagraph.position();
 				int toPosition = toParagraph.position();
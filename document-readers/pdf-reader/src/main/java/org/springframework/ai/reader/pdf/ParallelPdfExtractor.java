@@ -0,0 +1,178 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.reader.pdf;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.pdfbox.io.RandomAccessRead;
+import org.apache.pdfbox.io.RandomAccessReadBuffer;
+import org.apache.pdfbox.io.RandomAccessReadMemoryMappedFile;
+import org.apache.pdfbox.pdfparser.PDFParser;
+import org.apache.pdfbox.pdmodel.PDDocument;
+
+import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
+
+/**
+ * Splits an index range (pages or paragraphs) of a PDF into contiguous slices, extracted
+ * in parallel by workers that each own a separate {@link PDDocument} opened from the
+ * shared source, since a {@link PDDocument} can not be used from several threads.
+ * Results are returned in index order.
+ *
+ * @since 1.0.0
+ */
+final class ParallelPdfExtractor implements AutoCloseable {
+
+	private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+	private final Source source;
+
+	private final PDDocument[] documents;
+
+	private final ExecutorService executor;
+
+	ParallelPdfExtractor(Source source, int parallelism) {
+		Assert.isTrue(parallelism > 1, "Parallelism must be greater than 1.");
+		this.source = source;
+		this.documents = new PDDocument[parallelism];
+		// Daemon workers, so that a stream abandoned without being closed does not keep
+		// the JVM alive.
+		this.executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+			Thread thread = new Thread(runnable, "pdf-extractor-" + THREAD_COUNTER.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Extracts the {@code [fromIndex, toIndex)} range, one contiguous slice per worker.
+	 * @param fromIndex the first index, inclusive
+	 * @param toIndex the last index, exclusive
+	 * @param sliceExtractor extracts a slice from the worker document
+	 * @return the extracted values, in index order
+	 */
+	<T> List<T> extract(int fromIndex, int toIndex, SliceExtractor<T> sliceExtractor) {
+		int count = toIndex - fromIndex;
+		if (count <= 0) {
+			return List.of();
+		}
+		int workers = Math.min(this.documents.length, count);
+		int sliceSize = (count + workers - 1) / workers;
+
+		List<Future<List<T>>> slices = new ArrayList<>(workers);
+		for (int worker = 0; worker < workers; worker++) {
+			int workerIndex = worker;
+			int sliceFrom = fromIndex + worker * sliceSize;
+			int sliceTo = Math.min(sliceFrom + sliceSize, toIndex);
+			if (sliceFrom >= sliceTo) {
+				break;
+			}
+			slices.add(this.executor
+				.submit(() -> sliceExtractor.extract(workerDocument(workerIndex), sliceFrom, sliceTo)));
+		}
+
+		List<T> results = new ArrayList<>(count);
+		try {
+			for (Future<List<T>> slice : slices) {
+				results.addAll(slice.get());
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			slices.forEach(slice -> slice.cancel(true));
+			throw new RuntimeException(e);
+		}
+		catch (ExecutionException e) {
+			slices.forEach(slice -> slice.cancel(true));
+			throw (e.getCause() instanceof RuntimeException runtimeException) ? runtimeException
+					: new RuntimeException(e.getCause());
+		}
+		return results;
+	}
+
+	private PDDocument workerDocument(int worker) throws IOException {
+		// Each worker slot is only ever accessed by the single task extracting its slice.
+		if (this.documents[worker] == null) {
+			this.documents[worker] = new PDFParser(this.source.open()).parse();
+		}
+		return this.documents[worker];
+	}
+
+	@Override
+	public void close() {
+		this.executor.shutdownNow();
+		for (int worker = 0; worker < this.documents.length; worker++) {
+			PDDocument document = this.documents[worker];
+			if (document != null) {
+				this.documents[worker] = null;
+				try {
+					document.close();
+				}
+				catch (IOException e) {
+					throw new RuntimeException(e);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Creates a source opening the PDF resource as many times as needed without reading
+	 * it again: a file is memory-mapped, other resources are read once in memory.
+	 * @param resource the PDF resource
+	 * @return the shared source
+	 */
+	static Source source(Resource resource) throws IOException {
+		if (resource.isFile()) {
+			var file = resource.getFile();
+			return () -> new RandomAccessReadMemoryMappedFile(file);
+		}
+		byte[] content;
+		try (InputStream inputStream = resource.getInputStream()) {
+			content = inputStream.readAllBytes();
+		}
+		return () -> new RandomAccessReadBuffer(content);
+	}
+
+	/**
+	 * Opens a new, independent, read access to the PDF content.
+	 */
+	@FunctionalInterface
+	interface Source {
+
+		RandomAccessRead open() throws IOException;
+
+	}
+
+	/**
+	 * Extracts the values of a slice of the index range.
+	 */
+	@FunctionalInterface
+	interface SliceExtractor<T> {
+
+		List<T> extract(PDDocument document, int fromIndex, int toIndex) throws IOException;
+
+	}
+
+}
@@ -41,12 +41,15 @@ public final class PdfDocumentReaderConfig {
 
 	public final ExtractedTextFormatter pageExtractedTextFormatter;
 
+	public final int parallelism;
+
 	private PdfDocumentReaderConfig(PdfDocumentReaderConfig.Builder builder) {
 		this.pagesPerDocument = builder.pagesPerDocument;
 		this.pageBottomMargin = builder.pageBottomMargin;
 		this.pageTopMargin = builder.pageTopMargin;
 		this.pageExtractedTextFormatter = builder.pageExtractedTextFormatter;
 		this.reversedParagraphPosition = builder.reversedParagraphPosition;
+		this.parallelism = builder.parallelism;
 	}
 
 	/**
@@ -77,6 +80,8 @@ public final class PdfDocumentReaderConfig {
 
 		private boolean reversedParagraphPosition = false;
 
+		private int parallelism = 1;
+
 		private Builder() {
 		}
 
@@ -137,6 +142,20 @@ public final class PdfDocumentReaderConfig {
 			return this;
 		}
 
+		/**
+		 * Configures the number of workers extracting the page text in parallel, each
+		 * with its own copy of the PDF document opened from the shared source. Defaults
+		 * to 1, the pages being extracted sequentially. The order and metadata of the
+		 * produced documents do not depend on the parallelism.
+		 * @param parallelism number of extraction workers
+		 * @return this builder
+		 */
+		public Builder withParallelism(int parallelism) {
+			Assert.isTrue(parallelism >= 1, "Parallelism must be at least 1.");
+			this.parallelism = parallelism;
+			return this;
+		}
+
 		/**
 		 * {@return the immutable configuration}
 		 */
@@ -18,6 +18,7 @@ package org.springframework.ai.reader.pdf;
 
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 
@@ -26,6 +27,7 @@ import org.springframework.ai.reader.ExtractedTextFormatter;
 import org.springframework.ai.reader.pdf.config.PdfDocumentReaderConfig;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
 
 /**
  * @author Christian Tzolov
@@ -71,4 +73,37 @@ class PagePdfDocumentReaderTests {
 		assertThat(documents).hasSize(64);
 	}
 
+	@Test
+	void streamMatchesGet() {
+		PdfDocumentReaderConfig config = PdfDocumentReaderConfig.builder()
+			.withPageExtractedTextFormatter(ExtractedTextFormatter.builder().build())
+			.withPagesPerDocument(2)
+			.build();
+
+		List<Document> documents = new PagePdfDocumentReader("classpath:/sample2.pdf", config).get();
+
+		try (Stream<Document> stream = new PagePdfDocumentReader("classpath:/sample2.pdf", config).stream()) {
+			assertThat(stream.toList()).extracting(Document::getMetadata, Document::getText)
+				.containsExactlyElementsOf(
+						documents.stream().map(document -> tuple(document.getMetadata(), document.getText())).toList());
+		}
+	}
+
+	@Test
+	void parallelReadMatchesSequentialRead() {
+		PdfDocumentReaderConfig.Builder config = PdfDocumentReaderConfig.builder()
+			.withPageExtractedTextFormatter(ExtractedTextFormatter.builder().build())
+			.withPagesPerDocument(3);
+
+		List<Document> documents = new PagePdfDocumentReader("classpath:/sample2.pdf", config.build()).get();
+
+		List<Document> parallelDocuments = new PagePdfDocumentReader("classpath:/sample2.pdf",
+				config.withParallelism(4).build())
+			.get();
+
+		assertThat(parallelDocuments).extracting(Document::getMetadata, Document::getText)
+			.containsExactlyElementsOf(
+					documents.stream().map(document -> tuple(document.getMetadata(), document.getText())).toList());
+	}
+
 }
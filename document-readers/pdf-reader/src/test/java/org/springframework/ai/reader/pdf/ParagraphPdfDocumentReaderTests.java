@@ -16,12 +16,18 @@
 
 package org.springframework.ai.reader.pdf;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import org.springframework.ai.document.Document;
 import org.springframework.ai.reader.ExtractedTextFormatter;
+import org.springframework.ai.reader.pdf.config.ParagraphManager.Paragraph;
 import org.springframework.ai.reader.pdf.config.PdfDocumentReaderConfig;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.groups.Tuple.tuple;
 
 /**
  * @author Christian Tzolov
@@ -50,4 +56,58 @@ public class ParagraphPdfDocumentReaderTests {
 
 	}
 
+	@Test
+	public void testParallelReadMatchesSequentialRead() {
+		PdfDocumentReaderConfig.Builder config = PdfDocumentReaderConfig.builder()
+			.withPageExtractedTextFormatter(ExtractedTextFormatter.builder().build());
+
+		List<Document> documents = new ParagraphPdfDocumentReader("classpath:/sample2.pdf", config.build()).get();
+
+		List<Document> parallelDocuments = new ParagraphPdfDocumentReader("classpath:/sample2.pdf",
+				config.withParallelism(4).build())
+			.get();
+
+		assertThat(documents).isNotEmpty();
+		assertThat(parallelDocuments).extracting(Document::getMetadata, Document::getText)
+			.containsExactlyElementsOf(
+					documents.stream().map(document -> tuple(document.getMetadata(), document.getText())).toList());
+	}
+
+	@Test
+	public void testParallelReadCallsTheOverriddenToDocument() {
+		PdfDocumentReaderConfig.Builder config = PdfDocumentReaderConfig.builder()
+			.withPageExtractedTextFormatter(ExtractedTextFormatter.builder().build());
+
+		List<Document> documents = new TitledParagraphPdfDocumentReader(config.build()).get();
+
+		List<Document> parallelDocuments = new TitledParagraphPdfDocumentReader(config.withParallelism(4).build())
+			.get();
+
+		assertThat(documents).isNotEmpty()
+			.allSatisfy(document -> assertThat(document.getText()).startsWith("# "));
+		assertThat(parallelDocuments).extracting(Document::getMetadata, Document::getText)
+			.containsExactlyElementsOf(
+					documents.stream().map(document -> tuple(document.getMetadata(), document.getText())).toList());
+	}
+
+	static class TitledParagraphPdfDocumentReader extends ParagraphPdfDocumentReader {
+
+		TitledParagraphPdfDocumentReader(PdfDocumentReaderConfig config) {
+			super("classpath:/sample2.pdf", config);
+		}
+
+		@Override
+		protected Document toDocument(Paragraph from, Paragraph to) {
+			Document document = super.toDocument(from, to);
+			if (document == null) {
+				return null;
+			}
+			Document titled = new Document(document.getId(), "# " + from.title() + "\n" + document.getText(),
+					document.getMetadata());
+			titled.getMetadata().put("paragraphs", from.title() + " - " + to.title());
+			return titled;
+		}
+
+	}
+
 }
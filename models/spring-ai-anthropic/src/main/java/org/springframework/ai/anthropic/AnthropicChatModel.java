@@ -22,6 +22,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import io.micrometer.observation.Observation;
@@ -34,6 +35,7 @@ import reactor.core.publisher.Mono;
 
 import org.springframework.ai.anthropic.api.AnthropicApi;
 import org.springframework.ai.anthropic.api.AnthropicApi.AnthropicMessage;
+import org.springframework.ai.anthropic.api.AnthropicApi.CacheControl;
 import org.springframework.ai.anthropic.api.AnthropicApi.ChatCompletionRequest;
 import org.springframework.ai.anthropic.api.AnthropicApi.ChatCompletionResponse;
 import org.springframework.ai.anthropic.api.AnthropicApi.ContentBlock;
@@ -42,6 +44,7 @@ import org.springframework.ai.anthropic.api.AnthropicApi.ContentBlock.Type;
 import org.springframework.ai.anthropic.api.AnthropicApi.Role;
 import org.springframework.ai.anthropic.metadata.AnthropicUsage;
 import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
 import org.springframework.ai.chat.messages.MessageType;
 import org.springframework.ai.chat.messages.ToolResponseMessage;
 import org.springframework.ai.chat.messages.UserMessage;
@@ -58,14 +61,17 @@ import org.springframework.ai.chat.model.MessageAggregator;
 import org.springframework.ai.chat.observation.ChatModelObservationContext;
 import org.springframework.ai.chat.observation.ChatModelObservationConvention;
 import org.springframework.ai.chat.observation.ChatModelObservationDocumentation;
+import org.springframework.ai.chat.observation.ChatModelStreamTimings;
 import org.springframework.ai.chat.observation.DefaultChatModelObservationConvention;
 import org.springframework.ai.chat.prompt.ChatOptions;
 import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.ai.model.Media;
+import org.springframework.ai.model.LazyMediaData;
 import org.springframework.ai.model.ModelOptionsUtils;
 import org.springframework.ai.model.function.FunctionCallback;
 import org.springframework.ai.model.function.FunctionCallbackResolver;
 import org.springframework.ai.model.function.FunctionCallingOptions;
+import org.springframework.ai.retry.ReactiveRetrySpec;
 import org.springframework.ai.retry.RetryUtils;
 import org.springframework.http.ResponseEntity;
 import org.springframework.retry.support.RetryTemplate;
@@ -121,6 +127,11 @@ public class AnthropicChatModel extends AbstractToolCallSupport implements ChatM
 	 */
 	private ChatModelObservationConvention observationConvention = DEFAULT_OBSERVATION_CONVENTION;
 
+	/**
+	 * Non-blocking retry applied to the streaming calls.
+	 */
+	private ReactiveRetrySpec streamRetry = RetryUtils.DEFAULT_STREAM_RETRY;
+
 	/**
 	 * Construct a new {@link AnthropicChatModel} instance.
 	 * @param anthropicApi the lower-level API for the Anthropic service.
@@ -277,7 +288,8 @@ public class AnthropicChatModel extends AbstractToolCallSupport implements ChatM
 
 			observation.parentObservation(contextView.getOrDefault(ObservationThreadLocalAccessor.KEY, null)).start();
 
-			Flux<ChatCompletionResponse> response = this.anthropicApi.chatCompletionStream(request);
+			Flux<ChatCompletionResponse> response = this.streamRetry
+				.apply(this.anthropicApi.chatCompletionStream(request));
 
 			// @formatter:off
 			Flux<ChatResponse> chatResponseFlux = response.switchMap(chatCompletionResponse -> {
@@ -298,7 +310,9 @@ public class AnthropicChatModel extends AbstractToolCallSupport implements ChatM
 			.contextWrite(ctx -> ctx.put(ObservationThreadLocalAccessor.KEY, observation));
 			// @formatter:on
 
-			return new MessageAggregator().aggregate(chatResponseFlux, observationContext::setResponse);
+			return new MessageAggregator().aggregate(
+					ChatModelStreamTimings.observe(chatResponseFlux, observationContext),
+					observationContext::setResponse);
 		});
 	}
 
@@ -364,6 +378,10 @@ public class AnthropicChatModel extends AbstractToolCallSupport implements ChatM
 			.keyValue("stop-reason", result.stopReason())
 			.keyValue("stop-sequence", result.stopSequence())
 			.keyValue("type", result.type())
+			.keyValue("cache-creation-input-tokens",
+					(result.usage() != null) ? result.usage().cacheCreationInputTokens() : null)
+			.keyValue("cache-read-input-tokens",
+					(result.usage() != null) ? result.usage().cacheReadInputTokens() : null)
 			.build();
 	}
 
@@ -406,8 +424,12 @@ public class AnthropicChatModel extends AbstractToolCallSupport implements ChatM
 						if (!CollectionUtils.isEmpty(userMessage.getMedia())) {
 							List<ContentBlock> mediaContent = userMessage.getMedia().stream().map(media -> {
 								Type contentBlockType = getContentBlockTypeByMedia(media);
-								var source = new Source(media.getMimeType().toString(),
-										this.fromMediaData(media.getData()));
+								// Lazy media data is encoded as a stream, straight into the
+								// request body
+								var source = (media.getData() instanceof LazyMediaData lazyMediaData)
+										? new Source(media.getMimeType().toString(), lazyMediaData.toBase64())
+										: new Source(media.getMimeType().toString(),
+												this.fromMediaData(media.getData()));
 								return new ContentBlock(contentBlockType, source);
 							}).toList();
 							contents.addAll(mediaContent);
@@ -449,7 +471,9 @@ public class AnthropicChatModel extends AbstractToolCallSupport implements ChatM
 			.map(m -> m.getText())
 			.collect(Collectors.joining(System.lineSeparator()));
 
-		ChatCompletionRequest request = new ChatCompletionRequest(this.defaultOptions.getModel(), userMessages,
+		// The options are merged on a request without the messages: the merges round trip
+		// the request through JSON, which would read and encode the lazy media data
+		ChatCompletionRequest request = new ChatCompletionRequest(this.defaultOptions.getModel(), List.of(),
 				systemPrompt, this.defaultOptions.getMaxTokens(), this.defaultOptions.getTemperature(), stream);
 
 		if (prompt.getOptions() != null) {
@@ -481,7 +505,75 @@ public class AnthropicChatModel extends AbstractToolCallSupport implements ChatM
 			request = ChatCompletionRequest.from(request).withTools(tools).build();
 		}
 
-		return request;
+		// Lazy media data is encoded as a stream when the request is sent
+		request = ChatCompletionRequest.from(request).withMessages(userMessages).build();
+
+		return applyCacheControl(prompt, request);
+	}
+
+	/**
+	 * Mark the prompt cache breakpoints selected by the runtime or default options: after
+	 * the system prompt, after the tool definitions, after the last message and after
+	 * the messages flagged with {@link AnthropicChatOptions#CACHE_CONTROL_METADATA_KEY}.
+	 */
+	private ChatCompletionRequest applyCacheControl(Prompt prompt, ChatCompletionRequest request) {
+		// The cache options are not part of the portable options, read them straight from
+		// the prompt options.
+		AnthropicChatOptions runtimeOptions = (prompt.getOptions() instanceof AnthropicChatOptions anthropicOptions)
+				? anthropicOptions : null;
+
+		ChatCompletionRequest.ChatCompletionRequestBuilder builder = ChatCompletionRequest.from(request);
+
+		if (isCacheEnabled(runtimeOptions, AnthropicChatOptions::getCacheSystemPrompt)
+				&& StringUtils.hasText(request.system())) {
+			builder.withSystemBlocks(
+					List.of(new ContentBlock(request.system()).withCacheControl(CacheControl.EPHEMERAL)));
+		}
+
+		if (isCacheEnabled(runtimeOptions, AnthropicChatOptions::getCacheTools)
+				&& !CollectionUtils.isEmpty(request.tools())) {
+			List<AnthropicApi.Tool> tools = new ArrayList<>(request.tools());
+			int last = tools.size() - 1;
+			tools.set(last, tools.get(last).withCacheControl(CacheControl.EPHEMERAL));
+			builder.withTools(tools);
+		}
+
+		// The request messages map one to one to the non system prompt messages
+		List<Message> instructions = prompt.getInstructions()
+			.stream()
+			.filter(message -> message.getMessageType() != MessageType.SYSTEM)
+			.toList();
+		boolean cacheConversation = isCacheEnabled(runtimeOptions, AnthropicChatOptions::getCacheConversation);
+		List<AnthropicMessage> messages = new ArrayList<>(request.messages());
+		boolean messagesMarked = false;
+		for (int i = 0; i < messages.size(); i++) {
+			boolean lastMessage = i == messages.size() - 1;
+			Object marker = instructions.get(i).getMetadata().get(AnthropicChatOptions.CACHE_CONTROL_METADATA_KEY);
+			if ((cacheConversation && lastMessage) || Boolean.TRUE.equals(marker) || "true".equals(marker)) {
+				AnthropicMessage message = messages.get(i);
+				if (!CollectionUtils.isEmpty(message.content())) {
+					List<ContentBlock> content = new ArrayList<>(message.content());
+					int lastBlock = content.size() - 1;
+					content.set(lastBlock, content.get(lastBlock).withCacheControl(CacheControl.EPHEMERAL));
+					messages.set(i, new AnthropicMessage(content, message.role()));
+					messagesMarked = true;
+				}
+			}
+		}
+		if (messagesMarked) {
+			builder.withMessages(messages);
+		}
+
+		return builder.build();
+	}
+
+	private boolean isCacheEnabled(AnthropicChatOptions runtimeOptions,
+			Function<AnthropicChatOptions, Boolean> cacheOption) {
+		Boolean enabled = (runtimeOptions != null) ? cacheOption.apply(runtimeOptions) : null;
+		if (enabled == null) {
+			enabled = cacheOption.apply(this.defaultOptions);
+		}
+		return Boolean.TRUE.equals(enabled);
 	}
 
 	private List<AnthropicApi.Tool> getFunctionTools(Set<String> functionNames) {
@@ -518,4 +610,14 @@ public class AnthropicChatModel extends AbstractToolCallSupport implements ChatM
 		this.observationConvention = observationConvention;
 	}
 
+	/**
+	 * Use the provided retry for the streaming calls.
+	 * @param streamRetry the non-blocking retry applied before the first chunk is
+	 * received.
+	 */
+	public void setStreamRetry(ReactiveRetrySpec streamRetry) {
+		Assert.notNull(streamRetry, "streamRetry cannot be null");
+		this.streamRetry = streamRetry;
+	}
+
 }
@@ -44,6 +44,13 @@ import org.springframework.util.Assert;
 @JsonInclude(Include.NON_NULL)
 public class AnthropicChatOptions implements FunctionCallingOptions {
 
+	/**
+	 * {@link org.springframework.ai.chat.messages.Message} metadata key marking a message
+	 * as a prompt cache breakpoint: when set to {@code true}, the prompt prefix up to and
+	 * including this message is cached.
+	 */
+	public static final String CACHE_CONTROL_METADATA_KEY = "anthropic-cache-control";
+
 	// @formatter:off
 	private @JsonProperty("model") String model;
 	private @JsonProperty("max_tokens") Integer maxTokens;
@@ -83,6 +90,25 @@ public class AnthropicChatOptions implements FunctionCallingOptions {
 	@JsonIgnore
 	private Map<String, Object> toolContext;
 
+	/**
+	 * Add a prompt cache breakpoint after the system prompt.
+	 */
+	@JsonIgnore
+	private Boolean cacheSystemPrompt;
+
+	/**
+	 * Add a prompt cache breakpoint after the tool definitions.
+	 */
+	@JsonIgnore
+	private Boolean cacheTools;
+
+	/**
+	 * Add a prompt cache breakpoint after the last message, so that the following turns
+	 * of the conversation read the whole previous conversation from the cache.
+	 */
+	@JsonIgnore
+	private Boolean cacheConversation;
+
 	// @formatter:on
 
 	public static Builder builder() {
@@ -101,6 +127,9 @@ public class AnthropicChatOptions implements FunctionCallingOptions {
 			.functions(fromOptions.getFunctions())
 			.proxyToolCalls(fromOptions.getProxyToolCalls())
 			.toolContext(fromOptions.getToolContext())
+			.cacheSystemPrompt(fromOptions.getCacheSystemPrompt())
+			.cacheTools(fromOptions.getCacheTools())
+			.cacheConversation(fromOptions.getCacheConversation())
 			.build();
 	}
 
@@ -219,6 +248,30 @@ public class AnthropicChatOptions implements FunctionCallingOptions {
 		this.toolContext = toolContext;
 	}
 
+	public Boolean getCacheSystemPrompt() {
+		return this.cacheSystemPrompt;
+	}
+
+	public void setCacheSystemPrompt(Boolean cacheSystemPrompt) {
+		this.cacheSystemPrompt = cacheSystemPrompt;
+	}
+
+	public Boolean getCacheTools() {
+		return this.cacheTools;
+	}
+
+	public void setCacheTools(Boolean cacheTools) {
+		this.cacheTools = cacheTools;
+	}
+
+	public Boolean getCacheConversation() {
+		return this.cacheConversation;
+	}
+
+	public void setCacheConversation(Boolean cacheConversation) {
+		this.cacheConversation = cacheConversation;
+	}
+
 	@Override
 	public AnthropicChatOptions copy() {
 		return fromOptions(this);
@@ -300,6 +353,21 @@ public class AnthropicChatOptions implements FunctionCallingOptions {
 			return this;
 		}
 
+		public Builder cacheSystemPrompt(Boolean cacheSystemPrompt) {
+			this.options.cacheSystemPrompt = cacheSystemPrompt;
+			return this;
+		}
+
+		public Builder cacheTools(Boolean cacheTools) {
+			this.options.cacheTools = cacheTools;
+			return this;
+		}
+
+		public Builder cacheConversation(Boolean cacheConversation) {
+			this.options.cacheConversation = cacheConversation;
+			return this;
+		}
+
 		public AnthropicChatOptions build() {
 			return this.options;
 		}
@@ -22,8 +22,9 @@ import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
 
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -33,10 +34,14 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import org.springframework.ai.anthropic.api.StreamHelper.ChatCompletionResponseBuilder;
+import org.springframework.ai.model.Base64MediaContent;
 import org.springframework.ai.model.ChatModelDescription;
 import org.springframework.ai.model.ModelOptionsUtils;
+import org.springframework.ai.model.function.StreamingToolCallAccumulator;
+import org.springframework.ai.model.sse.ServerSentEventJsonDecoder;
 import org.springframework.ai.observation.conventions.AiProvider;
 import org.springframework.ai.retry.RetryUtils;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
@@ -74,7 +79,8 @@ public class AnthropicApi {
 
 	private static final String HEADER_ANTHROPIC_BETA = "anthropic-beta";
 
-	private static final Predicate<String> SSE_DONE_PREDICATE = "[DONE]"::equals;
+	private static final ServerSentEventJsonDecoder<StreamEvent> EVENT_DECODER = new ServerSentEventJsonDecoder<>(
+			ModelOptionsUtils.OBJECT_MAPPER, StreamEvent.class);
 
 	private final RestClient restClient;
 
@@ -187,10 +193,8 @@ public class AnthropicApi {
 			.uri("/v1/messages")
 			.body(Mono.just(chatRequest), ChatCompletionRequest.class)
 			.retrieve()
-			.bodyToFlux(String.class)
-			.takeUntil(SSE_DONE_PREDICATE)
-			.filter(SSE_DONE_PREDICATE.negate())
-			.map(content -> ModelOptionsUtils.jsonToObject(content, StreamEvent.class))
+			.bodyToFlux(DataBuffer.class)
+			.transform(EVENT_DECODER::decode)
 			.filter(event -> event.type() != EventType.PING)
 			// Detect if the chunk is part of a streaming function call.
 			.map(event -> {
@@ -437,13 +441,15 @@ public class AnthropicApi {
 	 * return tool_use content blocks that represent the model's use of those tools. You
 	 * can then run those tools using the tool input generated by the model and then
 	 * optionally return results back to the model using tool_result content blocks.
+	 * @param systemBlocks The system prompt as text content blocks, e.g. to mark it with a
+	 * {@link CacheControl}. Sent instead of the system text when set.
 	 */
 	@JsonInclude(Include.NON_NULL)
 	public record ChatCompletionRequest(
 	// @formatter:off
 		@JsonProperty("model") String model,
 		@JsonProperty("messages") List<AnthropicMessage> messages,
-		@JsonProperty("system") String system,
+		@JsonProperty(value = "system", access = JsonProperty.Access.WRITE_ONLY) String system,
 		@JsonProperty("max_tokens") Integer maxTokens,
 		@JsonProperty("metadata") Metadata metadata,
 		@JsonProperty("stop_sequences") List<String> stopSequences,
@@ -451,9 +457,22 @@ public class AnthropicApi {
 		@JsonProperty("temperature") Double temperature,
 		@JsonProperty("top_p") Double topP,
 		@JsonProperty("top_k") Integer topK,
-		@JsonProperty("tools") List<Tool> tools) {
+		@JsonProperty("tools") List<Tool> tools,
+		@JsonIgnore List<ContentBlock> systemBlocks) {
 		// @formatter:on
 
+		/**
+		 * Maximum number of prompt cache breakpoints of a request.
+		 */
+		public static final int MAX_CACHE_BREAKPOINTS = 4;
+
+		public ChatCompletionRequest(String model, List<AnthropicMessage> messages, String system, Integer maxTokens,
+				Metadata metadata, List<String> stopSequences, Boolean stream, Double temperature, Double topP,
+				Integer topK, List<Tool> tools) {
+			this(model, messages, system, maxTokens, metadata, stopSequences, stream, temperature, topP, topK, tools,
+					null);
+		}
+
 		public ChatCompletionRequest(String model, List<AnthropicMessage> messages, String system, Integer maxTokens,
 				Double temperature, Boolean stream) {
 			this(model, messages, system, maxTokens, null, null, stream, temperature, null, null, null);
@@ -472,6 +491,15 @@ public class AnthropicApi {
 			return new ChatCompletionRequestBuilder(request);
 		}
 
+		/**
+		 * The system prompt sent in the request: the system blocks when set, the system
+		 * text otherwise.
+		 */
+		@JsonProperty("system")
+		private Object systemContent() {
+			return (this.systemBlocks != null) ? this.systemBlocks : this.system;
+		}
+
 		/**
 		 * Metadata about the request.
 		 *
@@ -511,6 +539,8 @@ public class AnthropicApi {
 
 		private List<Tool> tools;
 
+		private List<ContentBlock> systemBlocks;
+
 		private ChatCompletionRequestBuilder() {
 		}
 
@@ -526,6 +556,7 @@ public class AnthropicApi {
 			this.topP = request.topP;
 			this.topK = request.topK;
 			this.tools = request.tools;
+			this.systemBlocks = request.systemBlocks;
 		}
 
 		public ChatCompletionRequestBuilder withModel(ChatModel model) {
@@ -548,6 +579,17 @@ public class AnthropicApi {
 			return this;
 		}
 
+		/**
+		 * Set the system prompt as text content blocks, e.g. to mark it with a
+		 * {@link CacheControl}. The blocks are sent instead of the system text.
+		 * @param systemBlocks The system prompt content blocks.
+		 * @return this builder
+		 */
+		public ChatCompletionRequestBuilder withSystemBlocks(List<ContentBlock> systemBlocks) {
+			this.systemBlocks = systemBlocks;
+			return this;
+		}
+
 		public ChatCompletionRequestBuilder withMaxTokens(Integer maxTokens) {
 			this.maxTokens = maxTokens;
 			return this;
@@ -589,8 +631,28 @@ public class AnthropicApi {
 		}
 
 		public ChatCompletionRequest build() {
+			int cacheBreakpoints = countCacheBreakpoints(this.systemBlocks);
+			if (this.tools != null) {
+				cacheBreakpoints += (int) this.tools.stream().filter(tool -> tool.cacheControl() != null).count();
+			}
+			if (this.messages != null) {
+				for (AnthropicMessage message : this.messages) {
+					cacheBreakpoints += countCacheBreakpoints(message.content());
+				}
+			}
+			Assert.isTrue(cacheBreakpoints <= ChatCompletionRequest.MAX_CACHE_BREAKPOINTS,
+					"A request can have at most " + ChatCompletionRequest.MAX_CACHE_BREAKPOINTS
+							+ " cache breakpoints, got " + cacheBreakpoints);
 			return new ChatCompletionRequest(this.model, this.messages, this.system, this.maxTokens, this.metadata,
-					this.stopSequences, this.stream, this.temperature, this.topP, this.topK, this.tools);
+					this.stopSequences, this.stream, this.temperature, this.topP, this.topK, this.tools,
+					this.systemBlocks);
+		}
+
+		private static int countCacheBreakpoints(List<ContentBlock> contentBlocks) {
+			if (contentBlocks == null) {
+				return 0;
+			}
+			return (int) contentBlocks.stream().filter(block -> block.cacheControl() != null).count();
 		}
 
 	}
@@ -640,6 +702,7 @@ public class AnthropicApi {
 	 * @param toolUseId The id of the tool use. Applicable only for tool_result response.
 	 * @param content The content of the tool result. Applicable only for tool_result
 	 * response.
+	 * @param cacheControl The prompt cache breakpoint. Applicable only for requests.
 	 */
 	@JsonInclude(Include.NON_NULL)
 	public record ContentBlock(
@@ -658,10 +721,30 @@ public class AnthropicApi {
 
 		// tool_result response only
 		@JsonProperty("tool_use_id") String toolUseId,
-		@JsonProperty("content") String content
+		@JsonProperty("content") String content,
+
+		// request only
+		@JsonProperty("cache_control") CacheControl cacheControl
 		) {
 		// @formatter:on
 
+		/**
+		 * Create content block
+		 * @param type The type of the content.
+		 * @param source The source of the content.
+		 * @param text The text of the content.
+		 * @param index The index of the content block.
+		 * @param id The id of the tool use.
+		 * @param name The name of the tool use.
+		 * @param input The input of the tool use.
+		 * @param toolUseId The id of the tool use.
+		 * @param content The content of the tool result.
+		 */
+		public ContentBlock(Type type, Source source, String text, Integer index, String id, String name,
+				Map<String, Object> input, String toolUseId, String content) {
+			this(type, source, text, index, id, name, input, toolUseId, content, null);
+		}
+
 		/**
 		 * Create content block
 		 * @param mediaType The media type of the content.
@@ -677,7 +760,7 @@ public class AnthropicApi {
 		 * @param source The source of the content.
 		 */
 		public ContentBlock(Type type, Source source) {
-			this(type, source, null, null, null, null, null, null, null);
+			this(type, source, null, null, null, null, null, null, null, null);
 		}
 
 		/**
@@ -685,7 +768,7 @@ public class AnthropicApi {
 		 * @param source The source of the content.
 		 */
 		public ContentBlock(Source source) {
-			this(Type.IMAGE, source, null, null, null, null, null, null, null);
+			this(Type.IMAGE, source, null, null, null, null, null, null, null, null);
 		}
 
 		/**
@@ -693,7 +776,7 @@ public class AnthropicApi {
 		 * @param text The text of the content.
 		 */
 		public ContentBlock(String text) {
-			this(Type.TEXT, null, text, null, null, null, null, null, null);
+			this(Type.TEXT, null, text, null, null, null, null, null, null, null);
 		}
 
 		// Tool result
@@ -704,7 +787,7 @@ public class AnthropicApi {
 		 * @param content The content of the tool result.
 		 */
 		public ContentBlock(Type type, String toolUseId, String content) {
-			this(type, null, null, null, null, null, null, toolUseId, content);
+			this(type, null, null, null, null, null, null, toolUseId, content, null);
 		}
 
 		/**
@@ -715,7 +798,7 @@ public class AnthropicApi {
 		 * @param index The index of the content block.
 		 */
 		public ContentBlock(Type type, Source source, String text, Integer index) {
-			this(type, source, text, index, null, null, null, null, null);
+			this(type, source, text, index, null, null, null, null, null, null);
 		}
 
 		// Tool use input JSON delta streaming
@@ -727,7 +810,17 @@ public class AnthropicApi {
 		 * @param input The input of the tool use.
 		 */
 		public ContentBlock(Type type, String id, String name, Map<String, Object> input) {
-			this(type, null, null, null, id, name, input, null, null);
+			this(type, null, null, null, id, name, input, null, null, null);
+		}
+
+		/**
+		 * Copy this content block with the given cache control.
+		 * @param cacheControl The cache control to set.
+		 * @return A new content block, marked with the cache control.
+		 */
+		public ContentBlock withCacheControl(CacheControl cacheControl) {
+			return new ContentBlock(this.type, this.source, this.text, this.index, this.id, this.name, this.input,
+					this.toolUseId, this.content, cacheControl);
 		}
 
 		/**
@@ -801,15 +894,22 @@ public class AnthropicApi {
 		 * @param mediaType The media type of the content. For example, "image/png" or
 		 * "image/jpeg".
 		 * @param data The base64-encoded data of the content.
+		 * @param content The content data encoded as a stream while the request is
+		 * serialized, in place of the data.
 		 */
 		@JsonInclude(Include.NON_NULL)
 		public record Source(
 		// @formatter:off
 			@JsonProperty("type") String type,
 			@JsonProperty("media_type") String mediaType,
-			@JsonProperty("data") String data) {
+			@JsonProperty("data") String data,
+			@JsonIgnore Base64MediaContent content) {
 			// @formatter:on
 
+			public Source(String type, String mediaType, String data) {
+				this(type, mediaType, data, null);
+			}
+
 			/**
 			 * Create source
 			 * @param mediaType The media type of the content.
@@ -819,6 +919,20 @@ public class AnthropicApi {
 				this("base64", mediaType, data);
 			}
 
+			/**
+			 * Create source
+			 * @param mediaType The media type of the content.
+			 * @param content The content data, encoded as a stream.
+			 */
+			public Source(String mediaType, Base64MediaContent content) {
+				this("base64", mediaType, null, content);
+			}
+
+			@JsonAnyGetter
+			Map<String, Object> streamedContent() {
+				return (this.content != null) ? Map.of("data", this.content) : Map.of();
+			}
+
 		}
 
 	}
@@ -833,14 +947,47 @@ public class AnthropicApi {
 	 * @param name The name of the tool.
 	 * @param description A description of the tool.
 	 * @param inputSchema The input schema of the tool.
+	 * @param cacheControl The prompt cache breakpoint, caching the tools up to this one.
 	 */
 	@JsonInclude(Include.NON_NULL)
 	public record Tool(
 	// @formatter:off
 		@JsonProperty("name") String name,
 		@JsonProperty("description") String description,
-		@JsonProperty("input_schema") Map<String, Object> inputSchema) {
+		@JsonProperty("input_schema") Map<String, Object> inputSchema,
+		@JsonProperty("cache_control") CacheControl cacheControl) {
 		// @formatter:on
+
+		public Tool(String name, String description, Map<String, Object> inputSchema) {
+			this(name, description, inputSchema, null);
+		}
+
+		/**
+		 * Copy this tool with the given cache control.
+		 * @param cacheControl The cache control to set.
+		 * @return A new tool, marked with the cache control.
+		 */
+		public Tool withCacheControl(CacheControl cacheControl) {
+			return new Tool(this.name, this.description, this.inputSchema, cacheControl);
+		}
+
+	}
+
+	/**
+	 * Prompt caching breakpoint. The prompt prefix up to and including the marked system
+	 * block, tool or message content block is cached, and read back from the cache by
+	 * the following requests sharing the same prefix.
+	 *
+	 * @param type The cache type. Only "ephemeral" is supported.
+	 */
+	@JsonInclude(Include.NON_NULL)
+	public record CacheControl(@JsonProperty("type") String type) {
+
+		/**
+		 * Ephemeral cache, with a 5 minutes lifetime refreshed by each cache hit.
+		 */
+		public static final CacheControl EPHEMERAL = new CacheControl("ephemeral");
+
 	}
 
 	// CB START EVENT
@@ -881,13 +1028,23 @@ public class AnthropicApi {
 	 *
 	 * @param inputTokens The number of input tokens which were used.
 	 * @param outputTokens The number of output tokens which were used. completion).
+	 * @param cacheCreationInputTokens The number of input tokens written to the prompt
+	 * cache.
+	 * @param cacheReadInputTokens The number of input tokens read from the prompt cache.
 	 */
 	@JsonInclude(Include.NON_NULL)
 	public record Usage(
 	// @formatter:off
 		@JsonProperty("input_tokens") Integer inputTokens,
-		@JsonProperty("output_tokens") Integer outputTokens) {
+		@JsonProperty("output_tokens") Integer outputTokens,
+		@JsonProperty("cache_creation_input_tokens") Integer cacheCreationInputTokens,
+		@JsonProperty("cache_read_input_tokens") Integer cacheReadInputTokens) {
 		// @formatter:off
+
+		public Usage(Integer inputTokens, Integer outputTokens) {
+			this(inputTokens, outputTokens, null, null);
+		}
+
 	}
 
 	 /// ECB STOP
@@ -898,13 +1055,7 @@ public class AnthropicApi {
 	*/
 	public static class ToolUseAggregationEvent implements StreamEvent {
 
-		private Integer index;
-
-		private String id;
-
-		private String name;
-
-		private String partialJson = "";
+		private final StreamingToolCallAccumulator toolUse = new StreamingToolCallAccumulator();
 
 		private List<ContentBlockStartEvent.ContentBlockToolUse> toolContentBlocks = new ArrayList<>();
 
@@ -926,44 +1077,38 @@ public class AnthropicApi {
 		  * @return True if the event is empty, false otherwise.
 		*/
 		public boolean isEmpty() {
-			return (this.index == null || this.id == null || this.name == null
-					|| !StringUtils.hasText(this.partialJson));
-		}
-
-		ToolUseAggregationEvent withIndex(Integer index) {
-			this.index = index;
-			return this;
+			StreamingToolCallAccumulator.ToolCall toolCall = currentToolUse();
+			return (toolCall == null || toolCall.index() == null || toolCall.id() == null || toolCall.name() == null
+					|| !StringUtils.hasText(toolCall.arguments()));
 		}
 
-		ToolUseAggregationEvent withId(String id) {
-			this.id = id;
-			return this;
-		}
-
-		ToolUseAggregationEvent withName(String name) {
-			this.name = name;
+		ToolUseAggregationEvent startToolUse(Integer index, String id, String name) {
+			this.toolUse.append(index, id, ContentBlock.Type.TOOL_USE.getValue(), name, null);
 			return this;
 		}
 
 		ToolUseAggregationEvent appendPartialJson(String partialJson) {
-			this.partialJson = this.partialJson + partialJson;
+			this.toolUse.append(null, null, null, null, partialJson);
 			return this;
 		}
 
 		void squashIntoContentBlock() {
-			Map<String, Object> map = (StringUtils.hasText(this.partialJson))
-					? ModelOptionsUtils.jsonToMap(this.partialJson) : Map.of();
-			this.toolContentBlocks.add(new ContentBlockStartEvent.ContentBlockToolUse("tool_use", this.id, this.name, map));
-			this.index = null;
-			this.id = null;
-			this.name = null;
-			this.partialJson = "";
+			StreamingToolCallAccumulator.ToolCall toolCall = currentToolUse();
+			Map<String, Object> map = (StringUtils.hasText(toolCall.arguments()))
+					? ModelOptionsUtils.jsonToMap(toolCall.arguments()) : Map.of();
+			this.toolContentBlocks
+				.add(new ContentBlockStartEvent.ContentBlockToolUse("tool_use", toolCall.id(), toolCall.name(), map));
+			this.toolUse.clear();
+		}
+
+		private StreamingToolCallAccumulator.ToolCall currentToolUse() {
+			// A content block stop always closes the tool use, at most one is in progress.
+			return this.toolUse.isEmpty() ? null : this.toolUse.getToolCalls().get(0);
 		}
 
 		@Override
 		public String toString() {
-			return "EventToolUseBuilder [index=" + this.index + ", id=" + this.id + ", name=" + this.name + ", partialJson="
-					+ this.partialJson + ", toolUseMap=" + this.toolContentBlocks + "]";
+			return "EventToolUseBuilder [toolUse=" + currentToolUse() + ", toolUseMap=" + this.toolContentBlocks + "]";
 		}
 
 	}
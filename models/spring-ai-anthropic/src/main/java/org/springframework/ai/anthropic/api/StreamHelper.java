@@ -79,10 +79,8 @@ public class StreamHelper {
 				ContentBlockStartEvent.ContentBlockToolUse cbToolUse = (ContentBlockToolUse) contentBlockStart
 					.contentBlock();
 
-				return eventAggregator.withIndex(contentBlockStart.index())
-					.withId(cbToolUse.id())
-					.withName(cbToolUse.name())
-					.appendPartialJson(""); // CB START always has empty JSON.
+				// CB START always has empty JSON.
+				return eventAggregator.startToolUse(contentBlockStart.index(), cbToolUse.id(), cbToolUse.name());
 			}
 		}
 		else if (event.type() == EventType.CONTENT_BLOCK_DELTA) {
@@ -173,8 +171,9 @@ public class StreamHelper {
 			}
 
 			if (messageDeltaEvent.usage() != null) {
-				var totalUsage = new Usage(contentBlockReference.get().usage.inputTokens(),
-						messageDeltaEvent.usage().outputTokens());
+				var startUsage = contentBlockReference.get().usage;
+				var totalUsage = new Usage(startUsage.inputTokens(), messageDeltaEvent.usage().outputTokens(),
+						startUsage.cacheCreationInputTokens(), startUsage.cacheReadInputTokens());
 				contentBlockReference.get().withUsage(totalUsage);
 			}
 		}
@@ -58,6 +58,24 @@ public class AnthropicUsage implements Usage {
 		return this.getPromptTokens() + this.getGenerationTokens();
 	}
 
+	/**
+	 * {@return the number of input tokens written to the prompt cache, or null when
+	 * prompt caching was not used}
+	 */
+	public Long getCacheCreationInputTokens() {
+		Integer tokens = getUsage().cacheCreationInputTokens();
+		return (tokens != null) ? tokens.longValue() : null;
+	}
+
+	/**
+	 * {@return the number of input tokens read from the prompt cache, or null when prompt
+	 * caching was not used}
+	 */
+	public Long getCacheReadInputTokens() {
+		Integer tokens = getUsage().cacheReadInputTokens();
+		return (tokens != null) ? tokens.longValue() : null;
+	}
+
 	@Override
 	public String toString() {
 		return getUsage().toString();
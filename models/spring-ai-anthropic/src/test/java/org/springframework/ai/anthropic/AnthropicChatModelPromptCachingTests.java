@@ -0,0 +1,189 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.anthropic;
+
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.anthropic.api.AnthropicApi;
+import org.springframework.ai.anthropic.api.AnthropicApi.ChatCompletionRequest;
+import org.springframework.ai.anthropic.api.AnthropicApi.ContentBlock;
+import org.springframework.ai.anthropic.api.tool.MockWeatherService;
+import org.springframework.ai.anthropic.metadata.AnthropicUsage;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.SystemMessage;
+import org.springframework.ai.chat.messages.UserMessage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.model.ModelOptionsUtils;
+import org.springframework.ai.model.function.FunctionCallback;
+import org.springframework.ai.retry.RetryUtils;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.jsonPath;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * Prompt caching tests, run against a stubbed Anthropic messages endpoint.
+ *
+ * @since 1.0.0
+ */
+class AnthropicChatModelPromptCachingTests {
+
+	private static final String MESSAGES_URL = AnthropicApi.DEFAULT_BASE_URL + "/v1/messages";
+
+	private MockRestServiceServer server;
+
+	private AnthropicApi anthropicApi;
+
+	@BeforeEach
+	void setUp() {
+		RestClient.Builder restClientBuilder = RestClient.builder();
+		this.server = MockRestServiceServer.bindTo(restClientBuilder).build();
+		this.anthropicApi = new AnthropicApi(AnthropicApi.DEFAULT_BASE_URL, "TEST",
+				AnthropicApi.DEFAULT_ANTHROPIC_VERSION, restClientBuilder, WebClient.builder(),
+				RetryUtils.DEFAULT_RESPONSE_ERROR_HANDLER);
+	}
+
+	@Test
+	void cacheBreakpointsAreSentAndCacheUsageIsSurfaced() {
+
+		this.server.expect(requestTo(MESSAGES_URL))
+			.andExpect(method(HttpMethod.POST))
+			.andExpect(jsonPath("$.system[0].type").value("text"))
+			.andExpect(jsonPath("$.system[0].text").value("You are a weather assistant."))
+			.andExpect(jsonPath("$.system[0].cache_control.type").value("ephemeral"))
+			.andExpect(jsonPath("$.tools[0].cache_control.type").value("ephemeral"))
+			.andExpect(jsonPath("$.messages[0].content[0].cache_control.type").value("ephemeral"))
+			.andExpect(jsonPath("$.messages[1].content[0].cache_control").doesNotExist())
+			.andExpect(jsonPath("$.messages[2].content[0].cache_control.type").value("ephemeral"))
+			.andRespond(withSuccess(responseJson(), MediaType.APPLICATION_JSON));
+
+		var chatModel = new AnthropicChatModel(this.anthropicApi,
+				AnthropicChatOptions.builder().model("claude-3-5-sonnet-latest").maxTokens(100).build());
+
+		var options = AnthropicChatOptions.builder()
+			.functionCallbacks(List.of(FunctionCallback.builder()
+				.function("getCurrentWeather", new MockWeatherService())
+				.description("Get the weather in location")
+				.inputType(MockWeatherService.Request.class)
+				.build()))
+			.cacheSystemPrompt(true)
+			.cacheTools(true)
+			.cacheConversation(true)
+			.build();
+
+		var cachedMessage = new UserMessage("A long weather report", List.of(),
+				Map.of(AnthropicChatOptions.CACHE_CONTROL_METADATA_KEY, true));
+		var prompt = new Prompt(List.of(new SystemMessage("You are a weather assistant."), cachedMessage,
+				new AssistantMessage("Noted."), new UserMessage("Will it rain in Paris?")), options);
+
+		ChatResponse response = chatModel.call(prompt);
+
+		this.server.verify();
+
+		assertThat(response.getResult().getOutput().getText()).isEqualTo("No rain expected.");
+		assertThat(response.getMetadata().getUsage()).isInstanceOf(AnthropicUsage.class);
+		var usage = (AnthropicUsage) response.getMetadata().getUsage();
+		assertThat(usage.getCacheCreationInputTokens()).isEqualTo(1500L);
+		assertThat(usage.getCacheReadInputTokens()).isEqualTo(2048L);
+		assertThat((Integer) response.getMetadata().get("cache-creation-input-tokens")).isEqualTo(1500);
+		assertThat((Integer) response.getMetadata().get("cache-read-input-tokens")).isEqualTo(2048);
+	}
+
+	@Test
+	void noCacheBreakpointsByDefault() {
+
+		this.server.expect(requestTo(MESSAGES_URL))
+			.andExpect(jsonPath("$.system").value("You are a weather assistant."))
+			.andExpect(jsonPath("$.messages[0].content[0].cache_control").doesNotExist())
+			.andRespond(withSuccess(responseJson(), MediaType.APPLICATION_JSON));
+
+		var chatModel = new AnthropicChatModel(this.anthropicApi,
+				AnthropicChatOptions.builder().model("claude-3-5-sonnet-latest").maxTokens(100).build());
+
+		chatModel.call(new Prompt(
+				List.of(new SystemMessage("You are a weather assistant."), new UserMessage("Will it rain in Paris?"))));
+
+		this.server.verify();
+	}
+
+	@Test
+	void moreThanFourCacheBreakpointsAreRejected() {
+		var chatModel = new AnthropicChatModel(this.anthropicApi,
+				AnthropicChatOptions.builder().model("claude-3-5-sonnet-latest").maxTokens(100).build());
+
+		Map<String, Object> cached = Map.of(AnthropicChatOptions.CACHE_CONTROL_METADATA_KEY, true);
+		var prompt = new Prompt(List.of(new SystemMessage("You are a weather assistant."),
+				new UserMessage("Report 1", List.of(), cached), new AssistantMessage("Noted."),
+				new UserMessage("Report 2", List.of(), cached), new AssistantMessage("Noted."),
+				new UserMessage("Report 3", List.of(), cached), new AssistantMessage("Noted."),
+				new UserMessage("Will it rain in Paris?", List.of(), cached)),
+				AnthropicChatOptions.builder().cacheSystemPrompt(true).build());
+
+		assertThatIllegalArgumentException().isThrownBy(() -> chatModel.call(prompt))
+			.withMessageContaining("at most 4 cache breakpoints");
+	}
+
+	@Test
+	void systemBlocksAreSentInsteadOfTheSystemText() throws Exception {
+		var request = ChatCompletionRequest.builder()
+			.withModel("claude-3-5-sonnet-latest")
+			.withMessages(List.of())
+			.withSystem("You are a weather assistant.")
+			.withSystemBlocks(List.of(new ContentBlock("You are a weather assistant.")
+				.withCacheControl(AnthropicApi.CacheControl.EPHEMERAL)))
+			.build();
+
+		assertThat(request.system()).isEqualTo("You are a weather assistant.");
+		JsonNode json = ModelOptionsUtils.OBJECT_MAPPER.valueToTree(request);
+		assertThat(json.path("system").path(0).path("text").asText()).isEqualTo("You are a weather assistant.");
+		assertThat(json.path("system").path(0).path("cache_control").path("type").asText()).isEqualTo("ephemeral");
+	}
+
+	private static String responseJson() {
+		return """
+				{
+					"id": "msg_01",
+					"type": "message",
+					"role": "assistant",
+					"model": "claude-3-5-sonnet-latest",
+					"content": [{ "type": "text", "text": "No rain expected." }],
+					"stop_reason": "end_turn",
+					"usage": {
+						"input_tokens": 21,
+						"output_tokens": 5,
+						"cache_creation_input_tokens": 1500,
+						"cache_read_input_tokens": 2048
+					}
+				}
+				""";
+	}
+
+}
@@ -16,10 +16,22 @@
 
 package org.springframework.ai.anthropic;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.ai.anthropic.api.AnthropicApi;
+import org.springframework.ai.chat.messages.UserMessage;
 import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.model.LazyMediaData;
+import org.springframework.ai.model.Media;
+import org.springframework.ai.model.ModelOptionsUtils;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.util.MimeTypeUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -53,4 +65,36 @@ public class ChatCompletionRequestTests {
 		assertThat(request.temperature()).isEqualTo(99.9);
 	}
 
+	@Test
+	public void createRequestDoesNotReadLazyMedia() throws JsonProcessingException {
+
+		AtomicInteger reads = new AtomicInteger();
+		ByteArrayResource image = new ByteArrayResource(new byte[] { 1, 2, 3, 4, 5 }) {
+
+			@Override
+			public InputStream getInputStream() throws IOException {
+				reads.incrementAndGet();
+				return super.getInputStream();
+			}
+
+		};
+
+		var client = new AnthropicChatModel(new AnthropicApi("TEST"),
+				AnthropicChatOptions.builder().model("DEFAULT_MODEL").build());
+
+		var request = client.createRequest(new Prompt(
+				List.of(new UserMessage("Test message content",
+						List.of(Media.builder()
+							.mimeType(MimeTypeUtils.IMAGE_PNG)
+							.data(new LazyMediaData(image))
+							.build()))),
+				AnthropicChatOptions.builder().temperature(0.5).build()), false);
+
+		assertThat(reads).hasValue(0);
+
+		ModelOptionsUtils.OBJECT_MAPPER.writeValueAsString(request);
+
+		assertThat(reads).hasValue(1);
+	}
+
 }
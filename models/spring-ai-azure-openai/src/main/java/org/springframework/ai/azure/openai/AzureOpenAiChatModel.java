@@ -80,6 +80,7 @@ import org.springframework.ai.chat.model.MessageAggregator;
 import org.springframework.ai.chat.observation.ChatModelObservationContext;
 import org.springframework.ai.chat.observation.ChatModelObservationConvention;
 import org.springframework.ai.chat.observation.ChatModelObservationDocumentation;
+import org.springframework.ai.chat.observation.ChatModelStreamTimings;
 import org.springframework.ai.chat.observation.DefaultChatModelObservationConvention;
 import org.springframework.ai.chat.prompt.ChatOptions;
 import org.springframework.ai.chat.prompt.Prompt;
@@ -352,7 +353,8 @@ public class AzureOpenAiChatModel extends AbstractToolCallSupport implements Cha
 					.doFinally(s -> observation.stop())
 					.contextWrite(ctx -> ctx.put(ObservationThreadLocalAccessor.KEY, observation));
 
-				return new MessageAggregator().aggregate(flux, observationContext::setResponse);
+				return new MessageAggregator().aggregate(ChatModelStreamTimings.observe(flux, observationContext),
+						observationContext::setResponse);
 			});
 
 		});
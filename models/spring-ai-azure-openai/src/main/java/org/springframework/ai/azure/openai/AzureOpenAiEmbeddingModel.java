@@ -166,14 +166,25 @@ public class AzureOpenAiEmbeddingModel extends AbstractEmbeddingModel {
 	private List<Embedding> generateEmbeddingList(List<EmbeddingItem> nativeData) {
 		List<Embedding> data = new ArrayList<>();
 		for (EmbeddingItem nativeDatum : nativeData) {
-			List<Float> nativeDatumEmbedding = nativeDatum.getEmbedding();
 			int nativeIndex = nativeDatum.getPromptIndex();
-			Embedding embedding = new Embedding(EmbeddingUtils.toPrimitive(nativeDatumEmbedding), nativeIndex);
+			Embedding embedding = new Embedding(toPrimitive(nativeDatum), nativeIndex);
 			data.add(embedding);
 		}
 		return data;
 	}
 
+	/**
+	 * The Azure client requests base64 encoded embeddings, decode them directly rather
+	 * than through the boxed list of {@link EmbeddingItem#getEmbedding()}.
+	 */
+	private static float[] toPrimitive(EmbeddingItem nativeDatum) {
+		String base64Embedding = nativeDatum.getEmbeddingAsString();
+		if (base64Embedding != null) {
+			return EmbeddingUtils.fromBase64(base64Embedding);
+		}
+		return EmbeddingUtils.toPrimitive(nativeDatum.getEmbedding());
+	}
+
 	public AzureOpenAiEmbeddingOptions getDefaultOptions() {
 		return this.defaultOptions;
 	}
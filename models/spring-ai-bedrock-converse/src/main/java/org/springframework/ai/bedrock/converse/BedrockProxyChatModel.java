@@ -91,9 +91,11 @@ import org.springframework.ai.chat.model.MessageAggregator;
 import org.springframework.ai.chat.observation.ChatModelObservationContext;
 import org.springframework.ai.chat.observation.ChatModelObservationConvention;
 import org.springframework.ai.chat.observation.ChatModelObservationDocumentation;
+import org.springframework.ai.chat.observation.ChatModelStreamTimings;
 import org.springframework.ai.chat.observation.DefaultChatModelObservationConvention;
 import org.springframework.ai.chat.prompt.ChatOptions;
 import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.model.LazyMediaData;
 import org.springframework.ai.model.Media;
 import org.springframework.ai.model.ModelOptionsUtils;
 import org.springframework.ai.model.function.DefaultFunctionCallingOptions;
@@ -371,6 +373,12 @@ public class BedrockProxyChatModel extends AbstractToolCallSupport implements Ch
 			if (media.getData() instanceof byte[] bytes) {
 				videoSource = VideoSource.builder().bytes(SdkBytes.fromByteArrayUnsafe(bytes)).build();
 			}
+			else if (media.getData() instanceof LazyMediaData lazyMediaData) {
+				// The SDK serializes the request from bytes, the content can not be streamed
+				videoSource = VideoSource.builder()
+					.bytes(SdkBytes.fromByteArrayUnsafe(lazyMediaData.getContentAsByteArray()))
+					.build();
+			}
 			else if (media.getData() instanceof String uriText) {
 				// if (URLValidator.isValidURLBasic(uriText)) {
 				videoSource = VideoSource.builder().s3Location(S3Location.builder().uri(uriText).build()).build();
@@ -397,6 +405,9 @@ public class BedrockProxyChatModel extends AbstractToolCallSupport implements Ch
 			if (media.getData() instanceof byte[] bytes) {
 				sourceBuilder.bytes(SdkBytes.fromByteArrayUnsafe(bytes)).build();
 			}
+			else if (media.getData() instanceof LazyMediaData lazyMediaData) {
+				sourceBuilder.bytes(SdkBytes.fromByteArrayUnsafe(lazyMediaData.getContentAsByteArray()));
+			}
 			else if (media.getData() instanceof String text) {
 
 				if (URLValidator.isValidURLBasic(text)) {
@@ -632,7 +643,9 @@ public class BedrockProxyChatModel extends AbstractToolCallSupport implements Ch
 			.contextWrite(ctx -> ctx.put(ObservationThreadLocalAccessor.KEY, observation));
 			// @formatter:on
 
-			return new MessageAggregator().aggregate(chatResponseFlux, observationContext::setResponse);
+			return new MessageAggregator().aggregate(
+					ChatModelStreamTimings.observe(chatResponseFlux, observationContext),
+					observationContext::setResponse);
 		});
 	}
 
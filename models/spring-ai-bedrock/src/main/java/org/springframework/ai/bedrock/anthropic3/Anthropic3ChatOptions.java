@@ -35,6 +35,13 @@ import org.springframework.ai.chat.prompt.ChatOptions;
 @JsonInclude(Include.NON_NULL)
 public class Anthropic3ChatOptions implements ChatOptions {
 
+	/**
+	 * {@link org.springframework.ai.chat.messages.Message} metadata key marking a message
+	 * as a prompt cache breakpoint: when set to {@code true}, the prompt prefix up to and
+	 * including this message is cached.
+	 */
+	public static final String CACHE_CONTROL_METADATA_KEY = "anthropic-cache-control";
+
 	// @formatter:off
 	/**
 	 * Controls the randomness of the output. Values can range over [0.0,1.0], inclusive. A value closer to 1.0 will
@@ -72,6 +79,19 @@ public class Anthropic3ChatOptions implements ChatOptions {
 	 * The version of the generative to use. The default value is bedrock-2023-05-31.
 	 */
 	private @JsonProperty("anthropic_version") String anthropicVersion;
+
+	/**
+	 * Add a prompt cache breakpoint after the system prompt.
+	 */
+	@JsonIgnore
+	private Boolean cacheSystemPrompt;
+
+	/**
+	 * Add a prompt cache breakpoint after the last message, so that the following turns of the conversation read the
+	 * whole previous conversation from the cache.
+	 */
+	@JsonIgnore
+	private Boolean cacheConversation;
 	// @formatter:on
 
 	public Anthropic3ChatOptions() {
@@ -98,6 +118,8 @@ public class Anthropic3ChatOptions implements ChatOptions {
 			.topP(fromOptions.getTopP())
 			.stopSequences(fromOptions.getStopSequences())
 			.anthropicVersion(fromOptions.getAnthropicVersion())
+			.cacheSystemPrompt(fromOptions.getCacheSystemPrompt())
+			.cacheConversation(fromOptions.getCacheConversation())
 			.build();
 	}
 
@@ -202,6 +224,38 @@ public class Anthropic3ChatOptions implements ChatOptions {
 		this.anthropicVersion = anthropicVersion;
 	}
 
+	/**
+	 * Get whether a prompt cache breakpoint is added after the system prompt.
+	 * @return whether the system prompt is cached
+	 */
+	public Boolean getCacheSystemPrompt() {
+		return this.cacheSystemPrompt;
+	}
+
+	/**
+	 * Set whether a prompt cache breakpoint is added after the system prompt.
+	 * @param cacheSystemPrompt whether the system prompt is cached
+	 */
+	public void setCacheSystemPrompt(Boolean cacheSystemPrompt) {
+		this.cacheSystemPrompt = cacheSystemPrompt;
+	}
+
+	/**
+	 * Get whether a prompt cache breakpoint is added after the last message.
+	 * @return whether the conversation is cached
+	 */
+	public Boolean getCacheConversation() {
+		return this.cacheConversation;
+	}
+
+	/**
+	 * Set whether a prompt cache breakpoint is added after the last message.
+	 * @param cacheConversation whether the conversation is cached
+	 */
+	public void setCacheConversation(Boolean cacheConversation) {
+		this.cacheConversation = cacheConversation;
+	}
+
 	/**
 	 * Get the model.
 	 * @return the model
@@ -311,6 +365,26 @@ public class Anthropic3ChatOptions implements ChatOptions {
 			return this;
 		}
 
+		/**
+		 * Set whether a prompt cache breakpoint is added after the system prompt.
+		 * @param cacheSystemPrompt whether the system prompt is cached
+		 * @return this {@link Builder} instance
+		 */
+		public Builder cacheSystemPrompt(Boolean cacheSystemPrompt) {
+			this.options.setCacheSystemPrompt(cacheSystemPrompt);
+			return this;
+		}
+
+		/**
+		 * Set whether a prompt cache breakpoint is added after the last message.
+		 * @param cacheConversation whether the conversation is cached
+		 * @return this {@link Builder} instance
+		 */
+		public Builder cacheConversation(Boolean cacheConversation) {
+			this.options.setCacheConversation(cacheConversation);
+			return this;
+		}
+
 		/**
 		 * Build the {@link Anthropic3ChatOptions}.
 		 * @return the {@link Anthropic3ChatOptions}
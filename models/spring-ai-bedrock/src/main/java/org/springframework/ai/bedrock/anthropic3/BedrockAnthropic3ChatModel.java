@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import reactor.core.publisher.Flux;
@@ -28,6 +29,7 @@ import org.springframework.ai.bedrock.anthropic3.api.Anthropic3ChatBedrockApi;
 import org.springframework.ai.bedrock.anthropic3.api.Anthropic3ChatBedrockApi.AnthropicChatRequest;
 import org.springframework.ai.bedrock.anthropic3.api.Anthropic3ChatBedrockApi.AnthropicChatResponse;
 import org.springframework.ai.bedrock.anthropic3.api.Anthropic3ChatBedrockApi.AnthropicChatStreamingResponse.StreamingType;
+import org.springframework.ai.bedrock.anthropic3.api.Anthropic3ChatBedrockApi.CacheControl;
 import org.springframework.ai.bedrock.anthropic3.api.Anthropic3ChatBedrockApi.ChatCompletionMessage;
 import org.springframework.ai.bedrock.anthropic3.api.Anthropic3ChatBedrockApi.ChatCompletionMessage.Role;
 import org.springframework.ai.bedrock.anthropic3.api.Anthropic3ChatBedrockApi.MediaContent;
@@ -47,6 +49,7 @@ import org.springframework.ai.chat.prompt.ChatOptions;
 import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.ai.model.ModelOptionsUtils;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
 
 /**
  * Java {@link ChatModel} and {@link StreamingChatModel} for the Bedrock Anthropic chat
@@ -99,6 +102,8 @@ public class BedrockAnthropic3ChatModel implements ChatModel, StreamingChatModel
 			.id(response.id())
 			.model(response.model())
 			.usage(extractUsage(response))
+			.keyValue("cache-creation-input-tokens", response.usage().cacheCreationInputTokens())
+			.keyValue("cache-read-input-tokens", response.usage().cacheReadInputTokens())
 			.build();
 
 		return new ChatResponse(generations, metadata);
@@ -112,10 +117,11 @@ public class BedrockAnthropic3ChatModel implements ChatModel, StreamingChatModel
 		Flux<Anthropic3ChatBedrockApi.AnthropicChatStreamingResponse> fluxResponse = this.anthropicChatApi
 			.chatCompletionStream(request);
 
-		AtomicReference<Integer> inputTokens = new AtomicReference<>(0);
+		AtomicReference<Anthropic3ChatBedrockApi.AnthropicUsage> startUsage = new AtomicReference<>(
+				new Anthropic3ChatBedrockApi.AnthropicUsage(0, 0));
 		return fluxResponse.map(response -> {
 			if (response.type() == StreamingType.MESSAGE_START) {
-				inputTokens.set(response.message().usage().inputTokens());
+				startUsage.set(response.message().usage());
 			}
 			String content = response.type() == StreamingType.CONTENT_BLOCK_DELTA ? response.delta().text() : "";
 			ChatGenerationMetadata chatGenerationMetadata = null;
@@ -123,8 +129,9 @@ public class BedrockAnthropic3ChatModel implements ChatModel, StreamingChatModel
 				chatGenerationMetadata = ChatGenerationMetadata.builder()
 					.finishReason(response.delta().stopReason())
 					.metadata("usage",
-							new Anthropic3ChatBedrockApi.AnthropicUsage(inputTokens.get(),
-									response.usage().outputTokens()))
+							new Anthropic3ChatBedrockApi.AnthropicUsage(startUsage.get().inputTokens(),
+									response.usage().outputTokens(), startUsage.get().cacheCreationInputTokens(),
+									startUsage.get().cacheReadInputTokens()))
 					.build();
 			}
 			return new ChatResponse(List.of(new Generation(new AssistantMessage(content), chatGenerationMetadata)));
@@ -155,7 +162,64 @@ public class BedrockAnthropic3ChatModel implements ChatModel, StreamingChatModel
 			request = ModelOptionsUtils.merge(updatedRuntimeOptions, request, AnthropicChatRequest.class);
 		}
 
-		return request;
+		return applyCacheControl(prompt, request);
+	}
+
+	/**
+	 * Mark the prompt cache breakpoints selected by the runtime or default options: after
+	 * the system prompt, after the last message and after the messages flagged with
+	 * {@link Anthropic3ChatOptions#CACHE_CONTROL_METADATA_KEY}.
+	 */
+	private AnthropicChatRequest applyCacheControl(Prompt prompt, AnthropicChatRequest request) {
+		// The cache options are not part of the portable options, read them straight from
+		// the prompt options.
+		Anthropic3ChatOptions runtimeOptions = (prompt.getOptions() instanceof Anthropic3ChatOptions anthropicOptions)
+				? anthropicOptions : null;
+
+		List<MediaContent> systemContents = null;
+		if (isCacheEnabled(runtimeOptions, Anthropic3ChatOptions::getCacheSystemPrompt)
+				&& StringUtils.hasText(request.system())) {
+			systemContents = List.of(new MediaContent(request.system()).withCacheControl(CacheControl.EPHEMERAL));
+		}
+
+		// The request messages map one to one to the user and assistant prompt messages
+		List<Message> instructions = prompt.getInstructions()
+			.stream()
+			.filter(m -> m.getMessageType() == MessageType.USER || m.getMessageType() == MessageType.ASSISTANT)
+			.toList();
+		boolean cacheConversation = isCacheEnabled(runtimeOptions, Anthropic3ChatOptions::getCacheConversation);
+		List<ChatCompletionMessage> messages = new ArrayList<>(request.messages());
+		for (int i = 0; i < messages.size(); i++) {
+			boolean lastMessage = i == messages.size() - 1;
+			Object marker = instructions.get(i).getMetadata().get(Anthropic3ChatOptions.CACHE_CONTROL_METADATA_KEY);
+			if ((cacheConversation && lastMessage) || Boolean.TRUE.equals(marker) || "true".equals(marker)) {
+				ChatCompletionMessage message = messages.get(i);
+				List<MediaContent> content = new ArrayList<>(message.content());
+				int lastContent = content.size() - 1;
+				content.set(lastContent, content.get(lastContent).withCacheControl(CacheControl.EPHEMERAL));
+				messages.set(i, new ChatCompletionMessage(content, message.role()));
+			}
+		}
+
+		return AnthropicChatRequest.builder(messages)
+			.system(request.system())
+			.systemContents(systemContents)
+			.temperature(request.temperature())
+			.maxTokens(request.maxTokens())
+			.topK(request.topK())
+			.topP(request.topP())
+			.stopSequences(request.stopSequences())
+			.anthropicVersion(request.anthropicVersion())
+			.build();
+	}
+
+	private boolean isCacheEnabled(Anthropic3ChatOptions runtimeOptions,
+			Function<Anthropic3ChatOptions, Boolean> cacheOption) {
+		Boolean enabled = (runtimeOptions != null) ? cacheOption.apply(runtimeOptions) : null;
+		if (enabled == null && this.defaultOptions != null) {
+			enabled = cacheOption.apply(this.defaultOptions);
+		}
+		return Boolean.TRUE.equals(enabled);
 	}
 
 	/**
@@ -19,6 +19,7 @@ package org.springframework.ai.bedrock.anthropic3.api;
 import java.time.Duration;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -215,17 +216,38 @@ public class Anthropic3ChatBedrockApi extends
 	 * @param stopSequences (defaults to "\n\nHuman:") Configure up to four sequences that the model recognizes. After a
 	 * stop sequence, the model stops generating further tokens. The returned text doesn't contain the stop sequence.
 	 * @param anthropicVersion The version of the model to use. The default value is bedrock-2023-05-31.
+	 * @param systemContents The system prompt as text contents, e.g. to mark it with a {@link CacheControl}. Sent
+	 * instead of the system text when set.
 	 */
 	@JsonInclude(Include.NON_NULL)
 	public record AnthropicChatRequest(
 			@JsonProperty("messages") List<ChatCompletionMessage> messages,
-			@JsonProperty("system") String system,
+			@JsonProperty(value = "system", access = JsonProperty.Access.WRITE_ONLY) String system,
 			@JsonProperty("temperature") Double temperature,
 			@JsonProperty("max_tokens") Integer maxTokens,
 			@JsonProperty("top_k") Integer topK,
 			@JsonProperty("top_p") Double topP,
 			@JsonProperty("stop_sequences") List<String> stopSequences,
-			@JsonProperty("anthropic_version") String anthropicVersion) {
+			@JsonProperty("anthropic_version") String anthropicVersion,
+			@JsonIgnore List<MediaContent> systemContents) {
+
+		/**
+		 * Maximum number of prompt cache breakpoints of a request.
+		 */
+		public static final int MAX_CACHE_BREAKPOINTS = 4;
+
+		public AnthropicChatRequest(List<ChatCompletionMessage> messages, String system, Double temperature,
+				Integer maxTokens, Integer topK, Double topP, List<String> stopSequences, String anthropicVersion) {
+			this(messages, system, temperature, maxTokens, topK, topP, stopSequences, anthropicVersion, null);
+		}
+
+		/**
+		 * The system prompt sent in the request: the system contents when set, the system text otherwise.
+		 */
+		@JsonProperty("system")
+		private Object systemContent() {
+			return (this.systemContents != null) ? this.systemContents : this.system;
+		}
 
 		/**
 		 * Create a new {@link AnthropicChatRequest} instance.
@@ -242,6 +264,7 @@ public class Anthropic3ChatBedrockApi extends
 		public static final class Builder {
 			private final List<ChatCompletionMessage> messages;
 			private String system;
+			private List<MediaContent> systemContents;
 			private Double temperature; // = 0.7;
 			private Integer maxTokens; // = 500;
 			private Integer topK; // = 10;
@@ -263,6 +286,17 @@ public class Anthropic3ChatBedrockApi extends
 				return this;
 			}
 
+			/**
+			 * Set the system prompt as text contents, e.g. to mark it with a {@link CacheControl}. The contents are
+			 * sent instead of the system text.
+			 * @param systemContents The system prompt contents
+			 * @return this {@link Builder} instance
+			 */
+			public Builder systemContents(List<MediaContent> systemContents) {
+				this.systemContents = systemContents;
+				return this;
+			}
+
 			/**
 			 * Set the temperature.
 			 * @param temperature The temperature
@@ -328,6 +362,14 @@ public class Anthropic3ChatBedrockApi extends
 			 * @return the {@link AnthropicChatRequest}
 			 */
 			public AnthropicChatRequest build() {
+				int cacheBreakpoints = countCacheBreakpoints(this.systemContents);
+				if (this.messages != null) {
+					for (ChatCompletionMessage message : this.messages) {
+						cacheBreakpoints += countCacheBreakpoints(message.content());
+					}
+				}
+				Assert.isTrue(cacheBreakpoints <= MAX_CACHE_BREAKPOINTS, "A request can have at most "
+						+ MAX_CACHE_BREAKPOINTS + " cache breakpoints, got " + cacheBreakpoints);
 				return new AnthropicChatRequest(
 						this.messages,
 						this.system,
@@ -336,9 +378,17 @@ public class Anthropic3ChatBedrockApi extends
 						this.topK,
 						this.topP,
 						this.stopSequences,
-						this.anthropicVersion
+						this.anthropicVersion,
+						this.systemContents
 				);
 			}
+
+			private static int countCacheBreakpoints(List<MediaContent> contents) {
+				if (contents == null) {
+					return 0;
+				}
+				return (int) contents.stream().filter(content -> content.cacheControl() != null).count();
+			}
 		}
 	}
 
@@ -349,6 +399,7 @@ public class Anthropic3ChatBedrockApi extends
 	 * @param text The text of the message. Applicable for "text" types only.
 	 * @param index The index of the content block. Applicable only for streaming
 	 * responses.
+	 * @param cacheControl The prompt cache breakpoint. Applicable only for requests.
 	 */
 	@JsonInclude(Include.NON_NULL)
 	public record MediaContent(
@@ -356,10 +407,22 @@ public class Anthropic3ChatBedrockApi extends
 		@JsonProperty("type") Type type,
 		@JsonProperty("source") Source source,
 		@JsonProperty("text") String text,
-		@JsonProperty("index") Integer index // applicable only for streaming responses.
+		@JsonProperty("index") Integer index, // applicable only for streaming responses.
+		@JsonProperty("cache_control") CacheControl cacheControl // applicable only for requests.
 		) {
 		// @formatter:on
 
+		/**
+		 * Create a new media content.
+		 * @param type the content type.
+		 * @param source The source of the media content.
+		 * @param text The text of the message.
+		 * @param index The index of the content block.
+		 */
+		public MediaContent(Type type, Source source, String text, Integer index) {
+			this(type, source, text, index, null);
+		}
+
 		/**
 		 * Create a new media content.
 		 * @param mediaType The media type of the content.
@@ -385,6 +448,15 @@ public class Anthropic3ChatBedrockApi extends
 			this(Type.TEXT, null, text, null);
 		}
 
+		/**
+		 * Copy this content with the given cache control.
+		 * @param cacheControl The cache control to set.
+		 * @return A new content, marked with the cache control.
+		 */
+		public MediaContent withCacheControl(CacheControl cacheControl) {
+			return new MediaContent(this.type, this.source, this.text, this.index, cacheControl);
+		}
+
 		/**
 		 * The type of this message.
 		 */
@@ -433,6 +505,23 @@ public class Anthropic3ChatBedrockApi extends
 
 	}
 
+	/**
+	 * Prompt caching breakpoint. The prompt prefix up to and including the marked system
+	 * or message content is cached, and read back from the cache by the following
+	 * requests sharing the same prefix.
+	 *
+	 * @param type The cache type. Only "ephemeral" is supported.
+	 */
+	@JsonInclude(Include.NON_NULL)
+	public record CacheControl(@JsonProperty("type") String type) {
+
+		/**
+		 * Ephemeral cache, with a 5 minutes lifetime refreshed by each cache hit.
+		 */
+		public static final CacheControl EPHEMERAL = new CacheControl("ephemeral");
+
+	}
+
 	/**
 	 * Message comprising the conversation.
 	 *
@@ -470,10 +559,19 @@ public class Anthropic3ChatBedrockApi extends
 	 *
 	 * @param inputTokens The number of tokens in the input prompt.
 	 * @param outputTokens The number of tokens in the generated text.
+	 * @param cacheCreationInputTokens The number of input tokens written to the prompt
+	 * cache.
+	 * @param cacheReadInputTokens The number of input tokens read from the prompt cache.
 	 */
 	@JsonInclude(Include.NON_NULL)
 	public record AnthropicUsage(@JsonProperty("input_tokens") Integer inputTokens,
-			@JsonProperty("output_tokens") Integer outputTokens) {
+			@JsonProperty("output_tokens") Integer outputTokens,
+			@JsonProperty("cache_creation_input_tokens") Integer cacheCreationInputTokens,
+			@JsonProperty("cache_read_input_tokens") Integer cacheReadInputTokens) {
+
+		public AnthropicUsage(Integer inputTokens, Integer outputTokens) {
+			this(inputTokens, outputTokens, null, null);
+		}
 
 	}
 
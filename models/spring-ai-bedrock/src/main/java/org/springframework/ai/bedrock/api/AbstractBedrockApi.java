@@ -21,6 +21,7 @@ package org.springframework.ai.bedrock.api;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
@@ -229,6 +230,28 @@ public abstract class AbstractBedrockApi<I, O, SO> {
 	 */
 	protected O internalInvocation(I request, Class<O> clazz) {
 
+		InvokeModelResponse response = this.client.invokeModel(createInvokeModelRequest(request));
+
+		return readResponse(response, clazz);
+	}
+
+	/**
+	 * Internal method to invoke the model with the asynchronous client, without blocking
+	 * the calling thread.
+	 * https://sdk.amazonaws.com/java/api/latest/software/amazon/awssdk/services/bedrockruntime/BedrockRuntimeAsyncClient.html#invokeModel
+	 *
+	 * @param request Model invocation request.
+	 * @param clazz The response class type
+	 * @return The future model invocation response.
+	 */
+	protected CompletableFuture<O> internalInvocationAsync(I request, Class<O> clazz) {
+
+		return this.clientStreaming.invokeModel(createInvokeModelRequest(request))
+				.thenApply(response -> readResponse(response, clazz));
+	}
+
+	private InvokeModelRequest createInvokeModelRequest(I request) {
+
 		SdkBytes body;
 		try {
 			body = SdkBytes.fromUtf8String(this.objectMapper.writeValueAsString(request));
@@ -237,12 +260,13 @@ public abstract class AbstractBedrockApi<I, O, SO> {
 			throw new IllegalArgumentException("Invalid JSON format for the input request: " + request, e);
 		}
 
-		InvokeModelRequest invokeRequest = InvokeModelRequest.builder()
+		return InvokeModelRequest.builder()
 				.modelId(this.modelId)
 				.body(body)
 				.build();
+	}
 
-		InvokeModelResponse response = this.client.invokeModel(invokeRequest);
+	private O readResponse(InvokeModelResponse response, Class<O> clazz) {
 
 		String responseBody = response.body().asString(StandardCharsets.UTF_8);
 
@@ -16,19 +16,17 @@
 
 package org.springframework.ai.bedrock.titan;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
 
 import org.springframework.ai.bedrock.titan.api.TitanEmbeddingBedrockApi;
 import org.springframework.ai.bedrock.titan.api.TitanEmbeddingBedrockApi.TitanEmbeddingRequest;
 import org.springframework.ai.bedrock.titan.api.TitanEmbeddingBedrockApi.TitanEmbeddingResponse;
+import org.springframework.ai.chat.metadata.DefaultUsage;
 import org.springframework.ai.document.Document;
 import org.springframework.ai.embedding.AbstractEmbeddingModel;
-import org.springframework.ai.embedding.Embedding;
+import org.springframework.ai.embedding.EmbeddingFanOut;
 import org.springframework.ai.embedding.EmbeddingOptions;
 import org.springframework.ai.embedding.EmbeddingRequest;
 import org.springframework.ai.embedding.EmbeddingResponse;
@@ -39,7 +37,9 @@ import org.springframework.util.Assert;
  * Bedrock Titan Embedding API. Titan Embedding supports text and image (encoded in
  * base64) inputs.
  *
- * Note: Titan Embedding does not support batch embedding.
+ * Note: Titan Embedding does not support batch embedding. The inputs of a request are
+ * embedded concurrently, one asynchronous call per input, with the configured
+ * {@link EmbeddingFanOut}.
  *
  * @author Christian Tzolov
  * @author Wei Jiang
@@ -56,6 +56,8 @@ public class BedrockTitanEmbeddingModel extends AbstractEmbeddingModel {
 	 */
 	private InputType inputType = InputType.TEXT;
 
+	private EmbeddingFanOut fanOut = EmbeddingFanOut.builder().build();
+
 	public BedrockTitanEmbeddingModel(TitanEmbeddingBedrockApi titanEmbeddingBedrockApi) {
 		this.embeddingApi = titanEmbeddingBedrockApi;
 	}
@@ -69,6 +71,16 @@ public class BedrockTitanEmbeddingModel extends AbstractEmbeddingModel {
 		return this;
 	}
 
+	/**
+	 * Fan-out used to embed the inputs of a request concurrently.
+	 * @param fanOut the fan-out to use.
+	 */
+	public BedrockTitanEmbeddingModel withFanOut(EmbeddingFanOut fanOut) {
+		Assert.notNull(fanOut, "fanOut must not be null");
+		this.fanOut = fanOut;
+		return this;
+	}
+
 	@Override
 	public float[] embed(Document document) {
 		return embed(document.getText());
@@ -78,18 +90,21 @@ public class BedrockTitanEmbeddingModel extends AbstractEmbeddingModel {
 	public EmbeddingResponse call(EmbeddingRequest request) {
 		Assert.notEmpty(request.getInstructions(), "At least one text is required!");
 		if (request.getInstructions().size() != 1) {
-			logger.warn(
-					"Titan Embedding does not support batch embedding. Will make multiple API calls to embed(Document)");
+			logger.debug("Titan Embedding does not support batch embedding. Will make {} concurrent API calls",
+					request.getInstructions().size());
 		}
 
-		List<Embedding> embeddings = new ArrayList<>();
-		var indexCounter = new AtomicInteger(0);
-		for (String inputContent : request.getInstructions()) {
+		return this.fanOut.embed(request.getInstructions(), inputContent -> {
 			var apiRequest = createTitanEmbeddingRequest(inputContent, request.getOptions());
-			TitanEmbeddingResponse response = this.embeddingApi.embedding(apiRequest);
-			embeddings.add(new Embedding(response.embedding(), indexCounter.getAndIncrement()));
-		}
-		return new EmbeddingResponse(embeddings);
+			return Mono.<TitanEmbeddingResponse>fromFuture(() -> this.embeddingApi.embeddingAsync(apiRequest))
+				.map(this::toResult);
+		}, this.embeddingApi.getModelId());
+	}
+
+	private EmbeddingFanOut.Result toResult(TitanEmbeddingResponse response) {
+		DefaultUsage usage = (response.inputTextTokenCount() != null)
+				? new DefaultUsage(response.inputTextTokenCount().longValue(), 0L) : null;
+		return new EmbeddingFanOut.Result(response.embedding(), usage);
 	}
 
 	private TitanEmbeddingRequest createTitanEmbeddingRequest(String inputContent, EmbeddingOptions requestOptions) {
@@ -18,6 +18,7 @@ package org.springframework.ai.bedrock.titan.api;
 
 import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
@@ -87,6 +88,16 @@ public class TitanEmbeddingBedrockApi extends
 		return this.internalInvocation(request, TitanEmbeddingResponse.class);
 	}
 
+	/**
+	 * Compute the embedding for the given request with the asynchronous Bedrock client.
+	 *
+	 * @param request The embedding request.
+	 * @return The future embedding response.
+	 */
+	public CompletableFuture<TitanEmbeddingResponse> embeddingAsync(TitanEmbeddingRequest request) {
+		return this.internalInvocationAsync(request, TitanEmbeddingResponse.class);
+	}
+
 	/**
 	 * Titan Embedding model ids.
 	 */
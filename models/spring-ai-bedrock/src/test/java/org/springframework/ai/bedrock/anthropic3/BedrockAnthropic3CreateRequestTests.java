@@ -18,15 +18,22 @@ package org.springframework.ai.bedrock.anthropic3;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.regions.Region;
 
 import org.springframework.ai.bedrock.anthropic3.api.Anthropic3ChatBedrockApi;
 import org.springframework.ai.bedrock.anthropic3.api.Anthropic3ChatBedrockApi.AnthropicChatModel;
+import org.springframework.ai.bedrock.anthropic3.api.Anthropic3ChatBedrockApi.CacheControl;
+import org.springframework.ai.bedrock.anthropic3.api.Anthropic3ChatBedrockApi.MediaContent;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.SystemMessage;
+import org.springframework.ai.chat.messages.UserMessage;
 import org.springframework.ai.chat.prompt.Prompt;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
 /**
  * @author Christian Tzolov
@@ -79,4 +86,48 @@ public class BedrockAnthropic3CreateRequestTests {
 		assertThat(request.stopSequences()).containsExactly("stop3", "stop4");
 	}
 
+	@Test
+	public void createRequestWithCacheControl() {
+
+		var client = new BedrockAnthropic3ChatModel(this.anthropicChatApi,
+				Anthropic3ChatOptions.builder().maxTokens(666).cacheSystemPrompt(true).build());
+
+		var cachedMessage = new UserMessage("Long document", List.of(),
+				Map.of(Anthropic3ChatOptions.CACHE_CONTROL_METADATA_KEY, true));
+		var request = client.createRequest(new Prompt(
+				List.of(new SystemMessage("System prompt"), cachedMessage, new UserMessage("Question"))));
+
+		assertThat(request.system()).isEqualTo("System prompt");
+		assertThat(request.systemContents())
+			.isEqualTo(List.of(new MediaContent("System prompt").withCacheControl(CacheControl.EPHEMERAL)));
+		assertThat(request.messages().get(0).content().get(0).cacheControl()).isEqualTo(CacheControl.EPHEMERAL);
+		assertThat(request.messages().get(1).content().get(0).cacheControl()).isNull();
+		assertThat(request.maxTokens()).isEqualTo(666);
+
+		request = client.createRequest(
+				new Prompt(List.of(new SystemMessage("System prompt"), new UserMessage("Question")),
+						Anthropic3ChatOptions.builder().cacheSystemPrompt(false).cacheConversation(true).build()));
+
+		assertThat(request.system()).isEqualTo("System prompt");
+		assertThat(request.systemContents()).isNull();
+		assertThat(request.messages().get(0).content().get(0).cacheControl()).isEqualTo(CacheControl.EPHEMERAL);
+	}
+
+	@Test
+	public void createRequestWithTooManyCacheBreakpoints() {
+
+		var client = new BedrockAnthropic3ChatModel(this.anthropicChatApi,
+				Anthropic3ChatOptions.builder().cacheSystemPrompt(true).build());
+
+		Map<String, Object> cached = Map.of(Anthropic3ChatOptions.CACHE_CONTROL_METADATA_KEY, true);
+		var prompt = new Prompt(List.of(new SystemMessage("System prompt"),
+				new UserMessage("Document 1", List.of(), cached), new AssistantMessage("Noted."),
+				new UserMessage("Document 2", List.of(), cached), new AssistantMessage("Noted."),
+				new UserMessage("Document 3", List.of(), cached), new AssistantMessage("Noted."),
+				new UserMessage("Question", List.of(), cached)));
+
+		assertThatIllegalArgumentException().isThrownBy(() -> client.createRequest(prompt))
+			.withMessageContaining("at most 4 cache breakpoints");
+	}
+
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.bedrock.titan;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.bedrock.titan.api.TitanEmbeddingBedrockApi;
+import org.springframework.ai.bedrock.titan.api.TitanEmbeddingBedrockApi.TitanEmbeddingRequest;
+import org.springframework.ai.bedrock.titan.api.TitanEmbeddingBedrockApi.TitanEmbeddingResponse;
+import org.springframework.ai.embedding.Embedding;
+import org.springframework.ai.embedding.EmbeddingFanOut;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for the concurrent embedding of {@link BedrockTitanEmbeddingModel}.
+ */
+class BedrockTitanEmbeddingModelTests {
+
+	@Test
+	void embedsInputsConcurrentlyInOrder() {
+		TitanEmbeddingBedrockApi api = mock(TitanEmbeddingBedrockApi.class);
+		given(api.getModelId()).willReturn("amazon.titan-embed-text-v1");
+		given(api.embeddingAsync(any())).willAnswer(invocation -> {
+			String text = invocation.getArgument(0, TitanEmbeddingRequest.class).inputText();
+			// Shorter inputs complete first.
+			long delay = 50L - text.length() * 10L;
+			return CompletableFuture.supplyAsync(
+					() -> new TitanEmbeddingResponse(new float[] { text.length() }, text.length(), null, null),
+					CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS));
+		});
+
+		EmbeddingResponse response = new BedrockTitanEmbeddingModel(api)
+			.withFanOut(EmbeddingFanOut.builder().parallelism(4).build())
+			.call(new EmbeddingRequest(List.of("a", "bb", "ccc", "dddd"), null));
+
+		assertThat(response.getResults()).extracting(Embedding::getOutput)
+			.containsExactly(new float[] { 1 }, new float[] { 2 }, new float[] { 3 }, new float[] { 4 });
+		assertThat(response.getMetadata().getModel()).isEqualTo("amazon.titan-embed-text-v1");
+		assertThat(response.getMetadata().getUsage().getPromptTokens()).isEqualTo(10L);
+		verify(api, times(4)).embeddingAsync(any());
+		verify(api, never()).embedding(any());
+	}
+
+}
@@ -18,6 +18,7 @@ package org.springframework.ai.hunyuan;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -73,6 +74,7 @@ public class HunYuanRetryTests {
 					.model(HunYuanApi.ChatModel.HUNYUAN_PRO.getValue())
 					.build(),
 				null, retryTemplate);
+		this.chatModel.setStreamRetry(RetryUtils.SHORT_STREAM_RETRY);
 	}
 
 	@Test
@@ -112,17 +114,17 @@ public class HunYuanRetryTests {
 				new ChatCompletion.ChatCompletionDelta(Role.assistant, "Response123", null));
 		ChatCompletionChunk expectedChatCompletion = new ChatCompletionChunk("id", null, 789L, "model", List.of(choice),
 				null, null, null, null, null, null);
+		AtomicInteger attempts = new AtomicInteger();
 		given(this.hunYuanApi.chatCompletionStream(isA(ChatCompletionRequest.class)))
-			.willThrow(new TransientAiException("Transient Error 1"))
-			.willThrow(new TransientAiException("Transient Error 2"))
-			.willReturn(Flux.just(expectedChatCompletion));
+			.willReturn(Flux.defer(() -> attempts.incrementAndGet() < 3
+					? Flux.error(new TransientAiException("Transient Error " + attempts.get()))
+					: Flux.just(expectedChatCompletion)));
 
 		var result = this.chatModel.stream(new Prompt("text"));
 
 		assertThat(result).isNotNull();
 		assertThat(result.collectList().block().get(0).getResult().getOutput().getText()).isSameAs("Response123");
-		assertThat(this.retryListener.onSuccessRetryCount).isEqualTo(2);
-		assertThat(this.retryListener.onErrorRetryCount).isEqualTo(2);
+		assertThat(attempts).hasValue(3);
 	}
 
 	@Test
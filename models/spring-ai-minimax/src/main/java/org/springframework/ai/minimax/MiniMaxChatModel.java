@@ -46,6 +46,7 @@ import org.springframework.ai.chat.model.StreamingChatModel;
 import org.springframework.ai.chat.observation.ChatModelObservationContext;
 import org.springframework.ai.chat.observation.ChatModelObservationConvention;
 import org.springframework.ai.chat.observation.ChatModelObservationDocumentation;
+import org.springframework.ai.chat.observation.ChatModelStreamTimings;
 import org.springframework.ai.chat.observation.DefaultChatModelObservationConvention;
 import org.springframework.ai.chat.prompt.ChatOptions;
 import org.springframework.ai.chat.prompt.Prompt;
@@ -65,6 +66,7 @@ import org.springframework.ai.model.ModelOptionsUtils;
 import org.springframework.ai.model.function.FunctionCallback;
 import org.springframework.ai.model.function.FunctionCallbackResolver;
 import org.springframework.ai.model.function.FunctionCallingOptions;
+import org.springframework.ai.retry.ReactiveRetrySpec;
 import org.springframework.ai.retry.RetryUtils;
 import org.springframework.http.ResponseEntity;
 import org.springframework.retry.support.RetryTemplate;
@@ -113,6 +115,11 @@ public class MiniMaxChatModel extends AbstractToolCallSupport implements ChatMod
 	 */
 	private ChatModelObservationConvention observationConvention = DEFAULT_OBSERVATION_CONVENTION;
 
+	/**
+	 * Non-blocking retry applied to the streaming calls.
+	 */
+	private ReactiveRetrySpec streamRetry = RetryUtils.DEFAULT_STREAM_RETRY;
+
 	/**
 	 * Creates an instance of the MiniMaxChatModel.
 	 * @param miniMaxApi The MiniMaxApi instance to be used for interacting with the
@@ -288,8 +295,8 @@ public class MiniMaxChatModel extends AbstractToolCallSupport implements ChatMod
 		return Flux.deferContextual(contextView -> {
 			ChatCompletionRequest request = createRequest(prompt, true);
 
-			Flux<ChatCompletionChunk> completionChunks = this.retryTemplate
-				.execute(ctx -> this.miniMaxApi.chatCompletionStream(request));
+			Flux<ChatCompletionChunk> completionChunks = this.streamRetry
+				.apply(this.miniMaxApi.chatCompletionStream(request));
 
 			// For chunked responses, only the first chunk contains the choice role.
 			// The rest of the chunks with same ID share the same role.
@@ -349,7 +356,8 @@ public class MiniMaxChatModel extends AbstractToolCallSupport implements ChatMod
 					.contextWrite(ctx -> ctx.put(ObservationThreadLocalAccessor.KEY, observation));
 			// @formatter:on
 
-			return new MessageAggregator().aggregate(flux, observationContext::setResponse);
+			return new MessageAggregator().aggregate(ChatModelStreamTimings.observe(flux, observationContext),
+					observationContext::setResponse);
 		});
 	}
 
@@ -520,4 +528,14 @@ public class MiniMaxChatModel extends AbstractToolCallSupport implements ChatMod
 		this.observationConvention = observationConvention;
 	}
 
+	/**
+	 * Use the provided retry for the streaming calls.
+	 * @param streamRetry the non-blocking retry applied before the first chunk is
+	 * received.
+	 */
+	public void setStreamRetry(ReactiveRetrySpec streamRetry) {
+		Assert.notNull(streamRetry, "streamRetry cannot be null");
+		this.streamRetry = streamRetry;
+	}
+
 }
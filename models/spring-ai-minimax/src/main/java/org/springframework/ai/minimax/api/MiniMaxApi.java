@@ -181,9 +181,7 @@ public class MiniMaxApi {
 					return !isInsideTool.get();
 				})
 				.concatMapIterable(window -> {
-					Mono<ChatCompletionChunk> monoChunk = window.reduce(
-							new ChatCompletionChunk(null, null, null, null, null, null),
-							(previous, current) -> this.chunkMerger.merge(previous, current));
+					Mono<ChatCompletionChunk> monoChunk = this.chunkMerger.merge(window);
 					return List.of(monoChunk);
 				})
 				.flatMap(mono -> mono);
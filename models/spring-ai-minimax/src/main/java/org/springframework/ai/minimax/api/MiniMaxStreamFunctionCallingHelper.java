@@ -19,6 +19,9 @@ package org.springframework.ai.minimax.api;
 import java.util.ArrayList;
 import java.util.List;
 
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
 import org.springframework.ai.minimax.api.MiniMaxApi.ChatCompletionChunk;
 import org.springframework.ai.minimax.api.MiniMaxApi.ChatCompletionChunk.ChunkChoice;
 import org.springframework.ai.minimax.api.MiniMaxApi.ChatCompletionFinishReason;
@@ -27,6 +30,7 @@ import org.springframework.ai.minimax.api.MiniMaxApi.ChatCompletionMessage.ChatC
 import org.springframework.ai.minimax.api.MiniMaxApi.ChatCompletionMessage.Role;
 import org.springframework.ai.minimax.api.MiniMaxApi.ChatCompletionMessage.ToolCall;
 import org.springframework.ai.minimax.api.MiniMaxApi.LogProbs;
+import org.springframework.ai.model.function.StreamingToolCallAccumulator;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
@@ -60,6 +64,63 @@ public class MiniMaxStreamFunctionCallingHelper {
 		return new ChatCompletionChunk(id, chunkChoices, created, model, systemFingerprint, object);
 	}
 
+	/**
+	 * Merge a window of streamed ChatCompletionChunks into a single one. The tool call
+	 * arguments are accumulated into one buffer per tool call, so that the merge is
+	 * linear in the size of the streamed arguments.
+	 * @param window the ChatCompletionChunks to merge
+	 * @return the merged ChatCompletionChunk
+	 */
+	public Mono<ChatCompletionChunk> merge(Flux<ChatCompletionChunk> window) {
+		return Mono.defer(() -> {
+			StreamingToolCallAccumulator toolCalls = new StreamingToolCallAccumulator();
+			return window.map(chunk -> accumulateToolCalls(chunk, toolCalls))
+				.reduce(new ChatCompletionChunk(null, null, null, null, null, null), this::merge)
+				.map(chunk -> withToolCalls(chunk, toolCalls));
+		});
+	}
+
+	private ChatCompletionChunk accumulateToolCalls(ChatCompletionChunk chunk,
+			StreamingToolCallAccumulator accumulator) {
+		if (!isStreamingToolFunctionCall(chunk)) {
+			return chunk;
+		}
+		ChunkChoice choice = chunk.choices().get(0);
+		ChatCompletionMessage delta = choice.delta();
+		for (ToolCall toolCall : delta.toolCalls()) {
+			ChatCompletionFunction function = toolCall.function();
+			accumulator.append(null, toolCall.id(), toolCall.type(), (function != null) ? function.name() : null,
+					(function != null) ? function.arguments() : null);
+		}
+		ChatCompletionMessage message = new ChatCompletionMessage(delta.rawContent(), delta.role(), delta.name(),
+				delta.toolCallId(), null);
+		return withChoice(chunk, new ChunkChoice(choice.finishReason(), choice.index(), message, choice.logprobs()));
+	}
+
+	private ChatCompletionChunk withToolCalls(ChatCompletionChunk chunk, StreamingToolCallAccumulator accumulator) {
+		if (accumulator.isEmpty() || CollectionUtils.isEmpty(chunk.choices())) {
+			return chunk;
+		}
+		List<ToolCall> toolCalls = accumulator.getToolCalls()
+			.stream()
+			.map(toolCall -> new ToolCall(toolCall.id(), toolCall.type(),
+					new ChatCompletionFunction(toolCall.name(), toolCall.arguments())))
+			.toList();
+		ChunkChoice choice = chunk.choices().get(0);
+		ChatCompletionMessage delta = choice.delta();
+		Role role = (delta.role() != null) ? delta.role() : Role.ASSISTANT;
+		ChatCompletionMessage message = new ChatCompletionMessage(delta.rawContent(), role, delta.name(),
+				delta.toolCallId(), toolCalls);
+		return withChoice(chunk, new ChunkChoice(choice.finishReason(), choice.index(), message, choice.logprobs()));
+	}
+
+	private static ChatCompletionChunk withChoice(ChatCompletionChunk chunk, ChunkChoice choice) {
+		List<ChunkChoice> choices = new ArrayList<>(chunk.choices());
+		choices.set(0, choice);
+		return new ChatCompletionChunk(chunk.id(), choices, chunk.created(), chunk.model(), chunk.systemFingerprint(),
+				chunk.object());
+	}
+
 	private ChunkChoice merge(ChunkChoice previous, ChunkChoice current) {
 		if (previous == null) {
 			return current;
@@ -84,7 +145,7 @@ public class MiniMaxStreamFunctionCallingHelper {
 
 		List<ToolCall> toolCalls = new ArrayList<>();
 		ToolCall lastPreviousTooCall = null;
-		if (previous.toolCalls() != null) {
+		if (!CollectionUtils.isEmpty(previous.toolCalls())) {
 			lastPreviousTooCall = previous.toolCalls().get(previous.toolCalls().size() - 1);
 			if (previous.toolCalls().size() > 1) {
 				toolCalls.addAll(previous.toolCalls().subList(0, previous.toolCalls().size() - 1));
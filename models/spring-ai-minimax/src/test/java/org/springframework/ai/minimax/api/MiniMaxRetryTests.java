@@ -18,6 +18,7 @@ package org.springframework.ai.minimax.api;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -78,6 +79,7 @@ public class MiniMaxRetryTests {
 
 		this.chatModel = new MiniMaxChatModel(this.miniMaxApi, MiniMaxChatOptions.builder().build(), null,
 				this.retryTemplate);
+		this.chatModel.setStreamRetry(RetryUtils.SHORT_STREAM_RETRY);
 		this.embeddingModel = new MiniMaxEmbeddingModel(this.miniMaxApi, MetadataMode.EMBED,
 				MiniMaxEmbeddingOptions.builder().build(), this.retryTemplate);
 	}
@@ -118,17 +120,17 @@ public class MiniMaxRetryTests {
 		ChatCompletionChunk expectedChatCompletion = new ChatCompletionChunk("id", List.of(choice), 666L, "model", null,
 				null);
 
+		AtomicInteger attempts = new AtomicInteger();
 		given(this.miniMaxApi.chatCompletionStream(isA(ChatCompletionRequest.class)))
-			.willThrow(new TransientAiException("Transient Error 1"))
-			.willThrow(new TransientAiException("Transient Error 2"))
-			.willReturn(Flux.just(expectedChatCompletion));
+			.willReturn(Flux.defer(() -> attempts.incrementAndGet() < 3
+					? Flux.error(new TransientAiException("Transient Error " + attempts.get()))
+					: Flux.just(expectedChatCompletion)));
 
 		var result = this.chatModel.stream(new Prompt("text"));
 
 		assertThat(result).isNotNull();
 		assertThat(result.collectList().block().get(0).getResult().getOutput().getText()).isSameAs("Response");
-		assertThat(this.retryListener.onSuccessRetryCount).isEqualTo(2);
-		assertThat(this.retryListener.onErrorRetryCount).isEqualTo(2);
+		assertThat(attempts).hasValue(3);
 	}
 
 	@Test
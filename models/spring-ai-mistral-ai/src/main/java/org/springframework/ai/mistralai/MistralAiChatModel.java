@@ -48,6 +48,7 @@ import org.springframework.ai.chat.model.MessageAggregator;
 import org.springframework.ai.chat.observation.ChatModelObservationContext;
 import org.springframework.ai.chat.observation.ChatModelObservationConvention;
 import org.springframework.ai.chat.observation.ChatModelObservationDocumentation;
+import org.springframework.ai.chat.observation.ChatModelStreamTimings;
 import org.springframework.ai.chat.observation.DefaultChatModelObservationConvention;
 import org.springframework.ai.chat.prompt.ChatOptions;
 import org.springframework.ai.chat.prompt.Prompt;
@@ -65,6 +66,7 @@ import org.springframework.ai.model.ModelOptionsUtils;
 import org.springframework.ai.model.function.FunctionCallback;
 import org.springframework.ai.model.function.FunctionCallbackResolver;
 import org.springframework.ai.model.function.FunctionCallingOptions;
+import org.springframework.ai.retry.ReactiveRetrySpec;
 import org.springframework.ai.retry.RetryUtils;
 import org.springframework.http.ResponseEntity;
 import org.springframework.retry.support.RetryTemplate;
@@ -112,6 +114,11 @@ public class MistralAiChatModel extends AbstractToolCallSupport implements ChatM
 	 */
 	private ChatModelObservationConvention observationConvention = DEFAULT_OBSERVATION_CONVENTION;
 
+	/**
+	 * Non-blocking retry applied to the streaming calls.
+	 */
+	private ReactiveRetrySpec streamRetry = RetryUtils.DEFAULT_STREAM_RETRY;
+
 	public MistralAiChatModel(MistralAiApi mistralAiApi) {
 		this(mistralAiApi,
 				MistralAiChatOptions.builder()
@@ -257,8 +264,8 @@ public class MistralAiChatModel extends AbstractToolCallSupport implements ChatM
 
 			observation.parentObservation(contextView.getOrDefault(ObservationThreadLocalAccessor.KEY, null)).start();
 
-			Flux<ChatCompletionChunk> completionChunks = this.retryTemplate
-				.execute(ctx -> this.mistralAiApi.chatCompletionStream(request));
+			Flux<ChatCompletionChunk> completionChunks = this.streamRetry
+				.apply(this.mistralAiApi.chatCompletionStream(request));
 
 			// For chunked responses, only the first chunk contains the choice role.
 			// The rest of the chunks with same ID share the same role.
@@ -318,7 +325,9 @@ public class MistralAiChatModel extends AbstractToolCallSupport implements ChatM
 			.contextWrite(ctx -> ctx.put(ObservationThreadLocalAccessor.KEY, observation));
 			// @formatter:on;
 
-			return new MessageAggregator().aggregate(chatResponseFlux, observationContext::setResponse);
+			return new MessageAggregator().aggregate(
+					ChatModelStreamTimings.observe(chatResponseFlux, observationContext),
+					observationContext::setResponse);
 		});
 
 	}
@@ -492,4 +501,14 @@ public class MistralAiChatModel extends AbstractToolCallSupport implements ChatM
 		this.observationConvention = observationConvention;
 	}
 
+	/**
+	 * Use the provided retry for the streaming calls.
+	 * @param streamRetry the non-blocking retry applied before the first chunk is
+	 * received.
+	 */
+	public void setStreamRetry(ReactiveRetrySpec streamRetry) {
+		Assert.notNull(streamRetry, "streamRetry cannot be null");
+		this.streamRetry = streamRetry;
+	}
+
 }
@@ -28,10 +28,12 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import org.springframework.ai.model.ChatModelDescription;
+import org.springframework.ai.model.EmbeddingVectorDeserializer;
 import org.springframework.ai.model.ModelOptionsUtils;
 import org.springframework.ai.observation.conventions.AiProvider;
 import org.springframework.ai.retry.RetryUtils;
@@ -209,9 +211,7 @@ public class MistralAiApi {
 				return !isInsideTool.get();
 			})
 			.concatMapIterable(window -> {
-				Mono<ChatCompletionChunk> mono1 = window.reduce(
-						new ChatCompletionChunk(null, null, null, null, null, null),
-						(previous, current) -> this.chunkMerger.merge(previous, current));
+				Mono<ChatCompletionChunk> mono1 = this.chunkMerger.merge(window);
 				return List.of(mono1);
 			})
 			.flatMap(mono -> mono);
@@ -492,7 +492,7 @@ public class MistralAiApi {
 	public record Embedding(
 	// @formatter:off
 		@JsonProperty("index") Integer index,
-		@JsonProperty("embedding") float[] embedding,
+		@JsonProperty("embedding") @JsonDeserialize(using = EmbeddingVectorDeserializer.class) float[] embedding,
 		@JsonProperty("object") String object) {
 		 // @formatter:on
 
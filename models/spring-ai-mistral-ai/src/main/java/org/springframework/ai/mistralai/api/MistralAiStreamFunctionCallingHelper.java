@@ -21,6 +21,9 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
 import org.springframework.ai.mistralai.api.MistralAiApi.ChatCompletionChunk;
 import org.springframework.ai.mistralai.api.MistralAiApi.ChatCompletionChunk.ChunkChoice;
 import org.springframework.ai.mistralai.api.MistralAiApi.ChatCompletionFinishReason;
@@ -29,6 +32,7 @@ import org.springframework.ai.mistralai.api.MistralAiApi.ChatCompletionMessage.C
 import org.springframework.ai.mistralai.api.MistralAiApi.ChatCompletionMessage.Role;
 import org.springframework.ai.mistralai.api.MistralAiApi.ChatCompletionMessage.ToolCall;
 import org.springframework.ai.mistralai.api.MistralAiApi.LogProbs;
+import org.springframework.ai.model.function.StreamingToolCallAccumulator;
 import org.springframework.util.CollectionUtils;
 
 /**
@@ -68,6 +72,65 @@ public class MistralAiStreamFunctionCallingHelper {
 		return new ChatCompletionChunk(id, object, created, model, List.of(choice), usage);
 	}
 
+	/**
+	 * Merge a window of streamed ChatCompletionChunks into a single one. The tool call
+	 * arguments are accumulated into one buffer per tool call, so that the merge is
+	 * linear in the size of the streamed arguments. Tool calls streamed without an id are
+	 * assigned a random one.
+	 * @param window the ChatCompletionChunks to merge
+	 * @return the merged ChatCompletionChunk
+	 */
+	public Mono<ChatCompletionChunk> merge(Flux<ChatCompletionChunk> window) {
+		return Mono.defer(() -> {
+			StreamingToolCallAccumulator toolCalls = new StreamingToolCallAccumulator();
+			return window.map(chunk -> accumulateToolCalls(chunk, toolCalls))
+				.reduce(new ChatCompletionChunk(null, null, null, null, null, null), this::merge)
+				.map(chunk -> withToolCalls(chunk, toolCalls));
+		});
+	}
+
+	private ChatCompletionChunk accumulateToolCalls(ChatCompletionChunk chunk,
+			StreamingToolCallAccumulator accumulator) {
+		if (!isStreamingToolFunctionCall(chunk)) {
+			return chunk;
+		}
+		ChunkChoice choice = chunk.choices().get(0);
+		ChatCompletionMessage delta = choice.delta();
+		for (ToolCall toolCall : delta.toolCalls()) {
+			ChatCompletionFunction function = toolCall.function();
+			accumulator.append(null, toolCall.id(), toolCall.type(), (function != null) ? function.name() : null,
+					(function != null) ? function.arguments() : null);
+		}
+		ChatCompletionMessage message = new ChatCompletionMessage(delta.rawContent(), delta.role(), delta.name(), null,
+				delta.toolCallId());
+		return withChoice(chunk, new ChunkChoice(choice.index(), message, choice.finishReason(), choice.logprobs()));
+	}
+
+	private ChatCompletionChunk withToolCalls(ChatCompletionChunk chunk, StreamingToolCallAccumulator accumulator) {
+		if (accumulator.isEmpty() || CollectionUtils.isEmpty(chunk.choices())) {
+			return chunk;
+		}
+		List<ToolCall> toolCalls = accumulator.getToolCalls()
+			.stream()
+			.map(toolCall -> new ToolCall((toolCall.id() != null) ? toolCall.id() : UUID.randomUUID().toString(),
+					(toolCall.type() != null) ? toolCall.type() : "function",
+					new ChatCompletionFunction(toolCall.name(), toolCall.arguments())))
+			.toList();
+		ChunkChoice choice = chunk.choices().get(0);
+		ChatCompletionMessage delta = choice.delta();
+		Role role = (delta.role() != null) ? delta.role() : Role.ASSISTANT;
+		ChatCompletionMessage message = new ChatCompletionMessage(delta.rawContent(), role, delta.name(), toolCalls,
+				delta.toolCallId());
+		return withChoice(chunk, new ChunkChoice(choice.index(), message, choice.finishReason(), choice.logprobs()));
+	}
+
+	private static ChatCompletionChunk withChoice(ChatCompletionChunk chunk, ChunkChoice choice) {
+		List<ChunkChoice> choices = new ArrayList<>(chunk.choices());
+		choices.set(0, choice);
+		return new ChatCompletionChunk(chunk.id(), chunk.object(), chunk.created(), chunk.model(), choices,
+				chunk.usage());
+	}
+
 	private ChunkChoice merge(ChunkChoice previous, ChunkChoice current) {
 		if (previous == null) {
 			if (current.delta() != null && current.delta().toolCalls() != null) {
@@ -115,7 +178,7 @@ public class MistralAiStreamFunctionCallingHelper {
 
 		List<ToolCall> toolCalls = new ArrayList<>();
 		ToolCall lastPreviousTooCall = null;
-		if (previous.toolCalls() != null) {
+		if (!CollectionUtils.isEmpty(previous.toolCalls())) {
 			lastPreviousTooCall = previous.toolCalls().get(previous.toolCalls().size() - 1);
 			if (previous.toolCalls().size() > 1) {
 				toolCalls.addAll(previous.toolCalls().subList(0, previous.toolCalls().size() - 1));
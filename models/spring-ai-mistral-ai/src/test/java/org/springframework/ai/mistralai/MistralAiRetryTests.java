@@ -18,9 +18,9 @@ package org.springframework.ai.mistralai;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
-import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -85,6 +85,7 @@ public class MistralAiRetryTests {
 					.model(MistralAiApi.ChatModel.OPEN_MISTRAL_7B.getValue())
 					.build(),
 				null, this.retryTemplate);
+		this.chatModel.setStreamRetry(RetryUtils.SHORT_STREAM_RETRY);
 		this.embeddingModel = new MistralAiEmbeddingModel(this.mistralAiApi, MetadataMode.EMBED,
 				MistralAiEmbeddingOptions.builder().withModel(MistralAiApi.EmbeddingModel.EMBED.getValue()).build(),
 				this.retryTemplate);
@@ -119,7 +120,6 @@ public class MistralAiRetryTests {
 	}
 
 	@Test
-	@Disabled("Currently stream() does not implement retry")
 	public void mistralAiChatStreamTransientError() {
 
 		var choice = new ChatCompletionChunk.ChunkChoice(0, new ChatCompletionMessage("Response", Role.ASSISTANT),
@@ -127,25 +127,24 @@ public class MistralAiRetryTests {
 		ChatCompletionChunk expectedChatCompletion = new ChatCompletionChunk("id", "chat.completion.chunk", 789L,
 				"model", List.of(choice), null);
 
+		AtomicInteger attempts = new AtomicInteger();
 		given(this.mistralAiApi.chatCompletionStream(isA(ChatCompletionRequest.class)))
-			.willThrow(new TransientAiException("Transient Error 1"))
-			.willThrow(new TransientAiException("Transient Error 2"))
-			.willReturn(Flux.just(expectedChatCompletion));
+			.willReturn(Flux.defer(() -> attempts.incrementAndGet() < 3
+					? Flux.error(new TransientAiException("Transient Error " + attempts.get()))
+					: Flux.just(expectedChatCompletion)));
 
 		var result = this.chatModel.stream(new Prompt("text"));
 
 		assertThat(result).isNotNull();
 		assertThat(result.collectList().block().get(0).getResult().getOutput().getText()).isSameAs("Response");
-		assertThat(this.retryListener.onSuccessRetryCount).isEqualTo(2);
-		assertThat(this.retryListener.onErrorRetryCount).isEqualTo(2);
+		assertThat(attempts).hasValue(3);
 	}
 
 	@Test
-	@Disabled("Currently stream() does not implement retry")
 	public void mistralAiChatStreamNonTransientError() {
 		given(this.mistralAiApi.chatCompletionStream(isA(ChatCompletionRequest.class)))
 			.willThrow(new RuntimeException("Non Transient Error"));
-		assertThrows(RuntimeException.class, () -> this.chatModel.stream(new Prompt("text")));
+		assertThrows(RuntimeException.class, () -> this.chatModel.stream(new Prompt("text")).collectList().block());
 	}
 
 	@Test
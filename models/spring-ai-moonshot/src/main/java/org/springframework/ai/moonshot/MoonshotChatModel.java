@@ -45,6 +45,7 @@ import org.springframework.ai.chat.model.StreamingChatModel;
 import org.springframework.ai.chat.observation.ChatModelObservationContext;
 import org.springframework.ai.chat.observation.ChatModelObservationConvention;
 import org.springframework.ai.chat.observation.ChatModelObservationDocumentation;
+import org.springframework.ai.chat.observation.ChatModelStreamTimings;
 import org.springframework.ai.chat.observation.DefaultChatModelObservationConvention;
 import org.springframework.ai.chat.prompt.ChatOptions;
 import org.springframework.ai.chat.prompt.Prompt;
@@ -64,6 +65,7 @@ import org.springframework.ai.moonshot.api.MoonshotApi.ChatCompletionRequest;
 import org.springframework.ai.moonshot.api.MoonshotApi.FunctionTool;
 import org.springframework.ai.moonshot.api.MoonshotConstants;
 import org.springframework.ai.moonshot.metadata.MoonshotUsage;
+import org.springframework.ai.retry.ReactiveRetrySpec;
 import org.springframework.ai.retry.RetryUtils;
 import org.springframework.http.ResponseEntity;
 import org.springframework.retry.support.RetryTemplate;
@@ -104,6 +106,11 @@ public class MoonshotChatModel extends AbstractToolCallSupport implements ChatMo
 	 */
 	private ChatModelObservationConvention observationConvention = DEFAULT_OBSERVATION_CONVENTION;
 
+	/**
+	 * Non-blocking retry applied to the streaming calls.
+	 */
+	private ReactiveRetrySpec streamRetry = RetryUtils.DEFAULT_STREAM_RETRY;
+
 	/**
 	 * Initializes a new instance of the MoonshotChatModel.
 	 * @param moonshotApi The Moonshot instance to be used for interacting with the
@@ -247,8 +254,8 @@ public class MoonshotChatModel extends AbstractToolCallSupport implements ChatMo
 		return Flux.deferContextual(contextView -> {
 			ChatCompletionRequest request = createRequest(prompt, true);
 
-			Flux<ChatCompletionChunk> completionChunks = this.retryTemplate
-				.execute(ctx -> this.moonshotApi.chatCompletionStream(request));
+			Flux<ChatCompletionChunk> completionChunks = this.streamRetry
+				.apply(this.moonshotApi.chatCompletionStream(request));
 
 			// For chunked responses, only the first chunk contains the choice role.
 			// The rest of the chunks with same ID share the same role.
@@ -311,7 +318,8 @@ public class MoonshotChatModel extends AbstractToolCallSupport implements ChatMo
 				.doFinally(signalType -> observation.stop())
 				.contextWrite(ctx -> ctx.put(ObservationThreadLocalAccessor.KEY, observation));
 
-			return new MessageAggregator().aggregate(flux, observationContext::setResponse);
+			return new MessageAggregator().aggregate(ChatModelStreamTimings.observe(flux, observationContext),
+					observationContext::setResponse);
 		});
 	}
 
@@ -443,4 +451,14 @@ public class MoonshotChatModel extends AbstractToolCallSupport implements ChatMo
 		this.observationConvention = observationConvention;
 	}
 
+	/**
+	 * Use the provided retry for the streaming calls.
+	 * @param streamRetry the non-blocking retry applied before the first chunk is
+	 * received.
+	 */
+	public void setStreamRetry(ReactiveRetrySpec streamRetry) {
+		Assert.notNull(streamRetry, "streamRetry cannot be null");
+		this.streamRetry = streamRetry;
+	}
+
 }
@@ -27,6 +27,7 @@ import io.micrometer.observation.Observation;
 import io.micrometer.observation.ObservationRegistry;
 import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import org.springframework.ai.chat.messages.AssistantMessage;
 import org.springframework.ai.chat.messages.SystemMessage;
@@ -43,9 +44,11 @@ import org.springframework.ai.chat.model.MessageAggregator;
 import org.springframework.ai.chat.observation.ChatModelObservationContext;
 import org.springframework.ai.chat.observation.ChatModelObservationConvention;
 import org.springframework.ai.chat.observation.ChatModelObservationDocumentation;
+import org.springframework.ai.chat.observation.ChatModelStreamTimings;
 import org.springframework.ai.chat.observation.DefaultChatModelObservationConvention;
 import org.springframework.ai.chat.prompt.ChatOptions;
 import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.model.LazyMediaData;
 import org.springframework.ai.model.ModelOptionsUtils;
 import org.springframework.ai.model.function.FunctionCallback;
 import org.springframework.ai.model.function.FunctionCallbackResolver;
@@ -61,6 +64,9 @@ import org.springframework.ai.ollama.management.ModelManagementOptions;
 import org.springframework.ai.ollama.management.OllamaModelManager;
 import org.springframework.ai.ollama.management.PullModelStrategy;
 import org.springframework.ai.ollama.metadata.OllamaChatUsage;
+import org.springframework.ai.retry.ReactiveRetrySpec;
+import org.springframework.ai.retry.RetryUtils;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
@@ -80,7 +86,7 @@ import org.springframework.util.StringUtils;
  * @author Ilayaperumal Gopinathan
  * @since 1.0.0
  */
-public class OllamaChatModel extends AbstractToolCallSupport implements ChatModel {
+public class OllamaChatModel extends AbstractToolCallSupport implements ChatModel, DisposableBean {
 
 	private static final String DONE = "done";
 
@@ -110,6 +116,11 @@ public class OllamaChatModel extends AbstractToolCallSupport implements ChatMode
 
 	private ChatModelObservationConvention observationConvention = DEFAULT_OBSERVATION_CONVENTION;
 
+	/**
+	 * Non-blocking retry applied to the streaming calls.
+	 */
+	private ReactiveRetrySpec streamRetry = RetryUtils.DEFAULT_STREAM_RETRY;
+
 	public OllamaChatModel(OllamaApi ollamaApi, OllamaOptions defaultOptions,
 			FunctionCallbackResolver functionCallbackResolver, List<FunctionCallback> toolFunctionCallbacks,
 			ObservationRegistry observationRegistry, ModelManagementOptions modelManagementOptions) {
@@ -121,8 +132,9 @@ public class OllamaChatModel extends AbstractToolCallSupport implements ChatMode
 		this.chatApi = ollamaApi;
 		this.defaultOptions = defaultOptions;
 		this.observationRegistry = observationRegistry;
-		this.modelManager = new OllamaModelManager(this.chatApi, modelManagementOptions);
+		this.modelManager = new OllamaModelManager(this.chatApi, modelManagementOptions, observationRegistry);
 		initializeModel(defaultOptions.getModel(), modelManagementOptions.pullModelStrategy());
+		this.modelManager.start();
 	}
 
 	public static Builder builder() {
@@ -188,6 +200,8 @@ public class OllamaChatModel extends AbstractToolCallSupport implements ChatMode
 
 		OllamaApi.ChatRequest request = ollamaChatRequest(prompt, false);
 
+		this.modelManager.awaitModelLoaded(request.model());
+
 		ChatModelObservationContext observationContext = ChatModelObservationContext.builder()
 			.prompt(prompt)
 			.provider(OllamaApi.PROVIDER_NAME)
@@ -260,7 +274,10 @@ public class OllamaChatModel extends AbstractToolCallSupport implements ChatMode
 
 			observation.parentObservation(contextView.getOrDefault(ObservationThreadLocalAccessor.KEY, null)).start();
 
-			Flux<OllamaApi.ChatResponse> ollamaResponse = this.chatApi.streamingChat(request);
+			Flux<OllamaApi.ChatResponse> ollamaResponse = Mono
+				// The load is shared with the concurrent requests, do not cancel it
+				.fromFuture(() -> this.modelManager.whenModelLoaded(request.model()), true)
+				.thenMany(this.streamRetry.apply(this.chatApi.streamingChat(request)));
 
 			Flux<ChatResponse> chatResponse = ollamaResponse.map(chunk -> {
 				String content = (chunk.message() != null) ? chunk.message().content() : "";
@@ -307,7 +324,9 @@ public class OllamaChatModel extends AbstractToolCallSupport implements ChatMode
 			.contextWrite(ctx -> ctx.put(ObservationThreadLocalAccessor.KEY, observation));
 			// @formatter:on
 
-			return new MessageAggregator().aggregate(chatResponseFlux, observationContext::setResponse);
+			return new MessageAggregator().aggregate(
+					ChatModelStreamTimings.observe(chatResponseFlux, observationContext),
+					observationContext::setResponse);
 		});
 	}
 
@@ -390,6 +409,9 @@ public class OllamaChatModel extends AbstractToolCallSupport implements ChatMode
 		if (mergedOptions.getKeepAlive() != null) {
 			requestBuilder.keepAlive(mergedOptions.getKeepAlive());
 		}
+		else if (this.modelManager.getKeepAlive(model) != null) {
+			requestBuilder.keepAlive(toKeepAlive(this.modelManager.getKeepAlive(model)));
+		}
 
 		// Add the enabled functions definitions to the request's tools parameter.
 		if (!CollectionUtils.isEmpty(functionsForThisRequest)) {
@@ -399,6 +421,14 @@ public class OllamaChatModel extends AbstractToolCallSupport implements ChatMode
 		return requestBuilder.build();
 	}
 
+	/**
+	 * Format a keep alive policy as an Ollama duration, a negative duration keeping the
+	 * model loaded indefinitely.
+	 */
+	private static String toKeepAlive(Duration keepAlive) {
+		return keepAlive.isNegative() ? "-1s" : keepAlive.toMillis() + "ms";
+	}
+
 	private String fromMediaData(Object mediaData) {
 		if (mediaData instanceof byte[] bytes) {
 			return Base64.getEncoder().encodeToString(bytes);
@@ -406,6 +436,10 @@ public class OllamaChatModel extends AbstractToolCallSupport implements ChatMode
 		else if (mediaData instanceof String text) {
 			return text;
 		}
+		else if (mediaData instanceof LazyMediaData lazyMediaData) {
+			// The images are a list of strings, the content can not be streamed
+			return Base64.getEncoder().encodeToString(lazyMediaData.getContentAsByteArray());
+		}
 		else {
 			throw new IllegalArgumentException("Unsupported media data type: " + mediaData.getClass().getSimpleName());
 		}
@@ -439,6 +473,14 @@ public class OllamaChatModel extends AbstractToolCallSupport implements ChatMode
 		return OllamaOptions.fromOptions(this.defaultOptions);
 	}
 
+	/**
+	 * Stop the preloads and the keep warm pings of the model manager.
+	 */
+	@Override
+	public void destroy() {
+		this.modelManager.close();
+	}
+
 	/**
 	 * Pull the given model into Ollama based on the specified strategy.
 	 */
@@ -457,6 +499,16 @@ public class OllamaChatModel extends AbstractToolCallSupport implements ChatMode
 		this.observationConvention = observationConvention;
 	}
 
+	/**
+	 * Use the provided retry for the streaming calls.
+	 * @param streamRetry the non-blocking retry applied before the first chunk is
+	 * received.
+	 */
+	public void setStreamRetry(ReactiveRetrySpec streamRetry) {
+		Assert.notNull(streamRetry, "streamRetry cannot be null");
+		this.streamRetry = streamRetry;
+	}
+
 	public static final class Builder {
 
 		private OllamaApi ollamaApi;
@@ -46,6 +46,7 @@ import org.springframework.ai.ollama.management.ModelManagementOptions;
 import org.springframework.ai.ollama.management.OllamaModelManager;
 import org.springframework.ai.ollama.management.PullModelStrategy;
 import org.springframework.ai.ollama.metadata.OllamaEmbeddingUsage;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
@@ -61,7 +62,7 @@ import org.springframework.util.StringUtils;
  * @author Ilayaperumal Gopinathan
  * @since 0.8.0
  */
-public class OllamaEmbeddingModel extends AbstractEmbeddingModel {
+public class OllamaEmbeddingModel extends AbstractEmbeddingModel implements DisposableBean {
 
 	private static final EmbeddingModelObservationConvention DEFAULT_OBSERVATION_CONVENTION = new DefaultEmbeddingModelObservationConvention();
 
@@ -85,9 +86,10 @@ public class OllamaEmbeddingModel extends AbstractEmbeddingModel {
 		this.ollamaApi = ollamaApi;
 		this.defaultOptions = defaultOptions;
 		this.observationRegistry = observationRegistry;
-		this.modelManager = new OllamaModelManager(ollamaApi, modelManagementOptions);
+		this.modelManager = new OllamaModelManager(ollamaApi, modelManagementOptions, observationRegistry);
 
 		initializeModel(defaultOptions.getModel(), modelManagementOptions.pullModelStrategy());
+		this.modelManager.start();
 	}
 
 	public static Builder builder() {
@@ -106,6 +108,8 @@ public class OllamaEmbeddingModel extends AbstractEmbeddingModel {
 		OllamaApi.EmbeddingsRequest ollamaEmbeddingRequest = ollamaEmbeddingRequest(request.getInstructions(),
 				request.getOptions());
 
+		this.modelManager.awaitModelLoaded(ollamaEmbeddingRequest.model());
+
 		var observationContext = EmbeddingModelObservationContext.builder()
 			.embeddingRequest(request)
 			.provider(OllamaApi.PROVIDER_NAME)
@@ -155,7 +159,12 @@ public class OllamaEmbeddingModel extends AbstractEmbeddingModel {
 		}
 		String model = mergedOptions.getModel();
 
-		return new OllamaApi.EmbeddingsRequest(model, inputContent, DurationParser.parse(mergedOptions.getKeepAlive()),
+		Duration keepAlive = DurationParser.parse(mergedOptions.getKeepAlive());
+		if (keepAlive == null) {
+			keepAlive = this.modelManager.getKeepAlive(model);
+		}
+
+		return new OllamaApi.EmbeddingsRequest(model, inputContent, keepAlive,
 				OllamaOptions.filterNonSupportedFields(mergedOptions.toMap()), mergedOptions.getTruncate());
 	}
 
@@ -163,6 +172,14 @@ public class OllamaEmbeddingModel extends AbstractEmbeddingModel {
 		return EmbeddingOptionsBuilder.builder().withModel(request.model()).build();
 	}
 
+	/**
+	 * Stop the preloads and the keep warm pings of the model manager.
+	 */
+	@Override
+	public void destroy() {
+		this.modelManager.close();
+	}
+
 	/**
 	 * Pull the given model into Ollama based on the specified strategy.
 	 */
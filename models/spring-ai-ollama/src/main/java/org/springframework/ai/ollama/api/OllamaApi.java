@@ -161,9 +161,7 @@ public class OllamaApi {
 			// Mono<ChatChatResponse>,
 			// Flux<Flux<ChatChatResponse>> -> Flux<Mono<ChatChatResponse>>
 			.concatMapIterable(window -> {
-				Mono<ChatResponse> monoChunk = window.reduce(
-						new ChatResponse(),
-						(previous, current) -> OllamaApiHelper.merge(previous, current));
+				Mono<ChatResponse> monoChunk = OllamaApiHelper.merge(window);
 				return List.of(monoChunk);
 			})
 			// Flux<Mono<ChatChatResponse>> -> Flux<ChatChatResponse>
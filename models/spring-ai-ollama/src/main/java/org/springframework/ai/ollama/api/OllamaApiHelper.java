@@ -20,6 +20,9 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
 import org.springframework.ai.ollama.api.OllamaApi.ChatResponse;
 import org.springframework.util.CollectionUtils;
 
@@ -60,6 +63,23 @@ public final class OllamaApiHelper {
 		return ollamaChatResponse.done() && ollamaChatResponse.doneReason().equals("stop");
 	}
 
+	/**
+	 * Merge a window of streamed chat response chunks into a single one. The message
+	 * content, images and tool calls are collected into mutable buffers and the merged
+	 * message is only built once the window completes, so that the merge is linear in the
+	 * size of the window.
+	 * @param window the chat response chunks to merge
+	 * @return the merged chat response
+	 */
+	public static Mono<ChatResponse> merge(Flux<ChatResponse> window) {
+		return Mono.defer(() -> {
+			MessageAccumulator message = new MessageAccumulator();
+			return window.map(message::accumulate)
+				.reduce(new ChatResponse(), OllamaApiHelper::merge)
+				.map(message::build);
+		});
+	}
+
 	public static ChatResponse merge(ChatResponse previous, ChatResponse current) {
 
 		String model = merge(previous.model(), current.model());
@@ -167,4 +187,55 @@ public final class OllamaApiHelper {
 		return merged;
 	}
 
+	/**
+	 * Collects the message content, images and tool calls of a window of chunks.
+	 */
+	private static final class MessageAccumulator {
+
+		private StringBuilder content;
+
+		private List<String> images;
+
+		private List<OllamaApi.Message.ToolCall> toolCalls;
+
+		ChatResponse accumulate(ChatResponse chunk) {
+			OllamaApi.Message message = chunk.message();
+			if (message == null) {
+				return chunk;
+			}
+			if (message.content() != null) {
+				this.content = (this.content != null) ? this.content.append(message.content())
+						: new StringBuilder(message.content());
+			}
+			if (message.images() != null) {
+				this.images = (this.images != null) ? this.images : new ArrayList<>();
+				this.images.addAll(message.images());
+			}
+			if (message.toolCalls() != null) {
+				this.toolCalls = (this.toolCalls != null) ? this.toolCalls : new ArrayList<>();
+				this.toolCalls.addAll(message.toolCalls());
+			}
+			return withMessage(chunk, OllamaApi.Message.builder(message.role()).build());
+		}
+
+		ChatResponse build(ChatResponse merged) {
+			if (merged.message() == null) {
+				return merged;
+			}
+			OllamaApi.Message message = OllamaApi.Message.builder(merged.message().role())
+				.content((this.content != null) ? this.content.toString() : null)
+				.images(this.images)
+				.toolCalls(this.toolCalls)
+				.build();
+			return withMessage(merged, message);
+		}
+
+		private static ChatResponse withMessage(ChatResponse chunk, OllamaApi.Message message) {
+			return new ChatResponse(chunk.model(), chunk.createdAt(), message, chunk.doneReason(), chunk.done(),
+					chunk.totalDuration(), chunk.loadDuration(), chunk.promptEvalCount(), chunk.promptEvalDuration(),
+					chunk.evalCount(), chunk.evalDuration());
+		}
+
+	}
+
 }
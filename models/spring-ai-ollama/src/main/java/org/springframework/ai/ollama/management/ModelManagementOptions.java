@@ -18,6 +18,9 @@ package org.springframework.ai.ollama.management;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
 
 /**
  * Options for managing models in Ollama.
@@ -26,12 +29,25 @@ import java.util.List;
  * @param additionalModels additional models to manage
  * @param timeout the timeout for managing models
  * @param maxRetries the maximum number of retries
+ * @param preloadModels models loaded into memory at startup, so that the first request
+ * does not pay for the model load
+ * @param keepAlive how long each model stays loaded in memory after a request, keyed by
+ * model name. A negative duration keeps the model loaded indefinitely. Models without a
+ * policy use the request or Ollama server keep alive
+ * @param keepWarmInterval the interval between the pings reloading the preloaded and
+ * kept alive models, or null to disable the pings
  * @author Thomas Vitale
  * @author Ilayaperumal Gopinathan
  * @since 1.0.0
  */
 public record ModelManagementOptions(PullModelStrategy pullModelStrategy, List<String> additionalModels,
-		Duration timeout, Integer maxRetries) {
+		Duration timeout, Integer maxRetries, List<String> preloadModels, Map<String, Duration> keepAlive,
+		@Nullable Duration keepWarmInterval) {
+
+	public ModelManagementOptions(PullModelStrategy pullModelStrategy, List<String> additionalModels,
+			Duration timeout, Integer maxRetries) {
+		this(pullModelStrategy, additionalModels, timeout, maxRetries, List.of(), Map.of(), null);
+	}
 
 	public static ModelManagementOptions defaults() {
 		return new ModelManagementOptions(PullModelStrategy.NEVER, List.of(), Duration.ofMinutes(5), 0);
@@ -51,6 +67,13 @@ public record ModelManagementOptions(PullModelStrategy pullModelStrategy, List<S
 
 		private Integer maxRetries = 0;
 
+		private List<String> preloadModels = List.of();
+
+		private Map<String, Duration> keepAlive = Map.of();
+
+		@Nullable
+		private Duration keepWarmInterval;
+
 		public Builder pullModelStrategy(PullModelStrategy pullModelStrategy) {
 			this.pullModelStrategy = pullModelStrategy;
 			return this;
@@ -71,9 +94,24 @@ public record ModelManagementOptions(PullModelStrategy pullModelStrategy, List<S
 			return this;
 		}
 
+		public Builder preloadModels(List<String> preloadModels) {
+			this.preloadModels = preloadModels;
+			return this;
+		}
+
+		public Builder keepAlive(Map<String, Duration> keepAlive) {
+			this.keepAlive = keepAlive;
+			return this;
+		}
+
+		public Builder keepWarmInterval(@Nullable Duration keepWarmInterval) {
+			this.keepWarmInterval = keepWarmInterval;
+			return this;
+		}
+
 		public ModelManagementOptions build() {
 			return new ModelManagementOptions(this.pullModelStrategy, this.additionalModels, this.timeout,
-					this.maxRetries);
+					this.maxRetries, this.preloadModels, this.keepAlive, this.keepWarmInterval);
 		}
 
 	}
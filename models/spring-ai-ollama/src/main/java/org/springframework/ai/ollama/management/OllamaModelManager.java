@@ -17,20 +17,45 @@
 package org.springframework.ai.ollama.management;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.util.retry.Retry;
 
 import org.springframework.ai.ollama.api.OllamaApi;
 import org.springframework.ai.ollama.api.OllamaApi.DeleteModelRequest;
+import org.springframework.ai.ollama.api.OllamaApi.EmbeddingsRequest;
 import org.springframework.ai.ollama.api.OllamaApi.ListModelResponse;
 import org.springframework.ai.ollama.api.OllamaApi.PullModelRequest;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 
 /**
  * Manage the lifecycle of models in Ollama.
+ * <p>
+ * Besides pulling and deleting models, the manager controls which models stay loaded in
+ * memory: once {@link #start() started}, it preloads the
+ * {@link ModelManagementOptions#preloadModels()}, applies the per-model
+ * {@link ModelManagementOptions#keepAlive()} policies and periodically pings the resident
+ * models when a {@link ModelManagementOptions#keepWarmInterval()} is set, until
+ * {@link #close() closed}. Requests for a model that is being loaded wait for this single
+ * shared load, instead of each triggering a load of their own. Each load is observed as a
+ * {@value #MODEL_LOAD_OBSERVATION_NAME} observation, recording the load latency.
  *
  * @author Christian Tzolov
  * @author Thomas Vitale
@@ -38,25 +63,107 @@ import org.springframework.util.CollectionUtils;
  */
 public class OllamaModelManager {
 
+	/**
+	 * Name of the observation recording the model loads.
+	 */
+	public static final String MODEL_LOAD_OBSERVATION_NAME = "spring.ai.ollama.model.load";
+
+	/**
+	 * Default Ollama server keep alive, applied to the models without a keep alive
+	 * policy.
+	 */
+	private static final Duration DEFAULT_KEEP_ALIVE = Duration.ofMinutes(5);
+
+	private static final long RESIDENT_FOREVER = Long.MAX_VALUE;
+
 	private final Logger logger = LoggerFactory.getLogger(OllamaModelManager.class);
 
 	private final OllamaApi ollamaApi;
 
 	private final ModelManagementOptions options;
 
+	private final ObservationRegistry observationRegistry;
+
+	private final Map<String, Duration> keepAlive;
+
+	private final Set<String> preloadModels;
+
+	/**
+	 * In-flight loads, shared by all the requests for the model.
+	 */
+	private final Map<String, CompletableFuture<Void>> loads = new ConcurrentHashMap<>();
+
+	/**
+	 * Expected eviction time, in {@link System#nanoTime()}, of the models loaded or used
+	 * through this manager.
+	 */
+	private final Map<String, Long> residentUntil = new ConcurrentHashMap<>();
+
+	private final AtomicBoolean started = new AtomicBoolean();
+
+	/**
+	 * Runs the loads and the keep warm pings. A single daemon thread, so that loads are
+	 * not competing for memory and an unclosed manager does not keep the JVM alive.
+	 */
+	private final ScheduledExecutorService loader = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "ollama-model-loader");
+		thread.setDaemon(true);
+		return thread;
+	});
+
 	public OllamaModelManager(OllamaApi ollamaApi) {
 		this(ollamaApi, ModelManagementOptions.defaults());
 	}
 
 	public OllamaModelManager(OllamaApi ollamaApi, ModelManagementOptions options) {
+		this(ollamaApi, options, ObservationRegistry.NOOP);
+	}
+
+	public OllamaModelManager(OllamaApi ollamaApi, ModelManagementOptions options,
+			ObservationRegistry observationRegistry) {
+		Assert.notNull(observationRegistry, "observationRegistry must not be null");
 		this.ollamaApi = ollamaApi;
 		this.options = options;
+		this.observationRegistry = observationRegistry;
+		this.keepAlive = CollectionUtils.isEmpty(options.keepAlive()) ? Map.of()
+				: options.keepAlive()
+					.entrySet()
+					.stream()
+					.collect(Collectors.toUnmodifiableMap(entry -> normalizeModelName(entry.getKey()),
+							Map.Entry::getValue));
+		this.preloadModels = CollectionUtils.isEmpty(options.preloadModels()) ? Set.of()
+				: options.preloadModels().stream().map(this::normalizeModelName).collect(Collectors.toSet());
+
+		Assert.isTrue(options.keepWarmInterval() == null || options.keepWarmInterval().isPositive(),
+				"keepWarmInterval must be positive");
 
 		if (!CollectionUtils.isEmpty(options.additionalModels())) {
 			options.additionalModels().forEach(this::pullModel);
 		}
 	}
 
+	/**
+	 * Start preloading the {@link ModelManagementOptions#preloadModels()} in the
+	 * background and schedule the keep warm pings. Called once the models are pulled,
+	 * the requests sent meanwhile wait for the loads. Subsequent calls have no effect.
+	 */
+	public void start() {
+		if (!this.started.compareAndSet(false, true)) {
+			return;
+		}
+		this.preloadModels.forEach(model -> load(model).whenComplete((result, ex) -> {
+			if (ex != null) {
+				logger.warn("Failed to preload the model '{}'", model, ex);
+			}
+		}));
+
+		Duration keepWarmInterval = this.options.keepWarmInterval();
+		if (keepWarmInterval != null) {
+			this.loader.scheduleWithFixedDelay(this::keepWarm, keepWarmInterval.toMillis(),
+					keepWarmInterval.toMillis(), TimeUnit.MILLISECONDS);
+		}
+	}
+
 	public boolean isModelAvailable(String modelName) {
 		Assert.hasText(modelName, "modelName must not be empty");
 		ListModelResponse listModelResponse = this.ollamaApi.listModels();
@@ -80,6 +187,152 @@ public class OllamaModelManager {
 		return modelNameWithoutSpaces + ":latest";
 	}
 
+	/**
+	 * Get the keep alive policy of the given model.
+	 * @param modelName the model name
+	 * @return how long the model stays loaded after a request, or null when the model has
+	 * no keep alive policy
+	 */
+	@Nullable
+	public Duration getKeepAlive(String modelName) {
+		return this.keepAlive.get(normalizeModelName(modelName));
+	}
+
+	/**
+	 * Load the given model into memory, waiting for the load to complete. Joins the load
+	 * in progress, if any.
+	 * @param modelName the model name
+	 */
+	public void loadModel(String modelName) {
+		join(load(normalizeModelName(modelName)));
+	}
+
+	/**
+	 * Wait until the given model is ready to serve a request, see
+	 * {@link #whenModelLoaded(String)}.
+	 * @param modelName the model name
+	 */
+	public void awaitModelLoaded(String modelName) {
+		join(whenModelLoaded(modelName));
+	}
+
+	/**
+	 * Get a future completed once the given model is ready to serve a request. A request
+	 * for a model being loaded waits for this load. A request for a preloaded or kept
+	 * alive model that may have been evicted since its last use triggers a load, shared
+	 * with the concurrent requests. The future of any other model is already completed.
+	 * @param modelName the model name
+	 * @return a future completed once the model is loaded
+	 */
+	public CompletableFuture<Void> whenModelLoaded(String modelName) {
+		String model = normalizeModelName(modelName);
+		CompletableFuture<Void> inFlight = this.loads.get(model);
+		if (inFlight != null) {
+			return inFlight;
+		}
+		if (!isManaged(model)) {
+			return CompletableFuture.completedFuture(null);
+		}
+		Long evictionTime = this.residentUntil.get(model);
+		if (evictionTime == null || (evictionTime != RESIDENT_FOREVER && System.nanoTime() - evictionTime >= 0)) {
+			return load(model);
+		}
+		markResident(model);
+		return CompletableFuture.completedFuture(null);
+	}
+
+	/**
+	 * Stop the keep warm pings and the loads in progress.
+	 */
+	public void close() {
+		this.loader.shutdownNow();
+	}
+
+	private boolean isManaged(String model) {
+		Duration modelKeepAlive = this.keepAlive.get(model);
+		return this.preloadModels.contains(model) || (modelKeepAlive != null && !modelKeepAlive.isZero());
+	}
+
+	private CompletableFuture<Void> load(String model) {
+		CompletableFuture<Void> load = new CompletableFuture<>();
+		CompletableFuture<Void> inFlight = this.loads.putIfAbsent(model, load);
+		if (inFlight != null) {
+			return inFlight;
+		}
+		try {
+			this.loader.execute(() -> {
+				try {
+					doLoad(model);
+					markResident(model);
+					load.complete(null);
+				}
+				catch (Throwable ex) {
+					load.completeExceptionally(ex);
+				}
+				finally {
+					this.loads.remove(model, load);
+				}
+			});
+		}
+		catch (RuntimeException ex) {
+			this.loads.remove(model, load);
+			load.completeExceptionally(ex);
+		}
+		return load;
+	}
+
+	private void doLoad(String model) {
+		logger.debug("Loading model '{}'", model);
+		// An embed request without input loads any model, chat or embedding, in memory and
+		// applies its keep alive.
+		var loadRequest = new EmbeddingsRequest(model, List.of(), getKeepAlive(model), null, null);
+		Observation.createNotStarted(MODEL_LOAD_OBSERVATION_NAME, this.observationRegistry)
+			.contextualName("ollama load " + model)
+			.lowCardinalityKeyValue(KeyValue.of("gen_ai.request.model", model))
+			.observe(() -> {
+				this.ollamaApi.embed(loadRequest);
+			});
+		logger.debug("Loaded model '{}'", model);
+	}
+
+	private void markResident(String model) {
+		Duration modelKeepAlive = getKeepAlive(model);
+		if (modelKeepAlive == null) {
+			modelKeepAlive = DEFAULT_KEEP_ALIVE;
+		}
+		this.residentUntil.put(model,
+				modelKeepAlive.isNegative() ? RESIDENT_FOREVER : System.nanoTime() + modelKeepAlive.toNanos());
+	}
+
+	/**
+	 * Reload the models loaded or used through this manager, refreshing their keep alive.
+	 * Runs on the loader thread.
+	 */
+	private void keepWarm() {
+		for (String model : this.residentUntil.keySet()) {
+			if (this.loads.containsKey(model)) {
+				continue;
+			}
+			try {
+				doLoad(model);
+				markResident(model);
+			}
+			catch (RuntimeException ex) {
+				logger.warn("Failed to keep the model '{}' warm", model, ex);
+			}
+		}
+	}
+
+	private static void join(CompletableFuture<Void> future) {
+		try {
+			future.join();
+		}
+		catch (CompletionException ex) {
+			throw (ex.getCause() instanceof RuntimeException runtimeException) ? runtimeException
+					: new IllegalStateException(ex.getCause());
+		}
+	}
+
 	public void deleteModel(String modelName) {
 		logger.info("Start deletion of model: {}", modelName);
 		if (!isModelAvailable(modelName)) {
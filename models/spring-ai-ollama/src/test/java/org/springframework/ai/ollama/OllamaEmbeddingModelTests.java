@@ -35,9 +35,15 @@ import org.springframework.ai.ollama.api.OllamaApi;
 import org.springframework.ai.ollama.api.OllamaApi.EmbeddingsRequest;
 import org.springframework.ai.ollama.api.OllamaApi.EmbeddingsResponse;
 import org.springframework.ai.ollama.api.OllamaOptions;
+import org.springframework.ai.ollama.management.ModelManagementOptions;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
 
 /**
  * @author Christian Tzolov
@@ -115,4 +121,27 @@ public class OllamaEmbeddingModelTests {
 
 	}
 
+	@Test
+	public void destroyStopsTheKeepWarmPings() throws Exception {
+		given(this.ollamaApi.embed(any())).willReturn(new EmbeddingsResponse("model", List.of(), 0L, 0L, 0));
+
+		var embeddingModel = OllamaEmbeddingModel.builder()
+			.ollamaApi(this.ollamaApi)
+			.defaultOptions(OllamaOptions.builder().model("nomic-embed-text").build())
+			.modelManagementOptions(ModelManagementOptions.builder()
+				.preloadModels(List.of("nomic-embed-text"))
+				.keepWarmInterval(Duration.ofMillis(20))
+				.build())
+			.build();
+		verify(this.ollamaApi, timeout(5000).atLeast(2)).embed(any());
+
+		embeddingModel.destroy();
+		// Let a ping already in progress complete
+		Thread.sleep(50);
+		clearInvocations(this.ollamaApi);
+		Thread.sleep(100);
+
+		verify(this.ollamaApi, never()).embed(any());
+	}
+
 }
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.ollama.management;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.observation.tck.TestObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistryAssert;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.ai.ollama.api.OllamaApi;
+import org.springframework.ai.ollama.api.OllamaApi.EmbeddingsRequest;
+import org.springframework.ai.ollama.api.OllamaApi.EmbeddingsResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for the model residency support of {@link OllamaModelManager}.
+ *
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+class OllamaModelManagerTests {
+
+	@Mock
+	OllamaApi ollamaApi;
+
+	@Test
+	void preloadsModelsWithTheirKeepAlive() {
+		given(this.ollamaApi.embed(any())).willReturn(emptyResponse());
+		var observationRegistry = TestObservationRegistry.create();
+
+		var modelManager = new OllamaModelManager(this.ollamaApi,
+				ModelManagementOptions.builder()
+					.preloadModels(List.of("llama3.2"))
+					.keepAlive(Map.of("llama3.2", Duration.ofMinutes(30)))
+					.build(),
+				observationRegistry);
+		modelManager.start();
+
+		modelManager.awaitModelLoaded("llama3.2:latest");
+
+		var requestCaptor = ArgumentCaptor.forClass(EmbeddingsRequest.class);
+		verify(this.ollamaApi).embed(requestCaptor.capture());
+		assertThat(requestCaptor.getValue().model()).isEqualTo("llama3.2:latest");
+		assertThat(requestCaptor.getValue().input()).isEmpty();
+		assertThat(requestCaptor.getValue().keepAlive()).isEqualTo(Duration.ofMinutes(30));
+		TestObservationRegistryAssert.assertThat(observationRegistry)
+			.hasObservationWithNameEqualTo(OllamaModelManager.MODEL_LOAD_OBSERVATION_NAME)
+			.that()
+			.hasLowCardinalityKeyValue("gen_ai.request.model", "llama3.2:latest");
+
+		// Resident for 30 minutes, no further load
+		modelManager.awaitModelLoaded("llama3.2");
+		verify(this.ollamaApi, times(1)).embed(any());
+
+		modelManager.close();
+	}
+
+	@Test
+	void concurrentRequestsShareASingleLoad() throws Exception {
+		var loadStarted = new CountDownLatch(1);
+		var releaseLoad = new CountDownLatch(1);
+		given(this.ollamaApi.embed(any())).willAnswer(invocation -> {
+			loadStarted.countDown();
+			releaseLoad.await(10, TimeUnit.SECONDS);
+			return emptyResponse();
+		});
+
+		var modelManager = new OllamaModelManager(this.ollamaApi,
+				ModelManagementOptions.builder().keepAlive(Map.of("nomic-embed-text", Duration.ofSeconds(-1))).build());
+
+		CompletableFuture<Void> first = modelManager.whenModelLoaded("nomic-embed-text");
+		assertThat(loadStarted.await(10, TimeUnit.SECONDS)).isTrue();
+		CompletableFuture<Void> second = modelManager.whenModelLoaded("nomic-embed-text");
+
+		assertThat(second).isSameAs(first).isNotDone();
+		releaseLoad.countDown();
+		first.get(10, TimeUnit.SECONDS);
+
+		// Kept loaded indefinitely
+		assertThat(modelManager.whenModelLoaded("nomic-embed-text")).isDone();
+		verify(this.ollamaApi, times(1)).embed(any());
+
+		modelManager.close();
+	}
+
+	@Test
+	void modelsWithoutResidencyPolicyAreNotLoaded() {
+		var modelManager = new OllamaModelManager(this.ollamaApi, ModelManagementOptions.defaults());
+
+		assertThat(modelManager.whenModelLoaded("mistral")).isDone();
+		assertThat(modelManager.getKeepAlive("mistral")).isNull();
+		verify(this.ollamaApi, never()).embed(any());
+
+		modelManager.close();
+	}
+
+	@Test
+	void keepWarmPingsReloadResidentModels() {
+		given(this.ollamaApi.embed(any())).willReturn(emptyResponse());
+
+		var modelManager = new OllamaModelManager(this.ollamaApi,
+				ModelManagementOptions.builder()
+					.preloadModels(List.of("mistral"))
+					.keepWarmInterval(Duration.ofMillis(50))
+					.build());
+		modelManager.start();
+
+		verify(this.ollamaApi, timeout(5000).atLeast(3)).embed(any());
+
+		modelManager.close();
+	}
+
+	@Test
+	void preloadsOnceStarted() {
+		given(this.ollamaApi.embed(any())).willReturn(emptyResponse());
+
+		var modelManager = new OllamaModelManager(this.ollamaApi,
+				ModelManagementOptions.builder().preloadModels(List.of("mistral")).build());
+
+		verify(this.ollamaApi, never()).embed(any());
+
+		modelManager.start();
+		modelManager.start();
+
+		verify(this.ollamaApi, timeout(5000)).embed(any());
+		modelManager.awaitModelLoaded("mistral");
+		verify(this.ollamaApi, times(1)).embed(any());
+
+		modelManager.close();
+	}
+
+	@Test
+	void closeStopsTheKeepWarmPings() throws Exception {
+		given(this.ollamaApi.embed(any())).willReturn(emptyResponse());
+
+		var modelManager = new OllamaModelManager(this.ollamaApi,
+				ModelManagementOptions.builder()
+					.preloadModels(List.of("mistral"))
+					.keepWarmInterval(Duration.ofMillis(20))
+					.build());
+		modelManager.start();
+		verify(this.ollamaApi, timeout(5000).atLeast(2)).embed(any());
+
+		modelManager.close();
+		// Let a ping already in progress complete
+		Thread.sleep(50);
+		clearInvocations(this.ollamaApi);
+		Thread.sleep(100);
+
+		verify(this.ollamaApi, never()).embed(any());
+	}
+
+	private static EmbeddingsResponse emptyResponse() {
+		return new EmbeddingsResponse("model", List.of(), 0L, 0L, 0);
+	}
+
+}
@@ -53,9 +53,11 @@ import org.springframework.ai.chat.model.StreamingChatModel;
 import org.springframework.ai.chat.observation.ChatModelObservationContext;
 import org.springframework.ai.chat.observation.ChatModelObservationConvention;
 import org.springframework.ai.chat.observation.ChatModelObservationDocumentation;
+import org.springframework.ai.chat.observation.ChatModelStreamTimings;
 import org.springframework.ai.chat.observation.DefaultChatModelObservationConvention;
 import org.springframework.ai.chat.prompt.ChatOptions;
 import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.model.LazyMediaData;
 import org.springframework.ai.model.Media;
 import org.springframework.ai.model.ModelOptionsUtils;
 import org.springframework.ai.model.function.FunctionCallback;
@@ -73,6 +75,7 @@ import org.springframework.ai.openai.api.OpenAiApi.ChatCompletionRequest;
 import org.springframework.ai.openai.api.common.OpenAiApiConstants;
 import org.springframework.ai.openai.metadata.OpenAiUsage;
 import org.springframework.ai.openai.metadata.support.OpenAiResponseHeaderExtractor;
+import org.springframework.ai.retry.ReactiveRetrySpec;
 import org.springframework.ai.retry.RetryUtils;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
@@ -137,6 +140,11 @@ public class OpenAiChatModel extends AbstractToolCallSupport implements ChatMode
 	 */
 	private ChatModelObservationConvention observationConvention = DEFAULT_OBSERVATION_CONVENTION;
 
+	/**
+	 * Non-blocking retry applied to the streaming calls.
+	 */
+	private ReactiveRetrySpec streamRetry = RetryUtils.DEFAULT_STREAM_RETRY;
+
 	/**
 	 * Creates an instance of the OpenAiChatModel.
 	 * @param openAiApi The OpenAiApi instance to be used for interacting with the OpenAI
@@ -310,8 +318,8 @@ public class OpenAiChatModel extends AbstractToolCallSupport implements ChatMode
 				throw new IllegalArgumentException("Audio parameters are not supported for streaming requests.");
 			}
 
-			Flux<OpenAiApi.ChatCompletionChunk> completionChunks = this.openAiApi.chatCompletionStream(request,
-					getAdditionalHttpHeaders(prompt));
+			Flux<OpenAiApi.ChatCompletionChunk> completionChunks = this.streamRetry
+				.apply(this.openAiApi.chatCompletionStream(request, getAdditionalHttpHeaders(prompt)));
 
 			// For chunked responses, only the first chunk contains the choice role.
 			// The rest of the chunks with same ID share the same role.
@@ -408,7 +416,8 @@ public class OpenAiChatModel extends AbstractToolCallSupport implements ChatMode
 			.contextWrite(ctx -> ctx.put(ObservationThreadLocalAccessor.KEY, observation));
 			// @formatter:on
 
-			return new MessageAggregator().aggregate(flux, observationContext::setResponse);
+			return new MessageAggregator().aggregate(ChatModelStreamTimings.observe(flux, observationContext),
+					observationContext::setResponse);
 
 		});
 	}
@@ -557,7 +566,9 @@ public class OpenAiChatModel extends AbstractToolCallSupport implements ChatMode
 			}
 		}).flatMap(List::stream).toList();
 
-		ChatCompletionRequest request = new ChatCompletionRequest(chatCompletionMessages, stream);
+		// The options are merged on a request without the messages: the merges round trip
+		// the request through JSON, which would read and encode the lazy media data
+		ChatCompletionRequest request = new ChatCompletionRequest(List.of(), stream);
 
 		Set<String> enabledToolsToUse = new HashSet<>();
 
@@ -591,6 +602,9 @@ public class OpenAiChatModel extends AbstractToolCallSupport implements ChatMode
 					OpenAiChatOptions.builder().tools(this.getFunctionTools(enabledToolsToUse)).build(), request,
 					ChatCompletionRequest.class);
 		}
+		// Lazy media data is encoded as a stream when the request is sent
+		request = request.messages(chatCompletionMessages);
+
 		// Remove `streamOptions` from the request if it is not a streaming request
 		if (request.streamOptions() != null && !stream) {
 			logger.warn("Removing streamOptions from the request as it is not a streaming request!");
@@ -603,12 +617,14 @@ public class OpenAiChatModel extends AbstractToolCallSupport implements ChatMode
 	private MediaContent mapToMediaContent(Media media) {
 		var mimeType = media.getMimeType();
 		if (MimeTypeUtils.parseMimeType("audio/mp3").equals(mimeType)) {
-			return new MediaContent(
-					new MediaContent.InputAudio(fromAudioData(media.getData()), MediaContent.InputAudio.Format.MP3));
+			return new MediaContent(toInputAudio(media.getData(), MediaContent.InputAudio.Format.MP3));
 		}
 		if (MimeTypeUtils.parseMimeType("audio/wav").equals(mimeType)) {
-			return new MediaContent(
-					new MediaContent.InputAudio(fromAudioData(media.getData()), MediaContent.InputAudio.Format.WAV));
+			return new MediaContent(toInputAudio(media.getData(), MediaContent.InputAudio.Format.WAV));
+		}
+		else if (media.getData() instanceof LazyMediaData lazyMediaData) {
+			// Encoded as a stream, straight into the request body
+			return new MediaContent(new MediaContent.ImageUrl(lazyMediaData.toDataUrl(mimeType)));
 		}
 		else {
 			return new MediaContent(
@@ -616,6 +632,13 @@ public class OpenAiChatModel extends AbstractToolCallSupport implements ChatMode
 		}
 	}
 
+	private MediaContent.InputAudio toInputAudio(Object audioData, MediaContent.InputAudio.Format format) {
+		if (audioData instanceof LazyMediaData lazyMediaData) {
+			return new MediaContent.InputAudio(lazyMediaData.toBase64(), format);
+		}
+		return new MediaContent.InputAudio(fromAudioData(audioData), format);
+	}
+
 	private String fromAudioData(Object audioData) {
 		if (audioData instanceof byte[] bytes) {
 			return Base64.getEncoder().encodeToString(bytes);
@@ -678,4 +701,14 @@ public class OpenAiChatModel extends AbstractToolCallSupport implements ChatMode
 		this.observationConvention = observationConvention;
 	}
 
+	/**
+	 * Use the provided retry for the streaming calls.
+	 * @param streamRetry the non-blocking retry applied before the first chunk is
+	 * received.
+	 */
+	public void setStreamRetry(ReactiveRetrySpec streamRetry) {
+		Assert.notNull(streamRetry, "streamRetry cannot be null");
+		this.streamRetry = streamRetry;
+	}
+
 }
@@ -56,6 +56,13 @@ public class OpenAiEmbeddingModel extends AbstractEmbeddingModel {
 
 	private static final EmbeddingModelObservationConvention DEFAULT_OBSERVATION_CONVENTION = new DefaultEmbeddingModelObservationConvention();
 
+	/**
+	 * Encoding format requested when the options do not set one. Base64 encoded
+	 * little-endian floats are about four times smaller than JSON arrays of numbers, and
+	 * decoded without parsing each number.
+	 */
+	private static final String DEFAULT_ENCODING_FORMAT = "base64";
+
 	private final OpenAiEmbeddingOptions defaultOptions;
 
 	private final RetryTemplate retryTemplate;
@@ -185,8 +192,10 @@ public class OpenAiEmbeddingModel extends AbstractEmbeddingModel {
 
 	private OpenAiApi.EmbeddingRequest<List<String>> createRequest(EmbeddingRequest request,
 			OpenAiEmbeddingOptions requestOptions) {
-		return new OpenAiApi.EmbeddingRequest<>(request.getInstructions(), requestOptions.getModel(),
-				requestOptions.getEncodingFormat(), requestOptions.getDimensions(), requestOptions.getUser());
+		String encodingFormat = (requestOptions.getEncodingFormat() != null) ? requestOptions.getEncodingFormat()
+				: DEFAULT_ENCODING_FORMAT;
+		return new OpenAiApi.EmbeddingRequest<>(request.getInstructions(), requestOptions.getModel(), encodingFormat,
+				requestOptions.getDimensions(), requestOptions.getUser());
 	}
 
 	/**
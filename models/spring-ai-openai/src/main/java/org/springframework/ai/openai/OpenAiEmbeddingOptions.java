@@ -38,7 +38,8 @@ public class OpenAiEmbeddingOptions implements EmbeddingOptions {
 	 */
 	private @JsonProperty("model") String model;
 	/**
-	 * The format to return the embeddings in. Can be either float or base64.
+	 * The format to return the embeddings in. Can be either float or base64. The
+	 * embedding model requests base64 when not set.
 	 */
 	private @JsonProperty("encoding_format") String encodingFormat;
 	/**
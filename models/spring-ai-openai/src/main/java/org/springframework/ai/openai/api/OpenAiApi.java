@@ -20,22 +20,31 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
 
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import org.springframework.ai.model.Base64MediaContent;
 import org.springframework.ai.model.ChatModelDescription;
+import org.springframework.ai.model.EmbeddingVectorDeserializer;
 import org.springframework.ai.model.ModelOptionsUtils;
+import org.springframework.ai.model.sse.ServerSentEventJsonDecoder;
 import org.springframework.ai.openai.api.common.OpenAiApiConstants;
+import org.springframework.ai.openai.metadata.support.OpenAiResponseHeaderExtractor;
 import org.springframework.ai.retry.RetryUtils;
+import org.springframework.ai.retry.ratelimit.RateLimitThrottler;
+import org.springframework.ai.tokenizer.JTokkitTokenCountEstimator;
+import org.springframework.ai.tokenizer.TokenCountEstimator;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -65,7 +74,8 @@ public class OpenAiApi {
 
 	public static final String DEFAULT_EMBEDDING_MODEL = EmbeddingModel.TEXT_EMBEDDING_ADA_002.getValue();
 
-	private static final Predicate<String> SSE_DONE_PREDICATE = "[DONE]"::equals;
+	private static final ServerSentEventJsonDecoder<ChatCompletionChunk> CHUNK_DECODER = new ServerSentEventJsonDecoder<>(
+			ModelOptionsUtils.OBJECT_MAPPER, ChatCompletionChunk.class);
 
 	private final String completionsPath;
 
@@ -75,6 +85,12 @@ public class OpenAiApi {
 
 	private final WebClient webClient;
 
+	private final String apiKey;
+
+	private final RateLimitThrottler rateLimitThrottler;
+
+	private final TokenCountEstimator tokenCountEstimator;
+
 	private OpenAiStreamFunctionCallingHelper chunkMerger = new OpenAiStreamFunctionCallingHelper();
 
 	/**
@@ -152,6 +168,26 @@ public class OpenAiApi {
 	public OpenAiApi(String baseUrl, String apiKey, MultiValueMap<String, String> headers, String completionsPath,
 			String embeddingsPath, RestClient.Builder restClientBuilder, WebClient.Builder webClientBuilder,
 			ResponseErrorHandler responseErrorHandler) {
+		this(baseUrl, apiKey, headers, completionsPath, embeddingsPath, restClientBuilder, webClientBuilder,
+				responseErrorHandler, null);
+	}
+
+	/**
+	 * Create a new chat completion api.
+	 * @param baseUrl api base URL.
+	 * @param apiKey OpenAI apiKey.
+	 * @param headers the http headers to use.
+	 * @param completionsPath the path to the chat completions endpoint.
+	 * @param embeddingsPath the path to the embeddings endpoint.
+	 * @param restClientBuilder RestClient builder.
+	 * @param webClientBuilder WebClient builder.
+	 * @param responseErrorHandler Response error handler.
+	 * @param rateLimitThrottler Optional, client side throttler that paces the requests
+	 * according to the rate limits reported in the response headers. Can be null.
+	 */
+	public OpenAiApi(String baseUrl, String apiKey, MultiValueMap<String, String> headers, String completionsPath,
+			String embeddingsPath, RestClient.Builder restClientBuilder, WebClient.Builder webClientBuilder,
+			ResponseErrorHandler responseErrorHandler, RateLimitThrottler rateLimitThrottler) {
 
 		Assert.hasText(completionsPath, "Completions Path must not be null");
 		Assert.hasText(embeddingsPath, "Embeddings Path must not be null");
@@ -159,6 +195,9 @@ public class OpenAiApi {
 
 		this.completionsPath = completionsPath;
 		this.embeddingsPath = embeddingsPath;
+		this.apiKey = apiKey;
+		this.rateLimitThrottler = rateLimitThrottler;
+		this.tokenCountEstimator = (rateLimitThrottler != null) ? new JTokkitTokenCountEstimator() : null;
 		// @formatter:off
 		Consumer<HttpHeaders> finalHeaders = h -> {
 			h.setBearerAuth(apiKey);
@@ -208,12 +247,20 @@ public class OpenAiApi {
 		Assert.isTrue(!chatRequest.stream(), "Request must set the stream property to false.");
 		Assert.notNull(additionalHttpHeader, "The additional HTTP headers can not be null.");
 
-		return this.restClient.post()
+		if (this.rateLimitThrottler != null) {
+			this.rateLimitThrottler.acquire(this.apiKey, chatRequest.model(), estimateTokens(chatRequest));
+		}
+
+		ResponseEntity<ChatCompletion> response = this.restClient.post()
 			.uri(this.completionsPath)
 			.headers(headers -> headers.addAll(additionalHttpHeader))
 			.body(chatRequest)
 			.retrieve()
 			.toEntity(ChatCompletion.class);
+
+		updateRateLimit(chatRequest.model(), response);
+
+		return response;
 	}
 
 	/**
@@ -242,17 +289,21 @@ public class OpenAiApi {
 
 		AtomicBoolean isInsideTool = new AtomicBoolean(false);
 
-		return this.webClient.post()
+		Mono<Void> throttle = (this.rateLimitThrottler != null)
+				? this.rateLimitThrottler.acquireAsync(this.apiKey, chatRequest.model(), estimateTokens(chatRequest))
+				: Mono.empty();
+
+		return throttle.thenMany(this.webClient.post()
 			.uri(this.completionsPath)
 			.headers(headers -> headers.addAll(additionalHttpHeader))
 			.body(Mono.just(chatRequest), ChatCompletionRequest.class)
 			.retrieve()
-			.bodyToFlux(String.class)
-			// cancels the flux stream after the "[DONE]" is received.
-			.takeUntil(SSE_DONE_PREDICATE)
-			// filters out the "[DONE]" message.
-			.filter(SSE_DONE_PREDICATE.negate())
-			.map(content -> ModelOptionsUtils.jsonToObject(content, ChatCompletionChunk.class))
+			.toEntityFlux(DataBuffer.class)
+			.flatMapMany(response -> {
+				updateRateLimit(chatRequest.model(), response);
+				// decodes the events up to the "[DONE]" one, straight from the bytes.
+				return CHUNK_DECODER.decode(response.getBody());
+			}))
 			// Detect is the chunk is part of a streaming function call.
 			.map(chunk -> {
 				if (this.chunkMerger.isStreamingToolFunctionCall(chunk)) {
@@ -274,9 +325,7 @@ public class OpenAiApi {
 			// Mono<ChatCompletionChunk>,
 			// Flux<Flux<ChatCompletionChunk>> -> Flux<Mono<ChatCompletionChunk>>
 			.concatMapIterable(window -> {
-				Mono<ChatCompletionChunk> monoChunk = window.reduce(
-						new ChatCompletionChunk(null, null, null, null, null, null, null, null),
-						(previous, current) -> this.chunkMerger.merge(previous, current));
+				Mono<ChatCompletionChunk> monoChunk = this.chunkMerger.merge(window);
 				return List.of(monoChunk);
 			})
 			// Flux<Mono<ChatCompletionChunk>> -> Flux<ChatCompletionChunk>
@@ -316,13 +365,68 @@ public class OpenAiApi {
 					"The input must be either a String, or a List of Strings or list of list of integers.");
 		}
 
-		return this.restClient.post()
+		if (this.rateLimitThrottler != null) {
+			this.rateLimitThrottler.acquire(this.apiKey, embeddingRequest.model(), estimateTokens(embeddingRequest));
+		}
+
+		ResponseEntity<EmbeddingList<Embedding>> response = this.restClient.post()
 			.uri(this.embeddingsPath)
 			.body(embeddingRequest)
 			.retrieve()
 			.toEntity(new ParameterizedTypeReference<>() {
 
 			});
+
+		updateRateLimit(embeddingRequest.model(), response);
+
+		return response;
+	}
+
+	private void updateRateLimit(String model, ResponseEntity<?> response) {
+		if (this.rateLimitThrottler != null) {
+			this.rateLimitThrottler.update(this.apiKey, model,
+					OpenAiResponseHeaderExtractor.extractAiResponseHeaders(response));
+		}
+	}
+
+	// Prompt tokens plus the requested completion budget.
+	private long estimateTokens(ChatCompletionRequest chatRequest) {
+		long tokens = 0;
+		if (chatRequest.messages() != null) {
+			for (ChatCompletionMessage message : chatRequest.messages()) {
+				if (message.rawContent() instanceof String text) {
+					tokens += this.tokenCountEstimator.estimate(text);
+				}
+				else if (message.rawContent() instanceof List<?> content) {
+					for (Object part : content) {
+						if (part instanceof ChatCompletionMessage.MediaContent mediaContent) {
+							tokens += this.tokenCountEstimator.estimate(mediaContent.text());
+						}
+					}
+				}
+			}
+		}
+		if (chatRequest.maxCompletionTokens() != null) {
+			tokens += chatRequest.maxCompletionTokens();
+		}
+		else if (chatRequest.maxTokens() != null) {
+			tokens += chatRequest.maxTokens();
+		}
+		return tokens;
+	}
+
+	private long estimateTokens(EmbeddingRequest<?> embeddingRequest) {
+		if (embeddingRequest.input() instanceof String text) {
+			return this.tokenCountEstimator.estimate(text);
+		}
+		long tokens = 0;
+		if (embeddingRequest.input() instanceof List<?> inputs) {
+			for (Object input : inputs) {
+				tokens += (input instanceof String text) ? this.tokenCountEstimator.estimate(text)
+						: (input instanceof List<?> tokenIds) ? tokenIds.size() : 1;
+			}
+		}
+		return tokens;
 	}
 
 	/**
@@ -912,6 +1016,19 @@ public class OpenAiApi {
 			this.tools, this.toolChoice, this.parallelToolCalls, this.user);
 		}
 
+		/**
+		 * Sets the messages of the request.
+		 *
+		 * @param messages The new messages to use.
+		 * @return A new {@link ChatCompletionRequest} with the specified messages.
+		 */
+		public ChatCompletionRequest messages(List<ChatCompletionMessage> messages) {
+			return new ChatCompletionRequest(messages, this.model, this.store, this.metadata, this.frequencyPenalty, this.logitBias, this.logprobs,
+			this.topLogprobs, this.maxTokens, this.maxCompletionTokens, this.n, this.outputModalities, this.audioParameters, this.presencePenalty,
+			this.responseFormat, this.seed, this.serviceTier, this.stop, this.stream, this.streamOptions, this.temperature, this.topP,
+			this.tools, this.toolChoice, this.parallelToolCalls, this.user);
+		}
+
 		/**
 		 * Helper factory that creates a tool_choice of type 'none', 'auto' or selected function by name.
 		 */
@@ -1121,11 +1238,27 @@ public class OpenAiApi {
 			 * @param data Base64 encoded audio data.
 			 * @param format The format of the encoded audio data. Currently supports
 			 * "wav" and "mp3".
+			 * @param content Audio data encoded as a stream while the request is
+			 * serialized, in place of the data.
 			 */
 			@JsonInclude(Include.NON_NULL)
 			public record InputAudio(// @formatter:off
 				@JsonProperty("data") String data,
-				@JsonProperty("format") Format format) {
+				@JsonProperty("format") Format format,
+				@JsonIgnore Base64MediaContent content) {
+
+				public InputAudio(String data, Format format) {
+					this(data, format, null);
+				}
+
+				public InputAudio(Base64MediaContent content, Format format) {
+					this(null, format, content);
+				}
+
+				@JsonAnyGetter
+				Map<String, Object> streamedContent() {
+					return (this.content != null) ? Map.of("data", this.content) : Map.of();
+				}
 
 				public enum Format {
 					/** MP3 audio format */
@@ -1142,14 +1275,30 @@ public class OpenAiApi {
 			 * base64 encoded image data must have a special prefix in the following
 			 * format: "data:{mimetype};base64,{base64-encoded-image-data}".
 			 * @param detail Specifies the detail level of the image.
+			 * @param content Image data URL encoded as a stream while the request is
+			 * serialized, in place of the url.
 			 */
 			@JsonInclude(Include.NON_NULL)
-			public record ImageUrl(@JsonProperty("url") String url, @JsonProperty("detail") String detail) {
+			public record ImageUrl(@JsonProperty("url") String url, @JsonProperty("detail") String detail,
+					@JsonIgnore Base64MediaContent content) {
+
+				public ImageUrl(String url, String detail) {
+					this(url, detail, null);
+				}
 
 				public ImageUrl(String url) {
 					this(url, null);
 				}
 
+				public ImageUrl(Base64MediaContent content) {
+					this(null, null, content);
+				}
+
+				@JsonAnyGetter
+				Map<String, Object> streamedContent() {
+					return (this.content != null) ? Map.of("url", this.content) : Map.of();
+				}
+
 			}
 
 		}
@@ -1422,13 +1571,14 @@ public class OpenAiApi {
 	 *
 	 * @param index The index of the embedding in the list of embeddings.
 	 * @param embedding The embedding vector, which is a list of floats. The length of
-	 * vector depends on the model.
+	 * vector depends on the model. Returned either as a JSON array or, with the base64
+	 * encoding format, as base64 encoded little-endian floats.
 	 * @param object The object type, which is always 'embedding'.
 	 */
 	@JsonInclude(Include.NON_NULL)
 	public record Embedding(// @formatter:off
 			@JsonProperty("index") Integer index,
-			@JsonProperty("embedding") float[] embedding,
+			@JsonProperty("embedding") @JsonDeserialize(using = EmbeddingVectorDeserializer.class) float[] embedding,
 			@JsonProperty("object") String object) { // @formatter:on
 
 		/**
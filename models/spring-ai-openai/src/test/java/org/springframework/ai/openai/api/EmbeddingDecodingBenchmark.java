@@ -0,0 +1,130 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.openai.api;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import org.springframework.ai.model.ModelOptionsUtils;
+import org.springframework.ai.openai.api.OpenAiApi.Embedding;
+import org.springframework.ai.openai.api.OpenAiApi.EmbeddingList;
+
+/**
+ * JMH benchmark comparing the decoding of an embedding response with the float and the
+ * base64 encoding formats. Run with {@code -prof gc} to compare the allocation rate.
+ *
+ * <p>
+ * Run from the IDE or with the test classpath: {@code java -cp ...
+ * org.springframework.ai.openai.api.EmbeddingDecodingBenchmark -prof gc}.
+ * </p>
+ *
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmbeddingDecodingBenchmark {
+
+	private static final TypeReference<EmbeddingList<Embedding>> RESPONSE_TYPE = new TypeReference<>() {
+
+	};
+
+	/**
+	 * Number of embeddings in the response.
+	 */
+	@Param({ "64" })
+	public int batchSize;
+
+	/**
+	 * Number of dimensions of each embedding.
+	 */
+	@Param({ "1536", "3072" })
+	public int dimensions;
+
+	private byte[] floatResponse;
+
+	private byte[] base64Response;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		Random random = new Random(42);
+		List<Map<String, Object>> floatData = new ArrayList<>();
+		List<Map<String, Object>> base64Data = new ArrayList<>();
+		for (int i = 0; i < this.batchSize; i++) {
+			float[] values = new float[this.dimensions];
+			for (int j = 0; j < values.length; j++) {
+				values[j] = (float) random.nextGaussian() / 32;
+			}
+			ByteBuffer buffer = ByteBuffer.allocate(values.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+			buffer.asFloatBuffer().put(values);
+			floatData.add(Map.of("object", "embedding", "index", i, "embedding", values));
+			base64Data.add(Map.of("object", "embedding", "index", i, "embedding",
+					Base64.getEncoder().encodeToString(buffer.array())));
+		}
+		this.floatResponse = response(floatData);
+		this.base64Response = response(base64Data);
+	}
+
+	@Benchmark
+	public EmbeddingList<Embedding> floatDecoding() throws IOException {
+		return ModelOptionsUtils.OBJECT_MAPPER.readValue(this.floatResponse, RESPONSE_TYPE);
+	}
+
+	@Benchmark
+	public EmbeddingList<Embedding> base64Decoding() throws IOException {
+		return ModelOptionsUtils.OBJECT_MAPPER.readValue(this.base64Response, RESPONSE_TYPE);
+	}
+
+	private static byte[] response(List<Map<String, Object>> data) throws IOException {
+		return ModelOptionsUtils.OBJECT_MAPPER.writeValueAsBytes(Map.of("object", "list", "model",
+				"text-embedding-3-large", "usage", Map.of("prompt_tokens", 8, "total_tokens", 8), "data", data));
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(EmbeddingDecodingBenchmark.class.getSimpleName())
+			.addProfiler("gc")
+			.build()).run();
+	}
+
+}
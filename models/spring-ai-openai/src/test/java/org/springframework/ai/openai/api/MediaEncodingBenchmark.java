@@ -0,0 +1,191 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.openai.api;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import org.springframework.ai.chat.messages.UserMessage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.model.LazyMediaData;
+import org.springframework.ai.model.Media;
+import org.springframework.ai.openai.OpenAiChatModel;
+import org.springframework.ai.openai.OpenAiChatOptions;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.AbstractClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * JMH benchmark comparing the memory used by an {@link OpenAiChatModel#call(Prompt)} with
+ * an image attached, read upfront as bytes, versus a {@link LazyMediaData} encoded as a
+ * stream into the request body. The calls go through the whole request preparation,
+ * including the options merges, and the request body is written to a stubbed transport
+ * that discards it. Run with {@code -prof gc} to compare the allocations per operation
+ * ({@code gc.alloc.rate.norm}).
+ *
+ * <p>
+ * Run from the IDE or with the test classpath: {@code java -cp ...
+ * org.springframework.ai.openai.api.MediaEncodingBenchmark -prof gc}.
+ * </p>
+ *
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MediaEncodingBenchmark {
+
+	private static final byte[] RESPONSE = """
+			{
+				"id": "chatcmpl-1",
+				"object": "chat.completion",
+				"created": 0,
+				"model": "gpt-4o",
+				"choices": [
+					{ "index": 0, "message": { "role": "assistant", "content": "An image." }, "finish_reason": "stop" }
+				],
+				"usage": { "prompt_tokens": 1, "completion_tokens": 1, "total_tokens": 2 }
+			}
+			""".getBytes(StandardCharsets.UTF_8);
+
+	/**
+	 * Size of the image, in bytes.
+	 */
+	@Param({ "1048576", "20971520" })
+	public int imageSize;
+
+	private Path image;
+
+	private OpenAiChatModel chatModel;
+
+	private OpenAiChatOptions options;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		byte[] content = new byte[this.imageSize];
+		new Random(42).nextBytes(content);
+		this.image = Files.createTempFile("media-encoding-benchmark", ".png");
+		Files.write(this.image, content);
+
+		RestClient.Builder restClientBuilder = RestClient.builder().requestFactory(new DiscardingRequestFactory());
+		OpenAiApi openAiApi = new OpenAiApi("http://localhost", "benchmark", restClientBuilder, WebClient.builder());
+		this.chatModel = new OpenAiChatModel(openAiApi, OpenAiChatOptions.builder().model("gpt-4o").build());
+		this.options = OpenAiChatOptions.builder().temperature(0.5).build();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(this.image);
+	}
+
+	@Benchmark
+	public ChatResponse eagerEncoding() throws IOException {
+		byte[] content = new FileSystemResource(this.image).getContentAsByteArray();
+		return call(Media.builder().mimeType(MimeTypeUtils.IMAGE_PNG).data(content).build());
+	}
+
+	@Benchmark
+	public ChatResponse streamedEncoding() {
+		var data = new LazyMediaData(new FileSystemResource(this.image));
+		return call(Media.builder().mimeType(MimeTypeUtils.IMAGE_PNG).data(data).build());
+	}
+
+	private ChatResponse call(Media image) {
+		return this.chatModel
+			.call(new Prompt(List.of(new UserMessage("Describe the image", List.of(image))), this.options));
+	}
+
+	/**
+	 * Writes the request bodies to a null stream, and answers a canned chat completion.
+	 */
+	private static final class DiscardingRequestFactory implements ClientHttpRequestFactory {
+
+		@Override
+		public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) {
+			return new AbstractClientHttpRequest() {
+
+				@Override
+				public HttpMethod getMethod() {
+					return httpMethod;
+				}
+
+				@Override
+				public URI getURI() {
+					return uri;
+				}
+
+				@Override
+				protected OutputStream getBodyInternal(HttpHeaders headers) {
+					return OutputStream.nullOutputStream();
+				}
+
+				@Override
+				protected ClientHttpResponse executeInternal(HttpHeaders headers) {
+					var response = new MockClientHttpResponse(RESPONSE, HttpStatus.OK);
+					response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+					return response;
+				}
+
+			};
+		}
+
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(MediaEncodingBenchmark.class.getSimpleName())
+			.addProfiler("gc")
+			.build()).run();
+	}
+
+}
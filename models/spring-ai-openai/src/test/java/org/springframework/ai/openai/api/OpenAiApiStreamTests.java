@@ -0,0 +1,107 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.openai.api;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.openai.api.OpenAiApi.ChatCompletionChunk;
+import org.springframework.ai.openai.api.OpenAiApi.ChatCompletionMessage;
+import org.springframework.ai.openai.api.OpenAiApi.ChatCompletionMessage.Role;
+import org.springframework.ai.openai.api.OpenAiApi.ChatCompletionRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the decoding of the {@link OpenAiApi} streamed chat completions against a local
+ * server.
+ */
+class OpenAiApiStreamTests {
+
+	private static final String EVENTS = """
+			data: {"id":"chatcmpl-1","object":"chat.completion.chunk","created":1,"model":"gpt-4o","choices":[{"index":0,"delta":{"role":"assistant","content":"Hel"}}]}
+
+			: keep-alive
+
+			data: {"id":"chatcmpl-1","object":"chat.completion.chunk","created":1,"model":"gpt-4o","choices":[{"index":0,"delta":{"content":"lo"}}]}
+
+			data: {"id":"chatcmpl-1","object":"chat.completion.chunk","created":1,"model":"gpt-4o","choices":[{"index":0,"delta":{"tool_calls":[{"index":0,"id":"call_1","type":"function","function":{"name":"getWeather","arguments":""}}]}}]}
+
+			data: {"id":"chatcmpl-1","object":"chat.completion.chunk","created":1,"model":"gpt-4o","choices":[{"index":0,"delta":{"tool_calls":[{"index":0,"function":{"arguments":"{\\"location\\":"}}]}}]}
+
+			data: {"id":"chatcmpl-1","object":"chat.completion.chunk","created":1,"model":"gpt-4o","choices":[{"index":0,"delta":{"tool_calls":[{"index":0,"function":{"arguments":"\\"Paris\\"}"}}]}}]}
+
+			data: {"id":"chatcmpl-1","object":"chat.completion.chunk","created":1,"model":"gpt-4o","choices":[{"index":0,"delta":{},"finish_reason":"tool_calls"}]}
+
+			data: [DONE]
+
+			""";
+
+	private HttpServer server;
+
+	private OpenAiApi openAiApi;
+
+	@BeforeEach
+	void startServer() throws IOException {
+		this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		this.server.createContext("/v1/chat/completions", exchange -> {
+			byte[] body = EVENTS.getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+			exchange.sendResponseHeaders(200, 0);
+			try (OutputStream out = exchange.getResponseBody()) {
+				// Flush in small slices so that events are split across buffers.
+				for (int i = 0; i < body.length; i += 37) {
+					out.write(body, i, Math.min(37, body.length - i));
+					out.flush();
+				}
+			}
+		});
+		this.server.start();
+		this.openAiApi = new OpenAiApi("http://localhost:" + this.server.getAddress().getPort(), "test-key");
+	}
+
+	@AfterEach
+	void stopServer() {
+		this.server.stop(0);
+	}
+
+	@Test
+	void decodesStreamedChunks() {
+		ChatCompletionRequest request = new ChatCompletionRequest(
+				List.of(new ChatCompletionMessage("What's the weather in Paris?", Role.USER)), "gpt-4o", 0.7, true);
+
+		List<ChatCompletionChunk> chunks = this.openAiApi.chatCompletionStream(request).collectList().block();
+
+		assertThat(chunks).hasSize(3);
+		assertThat(chunks.get(0).choices().get(0).delta().content()).isEqualTo("Hel");
+		assertThat(chunks.get(1).choices().get(0).delta().content()).isEqualTo("lo");
+		var toolCalls = chunks.get(2).choices().get(0).delta().toolCalls();
+		assertThat(toolCalls).hasSize(1);
+		assertThat(toolCalls.get(0).id()).isEqualTo("call_1");
+		assertThat(toolCalls.get(0).function().name()).isEqualTo("getWeather");
+		assertThat(toolCalls.get(0).function().arguments()).isEqualTo("{\"location\":\"Paris\"}");
+	}
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.openai.api;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import reactor.core.publisher.Flux;
+
+import org.springframework.ai.openai.api.OpenAiApi.ChatCompletionChunk;
+import org.springframework.ai.openai.api.OpenAiApi.ChatCompletionChunk.ChunkChoice;
+import org.springframework.ai.openai.api.OpenAiApi.ChatCompletionFinishReason;
+import org.springframework.ai.openai.api.OpenAiApi.ChatCompletionMessage;
+import org.springframework.ai.openai.api.OpenAiApi.ChatCompletionMessage.ChatCompletionFunction;
+import org.springframework.ai.openai.api.OpenAiApi.ChatCompletionMessage.Role;
+import org.springframework.ai.openai.api.OpenAiApi.ChatCompletionMessage.ToolCall;
+
+/**
+ * JMH benchmark comparing the pairwise and the accumulating merge of a streamed tool call
+ * window, for tool call arguments streamed a few characters per chunk.
+ *
+ * <p>
+ * Run from the IDE or with the test classpath: {@code java -cp ...
+ * org.springframework.ai.openai.api.OpenAiStreamFunctionCallingHelperBenchmark}.
+ * </p>
+ *
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OpenAiStreamFunctionCallingHelperBenchmark {
+
+	/**
+	 * Size of the streamed JSON arguments, in characters.
+	 */
+	@Param({ "1024", "10240" })
+	public int argumentsSize;
+
+	/**
+	 * Number of characters per streamed chunk, roughly one token.
+	 */
+	@Param({ "4" })
+	public int chunkSize;
+
+	private final OpenAiStreamFunctionCallingHelper helper = new OpenAiStreamFunctionCallingHelper();
+
+	private List<ChatCompletionChunk> window;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		StringBuilder arguments = new StringBuilder("{\"text\":\"");
+		while (arguments.length() < this.argumentsSize - 2) {
+			arguments.append("lorem ipsum dolor sit amet ");
+		}
+		arguments.setLength(this.argumentsSize - 2);
+		arguments.append("\"}");
+
+		this.window = new ArrayList<>();
+		this.window
+			.add(chunk(new ToolCall(0, "call_1", "function", new ChatCompletionFunction("summarize", "")), null));
+		for (int i = 0; i < arguments.length(); i += this.chunkSize) {
+			String delta = arguments.substring(i, Math.min(i + this.chunkSize, arguments.length()));
+			this.window.add(chunk(new ToolCall(0, null, null, new ChatCompletionFunction(null, delta)), null));
+		}
+		this.window.add(chunk(null, ChatCompletionFinishReason.TOOL_CALLS));
+	}
+
+	@Benchmark
+	public ChatCompletionChunk pairwiseMerge() {
+		return Flux.fromIterable(this.window)
+			.reduce(new ChatCompletionChunk(null, null, null, null, null, null, null, null), this.helper::merge)
+			.block();
+	}
+
+	@Benchmark
+	public ChatCompletionChunk accumulatingMerge() {
+		return this.helper.merge(Flux.fromIterable(this.window)).block();
+	}
+
+	private static ChatCompletionChunk chunk(ToolCall toolCall, ChatCompletionFinishReason finishReason) {
+		ChatCompletionMessage delta = new ChatCompletionMessage(null, Role.ASSISTANT, null, null,
+				(toolCall != null) ? List.of(toolCall) : null, null, null);
+		return new ChatCompletionChunk("chatcmpl-1", List.of(new ChunkChoice(finishReason, 0, delta, null)), 1L,
+				"gpt-4o", null, null, "chat.completion.chunk", null);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(
+				new OptionsBuilder().include(OpenAiStreamFunctionCallingHelperBenchmark.class.getSimpleName()).build())
+			.run();
+	}
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.openai.api;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import org.springframework.ai.openai.api.OpenAiApi.ChatCompletionChunk;
+import org.springframework.ai.openai.api.OpenAiApi.ChatCompletionChunk.ChunkChoice;
+import org.springframework.ai.openai.api.OpenAiApi.ChatCompletionFinishReason;
+import org.springframework.ai.openai.api.OpenAiApi.ChatCompletionMessage;
+import org.springframework.ai.openai.api.OpenAiApi.ChatCompletionMessage.ChatCompletionFunction;
+import org.springframework.ai.openai.api.OpenAiApi.ChatCompletionMessage.Role;
+import org.springframework.ai.openai.api.OpenAiApi.ChatCompletionMessage.ToolCall;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link OpenAiStreamFunctionCallingHelper}.
+ */
+class OpenAiStreamFunctionCallingHelperTests {
+
+	private final OpenAiStreamFunctionCallingHelper helper = new OpenAiStreamFunctionCallingHelper();
+
+	@Test
+	void mergeWindowAccumulatesToolCallArguments() {
+		Flux<ChatCompletionChunk> window = Flux.just(
+				chunk(Role.ASSISTANT, new ToolCall(0, "call_1", "function", function("getWeather", "")), null),
+				chunk(null, new ToolCall(0, null, null, function(null, "{\"location\":")), null),
+				chunk(null, new ToolCall(0, null, null, function(null, "\"Paris\"}")), null),
+				chunk(null, new ToolCall(1, "call_2", "function", function("getTime", "{}")), null),
+				chunk(null, null, ChatCompletionFinishReason.TOOL_CALLS));
+
+		ChatCompletionChunk merged = this.helper.merge(window).block();
+
+		assertThat(merged.id()).isEqualTo("chatcmpl-1");
+		ChunkChoice choice = merged.choices().get(0);
+		assertThat(choice.finishReason()).isEqualTo(ChatCompletionFinishReason.TOOL_CALLS);
+		assertThat(choice.delta().role()).isEqualTo(Role.ASSISTANT);
+		assertThat(choice.delta().toolCalls()).containsExactly(
+				new ToolCall(0, "call_1", "function", function("getWeather", "{\"location\":\"Paris\"}")),
+				new ToolCall(1, "call_2", "function", function("getTime", "{}")));
+	}
+
+	@Test
+	void mergeWindowMatchesPairwiseMerge() {
+		List<ChatCompletionChunk> chunks = List.of(
+				chunk(Role.ASSISTANT, new ToolCall("call_1", "function", function("getWeather", "")), null),
+				chunk(null, new ToolCall(null, null, function(null, "{\"location\":")), null),
+				chunk(null, new ToolCall(null, null, function(null, "\"Paris\"}")), null),
+				chunk(null, null, ChatCompletionFinishReason.TOOL_CALLS));
+
+		ChatCompletionChunk expected = Flux.fromIterable(chunks)
+			.reduce(new ChatCompletionChunk(null, null, null, null, null, null, null, null), this.helper::merge)
+			.block();
+		ChatCompletionChunk merged = this.helper.merge(Flux.fromIterable(chunks)).block();
+
+		assertThat(merged).isEqualTo(expected);
+	}
+
+	@Test
+	void mergeWindowWithoutToolCallsReturnsTheChunk() {
+		ChatCompletionChunk chunk = chunk(Role.ASSISTANT, null, null);
+
+		assertThat(this.helper.merge(Flux.just(chunk)).block()).isEqualTo(chunk);
+	}
+
+	private static ChatCompletionFunction function(String name, String arguments) {
+		return new ChatCompletionFunction(name, arguments);
+	}
+
+	private static ChatCompletionChunk chunk(Role role, ToolCall toolCall, ChatCompletionFinishReason finishReason) {
+		ChatCompletionMessage delta = new ChatCompletionMessage(null, role, null, null,
+				(toolCall != null) ? List.of(toolCall) : null, null, null);
+		return new ChatCompletionChunk("chatcmpl-1", List.of(new ChunkChoice(finishReason, 0, delta, null)), 1L,
+				"gpt-4o", null, null, "chat.completion.chunk", null);
+	}
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.openai.api;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import reactor.core.publisher.Flux;
+
+import org.springframework.ai.model.ModelOptionsUtils;
+import org.springframework.ai.model.sse.ServerSentEventJsonDecoder;
+import org.springframework.ai.openai.api.OpenAiApi.ChatCompletionChunk;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEventHttpMessageReader;
+import org.springframework.mock.http.client.reactive.MockClientHttpResponse;
+
+/**
+ * JMH benchmark comparing the String based and the byte level decoding of a streamed chat
+ * completion, one token per event. Run with {@code -prof gc} to compare the allocation
+ * rate per decoded chunk.
+ *
+ * <p>
+ * Run from the IDE or with the test classpath: {@code java -cp ...
+ * org.springframework.ai.openai.api.ServerSentEventDecodingBenchmark -prof gc}.
+ * </p>
+ *
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServerSentEventDecodingBenchmark {
+
+	private static final String CHUNK = """
+			data: {"id":"chatcmpl-AbCdEfGhIjKlMnOp","object":"chat.completion.chunk","created":1730000000,\
+			"model":"gpt-4o-2024-08-06","system_fingerprint":"fp_1234567890",\
+			"choices":[{"index":0,"delta":{"content":" token%d"},"logprobs":null,"finish_reason":null}]}
+
+			""";
+
+	/**
+	 * Number of streamed tokens, one event each.
+	 */
+	@Param({ "256" })
+	public int tokens;
+
+	/**
+	 * Size of the network reads the events are split into.
+	 */
+	@Param({ "512", "8192" })
+	public int bufferSize;
+
+	private final ServerSentEventHttpMessageReader stringReader = new ServerSentEventHttpMessageReader();
+
+	private final ServerSentEventJsonDecoder<ChatCompletionChunk> decoder = new ServerSentEventJsonDecoder<>(
+			ModelOptionsUtils.OBJECT_MAPPER, ChatCompletionChunk.class);
+
+	private List<byte[]> reads;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		StringBuilder events = new StringBuilder();
+		for (int i = 0; i < this.tokens; i++) {
+			events.append(CHUNK.formatted(i));
+		}
+		events.append("data: [DONE]\n\n");
+		byte[] bytes = events.toString().getBytes(StandardCharsets.UTF_8);
+		this.reads = new ArrayList<>();
+		for (int i = 0; i < bytes.length; i += this.bufferSize) {
+			byte[] read = new byte[Math.min(this.bufferSize, bytes.length - i)];
+			System.arraycopy(bytes, i, read, 0, read.length);
+			this.reads.add(read);
+		}
+	}
+
+	@Benchmark
+	public void stringDecoding(Blackhole blackhole) {
+		MockClientHttpResponse response = new MockClientHttpResponse(HttpStatus.OK);
+		response.getHeaders().setContentType(MediaType.TEXT_EVENT_STREAM);
+		response.setBody(body());
+		this.stringReader.read(ResolvableType.forClass(String.class), response, Map.of())
+			.cast(String.class)
+			.takeUntil("[DONE]"::equals)
+			.filter(content -> !"[DONE]".equals(content))
+			.map(content -> ModelOptionsUtils.jsonToObject(content, ChatCompletionChunk.class))
+			.doOnNext(blackhole::consume)
+			.blockLast();
+	}
+
+	@Benchmark
+	public void byteDecoding(Blackhole blackhole) {
+		this.decoder.decode(body()).doOnNext(blackhole::consume).blockLast();
+	}
+
+	private Flux<DataBuffer> body() {
+		return Flux.fromIterable(this.reads).map(DefaultDataBufferFactory.sharedInstance::wrap);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(ServerSentEventDecodingBenchmark.class.getSimpleName())
+			.addProfiler("gc")
+			.build()).run();
+	}
+
+}
@@ -16,11 +16,15 @@
 
 package org.springframework.ai.openai.chat;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.Base64;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -34,11 +38,16 @@ import reactor.core.publisher.Flux;
 import org.springframework.ai.chat.messages.SystemMessage;
 import org.springframework.ai.chat.messages.UserMessage;
 import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.model.LazyMediaData;
 import org.springframework.ai.model.Media;
+import org.springframework.ai.model.ModelOptionsUtils;
 import org.springframework.ai.openai.OpenAiChatModel;
+import org.springframework.ai.openai.OpenAiChatOptions;
 import org.springframework.ai.openai.api.OpenAiApi;
 import org.springframework.ai.openai.api.OpenAiApi.ChatCompletionChunk;
+import org.springframework.ai.openai.api.OpenAiApi.ChatCompletionMessage.MediaContent;
 import org.springframework.ai.openai.api.OpenAiApi.ChatCompletionRequest;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.MimeTypeUtils;
 import org.springframework.util.MultiValueMap;
@@ -147,27 +156,83 @@ public class MessageTypeContentTests {
 		validateComplexContent(this.pomptCaptor.getValue());
 	}
 
+	@Test
+	public void userMessageWithLazyMedia() throws JsonProcessingException {
+
+		given(this.openAiApi.chatCompletionEntity(this.pomptCaptor.capture(), this.headersCaptor.capture()))
+			.willReturn(Mockito.mock(ResponseEntity.class));
+
+		byte[] image = new byte[] { 1, 2, 3, 4, 5 };
+		this.chatModel.call(new Prompt(List.of(new UserMessage("test message", List.of(Media.builder()
+			.mimeType(MimeTypeUtils.IMAGE_PNG)
+			.data(new LazyMediaData(new ByteArrayResource(image)))
+			.build())))));
+
+		validateComplexContent(this.pomptCaptor.getValue());
+
+		@SuppressWarnings("unchecked")
+		List<MediaContent> mediaContents = (List<MediaContent>) this.pomptCaptor.getValue()
+			.messages()
+			.get(0)
+			.rawContent();
+		assertThat(mediaContents.get(1).imageUrl().content()).isNotNull();
+		assertThat(ModelOptionsUtils.OBJECT_MAPPER.writeValueAsString(mediaContents.get(1).imageUrl()))
+			.isEqualTo("{\"url\":\"data:image/png;base64," + Base64.getEncoder().encodeToString(image) + "\"}");
+	}
+
+	@Test
+	public void lazyMediaIsNotReadBeforeTheRequestIsWritten() throws JsonProcessingException {
+
+		given(this.openAiApi.chatCompletionEntity(this.pomptCaptor.capture(), this.headersCaptor.capture()))
+			.willReturn(Mockito.mock(ResponseEntity.class));
+
+		AtomicInteger reads = new AtomicInteger();
+		ByteArrayResource image = new ByteArrayResource(new byte[] { 1, 2, 3, 4, 5 }) {
+
+			@Override
+			public InputStream getInputStream() throws IOException {
+				reads.incrementAndGet();
+				return super.getInputStream();
+			}
+
+		};
+
+		// The runtime options, the default options and the tools are all merged
+		this.chatModel = new OpenAiChatModel(this.openAiApi, OpenAiChatOptions.builder().model("gpt-4o").build());
+		this.chatModel.call(new Prompt(
+				List.of(new UserMessage("test message",
+						List.of(Media.builder()
+							.mimeType(MimeTypeUtils.IMAGE_PNG)
+							.data(new LazyMediaData(image))
+							.build()))),
+				OpenAiChatOptions.builder().temperature(0.5).build()));
+
+		assertThat(reads).hasValue(0);
+
+		ModelOptionsUtils.OBJECT_MAPPER.writeValueAsString(this.pomptCaptor.getValue());
+
+		assertThat(reads).hasValue(1);
+	}
+
 	private void validateComplexContent(ChatCompletionRequest chatCompletionRequest) {
 
 		assertThat(chatCompletionRequest.messages()).hasSize(1);
 		var userMessage = chatCompletionRequest.messages().get(0);
 		assertThat(userMessage.rawContent()).isInstanceOf(List.class);
 
-		// Note: apparently the ArgumentCaptor converts the MediaContent into Map<String,
-		// Object>
-		@SuppressWarnings({ "unused", "unchecked" })
-		List<Map<String, Object>> mediaContents = (List<Map<String, Object>>) userMessage.rawContent();
+		@SuppressWarnings("unchecked")
+		List<MediaContent> mediaContents = (List<MediaContent>) userMessage.rawContent();
 
 		assertThat(mediaContents).hasSize(2);
 
-		Map<String, Object> textContent = mediaContents.get(0);
-		assertThat(textContent.get("type")).isEqualTo("text");
-		assertThat(textContent.get("text")).isEqualTo("test message");
+		MediaContent textContent = mediaContents.get(0);
+		assertThat(textContent.type()).isEqualTo("text");
+		assertThat(textContent.text()).isEqualTo("test message");
 
-		Map<String, Object> imageContent = mediaContents.get(1);
+		MediaContent imageContent = mediaContents.get(1);
 
-		assertThat(imageContent.get("type")).isEqualTo("image_url");
-		assertThat(imageContent).containsKey("image_url");
+		assertThat(imageContent.type()).isEqualTo("image_url");
+		assertThat(imageContent.imageUrl()).isNotNull();
 	}
 
 }
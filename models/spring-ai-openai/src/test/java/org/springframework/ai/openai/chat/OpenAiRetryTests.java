@@ -18,9 +18,9 @@ package org.springframework.ai.openai.chat;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
-import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -112,6 +112,7 @@ public class OpenAiRetryTests {
 
 		this.chatModel = new OpenAiChatModel(this.openAiApi, OpenAiChatOptions.builder().build(), null,
 				this.retryTemplate);
+		this.chatModel.setStreamRetry(RetryUtils.SHORT_STREAM_RETRY);
 		this.embeddingModel = new OpenAiEmbeddingModel(this.openAiApi, MetadataMode.EMBED,
 				OpenAiEmbeddingOptions.builder().build(), this.retryTemplate);
 		this.audioTranscriptionModel = new OpenAiAudioTranscriptionModel(this.openAiAudioApi,
@@ -153,7 +154,6 @@ public class OpenAiRetryTests {
 	}
 
 	@Test
-	@Disabled("Currently stream() does not implmement retry")
 	public void openAiChatStreamTransientError() {
 
 		var choice = new ChatCompletionChunk.ChunkChoice(ChatCompletionFinishReason.STOP, 0,
@@ -161,25 +161,24 @@ public class OpenAiRetryTests {
 		ChatCompletionChunk expectedChatCompletion = new ChatCompletionChunk("id", List.of(choice), 666L, "model", null,
 				null, null, null);
 
+		AtomicInteger attempts = new AtomicInteger();
 		given(this.openAiApi.chatCompletionStream(isA(ChatCompletionRequest.class), any()))
-			.willThrow(new TransientAiException("Transient Error 1"))
-			.willThrow(new TransientAiException("Transient Error 2"))
-			.willReturn(Flux.just(expectedChatCompletion));
+			.willReturn(Flux.defer(() -> attempts.incrementAndGet() < 3
+					? Flux.error(new TransientAiException("Transient Error " + attempts.get()))
+					: Flux.just(expectedChatCompletion)));
 
 		var result = this.chatModel.stream(new Prompt("text"));
 
 		assertThat(result).isNotNull();
 		assertThat(result.collectList().block().get(0).getResult().getOutput().getText()).isSameAs("Response");
-		assertThat(this.retryListener.onSuccessRetryCount).isEqualTo(2);
-		assertThat(this.retryListener.onErrorRetryCount).isEqualTo(2);
+		assertThat(attempts).hasValue(3);
 	}
 
 	@Test
-	@Disabled("Currently stream() does not implmement retry")
 	public void openAiChatStreamNonTransientError() {
 		given(this.openAiApi.chatCompletionStream(isA(ChatCompletionRequest.class), any()))
 			.willThrow(new RuntimeException("Non Transient Error"));
-		assertThrows(RuntimeException.class, () -> this.chatModel.stream(new Prompt("text")).subscribe());
+		assertThrows(RuntimeException.class, () -> this.chatModel.stream(new Prompt("text")).collectList().block());
 	}
 
 	@Test
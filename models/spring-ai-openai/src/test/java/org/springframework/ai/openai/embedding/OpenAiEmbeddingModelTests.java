@@ -0,0 +1,132 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.openai.embedding;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.document.MetadataMode;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+import org.springframework.ai.model.ModelOptionsUtils;
+import org.springframework.ai.openai.OpenAiEmbeddingModel;
+import org.springframework.ai.openai.OpenAiEmbeddingOptions;
+import org.springframework.ai.openai.api.OpenAiApi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the encoding formats of the {@link OpenAiEmbeddingModel} against a local server.
+ */
+class OpenAiEmbeddingModelTests {
+
+	private static final float[] FIRST = { 0.5f, -1.25f, 3.1415927f };
+
+	private static final float[] SECOND = { -0.001f, 42f, 1e-7f };
+
+	private HttpServer server;
+
+	private OpenAiApi openAiApi;
+
+	private JsonNode lastRequest;
+
+	@BeforeEach
+	void startServer() throws IOException {
+		this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		this.server.createContext("/v1/embeddings", exchange -> {
+			this.lastRequest = ModelOptionsUtils.OBJECT_MAPPER.readTree(exchange.getRequestBody());
+			boolean base64 = "base64".equals(this.lastRequest.path("encoding_format").asText());
+			Map<String, Object> response = Map.of("object", "list", "model", "text-embedding-3-small", "usage",
+					Map.of("prompt_tokens", 4, "total_tokens", 4), "data",
+					List.of(embedding(0, FIRST, base64), embedding(1, SECOND, base64)));
+			byte[] body = ModelOptionsUtils.OBJECT_MAPPER.writeValueAsBytes(response);
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(body);
+			}
+		});
+		this.server.start();
+		this.openAiApi = new OpenAiApi("http://localhost:" + this.server.getAddress().getPort(), "test-key");
+	}
+
+	@AfterEach
+	void stopServer() {
+		this.server.stop(0);
+	}
+
+	@Test
+	void requestsBase64EmbeddingsByDefault() {
+		OpenAiEmbeddingModel embeddingModel = new OpenAiEmbeddingModel(this.openAiApi);
+
+		EmbeddingResponse response = embeddingModel.call(new EmbeddingRequest(List.of("Hello", "World"), null));
+
+		assertThat(this.lastRequest.path("encoding_format").asText()).isEqualTo("base64");
+		assertThat(response.getResults()).hasSize(2);
+		assertThat(response.getResults().get(0).getOutput()).containsExactly(FIRST);
+		assertThat(response.getResults().get(1).getOutput()).containsExactly(SECOND);
+		assertThat(response.getMetadata().getUsage().getPromptTokens()).isEqualTo(4L);
+	}
+
+	@Test
+	void requestsFloatEmbeddingsWhenConfigured() {
+		OpenAiEmbeddingModel embeddingModel = new OpenAiEmbeddingModel(this.openAiApi, MetadataMode.EMBED,
+				OpenAiEmbeddingOptions.builder()
+					.model(OpenAiApi.DEFAULT_EMBEDDING_MODEL)
+					.encodingFormat("float")
+					.build());
+
+		EmbeddingResponse response = embeddingModel.call(new EmbeddingRequest(List.of("Hello", "World"), null));
+
+		assertThat(this.lastRequest.path("encoding_format").asText()).isEqualTo("float");
+		assertThat(response.getResults().get(0).getOutput()).containsExactly(FIRST);
+		assertThat(response.getResults().get(1).getOutput()).containsExactly(SECOND);
+	}
+
+	@Test
+	void apiRequestsFloatEmbeddingsByDefault() {
+		var response = this.openAiApi
+			.embeddings(new OpenAiApi.EmbeddingRequest<>(List.of("Hello", "World"), OpenAiApi.DEFAULT_EMBEDDING_MODEL));
+
+		assertThat(this.lastRequest.path("encoding_format").asText()).isEqualTo("float");
+		assertThat(response.getBody().data().get(0).embedding()).containsExactly(FIRST);
+	}
+
+	private static Map<String, Object> embedding(int index, float[] values, boolean base64) {
+		Object embedding = values;
+		if (base64) {
+			ByteBuffer buffer = ByteBuffer.allocate(values.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+			buffer.asFloatBuffer().put(values);
+			embedding = Base64.getEncoder().encodeToString(buffer.array());
+		}
+		return Map.of("object", "embedding", "index", index, "embedding", embedding);
+	}
+
+}
@@ -39,6 +39,7 @@ import org.springframework.ai.chat.model.StreamingChatModel;
 import org.springframework.ai.chat.observation.ChatModelObservationContext;
 import org.springframework.ai.chat.observation.ChatModelObservationConvention;
 import org.springframework.ai.chat.observation.ChatModelObservationDocumentation;
+import org.springframework.ai.chat.observation.ChatModelStreamTimings;
 import org.springframework.ai.chat.observation.DefaultChatModelObservationConvention;
 import org.springframework.ai.chat.prompt.ChatOptions;
 import org.springframework.ai.chat.prompt.Prompt;
@@ -51,6 +52,7 @@ import org.springframework.ai.qianfan.api.QianFanApi.ChatCompletionMessage.Role;
 import org.springframework.ai.qianfan.api.QianFanApi.ChatCompletionRequest;
 import org.springframework.ai.qianfan.api.QianFanConstants;
 import org.springframework.ai.qianfan.metadata.QianFanUsage;
+import org.springframework.ai.retry.ReactiveRetrySpec;
 import org.springframework.ai.retry.RetryUtils;
 import org.springframework.http.ResponseEntity;
 import org.springframework.retry.support.RetryTemplate;
@@ -98,6 +100,11 @@ public class QianFanChatModel implements ChatModel, StreamingChatModel {
 	 */
 	private ChatModelObservationConvention observationConvention = DEFAULT_OBSERVATION_CONVENTION;
 
+	/**
+	 * Non-blocking retry applied to the streaming calls.
+	 */
+	private ReactiveRetrySpec streamRetry = RetryUtils.DEFAULT_STREAM_RETRY;
+
 	/**
 	 * Creates an instance of the QianFanChatModel.
 	 * @param qianFanApi The QianFanApi instance to be used for interacting with the
@@ -194,7 +201,7 @@ public class QianFanChatModel implements ChatModel, StreamingChatModel {
 		return Flux.deferContextual(contextView -> {
 			ChatCompletionRequest request = createRequest(prompt, true);
 
-			var completionChunks = this.qianFanApi.chatCompletionStream(request);
+			var completionChunks = this.streamRetry.apply(this.qianFanApi.chatCompletionStream(request));
 
 			final ChatModelObservationContext observationContext = ChatModelObservationContext.builder()
 				.prompt(prompt)
@@ -224,7 +231,8 @@ public class QianFanChatModel implements ChatModel, StreamingChatModel {
 				.doOnError(observation::error)
 				.doFinally(s -> observation.stop())
 				.contextWrite(ctx -> ctx.put(ObservationThreadLocalAccessor.KEY, observation));
-			return new MessageAggregator().aggregate(chatResponse, observationContext::setResponse);
+			return new MessageAggregator().aggregate(ChatModelStreamTimings.observe(chatResponse, observationContext),
+					observationContext::setResponse);
 
 		});
 	}
@@ -302,4 +310,14 @@ public class QianFanChatModel implements ChatModel, StreamingChatModel {
 		this.observationConvention = observationConvention;
 	}
 
+	/**
+	 * Use the provided retry for the streaming calls.
+	 * @param streamRetry the non-blocking retry applied before the first chunk is
+	 * received.
+	 */
+	public void setStreamRetry(ReactiveRetrySpec streamRetry) {
+		Assert.notNull(streamRetry, "streamRetry cannot be null");
+		this.streamRetry = streamRetry;
+	}
+
 }
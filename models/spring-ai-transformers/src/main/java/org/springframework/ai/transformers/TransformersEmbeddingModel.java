@@ -16,8 +16,13 @@
 
 package org.springframework.ai.transformers;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.FloatBuffer;
+import java.nio.LongBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -36,6 +41,9 @@ import ai.onnxruntime.OnnxValue;
 import ai.onnxruntime.OrtEnvironment;
 import ai.onnxruntime.OrtException;
 import ai.onnxruntime.OrtSession;
+import ai.onnxruntime.OrtSession.SessionOptions.ExecutionMode;
+import ai.onnxruntime.OrtSession.SessionOptions.OptLevel;
+import io.micrometer.observation.Observation;
 import io.micrometer.observation.ObservationRegistry;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -69,6 +77,12 @@ import org.springframework.util.StringUtils;
  * </p>
  *
  * <p>
+ * Quantized (e.g. int8) model variants are loaded like any other ONNX model through the
+ * model resource. The ONNX runtime threading, graph optimization, execution mode and
+ * memory arena settings can be tuned through the corresponding setters.
+ * </p>
+ *
+ * <p>
  * For more information on the underlying SBERT framework, see:
  * <a href="https://www.sbert.net/index.html">SBERT Documentation</a>
  * <a href="https://www.sbert.net/docs/pretrained_models.html">SBERT Pre-trained
@@ -95,6 +109,18 @@ public class TransformersEmbeddingModel extends AbstractEmbeddingModel implement
 
 	private static final int EMBEDDING_AXIS = 1;
 
+	public static final int DEFAULT_BUCKET_SIZE = 32;
+
+	/**
+	 * Name of the observation recorded while the tokenizer and the ONNX model are loaded.
+	 */
+	public static final String MODEL_LOAD_OBSERVATION_NAME = "spring.ai.transformers.model.load";
+
+	/**
+	 * Name of the observation recorded for every ONNX inference run.
+	 */
+	public static final String INFERENCE_OBSERVATION_NAME = "spring.ai.transformers.inference";
+
 	/**
 	 * Specifies what parts of the {@link Document}'s content and metadata will be used
 	 * for computing the embeddings. Applicable for the {@link #embed(Document)} method
@@ -116,6 +142,39 @@ public class TransformersEmbeddingModel extends AbstractEmbeddingModel implement
 
 	private int gpuDeviceId = -1;
 
+	/**
+	 * Number of threads used to parallelize the execution within nodes. Only applicable
+	 * if > 0, otherwise the ONNX runtime default is used.
+	 */
+	private int intraOpNumThreads = -1;
+
+	/**
+	 * Number of threads used to parallelize the execution of the graph (across nodes).
+	 * Only applicable if > 0 and the execution mode is {@link ExecutionMode#PARALLEL}.
+	 */
+	private int interOpNumThreads = -1;
+
+	/**
+	 * Graph optimization level. Uses the ONNX runtime default if null.
+	 */
+	private OptLevel optimizationLevel;
+
+	/**
+	 * Sequential or parallel graph execution. Uses the ONNX runtime default if null.
+	 */
+	private ExecutionMode executionMode;
+
+	/**
+	 * Enables or disables the CPU memory arena. Uses the ONNX runtime default if null.
+	 */
+	private Boolean cpuArenaAllocator;
+
+	/**
+	 * Enables or disables the memory pattern optimization. Uses the ONNX runtime default
+	 * if null.
+	 */
+	private Boolean memoryPatternOptimization;
+
 	/**
 	 * DJL, Huggingface tokenizer implementation of the {@link Tokenizer} interface that
 	 * converts sentences into token.
@@ -155,6 +214,19 @@ public class TransformersEmbeddingModel extends AbstractEmbeddingModel implement
 
 	private Set<String> onnxModelInputs;
 
+	/**
+	 * When enabled, the inputs are sorted by token length and grouped into buckets of at
+	 * most {@link #bucketSize} sequences. Each bucket is padded only to its own longest
+	 * sequence, the input tensors are backed by direct buffers and the mean pooling is
+	 * computed straight from the output buffer.
+	 */
+	private boolean lengthBucketing = false;
+
+	/**
+	 * Maximum number of sequences per length bucket.
+	 */
+	private int bucketSize = DEFAULT_BUCKET_SIZE;
+
 	/**
 	 * Conventions to use for generating observations.
 	 */
@@ -195,6 +267,30 @@ public class TransformersEmbeddingModel extends AbstractEmbeddingModel implement
 		this.gpuDeviceId = gpuDeviceId;
 	}
 
+	public void setIntraOpNumThreads(int intraOpNumThreads) {
+		this.intraOpNumThreads = intraOpNumThreads;
+	}
+
+	public void setInterOpNumThreads(int interOpNumThreads) {
+		this.interOpNumThreads = interOpNumThreads;
+	}
+
+	public void setOptimizationLevel(OptLevel optimizationLevel) {
+		this.optimizationLevel = optimizationLevel;
+	}
+
+	public void setExecutionMode(ExecutionMode executionMode) {
+		this.executionMode = executionMode;
+	}
+
+	public void setCpuArenaAllocator(Boolean cpuArenaAllocator) {
+		this.cpuArenaAllocator = cpuArenaAllocator;
+	}
+
+	public void setMemoryPatternOptimization(Boolean memoryPatternOptimization) {
+		this.memoryPatternOptimization = memoryPatternOptimization;
+	}
+
 	public void setTokenizerResource(Resource tokenizerResource) {
 		this.tokenizerResource = tokenizerResource;
 	}
@@ -215,8 +311,23 @@ public class TransformersEmbeddingModel extends AbstractEmbeddingModel implement
 		this.modelOutputName = modelOutputName;
 	}
 
+	public void setLengthBucketing(boolean lengthBucketing) {
+		this.lengthBucketing = lengthBucketing;
+	}
+
+	public void setBucketSize(int bucketSize) {
+		Assert.isTrue(bucketSize > 0, "Bucket size must be greater than 0");
+		this.bucketSize = bucketSize;
+	}
+
 	@Override
 	public void afterPropertiesSet() throws Exception {
+		Observation.createNotStarted(MODEL_LOAD_OBSERVATION_NAME, this.observationRegistry)
+			.lowCardinalityKeyValue("spring.ai.transformers.model.output", this.modelOutputName)
+			.observeChecked(this::loadModel);
+	}
+
+	private void loadModel() throws Exception {
 
 		this.cacheService = StringUtils.hasText(this.resourceCacheDirectory)
 				? new ResourceCacheService(this.resourceCacheDirectory) : new ResourceCacheService();
@@ -229,13 +340,16 @@ public class TransformersEmbeddingModel extends AbstractEmbeddingModel implement
 		// onnxruntime
 		this.environment = OrtEnvironment.getEnvironment();
 
-		try (var sessionOptions = new OrtSession.SessionOptions()) {
-			if (this.gpuDeviceId >= 0) {
-				sessionOptions.addCUDA(this.gpuDeviceId); // Run on a GPU or with another
-				// provider
+		try (var sessionOptions = createSessionOptions()) {
+			Resource model = getCachedResource(this.modelResource);
+			if (model.isFile()) {
+				// Let the ONNX runtime read the model from the file system, instead of
+				// copying the whole model onto the heap.
+				this.session = this.environment.createSession(model.getFile().getAbsolutePath(), sessionOptions);
+			}
+			else {
+				this.session = this.environment.createSession(model.getContentAsByteArray(), sessionOptions);
 			}
-			this.session = this.environment.createSession(getCachedResource(this.modelResource).getContentAsByteArray(),
-					sessionOptions);
 		}
 
 		this.onnxModelInputs = this.session.getInputNames();
@@ -250,6 +364,33 @@ public class TransformersEmbeddingModel extends AbstractEmbeddingModel implement
 						+ onnxModelOutputs.stream().collect(Collectors.joining(", ")));
 	}
 
+	private OrtSession.SessionOptions createSessionOptions() throws OrtException {
+		var sessionOptions = new OrtSession.SessionOptions();
+		if (this.gpuDeviceId >= 0) {
+			sessionOptions.addCUDA(this.gpuDeviceId); // Run on a GPU or with another
+			// provider
+		}
+		if (this.intraOpNumThreads > 0) {
+			sessionOptions.setIntraOpNumThreads(this.intraOpNumThreads);
+		}
+		if (this.interOpNumThreads > 0) {
+			sessionOptions.setInterOpNumThreads(this.interOpNumThreads);
+		}
+		if (this.optimizationLevel != null) {
+			sessionOptions.setOptimizationLevel(this.optimizationLevel);
+		}
+		if (this.executionMode != null) {
+			sessionOptions.setExecutionMode(this.executionMode);
+		}
+		if (this.cpuArenaAllocator != null) {
+			sessionOptions.setCPUArenaAllocator(this.cpuArenaAllocator);
+		}
+		if (this.memoryPatternOptimization != null) {
+			sessionOptions.setMemoryPatternOptimization(this.memoryPatternOptimization);
+		}
+		return sessionOptions;
+	}
+
 	private Resource getCachedResource(Resource resource) {
 		return this.disableCaching ? resource : this.cacheService.getCachedResource(resource);
 	}
@@ -296,69 +437,201 @@ public class TransformersEmbeddingModel extends AbstractEmbeddingModel implement
 			.observation(this.observationConvention, DEFAULT_OBSERVATION_CONVENTION, () -> observationContext,
 					this.observationRegistry)
 			.observe(() -> {
-				List<float[]> resultEmbeddings = new ArrayList<>();
+				List<float[]> resultEmbeddings;
 
 				try {
+					resultEmbeddings = this.lengthBucketing ? embedBucketed(request.getInstructions())
+							: embedPadded(request.getInstructions());
+				}
+				catch (OrtException ex) {
+					throw new RuntimeException(ex);
+				}
 
-					Encoding[] encodings = this.tokenizer.batchEncode(request.getInstructions());
+				var indexCounter = new AtomicInteger(0);
 
-					long[][] input_ids0 = new long[encodings.length][];
-					long[][] attention_mask0 = new long[encodings.length][];
-					long[][] token_type_ids0 = new long[encodings.length][];
+				EmbeddingResponse embeddingResponse = new EmbeddingResponse(
+						resultEmbeddings.stream().map(e -> new Embedding(e, indexCounter.incrementAndGet())).toList());
+				observationContext.setResponse(embeddingResponse);
 
-					for (int i = 0; i < encodings.length; i++) {
-						input_ids0[i] = encodings[i].getIds();
-						attention_mask0[i] = encodings[i].getAttentionMask();
-						token_type_ids0[i] = encodings[i].getTypeIds();
-					}
+				return embeddingResponse;
+			});
+	}
+
+	private List<float[]> embedPadded(List<String> texts) throws OrtException {
+
+		List<float[]> resultEmbeddings = new ArrayList<>();
+
+		Encoding[] encodings = this.tokenizer.batchEncode(texts);
 
-					try (OnnxTensor inputIds = OnnxTensor.createTensor(this.environment, input_ids0);
-							OnnxTensor attentionMask = OnnxTensor.createTensor(this.environment, attention_mask0);
-							OnnxTensor tokenTypeIds = OnnxTensor.createTensor(this.environment, token_type_ids0);) {
+		long[][] input_ids0 = new long[encodings.length][];
+		long[][] attention_mask0 = new long[encodings.length][];
+		long[][] token_type_ids0 = new long[encodings.length][];
 
-						Map<String, OnnxTensor> modelInputs = Map.of("input_ids", inputIds, "attention_mask",
-								attentionMask, "token_type_ids", tokenTypeIds);
+		for (int i = 0; i < encodings.length; i++) {
+			input_ids0[i] = encodings[i].getIds();
+			attention_mask0[i] = encodings[i].getAttentionMask();
+			token_type_ids0[i] = encodings[i].getTypeIds();
+		}
+
+		try (OnnxTensor inputIds = OnnxTensor.createTensor(this.environment, input_ids0);
+				OnnxTensor attentionMask = OnnxTensor.createTensor(this.environment, attention_mask0);
+				OnnxTensor tokenTypeIds = OnnxTensor.createTensor(this.environment, token_type_ids0);) {
 
-						modelInputs = removeUnknownModelInputs(modelInputs);
+			Map<String, OnnxTensor> modelInputs = Map.of("input_ids", inputIds, "attention_mask", attentionMask,
+					"token_type_ids", tokenTypeIds);
 
-						// The Run result object is AutoCloseable to prevent references
-						// from leaking out. Once the Result object is
-						// closed, all it’s child OnnxValues are closed too.
-						try (OrtSession.Result results = this.session.run(modelInputs)) {
+			modelInputs = removeUnknownModelInputs(modelInputs);
 
-							// OnnxValue lastHiddenState = results.get(0);
-							OnnxValue lastHiddenState = results.get(this.modelOutputName).get();
+			// The Run result object is AutoCloseable to prevent references
+			// from leaking out. Once the Result object is
+			// closed, all it’s child OnnxValues are closed too.
+			try (OrtSession.Result results = run(modelInputs)) {
 
-							// 0 - batch_size (1..x)
-							// 1 - sequence_length (128)
-							// 2 - embedding dimensions (384)
-							float[][][] tokenEmbeddings = (float[][][]) lastHiddenState.getValue();
+				// OnnxValue lastHiddenState = results.get(0);
+				OnnxValue lastHiddenState = results.get(this.modelOutputName).get();
 
-							try (NDManager manager = NDManager.newBaseManager()) {
-								NDArray ndTokenEmbeddings = create(tokenEmbeddings, manager);
-								NDArray ndAttentionMask = manager.create(attention_mask0);
+				// 0 - batch_size (1..x)
+				// 1 - sequence_length (128)
+				// 2 - embedding dimensions (384)
+				float[][][] tokenEmbeddings = (float[][][]) lastHiddenState.getValue();
 
-								NDArray embedding = meanPooling(ndTokenEmbeddings, ndAttentionMask);
+				try (NDManager manager = NDManager.newBaseManager()) {
+					NDArray ndTokenEmbeddings = create(tokenEmbeddings, manager);
+					NDArray ndAttentionMask = manager.create(attention_mask0);
 
-								for (int i = 0; i < embedding.size(0); i++) {
-									resultEmbeddings.add(embedding.get(i).toFloatArray());
-								}
-							}
-						}
+					NDArray embedding = meanPooling(ndTokenEmbeddings, ndAttentionMask);
+
+					for (int i = 0; i < embedding.size(0); i++) {
+						resultEmbeddings.add(embedding.get(i).toFloatArray());
 					}
 				}
-				catch (OrtException ex) {
-					throw new RuntimeException(ex);
+			}
+		}
+
+		return resultEmbeddings;
+	}
+
+	/**
+	 * Embeds the texts in length buckets. The encodings are sorted by their number of
+	 * attended tokens, so that every bucket is padded only to its own longest sequence.
+	 * The results are written back at the original input positions.
+	 */
+	private List<float[]> embedBucketed(List<String> texts) throws OrtException {
+
+		Encoding[] encodings = this.tokenizer.batchEncode(texts);
+
+		int[] lengths = new int[encodings.length];
+		for (int i = 0; i < encodings.length; i++) {
+			lengths[i] = attendedTokenCount(encodings[i]);
+		}
+
+		Integer[] order = new Integer[encodings.length];
+		for (int i = 0; i < order.length; i++) {
+			order[i] = i;
+		}
+		Arrays.sort(order, Comparator.comparingInt(i -> lengths[i]));
+
+		float[][] resultEmbeddings = new float[encodings.length][];
+
+		for (int start = 0; start < order.length; start += this.bucketSize) {
+			int end = Math.min(order.length, start + this.bucketSize);
+			int batchSize = end - start;
+			// The bucket is sorted by length, so the last entry is the longest one.
+			int sequenceLength = Math.max(1, lengths[order[end - 1]]);
+
+			LongBuffer inputIdsBuffer = directLongBuffer(batchSize * sequenceLength);
+			LongBuffer attentionMaskBuffer = directLongBuffer(batchSize * sequenceLength);
+			LongBuffer tokenTypeIdsBuffer = directLongBuffer(batchSize * sequenceLength);
+
+			for (int b = 0; b < batchSize; b++) {
+				Encoding encoding = encodings[order[start + b]];
+				long[] ids = encoding.getIds();
+				long[] mask = encoding.getAttentionMask();
+				long[] typeIds = encoding.getTypeIds();
+				// Copy only the attended tokens, the remainder of the row stays zero
+				// padded.
+				int position = b * sequenceLength;
+				for (int t = 0; t < mask.length; t++) {
+					if (mask[t] != 0) {
+						inputIdsBuffer.put(position, ids[t]);
+						attentionMaskBuffer.put(position, 1L);
+						tokenTypeIdsBuffer.put(position, typeIds[t]);
+						position++;
+					}
 				}
+			}
 
-				var indexCounter = new AtomicInteger(0);
+			long[] shape = new long[] { batchSize, sequenceLength };
 
-				EmbeddingResponse embeddingResponse = new EmbeddingResponse(
-						resultEmbeddings.stream().map(e -> new Embedding(e, indexCounter.incrementAndGet())).toList());
-				observationContext.setResponse(embeddingResponse);
+			try (OnnxTensor inputIds = OnnxTensor.createTensor(this.environment, inputIdsBuffer, shape);
+					OnnxTensor attentionMask = OnnxTensor.createTensor(this.environment, attentionMaskBuffer, shape);
+					OnnxTensor tokenTypeIds = OnnxTensor.createTensor(this.environment, tokenTypeIdsBuffer, shape);) {
 
-				return embeddingResponse;
-			});
+				Map<String, OnnxTensor> modelInputs = removeUnknownModelInputs(
+						Map.of("input_ids", inputIds, "attention_mask", attentionMask, "token_type_ids", tokenTypeIds));
+
+				try (OrtSession.Result results = run(modelInputs)) {
+
+					OnnxTensor lastHiddenState = (OnnxTensor) results.get(this.modelOutputName).get();
+
+					// [batch_size, sequence_length, embedding dimensions]
+					long[] outputShape = lastHiddenState.getInfo().getShape();
+					int outputSequenceLength = (int) outputShape[1];
+					int dimensions = (int) outputShape[2];
+
+					FloatBuffer tokenEmbeddings = lastHiddenState.getFloatBuffer();
+
+					for (int b = 0; b < batchSize; b++) {
+						int index = order[start + b];
+						resultEmbeddings[index] = meanPooling(tokenEmbeddings, b * outputSequenceLength * dimensions,
+								lengths[index], dimensions);
+					}
+				}
+			}
+		}
+
+		return Arrays.asList(resultEmbeddings);
+	}
+
+	private OrtSession.Result run(Map<String, OnnxTensor> modelInputs) throws OrtException {
+		return Observation.createNotStarted(INFERENCE_OBSERVATION_NAME, this.observationRegistry)
+			.lowCardinalityKeyValue("spring.ai.transformers.model.output", this.modelOutputName)
+			.observeChecked(() -> this.session.run(modelInputs));
+	}
+
+	private static int attendedTokenCount(Encoding encoding) {
+		int count = 0;
+		for (long mask : encoding.getAttentionMask()) {
+			if (mask != 0) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private static LongBuffer directLongBuffer(int capacity) {
+		return ByteBuffer.allocateDirect(capacity * Long.BYTES).order(ByteOrder.nativeOrder()).asLongBuffer();
+	}
+
+	// Mean pooling over the first tokenCount token embeddings of a single sequence.
+	private static float[] meanPooling(FloatBuffer tokenEmbeddings, int offset, int tokenCount, int dimensions) {
+
+		float[] embedding = new float[dimensions];
+
+		for (int t = 0; t < tokenCount; t++) {
+			int tokenOffset = offset + t * dimensions;
+			for (int d = 0; d < dimensions; d++) {
+				embedding[d] += tokenEmbeddings.get(tokenOffset + d);
+			}
+		}
+
+		// Clamp the token count to avoid division by zero
+		float divisor = Math.max(tokenCount, 1e-9f);
+		for (int d = 0; d < dimensions; d++) {
+			embedding[d] /= divisor;
+		}
+
+		return embedding;
 	}
 
 	private Map<String, OnnxTensor> removeUnknownModelInputs(Map<String, OnnxTensor> modelInputs) {
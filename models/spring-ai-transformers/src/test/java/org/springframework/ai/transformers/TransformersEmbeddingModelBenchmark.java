@@ -0,0 +1,101 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.transformers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH benchmark comparing the padded and the length bucketed embedding paths of the
+ * {@link TransformersEmbeddingModel} on a mixed-length corpus.
+ *
+ * <p>
+ * Run from the IDE or with the test classpath: {@code java -cp ...
+ * org.springframework.ai.transformers.TransformersEmbeddingModelBenchmark}.
+ * </p>
+ *
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TransformersEmbeddingModelBenchmark {
+
+	private static final String[] WORDS = { "spring", "vector", "embedding", "model", "document", "token", "search",
+			"transformer", "onnx", "runtime", "batch", "padding", "the", "a", "of", "and", "retrieval", "context" };
+
+	@Param({ "64" })
+	public int corpusSize;
+
+	@Param({ "false", "true" })
+	public boolean lengthBucketing;
+
+	private TransformersEmbeddingModel embeddingModel;
+
+	private List<String> corpus;
+
+	@Setup(Level.Trial)
+	public void setup() throws Exception {
+		this.embeddingModel = new TransformersEmbeddingModel();
+		this.embeddingModel.setLengthBucketing(this.lengthBucketing);
+		this.embeddingModel.afterPropertiesSet();
+
+		// Mixed lengths: mostly short sentences with a long tail of paragraphs.
+		Random random = new Random(42);
+		this.corpus = new ArrayList<>(this.corpusSize);
+		for (int i = 0; i < this.corpusSize; i++) {
+			int words = (i % 8 == 0) ? 100 + random.nextInt(150) : 3 + random.nextInt(20);
+			StringBuilder text = new StringBuilder();
+			for (int w = 0; w < words; w++) {
+				text.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+			}
+			this.corpus.add(text.toString().trim());
+		}
+	}
+
+	@Benchmark
+	public List<float[]> embedMixedLengthCorpus() {
+		return this.embeddingModel.embed(this.corpus);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(TransformersEmbeddingModelBenchmark.class.getSimpleName()).build())
+			.run();
+	}
+
+}
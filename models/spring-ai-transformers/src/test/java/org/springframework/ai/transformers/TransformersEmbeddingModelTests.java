@@ -25,6 +25,7 @@ import org.springframework.ai.document.Document;
 import org.springframework.ai.embedding.EmbeddingResponse;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -99,4 +100,32 @@ public class TransformersEmbeddingModelTests {
 		assertThat(embeddingModel.dimensions()).isEqualTo(384);
 	}
 
+	@Test
+	void embedListWithLengthBucketing() throws Exception {
+		TransformersEmbeddingModel paddedModel = new TransformersEmbeddingModel();
+		paddedModel.afterPropertiesSet();
+
+		TransformersEmbeddingModel bucketedModel = new TransformersEmbeddingModel();
+		bucketedModel.setLengthBucketing(true);
+		bucketedModel.setBucketSize(2);
+		bucketedModel.afterPropertiesSet();
+
+		List<String> texts = List.of("The quick brown fox jumps over the lazy dog near the river bank", "Hello world",
+				"World is big", "Spring AI", "Embeddings computed in length buckets keep the input order");
+
+		List<float[]> padded = paddedModel.embed(texts);
+		List<float[]> bucketed = bucketedModel.embed(texts);
+
+		assertThat(bucketed).hasSize(texts.size());
+		for (int i = 0; i < texts.size(); i++) {
+			assertThat(bucketed.get(i)).hasSize(384);
+			for (int d = 0; d < 384; d++) {
+				assertThat(bucketed.get(i)[d]).isCloseTo(padded.get(i)[d], within(1e-4f));
+			}
+		}
+
+		assertThat(DF.format(bucketed.get(1)[0])).isEqualTo(DF.format(-0.19744634628295898));
+		assertThat(DF.format(bucketed.get(2)[383])).isEqualTo(DF.format(0.05501303821802139));
+	}
+
 }
@@ -65,10 +65,12 @@ import org.springframework.ai.chat.model.MessageAggregator;
 import org.springframework.ai.chat.observation.ChatModelObservationContext;
 import org.springframework.ai.chat.observation.ChatModelObservationConvention;
 import org.springframework.ai.chat.observation.ChatModelObservationDocumentation;
+import org.springframework.ai.chat.observation.ChatModelStreamTimings;
 import org.springframework.ai.chat.observation.DefaultChatModelObservationConvention;
 import org.springframework.ai.chat.prompt.ChatOptions;
 import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.ai.model.ChatModelDescription;
+import org.springframework.ai.model.LazyMediaData;
 import org.springframework.ai.model.Media;
 import org.springframework.ai.model.ModelOptionsUtils;
 import org.springframework.ai.model.function.FunctionCallback;
@@ -243,7 +245,10 @@ public class VertexAiGeminiChatModel extends AbstractToolCallSupport implements
 		List<Part> parts = new ArrayList<>();
 
 		List<Part> mediaParts = media.stream()
-			.map(mediaData -> PartMaker.fromMimeTypeAndData(mediaData.getMimeType().toString(), mediaData.getData()))
+			.map(mediaData -> PartMaker.fromMimeTypeAndData(mediaData.getMimeType().toString(),
+					// The protobuf request holds bytes, the content can not be streamed
+					(mediaData.getData() instanceof LazyMediaData) ? mediaData.getDataAsByteArray()
+							: mediaData.getData()))
 			.toList();
 
 		if (!CollectionUtils.isEmpty(mediaParts)) {
@@ -374,7 +379,9 @@ public class VertexAiGeminiChatModel extends AbstractToolCallSupport implements
 						.doFinally(s -> observation.stop())
 						.contextWrite(ctx -> ctx.put(ObservationThreadLocalAccessor.KEY, observation));
 
-					return new MessageAggregator().aggregate(chatResponseFlux, observationContext::setResponse);
+					return new MessageAggregator().aggregate(
+							ChatModelStreamTimings.observe(chatResponseFlux, observationContext),
+							observationContext::setResponse);
 				});
 			}
 			catch (Exception e) {
@@ -30,6 +30,8 @@ import org.springframework.ai.chat.model.StreamingChatModel;
 import org.springframework.ai.chat.prompt.ChatOptions;
 import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.ai.model.ModelOptionsUtils;
+import org.springframework.ai.retry.ReactiveRetrySpec;
+import org.springframework.ai.retry.RetryUtils;
 import org.springframework.ai.watsonx.api.WatsonxAiApi;
 import org.springframework.ai.watsonx.api.WatsonxAiChatRequest;
 import org.springframework.ai.watsonx.api.WatsonxAiChatResponse;
@@ -58,6 +60,11 @@ public class WatsonxAiChatModel implements ChatModel, StreamingChatModel {
 
 	private final WatsonxAiChatOptions defaultOptions;
 
+	/**
+	 * Non-blocking retry applied to the streaming calls.
+	 */
+	private ReactiveRetrySpec streamRetry = RetryUtils.DEFAULT_STREAM_RETRY;
+
 	public WatsonxAiChatModel(WatsonxAiApi watsonxAiApi) {
 		this(watsonxAiApi,
 				WatsonxAiChatOptions.builder()
@@ -99,7 +106,7 @@ public class WatsonxAiChatModel implements ChatModel, StreamingChatModel {
 
 		WatsonxAiChatRequest request = request(prompt);
 
-		Flux<WatsonxAiChatResponse> response = this.watsonxAiApi.generateStreaming(request);
+		Flux<WatsonxAiChatResponse> response = this.streamRetry.apply(this.watsonxAiApi.generateStreaming(request));
 
 		return response.map(chunk -> {
 			String generatedText = chunk.results().get(0).generatedText();
@@ -153,4 +160,14 @@ public class WatsonxAiChatModel implements ChatModel, StreamingChatModel {
 		return WatsonxAiChatOptions.fromOptions(this.defaultOptions);
 	}
 
+	/**
+	 * Use the provided retry for the streaming calls.
+	 * @param streamRetry the non-blocking retry applied before the first chunk is
+	 * received.
+	 */
+	public void setStreamRetry(ReactiveRetrySpec streamRetry) {
+		Assert.notNull(streamRetry, "streamRetry cannot be null");
+		this.streamRetry = streamRetry;
+	}
+
 }
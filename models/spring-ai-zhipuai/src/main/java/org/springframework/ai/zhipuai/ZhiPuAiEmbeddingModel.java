@@ -16,10 +16,6 @@
 
 package org.springframework.ai.zhipuai;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
-
 import io.micrometer.observation.ObservationRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,11 +23,10 @@ import org.slf4j.LoggerFactory;
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.MetadataMode;
 import org.springframework.ai.embedding.AbstractEmbeddingModel;
-import org.springframework.ai.embedding.Embedding;
+import org.springframework.ai.embedding.EmbeddingFanOut;
 import org.springframework.ai.embedding.EmbeddingOptions;
 import org.springframework.ai.embedding.EmbeddingRequest;
 import org.springframework.ai.embedding.EmbeddingResponse;
-import org.springframework.ai.embedding.EmbeddingResponseMetadata;
 import org.springframework.ai.embedding.observation.DefaultEmbeddingModelObservationConvention;
 import org.springframework.ai.embedding.observation.EmbeddingModelObservationContext;
 import org.springframework.ai.embedding.observation.EmbeddingModelObservationConvention;
@@ -46,7 +41,9 @@ import org.springframework.retry.support.RetryTemplate;
 import org.springframework.util.Assert;
 
 /**
- * ZhiPuAI Embedding Model implementation.
+ * ZhiPuAI Embedding Model implementation. ZhiPuAI does not support batch embedding, the
+ * inputs of a request are embedded concurrently, one call per input, with the configured
+ * {@link EmbeddingFanOut}.
  *
  * @author Geng Rong
  * @since 1.0.0 M1
@@ -75,6 +72,11 @@ public class ZhiPuAiEmbeddingModel extends AbstractEmbeddingModel {
 	 */
 	private EmbeddingModelObservationConvention observationConvention = DEFAULT_OBSERVATION_CONVENTION;
 
+	/**
+	 * Fan-out used to embed the inputs of a request concurrently.
+	 */
+	private EmbeddingFanOut fanOut = EmbeddingFanOut.builder().build();
+
 	/**
 	 * Constructor for the ZhiPuAiEmbeddingModel class.
 	 * @param zhiPuAiApi The ZhiPuAiApi instance to use for making API requests.
@@ -149,10 +151,6 @@ public class ZhiPuAiEmbeddingModel extends AbstractEmbeddingModel {
 	@Override
 	public EmbeddingResponse call(EmbeddingRequest request) {
 		Assert.notEmpty(request.getInstructions(), "At least one text is required!");
-		if (request.getInstructions().size() != 1) {
-			logger.warn(
-					"ZhiPu Embedding does not support batch embedding. Will make multiple API calls to embed(Document)");
-		}
 		ZhiPuAiEmbeddingOptions requestOptions = mergeOptions(request.getOptions(), this.defaultOptions);
 
 		var observationContext = EmbeddingModelObservationContext.builder()
@@ -165,40 +163,12 @@ public class ZhiPuAiEmbeddingModel extends AbstractEmbeddingModel {
 			.observation(this.observationConvention, DEFAULT_OBSERVATION_CONVENTION, () -> observationContext,
 					this.observationRegistry)
 			.observe(() -> {
-				List<float[]> embeddingList = new ArrayList<>();
-
-				var totalUsage = new ZhiPuAiApi.Usage(0, 0, 0);
-
-				for (String inputContent : request.getInstructions()) {
-					var apiRequest = createEmbeddingRequest(inputContent, requestOptions);
-
-					ZhiPuAiApi.EmbeddingList<ZhiPuAiApi.Embedding> response = this.retryTemplate
-						.execute(ctx -> this.zhiPuAiApi.embeddings(apiRequest).getBody());
-					if (response == null || response.data() == null || response.data().isEmpty()) {
-						logger.warn("No embeddings returned for input: {}", inputContent);
-						embeddingList.add(new float[0]);
-					}
-					else {
-						int completionTokens = totalUsage.completionTokens() + response.usage().completionTokens();
-						int promptTokens = totalUsage.promptTokens() + response.usage().promptTokens();
-						int totalTokens = totalUsage.totalTokens() + response.usage().totalTokens();
-						totalUsage = new ZhiPuAiApi.Usage(completionTokens, promptTokens, totalTokens);
-						embeddingList.add(response.data().get(0).embedding());
-					}
-				}
-
 				String model = (request.getOptions() != null && request.getOptions().getModel() != null)
 						? request.getOptions().getModel() : "unknown";
 
-				var metadata = new EmbeddingResponseMetadata(model, ZhiPuAiUsage.from(totalUsage));
-
-				var indexCounter = new AtomicInteger(0);
-
-				List<Embedding> embeddings = embeddingList.stream()
-					.map(e -> new Embedding(e, indexCounter.getAndIncrement()))
-					.toList();
-
-				EmbeddingResponse embeddingResponse = new EmbeddingResponse(embeddings, metadata);
+				// Each call is retried on its own with the retry template.
+				EmbeddingResponse embeddingResponse = this.fanOut.embedBlocking(request.getInstructions(),
+						inputContent -> embedInput(inputContent, requestOptions), model);
 
 				observationContext.setResponse(embeddingResponse);
 
@@ -206,6 +176,19 @@ public class ZhiPuAiEmbeddingModel extends AbstractEmbeddingModel {
 			});
 	}
 
+	private EmbeddingFanOut.Result embedInput(String inputContent, ZhiPuAiEmbeddingOptions requestOptions) {
+		var apiRequest = createEmbeddingRequest(inputContent, requestOptions);
+
+		ZhiPuAiApi.EmbeddingList<ZhiPuAiApi.Embedding> response = this.retryTemplate
+			.execute(ctx -> this.zhiPuAiApi.embeddings(apiRequest).getBody());
+		if (response == null || response.data() == null || response.data().isEmpty()) {
+			logger.warn("No embeddings returned for input: {}", inputContent);
+			return new EmbeddingFanOut.Result(new float[0], null);
+		}
+		var usage = (response.usage() != null) ? ZhiPuAiUsage.from(response.usage()) : null;
+		return new EmbeddingFanOut.Result(response.data().get(0).embedding(), usage);
+	}
+
 	/**
 	 * Merge runtime and default {@link EmbeddingOptions} to compute the final options to
 	 * use in the request.
@@ -232,4 +215,13 @@ public class ZhiPuAiEmbeddingModel extends AbstractEmbeddingModel {
 		this.observationConvention = observationConvention;
 	}
 
+	/**
+	 * Use the provided fan-out to embed the inputs of a request concurrently.
+	 * @param fanOut the fan-out to use
+	 */
+	public void setFanOut(EmbeddingFanOut fanOut) {
+		Assert.notNull(fanOut, "fanOut must not be null");
+		this.fanOut = fanOut;
+	}
+
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compare two JMH result files, written with {@code -rf json}, typically of a baseline
+ * and a candidate commit. For each benchmark present in both files, print the scores,
+ * the relative change of the score, and the allocation per operation when the results
+ * were profiled with {@code -prof gc}.
+ * <p>
+ * Usage: {@code java -cp benchmarks.jar org.springframework.ai.benchmarks.BenchmarkComparison
+ * baseline.json candidate.json}.
+ *
+ * @since 1.0.0
+ */
+public final class BenchmarkComparison {
+
+	private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+	private BenchmarkComparison() {
+	}
+
+	public static void main(String[] args) throws IOException {
+		if (args.length != 2) {
+			System.err.println("Usage: BenchmarkComparison <baseline.json> <candidate.json>");
+			System.exit(1);
+		}
+		compare(readResults(new File(args[0])), readResults(new File(args[1])), System.out);
+	}
+
+	static void compare(Map<String, JsonNode> baseline, Map<String, JsonNode> candidate, PrintStream out) {
+		out.printf("%-80s %14s %14s %9s %14s %14s%n", "Benchmark", "Baseline", "Candidate", "Change", "Alloc B/op",
+				"Alloc B/op");
+		for (Map.Entry<String, JsonNode> entry : baseline.entrySet()) {
+			JsonNode candidateResult = candidate.get(entry.getKey());
+			if (candidateResult == null) {
+				continue;
+			}
+			double baselineScore = entry.getValue().path("primaryMetric").path("score").asDouble();
+			double candidateScore = candidateResult.path("primaryMetric").path("score").asDouble();
+			String unit = candidateResult.path("primaryMetric").path("scoreUnit").asText();
+			double change = (baselineScore != 0) ? (candidateScore - baselineScore) * 100 / baselineScore : 0;
+			out.printf("%-80s %14.3f %14.3f %+8.1f%% %14s %14s  %s%n", entry.getKey(), baselineScore, candidateScore,
+					change, allocation(entry.getValue()), allocation(candidateResult), unit);
+		}
+	}
+
+	static Map<String, JsonNode> readResults(File file) throws IOException {
+		Map<String, JsonNode> results = new LinkedHashMap<>();
+		for (JsonNode result : new ObjectMapper().readTree(file)) {
+			results.put(key(result), result);
+		}
+		return results;
+	}
+
+	private static String key(JsonNode result) {
+		StringBuilder key = new StringBuilder(result.path("benchmark").asText().replace("org.springframework.ai.", ""));
+		Iterator<Map.Entry<String, JsonNode>> params = result.path("params").fields();
+		if (params.hasNext()) {
+			key.append('(');
+			while (params.hasNext()) {
+				Map.Entry<String, JsonNode> param = params.next();
+				key.append(param.getKey()).append('=').append(param.getValue().asText());
+				key.append(params.hasNext() ? ", " : ")");
+			}
+		}
+		return key.toString();
+	}
+
+	private static String allocation(JsonNode result) {
+		JsonNode allocation = result.path("secondaryMetrics").path(ALLOCATION_METRIC).path("score");
+		return allocation.isMissingNode() ? "-" : String.format("%.0f", allocation.asDouble());
+	}
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.metadata.ChatResponseMetadata;
+import org.springframework.ai.chat.metadata.DefaultUsage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.document.Document;
+
+/**
+ * Generators of the synthetic data used by the benchmarks: text corpora, embeddings and
+ * streamed chat responses. The data is generated from a seed, so that the results of
+ * successive runs, and of different commits, are comparable.
+ *
+ * @since 1.0.0
+ */
+public final class BenchmarkData {
+
+	/**
+	 * The seed of the data generated by the benchmarks.
+	 */
+	public static final long SEED = 42L;
+
+	private static final String[] WORDS = { "the", "of", "and", "to", "in", "a", "is", "that", "for", "it", "as",
+			"was", "with", "be", "by", "on", "not", "he", "this", "are", "or", "his", "from", "at", "which", "but",
+			"have", "an", "had", "they", "you", "were", "their", "one", "all", "we", "can", "her", "has", "there",
+			"been", "if", "more", "when", "will", "would", "who", "so", "no", "model", "vector", "embedding",
+			"document", "retrieval", "prompt", "token", "latency", "throughput", "inference", "context", "window",
+			"semantic", "search", "index", "cluster", "database", "memory", "stream", "response", "request",
+			"similarity", "generation", "transformer", "attention", "language", "spring", "application", "service",
+			"configuration", "observability", "advisor", "metadata", "filter", "expression", "batch", "chunk" };
+
+	private static final String[] COUNTRIES = { "BG", "NL", "US", "FR", "DE", "JP", "BR", "IN" };
+
+	private static final String[] GENRES = { "drama", "comedy", "thriller", "documentary", "science" };
+
+	private BenchmarkData() {
+	}
+
+	/**
+	 * Generate a text of the given number of words, in sentences of 8 to 24 words and
+	 * paragraphs of 3 to 8 sentences.
+	 * @param wordCount the number of words
+	 * @param random the source of randomness
+	 * @return the text
+	 */
+	public static String text(int wordCount, Random random) {
+		StringBuilder text = new StringBuilder(wordCount * 7);
+		int sentenceLength = 8 + random.nextInt(17);
+		int sentencesInParagraph = 3 + random.nextInt(6);
+		int wordInSentence = 0;
+		for (int i = 0; i < wordCount; i++) {
+			String word = WORDS[random.nextInt(WORDS.length)];
+			if (wordInSentence == 0) {
+				text.append(Character.toUpperCase(word.charAt(0))).append(word, 1, word.length());
+			}
+			else {
+				text.append(' ').append(word);
+			}
+			if (++wordInSentence == sentenceLength || i == wordCount - 1) {
+				text.append('.');
+				wordInSentence = 0;
+				sentenceLength = 8 + random.nextInt(17);
+				if (--sentencesInParagraph == 0) {
+					text.append("\n\n");
+					sentencesInParagraph = 3 + random.nextInt(6);
+				}
+				else {
+					text.append(' ');
+				}
+			}
+		}
+		return text.toString();
+	}
+
+	/**
+	 * Generate a corpus of documents with a {@code country}, {@code year} and
+	 * {@code genre} metadata.
+	 * @param documentCount the number of documents
+	 * @param wordsPerDocument the average number of words of a document
+	 * @return the documents
+	 */
+	public static List<Document> corpus(int documentCount, int wordsPerDocument) {
+		Random random = new Random(SEED);
+		List<Document> documents = new ArrayList<>(documentCount);
+		for (int i = 0; i < documentCount; i++) {
+			int wordCount = Math.max(1, wordsPerDocument / 2 + random.nextInt(wordsPerDocument + 1));
+			documents.add(new Document("doc-" + i, text(wordCount, random),
+					Map.of("country", COUNTRIES[random.nextInt(COUNTRIES.length)], "year", 1990 + random.nextInt(35),
+							"genre", GENRES[random.nextInt(GENRES.length)])));
+		}
+		return documents;
+	}
+
+	/**
+	 * Generate a unit length embedding, with normally distributed components.
+	 * @param dimensions the number of dimensions of the embedding
+	 * @param random the source of randomness
+	 * @return the embedding
+	 */
+	public static float[] embedding(int dimensions, Random random) {
+		float[] embedding = new float[dimensions];
+		double norm = 0;
+		for (int i = 0; i < dimensions; i++) {
+			embedding[i] = (float) random.nextGaussian();
+			norm += embedding[i] * embedding[i];
+		}
+		float scale = (float) (1.0 / Math.sqrt(norm));
+		for (int i = 0; i < dimensions; i++) {
+			embedding[i] *= scale;
+		}
+		return embedding;
+	}
+
+	/**
+	 * Generate the chunks of a streamed chat response, as sent by the OpenAI API: a
+	 * token of text per chunk, with the token usage in the last one.
+	 * @param chunkCount the number of chunks
+	 * @return the chunks
+	 */
+	public static List<ChatResponse> chatResponseChunks(int chunkCount) {
+		Random random = new Random(SEED);
+		List<ChatResponse> chunks = new ArrayList<>(chunkCount);
+		for (int i = 0; i < chunkCount; i++) {
+			String token = ((i == 0) ? "" : " ") + WORDS[random.nextInt(WORDS.length)];
+			ChatResponseMetadata.Builder metadata = ChatResponseMetadata.builder()
+				.id("chatcmpl-benchmark")
+				.model("gpt-4o-2024-08-06");
+			if (i == chunkCount - 1) {
+				metadata.usage(new DefaultUsage(250L, (long) chunkCount));
+			}
+			chunks.add(new ChatResponse(List.of(new Generation(new AssistantMessage(token))), metadata.build()));
+		}
+		return chunks;
+	}
+
+}
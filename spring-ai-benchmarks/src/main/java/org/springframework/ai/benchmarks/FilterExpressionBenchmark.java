@@ -0,0 +1,107 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.ai.vectorstore.filter.Filter;
+import org.springframework.ai.vectorstore.filter.FilterExpressionConverter;
+import org.springframework.ai.vectorstore.filter.FilterExpressionTextParser;
+import org.springframework.ai.vectorstore.filter.converter.PineconeFilterExpressionConverter;
+import org.springframework.ai.vectorstore.filter.converter.PrintFilterExpressionConverter;
+import org.springframework.ai.vectorstore.pgvector.PgVectorFilterExpressionConverter;
+
+/**
+ * JMH benchmark of the metadata filter expressions of the vector store searches:
+ * <ul>
+ * <li>{@code parse}: parsing a text expression with a new
+ * {@link FilterExpressionTextParser}, without its cache of parsed expressions.</li>
+ * <li>{@code parseCached}: parsing an expression already parsed by the parser.</li>
+ * <li>{@code convert*}: converting the parsed expression to the native filter of a
+ * vector store.</li>
+ * </ul>
+ *
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FilterExpressionBenchmark {
+
+	private static final String TEXT_EXPRESSION = "country in ['BG', 'NL', 'US'] && year >= 2020 "
+			+ "&& genre != 'documentary' || (country == 'FR' && year < 2000 && genre in ['drama', 'comedy'])";
+
+	private FilterExpressionTextParser cachingParser;
+
+	private Filter.Expression expression;
+
+	private FilterExpressionConverter pgVectorConverter;
+
+	private FilterExpressionConverter pineconeConverter;
+
+	private FilterExpressionConverter printConverter;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		this.cachingParser = new FilterExpressionTextParser();
+		this.expression = this.cachingParser.parse(TEXT_EXPRESSION);
+		this.pgVectorConverter = new PgVectorFilterExpressionConverter();
+		this.pineconeConverter = new PineconeFilterExpressionConverter();
+		this.printConverter = new PrintFilterExpressionConverter();
+	}
+
+	@Benchmark
+	public Filter.Expression parse() {
+		return new FilterExpressionTextParser().parse(TEXT_EXPRESSION);
+	}
+
+	@Benchmark
+	public Filter.Expression parseCached() {
+		return this.cachingParser.parse(TEXT_EXPRESSION);
+	}
+
+	@Benchmark
+	public String convertPgVector() {
+		return this.pgVectorConverter.convertExpression(this.expression);
+	}
+
+	@Benchmark
+	public String convertPinecone() {
+		return this.pineconeConverter.convertExpression(this.expression);
+	}
+
+	@Benchmark
+	public String convertPrint() {
+		return this.printConverter.convertExpression(this.expression);
+	}
+
+}
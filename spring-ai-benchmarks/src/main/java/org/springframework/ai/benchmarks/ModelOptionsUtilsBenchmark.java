@@ -0,0 +1,83 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.ai.model.ModelOptionsUtils;
+import org.springframework.ai.openai.OpenAiChatOptions;
+import org.springframework.ai.openai.api.OpenAiApi.ChatCompletionMessage;
+import org.springframework.ai.openai.api.OpenAiApi.ChatCompletionMessage.Role;
+import org.springframework.ai.openai.api.OpenAiApi.ChatCompletionRequest;
+
+/**
+ * JMH benchmark of {@link ModelOptionsUtils#merge(Object, Object, Class)}, merging the
+ * runtime and the default options into an OpenAI chat completion request, as the
+ * {@code OpenAiChatModel} does for each call.
+ *
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ModelOptionsUtilsBenchmark {
+
+	private OpenAiChatOptions runtimeOptions;
+
+	private OpenAiChatOptions defaultOptions;
+
+	private ChatCompletionRequest request;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		this.runtimeOptions = OpenAiChatOptions.builder().temperature(0.2).maxTokens(512).build();
+		this.defaultOptions = OpenAiChatOptions.builder()
+			.model("gpt-4o")
+			.temperature(0.7)
+			.topP(0.9)
+			.stop(List.of("###"))
+			.build();
+		this.request = new ChatCompletionRequest(
+				List.of(new ChatCompletionMessage("You are a helpful assistant.", Role.SYSTEM),
+						new ChatCompletionMessage("What is the capital of Bulgaria?", Role.USER)),
+				false);
+	}
+
+	@Benchmark
+	public ChatCompletionRequest mergeRuntimeAndDefaultOptions() {
+		ChatCompletionRequest merged = ModelOptionsUtils.merge(this.runtimeOptions, this.request,
+				ChatCompletionRequest.class);
+		return ModelOptionsUtils.merge(merged, this.defaultOptions, ChatCompletionRequest.class);
+	}
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.benchmarks;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.ai.chat.prompt.PromptTemplate;
+
+/**
+ * JMH benchmark of {@link PromptTemplate#render(Map)} with a retrieval augmented
+ * generation prompt:
+ * <ul>
+ * <li>{@code renderNewTemplate}: creating and rendering the template for each request,
+ * as the advisors do.</li>
+ * <li>{@code renderSharedTemplate}: rendering a template created once.</li>
+ * </ul>
+ *
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PromptTemplateBenchmark {
+
+	private static final String TEMPLATE = """
+			You are an assistant answering the questions of {user} about {topic}.
+
+			Context information is below.
+			---------------------
+			{question_answer_context}
+			---------------------
+
+			Given the context and provided history information and not prior knowledge,
+			reply to the user comment. If the answer is not in the context, inform
+			the user that you can't answer the question.
+
+			Today is {date}. Answer in {language}.
+
+			{query}
+			""";
+
+	/**
+	 * Number of words of the retrieved context.
+	 */
+	@Param({ "200", "4000" })
+	public int contextWordCount;
+
+	private PromptTemplate sharedTemplate;
+
+	private Map<String, Object> model;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		this.sharedTemplate = new PromptTemplate(TEMPLATE);
+		this.model = Map.of("user", "Alice", "topic", "vector databases", "question_answer_context",
+				BenchmarkData.text(this.contextWordCount, new Random(BenchmarkData.SEED)), "date", "2024-12-01",
+				"language", "English", "query", "How does an HNSW index trade recall for latency?");
+	}
+
+	@Benchmark
+	public String renderNewTemplate() {
+		return new PromptTemplate(TEMPLATE).render(this.model);
+	}
+
+	@Benchmark
+	public String renderSharedTemplate() {
+		return this.sharedTemplate.render(this.model);
+	}
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.Embedding;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+
+/**
+ * {@link EmbeddingModel} returning a random unit length embedding, seeded by the hash of
+ * the embedded text: the same text always gets the same embedding.
+ *
+ * @since 1.0.0
+ */
+public class RandomEmbeddingModel implements EmbeddingModel {
+
+	private final int dimensions;
+
+	public RandomEmbeddingModel(int dimensions) {
+		this.dimensions = dimensions;
+	}
+
+	@Override
+	public EmbeddingResponse call(EmbeddingRequest request) {
+		List<Embedding> embeddings = new ArrayList<>(request.getInstructions().size());
+		for (String text : request.getInstructions()) {
+			embeddings.add(new Embedding(embed(text), embeddings.size()));
+		}
+		return new EmbeddingResponse(embeddings);
+	}
+
+	@Override
+	public float[] embed(String text) {
+		return BenchmarkData.embedding(this.dimensions, new Random(text.hashCode()));
+	}
+
+	@Override
+	public float[] embed(Document document) {
+		return embed(document.getText());
+	}
+
+	@Override
+	public int dimensions() {
+		return this.dimensions;
+	}
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.vectorstore.SearchRequest;
+import org.springframework.ai.vectorstore.SimpleVectorStore;
+
+/**
+ * JMH benchmark of {@link SimpleVectorStore#doSimilaritySearch(SearchRequest)}, a brute
+ * force cosine similarity search over the whole store.
+ *
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SimpleVectorStoreBenchmark {
+
+	@Param({ "1000", "10000" })
+	public int documentCount;
+
+	@Param({ "384", "1536" })
+	public int dimensions;
+
+	private SimpleVectorStore vectorStore;
+
+	private SearchRequest searchRequest;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		this.vectorStore = SimpleVectorStore.builder(new RandomEmbeddingModel(this.dimensions)).build();
+		this.vectorStore.doAdd(BenchmarkData.corpus(this.documentCount, 20));
+		this.searchRequest = SearchRequest.builder()
+			.query("How does semantic search scale with the number of documents?")
+			.topK(10)
+			.similarityThreshold(0.0)
+			.build();
+	}
+
+	@Benchmark
+	public List<Document> similaritySearch() {
+		return this.vectorStore.doSimilaritySearch(this.searchRequest);
+	}
+
+}
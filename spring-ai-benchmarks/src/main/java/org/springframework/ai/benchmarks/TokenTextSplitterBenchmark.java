@@ -0,0 +1,93 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.benchmarks;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.transformer.splitter.TokenTextSplitter;
+
+/**
+ * JMH benchmark of the {@link TokenTextSplitter}:
+ * <ul>
+ * <li>{@code doSplit}: splitting a single text in chunks of 800 tokens.</li>
+ * <li>{@code splitDocuments}: splitting a corpus of documents, metadata included.</li>
+ * </ul>
+ *
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenTextSplitterBenchmark {
+
+	/**
+	 * Number of words of the split text.
+	 */
+	@Param({ "1000", "20000" })
+	public int wordCount;
+
+	private BenchmarkTokenTextSplitter splitter;
+
+	private String text;
+
+	private List<Document> documents;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		this.splitter = new BenchmarkTokenTextSplitter();
+		this.text = BenchmarkData.text(this.wordCount, new Random(BenchmarkData.SEED));
+		this.documents = BenchmarkData.corpus(10, this.wordCount / 10);
+	}
+
+	@Benchmark
+	public List<String> doSplit() {
+		return this.splitter.chunks(this.text);
+	}
+
+	@Benchmark
+	public List<Document> splitDocuments() {
+		return this.splitter.apply(this.documents);
+	}
+
+	static class BenchmarkTokenTextSplitter extends TokenTextSplitter {
+
+		List<String> chunks(String text) {
+			return doSplit(text, 800);
+		}
+
+	}
+
+}
@@ -35,9 +35,8 @@ import io.micrometer.observation.ObservationRegistry;
 import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
 import org.springframework.ai.tool.ToolCallbacks;
 import reactor.core.publisher.Flux;
-import reactor.core.scheduler.Schedulers;
 
-import org.springframework.ai.chat.client.advisor.DefaultAroundAdvisorChain;
+import org.springframework.ai.chat.client.advisor.AroundAdvisorPipeline;
 import org.springframework.ai.chat.client.advisor.api.AdvisedRequest;
 import org.springframework.ai.chat.client.advisor.api.AdvisedResponse;
 import org.springframework.ai.chat.client.advisor.api.Advisor;
@@ -96,6 +95,8 @@ public class DefaultChatClient implements ChatClient {
 	public DefaultChatClient(DefaultChatClientRequestSpec defaultChatClientRequest) {
 		Assert.notNull(defaultChatClientRequest, "defaultChatClientRequest cannot be null");
 		this.defaultChatClientRequest = defaultChatClientRequest;
+		// Compile the default advisors once, the requests share the pipeline.
+		defaultChatClientRequest.getAdvisorPipeline();
 	}
 
 	private static AdvisedRequest toAdvisedRequest(DefaultChatClientRequestSpec inputRequest,
@@ -488,7 +489,8 @@ public class DefaultChatClient implements ChatClient {
 
 			// Apply the around advisor chain that terminates with the last model call
 			// advisor.
-			AdvisedResponse advisedResponse = inputRequestSpec.aroundAdvisorChainBuilder.build()
+			AdvisedResponse advisedResponse = inputRequestSpec.getAdvisorPipeline()
+				.newChain()
 				.nextAroundCall(advisedRequest);
 
 			return advisedResponse.response();
@@ -546,12 +548,16 @@ public class DefaultChatClient implements ChatClient {
 
 				// @formatter:off
 				// Apply the around advisor chain that terminates with the last model call advisor.
-				Flux<AdvisedResponse> stream = inputRequest.aroundAdvisorChainBuilder.build().nextAroundStream(initialAdvisedRequest);
+				var advisorChain = inputRequest.getAdvisorPipeline().newChain();
+				Flux<AdvisedResponse> stream = advisorChain.nextAroundStream(initialAdvisedRequest);
 
 				return stream
 					.map(AdvisedResponse::response)
 					.doOnError(observation::error)
-					.doFinally(s -> observation.stop())
+					.doFinally(s -> {
+						observationContext.setSchedulerHops(advisorChain.getSchedulerHops());
+						observation.stop();
+					})
 					.contextWrite(ctx -> ctx.put(ObservationThreadLocalAccessor.KEY, observation));
 				 // @formatter:on
 			});
@@ -599,7 +605,11 @@ public class DefaultChatClient implements ChatClient {
 
 		private final Map<String, Object> advisorParams = new HashMap<>();
 
-		private final DefaultAroundAdvisorChain.Builder aroundAdvisorChainBuilder;
+		/**
+		 * The compiled {@link #advisors}, or null when not compiled yet or out of date.
+		 */
+		@Nullable
+		private AroundAdvisorPipeline advisorPipeline;
 
 		private final Map<String, Object> toolContext = new HashMap<>();
 
@@ -614,9 +624,12 @@ public class DefaultChatClient implements ChatClient {
 
 		/* copy constructor */
 		DefaultChatClientRequestSpec(DefaultChatClientRequestSpec ccr) {
+			// The copied advisors already include the model call advisors, and the
+			// compiled pipeline is shared.
 			this(ccr.chatModel, ccr.userText, ccr.userParams, ccr.systemText, ccr.systemParams, ccr.functionCallbacks,
 					ccr.messages, ccr.functionNames, ccr.media, ccr.chatOptions, ccr.advisors, ccr.advisorParams,
-					ccr.observationRegistry, ccr.customObservationConvention, ccr.toolContext);
+					ccr.observationRegistry, ccr.customObservationConvention, ccr.toolContext,
+					ccr.getAdvisorPipeline());
 		}
 
 		public DefaultChatClientRequestSpec(ChatModel chatModel, @Nullable String userText,
@@ -626,6 +639,18 @@ public class DefaultChatClient implements ChatClient {
 				Map<String, Object> advisorParams, ObservationRegistry observationRegistry,
 				@Nullable ChatClientObservationConvention customObservationConvention,
 				Map<String, Object> toolContext) {
+			this(chatModel, userText, userParams, systemText, systemParams, functionCallbacks, messages, functionNames,
+					media, chatOptions, advisors, advisorParams, observationRegistry, customObservationConvention,
+					toolContext, null);
+		}
+
+		private DefaultChatClientRequestSpec(ChatModel chatModel, @Nullable String userText,
+				Map<String, Object> userParams, @Nullable String systemText, Map<String, Object> systemParams,
+				List<FunctionCallback> functionCallbacks, List<Message> messages, List<String> functionNames,
+				List<Media> media, @Nullable ChatOptions chatOptions, List<Advisor> advisors,
+				Map<String, Object> advisorParams, ObservationRegistry observationRegistry,
+				@Nullable ChatClientObservationConvention customObservationConvention,
+				Map<String, Object> toolContext, @Nullable AroundAdvisorPipeline advisorPipeline) {
 
 			Assert.notNull(chatModel, "chatModel cannot be null");
 			Assert.notNull(userParams, "userParams cannot be null");
@@ -659,6 +684,11 @@ public class DefaultChatClient implements ChatClient {
 					: DEFAULT_CHAT_CLIENT_OBSERVATION_CONVENTION;
 			this.toolContext.putAll(toolContext);
 
+			if (advisorPipeline != null) {
+				this.advisorPipeline = advisorPipeline;
+				return;
+			}
+
 			// @formatter:off
 			// At the stack bottom add the non-streaming and streaming model call advisors.
 			// They play the role of the last advisor in the around advisor chain.
@@ -694,21 +724,37 @@ public class DefaultChatClient implements ChatClient {
 
 				@Override
 				public Flux<AdvisedResponse> aroundStream(AdvisedRequest advisedRequest, StreamAroundAdvisorChain chain) {
+					// The responses are offloaded by the advisor chain, only when blocking
+					// advisors are configured.
 					return chatModel.stream(advisedRequest.toPrompt())
-					.map(chatResponse -> new AdvisedResponse(chatResponse, Collections.unmodifiableMap(advisedRequest.adviseContext())))
-					.publishOn(Schedulers.boundedElastic()); // TODO add option to disable.
+					.map(chatResponse -> new AdvisedResponse(chatResponse, Collections.unmodifiableMap(advisedRequest.adviseContext())));
+				}
+
+				@Override
+				public boolean isBlocking() {
+					return false;
 				}
 			});
 			// @formatter:on
-
-			this.aroundAdvisorChainBuilder = DefaultAroundAdvisorChain.builder(observationRegistry)
-				.pushAll(this.advisors);
 		}
 
 		private ObservationRegistry getObservationRegistry() {
 			return this.observationRegistry;
 		}
 
+		/**
+		 * Return the compiled advisors, compiling them when they were changed since the
+		 * last compilation.
+		 */
+		private AroundAdvisorPipeline getAdvisorPipeline() {
+			AroundAdvisorPipeline pipeline = this.advisorPipeline;
+			if (pipeline == null) {
+				pipeline = AroundAdvisorPipeline.compile(this.observationRegistry, this.advisors);
+				this.advisorPipeline = pipeline;
+			}
+			return pipeline;
+		}
+
 		private ChatClientObservationConvention getCustomObservationConvention() {
 			return this.customObservationConvention;
 		}
@@ -799,7 +845,7 @@ public class DefaultChatClient implements ChatClient {
 			consumer.accept(advisorSpec);
 			this.advisorParams.putAll(advisorSpec.getParams());
 			this.advisors.addAll(advisorSpec.getAdvisors());
-			this.aroundAdvisorChainBuilder.pushAll(advisorSpec.getAdvisors());
+			this.advisorPipeline = null;
 			return this;
 		}
 
@@ -807,7 +853,7 @@ public class DefaultChatClient implements ChatClient {
 			Assert.notNull(advisors, "advisors cannot be null");
 			Assert.noNullElements(advisors, "advisors cannot contain null elements");
 			this.advisors.addAll(Arrays.asList(advisors));
-			this.aroundAdvisorChainBuilder.pushAll(Arrays.asList(advisors));
+			this.advisorPipeline = null;
 			return this;
 		}
 
@@ -815,7 +861,7 @@ public class DefaultChatClient implements ChatClient {
 			Assert.notNull(advisors, "advisors cannot be null");
 			Assert.noNullElements(advisors, "advisors cannot contain null elements");
 			this.advisors.addAll(advisors);
-			this.aroundAdvisorChainBuilder.pushAll(advisors);
+			this.advisorPipeline = null;
 			return this;
 		}
 
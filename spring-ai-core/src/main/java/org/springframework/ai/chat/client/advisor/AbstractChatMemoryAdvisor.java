@@ -143,6 +143,11 @@ public abstract class AbstractChatMemoryAdvisor<T> implements CallAroundAdvisor,
 		return this.order;
 	}
 
+	@Override
+	public boolean isBlocking() {
+		return this.protectFromBlocking;
+	}
+
 	/**
 	 * Get the chat memory store.
 	 * @return the chat memory store
@@ -185,8 +190,9 @@ public abstract class AbstractChatMemoryAdvisor<T> implements CallAroundAdvisor,
 
 		// This can be executed by both blocking and non-blocking Threads
 		// E.g. a command line or Tomcat blocking Thread implementation
-		// or by a WebFlux dispatch in a non-blocking manner.
-		return (this.protectFromBlocking) ?
+		// or by a WebFlux dispatch in a non-blocking manner. The advisor chain usually
+		// offloads blocking advisors already.
+		return (this.protectFromBlocking && Schedulers.isInNonBlockingThread()) ?
 		// @formatter:off
 			Mono.just(advisedRequest)
 				.publishOn(Schedulers.boundedElastic())
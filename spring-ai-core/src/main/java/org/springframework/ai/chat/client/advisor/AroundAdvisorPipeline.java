@@ -0,0 +1,155 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.chat.client.advisor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import io.micrometer.observation.ObservationRegistry;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.ai.chat.client.advisor.api.Advisor;
+import org.springframework.ai.chat.client.advisor.api.CallAroundAdvisor;
+import org.springframework.ai.chat.client.advisor.api.StreamAroundAdvisor;
+import org.springframework.core.OrderComparator;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Immutable, pre-sorted list of the {@link CallAroundAdvisor}s and
+ * {@link StreamAroundAdvisor}s of a {@link org.springframework.ai.chat.client.ChatClient}.
+ * The pipeline is compiled once, when the client is built, and shared by all its
+ * requests: each request only creates a {@link DefaultAroundAdvisorChain} cursor over the
+ * pipeline with {@link #newChain()}.
+ * <p>
+ * The advisors are sorted by {@link org.springframework.core.Ordered order}. Advisors
+ * with the same order are executed in the reverse order they were added, as with the
+ * {@link DefaultAroundAdvisorChain.Builder}.
+ * <p>
+ * When one of the stream advisors {@link StreamAroundAdvisor#isBlocking() blocks}, the
+ * streamed requests are offloaded to the bounded elastic scheduler once at each edge of
+ * the chain: when the chain is entered from a non-blocking thread, and when the chat
+ * model responses, emitted by the last advisor, flow back through the advisors.
+ *
+ * @since 1.0.0
+ */
+public final class AroundAdvisorPipeline {
+
+	private final ObservationRegistry observationRegistry;
+
+	private final CallAroundAdvisor[] callAroundAdvisors;
+
+	private final StreamAroundAdvisor[] streamAroundAdvisors;
+
+	@Nullable
+	private final Scheduler blockingScheduler;
+
+	private AroundAdvisorPipeline(ObservationRegistry observationRegistry, CallAroundAdvisor[] callAroundAdvisors,
+			StreamAroundAdvisor[] streamAroundAdvisors, @Nullable Scheduler blockingScheduler) {
+		this.observationRegistry = observationRegistry;
+		this.callAroundAdvisors = callAroundAdvisors;
+		this.streamAroundAdvisors = streamAroundAdvisors;
+		this.blockingScheduler = blockingScheduler;
+	}
+
+	/**
+	 * Compile the pipeline of the given advisors.
+	 * @param observationRegistry the registry used to observe the advisor executions
+	 * @param advisors the advisors, in the order they were added
+	 * @return the compiled pipeline
+	 */
+	public static AroundAdvisorPipeline compile(ObservationRegistry observationRegistry,
+			List<? extends Advisor> advisors) {
+
+		Assert.notNull(observationRegistry, "the observationRegistry must be non-null");
+		Assert.notNull(advisors, "the advisors must be non-null");
+
+		List<CallAroundAdvisor> callAdvisors = new ArrayList<>(advisors.size());
+		List<StreamAroundAdvisor> streamAdvisors = new ArrayList<>(advisors.size());
+		for (Advisor advisor : advisors) {
+			if (advisor instanceof CallAroundAdvisor callAroundAdvisor) {
+				callAdvisors.add(callAroundAdvisor);
+			}
+			if (advisor instanceof StreamAroundAdvisor streamAroundAdvisor) {
+				streamAdvisors.add(streamAroundAdvisor);
+			}
+		}
+
+		// The last added advisor comes first among the advisors with the same order. The
+		// sort is stable.
+		Collections.reverse(callAdvisors);
+		OrderComparator.sort(callAdvisors);
+		Collections.reverse(streamAdvisors);
+		OrderComparator.sort(streamAdvisors);
+
+		Scheduler blockingScheduler = streamAdvisors.stream().anyMatch(StreamAroundAdvisor::isBlocking)
+				? Schedulers.boundedElastic() : null;
+
+		return new AroundAdvisorPipeline(observationRegistry, callAdvisors.toArray(new CallAroundAdvisor[0]),
+				streamAdvisors.toArray(new StreamAroundAdvisor[0]), blockingScheduler);
+	}
+
+	/**
+	 * Create a new chain, executing the advisors of this pipeline for a single request.
+	 * @return the new advisor chain
+	 */
+	public DefaultAroundAdvisorChain newChain() {
+		return new DefaultAroundAdvisorChain(this);
+	}
+
+	/**
+	 * {@return the call advisors, in execution order}
+	 */
+	public List<CallAroundAdvisor> getCallAroundAdvisors() {
+		return List.of(this.callAroundAdvisors);
+	}
+
+	/**
+	 * {@return the stream advisors, in execution order}
+	 */
+	public List<StreamAroundAdvisor> getStreamAroundAdvisors() {
+		return List.of(this.streamAroundAdvisors);
+	}
+
+	/**
+	 * {@return whether one of the stream advisors blocks, the streamed requests being then
+	 * offloaded to a scheduler allowing blocking calls}
+	 */
+	public boolean isStreamBlocking() {
+		return this.blockingScheduler != null;
+	}
+
+	ObservationRegistry observationRegistry() {
+		return this.observationRegistry;
+	}
+
+	CallAroundAdvisor[] callAroundAdvisors() {
+		return this.callAroundAdvisors;
+	}
+
+	StreamAroundAdvisor[] streamAroundAdvisors() {
+		return this.streamAroundAdvisors;
+	}
+
+	@Nullable
+	Scheduler blockingScheduler() {
+		return this.blockingScheduler;
+	}
+
+}
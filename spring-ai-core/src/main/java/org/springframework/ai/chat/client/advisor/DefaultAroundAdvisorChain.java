@@ -17,13 +17,14 @@
 package org.springframework.ai.chat.client.advisor;
 
 import java.util.ArrayList;
-import java.util.Deque;
 import java.util.List;
-import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 import io.micrometer.observation.ObservationRegistry;
 import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
 import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 import org.springframework.ai.chat.client.advisor.api.AdvisedRequest;
 import org.springframework.ai.chat.client.advisor.api.AdvisedResponse;
@@ -36,15 +37,17 @@ import org.springframework.ai.chat.client.advisor.observation.AdvisorObservation
 import org.springframework.ai.chat.client.advisor.observation.AdvisorObservationConvention;
 import org.springframework.ai.chat.client.advisor.observation.AdvisorObservationDocumentation;
 import org.springframework.ai.chat.client.advisor.observation.DefaultAdvisorObservationConvention;
-import org.springframework.core.OrderComparator;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
-import org.springframework.util.CollectionUtils;
 
 /**
  * Implementation of the {@link CallAroundAdvisorChain} and
  * {@link StreamAroundAdvisorChain}. Used by the
  * {@link org.springframework.ai.chat.client.ChatClient} to delegate the call to the next
  * {@link CallAroundAdvisor} or {@link StreamAroundAdvisor} in the chain.
+ * <p>
+ * A chain is a cursor over a shared {@link AroundAdvisorPipeline}, advanced each time the
+ * next advisor is invoked. A new chain must be created for each request.
  *
  * @author Christian Tzolov
  * @author Dariusz Jedrzejczyk
@@ -54,22 +57,37 @@ public class DefaultAroundAdvisorChain implements CallAroundAdvisorChain, Stream
 
 	public static final AdvisorObservationConvention DEFAULT_OBSERVATION_CONVENTION = new DefaultAdvisorObservationConvention();
 
-	private final Deque<CallAroundAdvisor> callAroundAdvisors;
+	private static final AtomicIntegerFieldUpdater<DefaultAroundAdvisorChain> CALL_INDEX = AtomicIntegerFieldUpdater
+		.newUpdater(DefaultAroundAdvisorChain.class, "callIndex");
 
-	private final Deque<StreamAroundAdvisor> streamAroundAdvisors;
+	private static final AtomicIntegerFieldUpdater<DefaultAroundAdvisorChain> STREAM_INDEX = AtomicIntegerFieldUpdater
+		.newUpdater(DefaultAroundAdvisorChain.class, "streamIndex");
+
+	private static final AtomicIntegerFieldUpdater<DefaultAroundAdvisorChain> SCHEDULER_HOPS = AtomicIntegerFieldUpdater
+		.newUpdater(DefaultAroundAdvisorChain.class, "schedulerHops");
+
+	private final CallAroundAdvisor[] callAroundAdvisors;
+
+	private final StreamAroundAdvisor[] streamAroundAdvisors;
 
 	private final ObservationRegistry observationRegistry;
 
-	DefaultAroundAdvisorChain(ObservationRegistry observationRegistry, Deque<CallAroundAdvisor> callAroundAdvisors,
-			Deque<StreamAroundAdvisor> streamAroundAdvisors) {
+	@Nullable
+	private final Scheduler blockingScheduler;
+
+	private volatile int callIndex;
+
+	private volatile int streamIndex;
+
+	private volatile int schedulerHops;
 
-		Assert.notNull(observationRegistry, "the observationRegistry must be non-null");
-		Assert.notNull(callAroundAdvisors, "the callAroundAdvisors must be non-null");
-		Assert.notNull(streamAroundAdvisors, "the streamAroundAdvisors must be non-null");
+	DefaultAroundAdvisorChain(AroundAdvisorPipeline pipeline) {
+		Assert.notNull(pipeline, "the pipeline must be non-null");
 
-		this.observationRegistry = observationRegistry;
-		this.callAroundAdvisors = callAroundAdvisors;
-		this.streamAroundAdvisors = streamAroundAdvisors;
+		this.observationRegistry = pipeline.observationRegistry();
+		this.callAroundAdvisors = pipeline.callAroundAdvisors();
+		this.streamAroundAdvisors = pipeline.streamAroundAdvisors();
+		this.blockingScheduler = pipeline.blockingScheduler();
 	}
 
 	public static Builder builder(ObservationRegistry observationRegistry) {
@@ -79,11 +97,12 @@ public class DefaultAroundAdvisorChain implements CallAroundAdvisorChain, Stream
 	@Override
 	public AdvisedResponse nextAroundCall(AdvisedRequest advisedRequest) {
 
-		if (this.callAroundAdvisors.isEmpty()) {
+		int index = nextIndex(CALL_INDEX, this.callAroundAdvisors.length);
+		if (index < 0) {
 			throw new IllegalStateException("No AroundAdvisor available to execute");
 		}
 
-		var advisor = this.callAroundAdvisors.pop();
+		var advisor = this.callAroundAdvisors[index];
 
 		var observationContext = AdvisorObservationContext.builder()
 			.advisorName(advisor.getName())
@@ -101,11 +120,12 @@ public class DefaultAroundAdvisorChain implements CallAroundAdvisorChain, Stream
 	@Override
 	public Flux<AdvisedResponse> nextAroundStream(AdvisedRequest advisedRequest) {
 		return Flux.deferContextual(contextView -> {
-			if (this.streamAroundAdvisors.isEmpty()) {
+			int index = nextIndex(STREAM_INDEX, this.streamAroundAdvisors.length);
+			if (index < 0) {
 				return Flux.error(new IllegalStateException("No AroundAdvisor available to execute"));
 			}
 
-			var advisor = this.streamAroundAdvisors.pop();
+			var advisor = this.streamAroundAdvisors[index];
 
 			AdvisorObservationContext observationContext = AdvisorObservationContext.builder()
 				.advisorName(advisor.getName())
@@ -120,8 +140,13 @@ public class DefaultAroundAdvisorChain implements CallAroundAdvisorChain, Stream
 
 			observation.parentObservation(contextView.getOrDefault(ObservationThreadLocalAccessor.KEY, null)).start();
 
+			Flux<AdvisedResponse> advisedResponses = Flux.defer(() -> advisor.aroundStream(advisedRequest, this));
+			if (this.blockingScheduler != null) {
+				advisedResponses = offload(advisedResponses, index, this.blockingScheduler);
+			}
+
 			// @formatter:off
-			return Flux.defer(() -> advisor.aroundStream(advisedRequest, this))
+			return advisedResponses
 					.doOnError(observation::error)
 					.doFinally(s -> observation.stop())
 					.contextWrite(ctx -> ctx.put(ObservationThreadLocalAccessor.KEY, observation));
@@ -129,18 +154,55 @@ public class DefaultAroundAdvisorChain implements CallAroundAdvisorChain, Stream
 		});
 	}
 
+	/**
+	 * Offload the blocking advisors at the edges of the chain: the chain entered from a
+	 * non-blocking thread is subscribed on the scheduler, and the chat model responses
+	 * emitted by the last advisor are published on the scheduler.
+	 */
+	private Flux<AdvisedResponse> offload(Flux<AdvisedResponse> advisedResponses, int index, Scheduler scheduler) {
+		if (index == 0 && Schedulers.isInNonBlockingThread()) {
+			SCHEDULER_HOPS.incrementAndGet(this);
+			advisedResponses = advisedResponses.subscribeOn(scheduler);
+		}
+		if (index == this.streamAroundAdvisors.length - 1) {
+			SCHEDULER_HOPS.incrementAndGet(this);
+			advisedResponses = advisedResponses.publishOn(scheduler);
+		}
+		return advisedResponses;
+	}
+
+	/**
+	 * {@return the number of times the streamed request was moved to another scheduler by
+	 * this chain}
+	 */
+	public int getSchedulerHops() {
+		return this.schedulerHops;
+	}
+
+	/**
+	 * Advance the cursor past the next advisor, which is then consumed.
+	 * @return the index of the next advisor, or -1 when the chain is exhausted
+	 */
+	private int nextIndex(AtomicIntegerFieldUpdater<DefaultAroundAdvisorChain> cursor, int length) {
+		int index;
+		do {
+			index = cursor.get(this);
+			if (index >= length) {
+				return -1;
+			}
+		}
+		while (!cursor.compareAndSet(this, index, index + 1));
+		return index;
+	}
+
 	public static class Builder {
 
 		private final ObservationRegistry observationRegistry;
 
-		private final Deque<CallAroundAdvisor> callAroundAdvisors;
-
-		private final Deque<StreamAroundAdvisor> streamAroundAdvisors;
+		private final List<Advisor> advisors = new ArrayList<>();
 
 		public Builder(ObservationRegistry observationRegistry) {
 			this.observationRegistry = observationRegistry;
-			this.callAroundAdvisors = new ConcurrentLinkedDeque<>();
-			this.streamAroundAdvisors = new ConcurrentLinkedDeque<>();
 		}
 
 		public Builder push(Advisor aroundAdvisor) {
@@ -150,48 +212,12 @@ public class DefaultAroundAdvisorChain implements CallAroundAdvisorChain, Stream
 
 		public Builder pushAll(List<? extends Advisor> advisors) {
 			Assert.notNull(advisors, "the advisors must be non-null");
-			if (!CollectionUtils.isEmpty(advisors)) {
-				List<CallAroundAdvisor> callAroundAdvisorList = advisors.stream()
-					.filter(a -> a instanceof CallAroundAdvisor)
-					.map(a -> (CallAroundAdvisor) a)
-					.toList();
-
-				if (!CollectionUtils.isEmpty(callAroundAdvisorList)) {
-					callAroundAdvisorList.forEach(this.callAroundAdvisors::push);
-				}
-
-				List<StreamAroundAdvisor> streamAroundAdvisorList = advisors.stream()
-					.filter(a -> a instanceof StreamAroundAdvisor)
-					.map(a -> (StreamAroundAdvisor) a)
-					.toList();
-
-				if (!CollectionUtils.isEmpty(streamAroundAdvisorList)) {
-					streamAroundAdvisorList.forEach(this.streamAroundAdvisors::push);
-				}
-
-				this.reOrder();
-			}
+			this.advisors.addAll(advisors);
 			return this;
 		}
 
-		/**
-		 * (Re)orders the advisors in priority order based on their Ordered attribute.
-		 */
-		private void reOrder() {
-			ArrayList<CallAroundAdvisor> callAdvisors = new ArrayList<>(this.callAroundAdvisors);
-			OrderComparator.sort(callAdvisors);
-			this.callAroundAdvisors.clear();
-			callAdvisors.forEach(this.callAroundAdvisors::addLast);
-
-			ArrayList<StreamAroundAdvisor> streamAdvisors = new ArrayList<>(this.streamAroundAdvisors);
-			OrderComparator.sort(streamAdvisors);
-			this.streamAroundAdvisors.clear();
-			streamAdvisors.forEach(this.streamAroundAdvisors::addLast);
-		}
-
 		public DefaultAroundAdvisorChain build() {
-			return new DefaultAroundAdvisorChain(this.observationRegistry, this.callAroundAdvisors,
-					this.streamAroundAdvisors);
+			return AroundAdvisorPipeline.compile(this.observationRegistry, this.advisors).newChain();
 		}
 
 	}
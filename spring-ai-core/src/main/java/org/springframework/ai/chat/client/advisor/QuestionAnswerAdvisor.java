@@ -175,6 +175,11 @@ public class QuestionAnswerAdvisor implements CallAroundAdvisor, StreamAroundAdv
 		return this.order;
 	}
 
+	@Override
+	public boolean isBlocking() {
+		return this.protectFromBlocking;
+	}
+
 	@Override
 	public AdvisedResponse aroundCall(AdvisedRequest advisedRequest, CallAroundAdvisorChain chain) {
 
@@ -190,8 +195,9 @@ public class QuestionAnswerAdvisor implements CallAroundAdvisor, StreamAroundAdv
 
 		// This can be executed by both blocking and non-blocking Threads
 		// E.g. a command line or Tomcat blocking Thread implementation
-		// or by a WebFlux dispatch in a non-blocking manner.
-		Flux<AdvisedResponse> advisedResponses = (this.protectFromBlocking) ?
+		// or by a WebFlux dispatch in a non-blocking manner. The advisor chain usually
+		// offloads blocking advisors already.
+		Flux<AdvisedResponse> advisedResponses = (this.protectFromBlocking && Schedulers.isInNonBlockingThread()) ?
 		// @formatter:off
 			Mono.just(advisedRequest)
 				.publishOn(Schedulers.boundedElastic())
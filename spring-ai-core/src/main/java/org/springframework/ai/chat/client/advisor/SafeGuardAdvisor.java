@@ -106,6 +106,11 @@ public class SafeGuardAdvisor implements CallAroundAdvisor, StreamAroundAdvisor
 		return this.order;
 	}
 
+	@Override
+	public boolean isBlocking() {
+		return false;
+	}
+
 	public static final class Builder {
 
 		private List<String> sensitiveWords;
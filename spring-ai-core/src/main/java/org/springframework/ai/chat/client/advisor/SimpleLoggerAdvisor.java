@@ -77,6 +77,11 @@ public class SimpleLoggerAdvisor implements CallAroundAdvisor, StreamAroundAdvis
 		return this.order;
 	}
 
+	@Override
+	public boolean isBlocking() {
+		return false;
+	}
+
 	private AdvisedRequest before(AdvisedRequest request) {
 		logger.debug("request: {}", this.requestToString.apply(request));
 		return request;
@@ -59,10 +59,14 @@ public interface BaseAdvisor extends CallAroundAdvisor, StreamAroundAdvisor {
 		Assert.notNull(chain, "chain cannot be null");
 		Assert.notNull(getScheduler(), "scheduler cannot be null");
 
-		Flux<AdvisedResponse> advisedResponses = Mono.just(advisedRequest)
-			.publishOn(getScheduler())
-			.map(this::before)
-			.flatMapMany(chain::nextAroundStream);
+		// The advisor chain usually offloads blocking advisors already, only hop when
+		// still on a non-blocking thread.
+		Flux<AdvisedResponse> advisedResponses = (isBlocking() && Schedulers.isInNonBlockingThread())
+				? Mono.just(advisedRequest)
+					.publishOn(getScheduler())
+					.map(this::before)
+					.flatMapMany(chain::nextAroundStream)
+				: Flux.defer(() -> chain.nextAroundStream(before(advisedRequest)));
 
 		return advisedResponses.map(ar -> {
 			if (onFinishReason().test(ar)) {
@@ -35,4 +35,16 @@ public interface StreamAroundAdvisor extends Advisor {
 	 */
 	Flux<AdvisedResponse> aroundStream(AdvisedRequest advisedRequest, StreamAroundAdvisorChain chain);
 
+	/**
+	 * Whether the advisor performs blocking work when streaming, e.g. querying a vector
+	 * store or a chat memory, and so must not run on a non-blocking thread. When at least
+	 * one advisor blocks, the advisor chain is offloaded once, at its edges, to a
+	 * scheduler allowing blocking calls. A chain of non-blocking advisors runs entirely on
+	 * the threads of the chat model stream.
+	 * @return true if the advisor blocks, the default, false if it is purely reactive
+	 */
+	default boolean isBlocking() {
+		return true;
+	}
+
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.chat.client.observation;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+
+import org.springframework.ai.model.observation.ObservationMeterCache;
+import org.springframework.util.Assert;
+
+/**
+ * Handler for generating metrics from chat client observations: records the number of
+ * scheduler hops of each streamed request in the advisor chain. The meters are cached by
+ * the low cardinality key values of the observations, see {@link ObservationMeterCache}.
+ *
+ * @since 1.0.0
+ */
+public class ChatClientMeterObservationHandler implements ObservationHandler<ChatClientObservationContext> {
+
+	/**
+	 * Name of the distribution summary of the scheduler hops of the streamed requests.
+	 */
+	public static final String STREAM_SCHEDULER_HOPS_METRIC_NAME = "spring.ai.chat.client.stream.scheduler.hops";
+
+	private final ObservationMeterCache<DistributionSummary> schedulerHops;
+
+	public ChatClientMeterObservationHandler(MeterRegistry meterRegistry) {
+		Assert.notNull(meterRegistry, "meterRegistry cannot be null");
+		this.schedulerHops = new ObservationMeterCache<>(
+				tags -> DistributionSummary.builder(STREAM_SCHEDULER_HOPS_METRIC_NAME)
+					.description("Measures the number of times a streamed request is moved to another scheduler")
+					.baseUnit("hops")
+					.tags(tags)
+					.register(meterRegistry));
+	}
+
+	@Override
+	public void onStop(ChatClientObservationContext context) {
+		if (context.isStream()) {
+			this.schedulerHops.get(context).record(context.getSchedulerHops());
+		}
+	}
+
+	@Override
+	public boolean supportsContext(Observation.Context context) {
+		return context instanceof ChatClientObservationContext;
+	}
+
+}
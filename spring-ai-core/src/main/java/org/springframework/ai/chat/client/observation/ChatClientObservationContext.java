@@ -44,6 +44,8 @@ public class ChatClientObservationContext extends Observation.Context {
 	@Nullable
 	private String format;
 
+	private int schedulerHops;
+
 	ChatClientObservationContext(DefaultChatClientRequestSpec requestSpec, String format, boolean isStream) {
 		Assert.notNull(requestSpec, "requestSpec cannot be null");
 		this.request = requestSpec;
@@ -76,6 +78,18 @@ public class ChatClientObservationContext extends Observation.Context {
 		this.format = format;
 	}
 
+	/**
+	 * {@return the number of times a streamed request was moved to another scheduler by
+	 * the advisor chain}
+	 */
+	public int getSchedulerHops() {
+		return this.schedulerHops;
+	}
+
+	public void setSchedulerHops(int schedulerHops) {
+		this.schedulerHops = schedulerHops;
+	}
+
 	public static final class Builder {
 
 		private DefaultChatClientRequestSpec request;
@@ -30,18 +30,23 @@ import org.springframework.ai.model.observation.ModelUsageMetricsGenerator;
  */
 public class ChatModelMeterObservationHandler implements ObservationHandler<ChatModelObservationContext> {
 
-	private final MeterRegistry meterRegistry;
+	private final ModelUsageMetricsGenerator usageMetricsGenerator;
+
+	private final ChatModelStreamMetricsGenerator streamMetricsGenerator;
 
 	public ChatModelMeterObservationHandler(MeterRegistry meterRegistry) {
-		this.meterRegistry = meterRegistry;
+		this.usageMetricsGenerator = new ModelUsageMetricsGenerator(meterRegistry);
+		this.streamMetricsGenerator = new ChatModelStreamMetricsGenerator(meterRegistry);
 	}
 
 	@Override
 	public void onStop(ChatModelObservationContext context) {
 		if (context.getResponse() != null && context.getResponse().getMetadata() != null
 				&& context.getResponse().getMetadata().getUsage() != null) {
-			ModelUsageMetricsGenerator.generate(context.getResponse().getMetadata().getUsage(), context,
-					this.meterRegistry);
+			this.usageMetricsGenerator.generate(context.getResponse().getMetadata().getUsage(), context);
+		}
+		if (context.getStreamTimings() != null) {
+			this.streamMetricsGenerator.generate(context.getStreamTimings(), context);
 		}
 	}
 
@@ -22,6 +22,7 @@ import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.ai.model.observation.ModelObservationContext;
 import org.springframework.ai.observation.AiOperationMetadata;
 import org.springframework.ai.observation.conventions.AiOperationType;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -34,6 +35,9 @@ public class ChatModelObservationContext extends ModelObservationContext<Prompt,
 
 	private final ChatOptions requestOptions;
 
+	@Nullable
+	private ChatModelStreamTimings streamTimings;
+
 	ChatModelObservationContext(Prompt prompt, String provider, ChatOptions requestOptions) {
 		super(prompt,
 				AiOperationMetadata.builder().operationType(AiOperationType.CHAT.value()).provider(provider).build());
@@ -49,6 +53,19 @@ public class ChatModelObservationContext extends ModelObservationContext<Prompt,
 		return this.requestOptions;
 	}
 
+	/**
+	 * {@return the timings of the streamed response, or null when the response is not
+	 * streamed}
+	 */
+	@Nullable
+	public ChatModelStreamTimings getStreamTimings() {
+		return this.streamTimings;
+	}
+
+	void setStreamTimings(ChatModelStreamTimings streamTimings) {
+		this.streamTimings = streamTimings;
+	}
+
 	public static final class Builder {
 
 		private Prompt prompt;
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.chat.observation;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.model.observation.ObservationMeterCache;
+import org.springframework.ai.observation.conventions.AiObservationMetricNames;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Generate the latency metrics of a streamed chat model response: time to first token,
+ * inter-chunk latency percentiles, output tokens per second and cancellations. The meters
+ * are cached by the low cardinality key values of the observations, see
+ * {@link ObservationMeterCache}.
+ *
+ * @since 1.0.0
+ */
+public final class ChatModelStreamMetricsGenerator {
+
+	private static final double[] PERCENTILES = { 0.5, 0.9, 0.99 };
+
+	private final ObservationMeterCache<Timer> timeToFirstToken;
+
+	private final ObservationMeterCache<Timer> timePerOutputChunk;
+
+	private final ObservationMeterCache<DistributionSummary> outputTokenRate;
+
+	private final ObservationMeterCache<Counter> streamCancellations;
+
+	/**
+	 * Create a generator caching the meters it registers on the given registry.
+	 * @param meterRegistry the meter registry
+	 */
+	public ChatModelStreamMetricsGenerator(MeterRegistry meterRegistry) {
+		this(meterRegistry, ObservationMeterCache.DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Create a generator caching the meters it registers on the given registry.
+	 * @param meterRegistry the meter registry
+	 * @param cacheCapacity the maximum number of low cardinality key value sets whose
+	 * meters are cached
+	 */
+	public ChatModelStreamMetricsGenerator(MeterRegistry meterRegistry, int cacheCapacity) {
+		Assert.notNull(meterRegistry, "meterRegistry cannot be null");
+		this.timeToFirstToken = new ObservationMeterCache<>(cacheCapacity,
+				tags -> Timer.builder(AiObservationMetricNames.TIME_TO_FIRST_TOKEN.value())
+					.description("Measures the time to the first chunk of a streamed response")
+					.tags(tags)
+					.publishPercentiles(PERCENTILES)
+					.register(meterRegistry));
+		this.timePerOutputChunk = new ObservationMeterCache<>(cacheCapacity,
+				tags -> Timer.builder(AiObservationMetricNames.TIME_PER_OUTPUT_CHUNK.value())
+					.description("Measures the latency between consecutive chunks of a streamed response")
+					.tags(tags)
+					.publishPercentiles(PERCENTILES)
+					.register(meterRegistry));
+		this.outputTokenRate = new ObservationMeterCache<>(cacheCapacity,
+				tags -> DistributionSummary.builder(AiObservationMetricNames.OUTPUT_TOKEN_RATE.value())
+					.description("Measures the output tokens per second of a streamed response")
+					.baseUnit("tokens/s")
+					.tags(tags)
+					.register(meterRegistry));
+		this.streamCancellations = new ObservationMeterCache<>(cacheCapacity,
+				tags -> Counter.builder(AiObservationMetricNames.STREAM_CANCELLATIONS.value())
+					.description("Measures the number of streamed responses cancelled before they completed")
+					.tags(tags)
+					.register(meterRegistry));
+	}
+
+	/**
+	 * Record the stream timings of the given observation context.
+	 * @param timings the timings of the streamed response
+	 * @param context the observation context of the stream
+	 */
+	public void generate(ChatModelStreamTimings timings, ChatModelObservationContext context) {
+
+		Duration timeToFirstChunk = timings.getTimeToFirstChunk();
+		if (timeToFirstChunk != null) {
+			this.timeToFirstToken.get(context).record(timeToFirstChunk);
+		}
+
+		if (timings.getChunkCount() > 1) {
+			Timer interChunkTimer = this.timePerOutputChunk.get(context);
+			timings.forEachInterChunkLatency(latency -> interChunkTimer.record(latency, TimeUnit.NANOSECONDS));
+		}
+
+		Long outputTokens = outputTokens(context);
+		Duration streamingDuration = timings.getStreamingDuration();
+		if (outputTokens != null && outputTokens > 0 && !streamingDuration.isZero()) {
+			this.outputTokenRate.get(context).record(outputTokens * 1_000_000_000.0 / streamingDuration.toNanos());
+		}
+
+		if (timings.isCancelled()) {
+			this.streamCancellations.get(context).increment();
+		}
+	}
+
+	@Nullable
+	private static Long outputTokens(ChatModelObservationContext context) {
+		if (context.getResponse() == null || context.getResponse().getMetadata() == null) {
+			return null;
+		}
+		Usage usage = context.getResponse().getMetadata().getUsage();
+		return (usage != null) ? usage.getGenerationTokens() : null;
+	}
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.chat.observation;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+import reactor.core.publisher.Flux;
+
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Timings of a streamed chat model response: the time to the first chunk, the latency
+ * between consecutive chunks and whether the stream was cancelled. The timings are
+ * recorded on the {@link ChatModelObservationContext} of the stream, see
+ * {@link #observe(Flux, ChatModelObservationContext)}, and turned into metrics by the
+ * {@link ChatModelMeterObservationHandler}.
+ *
+ * @since 1.0.0
+ */
+public final class ChatModelStreamTimings {
+
+	private static final int INITIAL_CAPACITY = 64;
+
+	private long startNanos;
+
+	private long firstChunkNanos;
+
+	private long lastChunkNanos;
+
+	private int chunkCount;
+
+	private long[] interChunkNanos = new long[INITIAL_CAPACITY];
+
+	private volatile boolean cancelled;
+
+	ChatModelStreamTimings() {
+	}
+
+	/**
+	 * Record the timings of a streamed chat model response on the observation context.
+	 * The streaming chat models apply it to the response stream they return.
+	 * @param chatResponses the streamed chat model response
+	 * @param observationContext the observation context of the stream
+	 * @return the observed stream
+	 */
+	public static Flux<ChatResponse> observe(Flux<ChatResponse> chatResponses,
+			ChatModelObservationContext observationContext) {
+		Assert.notNull(chatResponses, "chatResponses cannot be null");
+		Assert.notNull(observationContext, "observationContext cannot be null");
+		return Flux.defer(() -> {
+			ChatModelStreamTimings timings = new ChatModelStreamTimings();
+			observationContext.setStreamTimings(timings);
+			return chatResponses.doOnSubscribe(subscription -> timings.onStart())
+				.doOnNext(chatResponse -> timings.onChunk())
+				.doOnCancel(timings::onCancel);
+		});
+	}
+
+	void onStart() {
+		this.startNanos = System.nanoTime();
+	}
+
+	// Chunks are signalled serially, and before the observation is stopped.
+	void onChunk() {
+		long now = System.nanoTime();
+		if (this.chunkCount == 0) {
+			this.firstChunkNanos = now;
+		}
+		else {
+			if (this.chunkCount - 1 == this.interChunkNanos.length) {
+				this.interChunkNanos = Arrays.copyOf(this.interChunkNanos, this.interChunkNanos.length * 2);
+			}
+			this.interChunkNanos[this.chunkCount - 1] = now - this.lastChunkNanos;
+		}
+		this.lastChunkNanos = now;
+		this.chunkCount++;
+	}
+
+	void onCancel() {
+		this.cancelled = true;
+	}
+
+	/**
+	 * {@return the time from the subscription to the stream to its first chunk, or null
+	 * when no chunk was received}
+	 */
+	@Nullable
+	public Duration getTimeToFirstChunk() {
+		return (this.chunkCount > 0) ? Duration.ofNanos(this.firstChunkNanos - this.startNanos) : null;
+	}
+
+	/**
+	 * {@return the time from the first to the last chunk of the stream}
+	 */
+	public Duration getStreamingDuration() {
+		return (this.chunkCount > 1) ? Duration.ofNanos(this.lastChunkNanos - this.firstChunkNanos) : Duration.ZERO;
+	}
+
+	/**
+	 * {@return the number of chunks received}
+	 */
+	public int getChunkCount() {
+		return this.chunkCount;
+	}
+
+	/**
+	 * Pass the latency between each pair of consecutive chunks, in nanoseconds, to the
+	 * given consumer.
+	 * @param consumer the consumer of the latencies
+	 */
+	public void forEachInterChunkLatency(LongConsumer consumer) {
+		for (int i = 0; i < this.chunkCount - 1; i++) {
+			consumer.accept(this.interChunkNanos[i]);
+		}
+	}
+
+	/**
+	 * {@return whether the stream was cancelled by its subscriber before it completed}
+	 */
+	public boolean isCancelled() {
+		return this.cancelled;
+	}
+
+}
@@ -18,6 +18,7 @@ package org.springframework.ai.document;
 
 import java.util.List;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 public interface DocumentReader extends Supplier<List<Document>> {
 
@@ -25,4 +26,19 @@ public interface DocumentReader extends Supplier<List<Document>> {
 		return get();
 	}
 
+	/**
+	 * Read the documents lazily, one at a time as the stream is consumed, so that large
+	 * sources can be processed in bounded memory and downstream stages can start before
+	 * the whole source is read. Use {@code Flux.fromStream(reader::stream)} for a
+	 * reactive, backpressured variant. The stream should be closed once consumed to
+	 * release the underlying resources.
+	 * <p>
+	 * The default implementation reads all the documents upfront, readers of large
+	 * sources override it.
+	 * @return the stream of documents
+	 */
+	default Stream<Document> stream() {
+		return get().stream();
+	}
+
 }
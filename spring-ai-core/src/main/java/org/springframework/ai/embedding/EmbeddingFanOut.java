@@ -0,0 +1,198 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.embedding;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import org.springframework.ai.chat.metadata.DefaultUsage;
+import org.springframework.ai.chat.metadata.EmptyUsage;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Embeds the inputs of a request concurrently, one call per input, for embedding backends
+ * that do not support batch embedding.
+ * <p>
+ * At most {@code parallelism} calls are in flight at any time. Each call is retried on
+ * its own with the configured {@link Retry} spec, and the embeddings are assembled in the
+ * order of the inputs, whatever the order the calls complete in. The usage of the calls
+ * is summed into the usage of the response.
+ *
+ * @since 1.0.0
+ */
+public final class EmbeddingFanOut {
+
+	/**
+	 * Default maximum number of concurrent calls.
+	 */
+	public static final int DEFAULT_PARALLELISM = 8;
+
+	private final int parallelism;
+
+	@Nullable
+	private final Retry retry;
+
+	private final Scheduler scheduler;
+
+	private EmbeddingFanOut(Builder builder) {
+		this.parallelism = builder.parallelism;
+		this.retry = builder.retry;
+		this.scheduler = builder.scheduler;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Embed the inputs with the given non-blocking call.
+	 * @param inputs the inputs to embed, one call each
+	 * @param call the call embedding one input, subscribed to again on retry
+	 * @param model the model reported in the response metadata
+	 * @return the embeddings of the inputs, in order, with the aggregated usage
+	 */
+	public EmbeddingResponse embed(List<String> inputs, Function<String, Mono<Result>> call, String model) {
+		Assert.notEmpty(inputs, "At least one input is required!");
+		Assert.notNull(call, "call cannot be null");
+
+		List<Result> results = Flux.range(0, inputs.size())
+			.flatMapSequential(index -> embed(inputs.get(index), index, call), this.parallelism)
+			.collectList()
+			.block();
+
+		return toResponse(results, model);
+	}
+
+	/**
+	 * Embed the inputs with the given blocking call. The calls are run on the configured
+	 * scheduler, bounded elastic by default.
+	 * @param inputs the inputs to embed, one call each
+	 * @param call the blocking call embedding one input
+	 * @param model the model reported in the response metadata
+	 * @return the embeddings of the inputs, in order, with the aggregated usage
+	 */
+	public EmbeddingResponse embedBlocking(List<String> inputs, Function<String, Result> call, String model) {
+		Assert.notNull(call, "call cannot be null");
+		return embed(inputs, input -> Mono.fromCallable(() -> call.apply(input)).subscribeOn(this.scheduler), model);
+	}
+
+	private Mono<Result> embed(String input, int index, Function<String, Mono<Result>> call) {
+		Mono<Result> result = Mono.defer(() -> call.apply(input))
+			.switchIfEmpty(Mono.error(() -> new IllegalStateException("No embedding returned for input " + index)));
+		return (this.retry != null) ? result.retryWhen(this.retry) : result;
+	}
+
+	private static EmbeddingResponse toResponse(List<Result> results, String model) {
+		List<Embedding> embeddings = new ArrayList<>(results.size());
+		long promptTokens = 0;
+		long generationTokens = 0;
+		long totalTokens = 0;
+		boolean hasUsage = false;
+		for (Result result : results) {
+			embeddings.add(new Embedding(result.embedding(), embeddings.size()));
+			Usage usage = result.usage();
+			if (usage != null) {
+				hasUsage = true;
+				promptTokens += toLong(usage.getPromptTokens());
+				generationTokens += toLong(usage.getGenerationTokens());
+				totalTokens += toLong(usage.getTotalTokens());
+			}
+		}
+		Usage usage = hasUsage ? new DefaultUsage(promptTokens, generationTokens, totalTokens) : new EmptyUsage();
+		return new EmbeddingResponse(embeddings, new EmbeddingResponseMetadata(model, usage));
+	}
+
+	private static long toLong(@Nullable Long value) {
+		return (value != null) ? value : 0L;
+	}
+
+	/**
+	 * The embedding of a single input.
+	 *
+	 * @param embedding the embedding vector
+	 * @param usage the usage of the call, or {@code null} if not reported
+	 */
+	public record Result(float[] embedding, @Nullable Usage usage) {
+
+		public Result {
+			Assert.notNull(embedding, "embedding cannot be null");
+		}
+
+	}
+
+	public static final class Builder {
+
+		private int parallelism = DEFAULT_PARALLELISM;
+
+		@Nullable
+		private Retry retry;
+
+		private Scheduler scheduler = Schedulers.boundedElastic();
+
+		private Builder() {
+		}
+
+		/**
+		 * Maximum number of concurrent calls,
+		 * {@value EmbeddingFanOut#DEFAULT_PARALLELISM} by default.
+		 * @param parallelism the maximum number of concurrent calls
+		 * @return this builder
+		 */
+		public Builder parallelism(int parallelism) {
+			Assert.isTrue(parallelism > 0, "parallelism must be greater than 0");
+			this.parallelism = parallelism;
+			return this;
+		}
+
+		/**
+		 * Retry spec applied to each call on its own. Failed calls are not retried by
+		 * default.
+		 * @param retry the retry spec, or {@code null} to not retry
+		 * @return this builder
+		 */
+		public Builder retry(@Nullable Retry retry) {
+			this.retry = retry;
+			return this;
+		}
+
+		/**
+		 * Scheduler the blocking calls run on, bounded elastic by default.
+		 * @param scheduler the scheduler for blocking calls
+		 * @return this builder
+		 */
+		public Builder scheduler(Scheduler scheduler) {
+			Assert.notNull(scheduler, "scheduler cannot be null");
+			this.scheduler = scheduler;
+			return this;
+		}
+
+		public EmbeddingFanOut build() {
+			return new EmbeddingFanOut(this);
+		}
+
+	}
+
+}
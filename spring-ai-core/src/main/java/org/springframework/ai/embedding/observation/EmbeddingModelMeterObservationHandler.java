@@ -30,18 +30,17 @@ import org.springframework.ai.model.observation.ModelUsageMetricsGenerator;
  */
 public class EmbeddingModelMeterObservationHandler implements ObservationHandler<EmbeddingModelObservationContext> {
 
-	private final MeterRegistry meterRegistry;
+	private final ModelUsageMetricsGenerator usageMetricsGenerator;
 
 	public EmbeddingModelMeterObservationHandler(MeterRegistry meterRegistry) {
-		this.meterRegistry = meterRegistry;
+		this.usageMetricsGenerator = new ModelUsageMetricsGenerator(meterRegistry);
 	}
 
 	@Override
 	public void onStop(EmbeddingModelObservationContext context) {
 		if (context.getResponse() != null && context.getResponse().getMetadata() != null
 				&& context.getResponse().getMetadata().getUsage() != null) {
-			ModelUsageMetricsGenerator.generate(context.getResponse().getMetadata().getUsage(), context,
-					this.meterRegistry);
+			this.usageMetricsGenerator.generate(context.getResponse().getMetadata().getUsage(), context);
 		}
 	}
 
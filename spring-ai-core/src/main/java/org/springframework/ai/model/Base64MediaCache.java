@@ -0,0 +1,94 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.model;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Size-bounded, least recently used, cache of the Base64 encoded payloads of
+ * {@link LazyMediaData}, for media attached to a conversation and sent again with every
+ * following turn. The entries are keyed by {@link LazyMediaData} instance, so reuse the
+ * same {@link Media} across the turns to hit the cache. Payloads larger than the cache
+ * capacity are never cached, they are streamed for every request.
+ * <p>
+ * The cache is thread-safe and can be shared by several media.
+ *
+ * @since 1.0.0
+ */
+public class Base64MediaCache {
+
+	private final long maxEncodedBytes;
+
+	private final Map<LazyMediaData, String> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	private long encodedBytes;
+
+	/**
+	 * Create a cache.
+	 * @param maxEncodedBytes the maximum total size of the encoded payloads, in bytes
+	 */
+	public Base64MediaCache(long maxEncodedBytes) {
+		Assert.isTrue(maxEncodedBytes > 0, "maxEncodedBytes must be greater than 0");
+		this.maxEncodedBytes = maxEncodedBytes;
+	}
+
+	@Nullable
+	synchronized String get(LazyMediaData data) {
+		return this.entries.get(data);
+	}
+
+	boolean accepts(long encodedLength) {
+		return encodedLength <= this.maxEncodedBytes;
+	}
+
+	synchronized void put(LazyMediaData data, String encoded) {
+		String previous = this.entries.put(data, encoded);
+		if (previous != null) {
+			this.encodedBytes -= previous.length();
+		}
+		this.encodedBytes += encoded.length();
+		Iterator<String> eldest = this.entries.values().iterator();
+		while (this.encodedBytes > this.maxEncodedBytes && eldest.hasNext()) {
+			this.encodedBytes -= eldest.next().length();
+			eldest.remove();
+		}
+	}
+
+	/**
+	 * {@return the total size of the cached payloads, in bytes}
+	 */
+	public synchronized long size() {
+		return this.encodedBytes;
+	}
+
+	/**
+	 * Remove all the cached payloads.
+	 */
+	public synchronized void clear() {
+		this.entries.clear();
+		this.encodedBytes = 0;
+	}
+
+	static long encodedLength(long contentLength) {
+		return (contentLength + 2) / 3 * 4;
+	}
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.model;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * The Base64 encoding of a {@link LazyMediaData}, optionally prefixed (e.g. by a
+ * {@code data:} URL header), serialized by Jackson as a JSON string which characters are
+ * encoded and written one chunk at a time. Used in place of the {@code String} fields of
+ * the model API requests, it avoids holding the raw content, its Base64 {@code String}
+ * and the serialized body in memory at the same time.
+ *
+ * @since 1.0.0
+ */
+@JsonSerialize(using = Base64MediaContent.Base64MediaContentSerializer.class)
+public final class Base64MediaContent {
+
+	private final String prefix;
+
+	private final LazyMediaData data;
+
+	Base64MediaContent(String prefix, LazyMediaData data) {
+		this.prefix = prefix;
+		this.data = data;
+	}
+
+	public String getPrefix() {
+		return this.prefix;
+	}
+
+	public LazyMediaData getData() {
+		return this.data;
+	}
+
+	/**
+	 * Open a reader of the whole JSON string value, prefix included.
+	 * @return the reader, to be closed by the caller
+	 * @throws IOException if the media resource can not be read
+	 */
+	public Reader openReader() throws IOException {
+		Reader encoded = this.data.openBase64Reader();
+		return this.prefix.isEmpty() ? encoded : new PrefixedReader(this.prefix, encoded);
+	}
+
+	@Override
+	public String toString() {
+		return "Base64MediaContent{prefix='" + this.prefix + "', resource=" + this.data.getResource() + "}";
+	}
+
+	/**
+	 * Streams the encoded content into the JSON string value.
+	 */
+	static class Base64MediaContentSerializer extends StdSerializer<Base64MediaContent> {
+
+		Base64MediaContentSerializer() {
+			super(Base64MediaContent.class);
+		}
+
+		@Override
+		public void serialize(Base64MediaContent value, JsonGenerator gen, SerializerProvider provider)
+				throws IOException {
+			try (Reader reader = value.openReader()) {
+				gen.writeString(reader, -1);
+			}
+		}
+
+	}
+
+	/**
+	 * Reads a prefix, then the wrapped reader.
+	 */
+	private static final class PrefixedReader extends Reader {
+
+		private final Reader prefix;
+
+		private final Reader reader;
+
+		private boolean prefixRead;
+
+		PrefixedReader(String prefix, Reader reader) {
+			this.prefix = new StringReader(prefix);
+			this.reader = reader;
+		}
+
+		@Override
+		public int read(char[] buffer, int offset, int length) throws IOException {
+			if (!this.prefixRead) {
+				int read = this.prefix.read(buffer, offset, length);
+				if (read != -1) {
+					return read;
+				}
+				this.prefixRead = true;
+			}
+			return this.reader.read(buffer, offset, length);
+		}
+
+		@Override
+		public void close() throws IOException {
+			this.reader.close();
+		}
+
+	}
+
+}
@@ -16,9 +16,14 @@
 
 package org.springframework.ai.model;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 
+import org.springframework.util.Assert;
+
 /**
  * Utility methods for embedding related operations.
  *
@@ -70,6 +75,34 @@ public final class EmbeddingUtils {
 		return result;
 	}
 
+	/**
+	 * Decode a base64 encoded embedding, as returned by the OpenAI compatible embedding
+	 * APIs with the {@code base64} encoding format.
+	 * @param base64 the base64 encoded little-endian float32 values
+	 * @return the embedding vector
+	 */
+	public static float[] fromBase64(String base64) {
+		Assert.notNull(base64, "base64 cannot be null");
+		return fromLittleEndianBytes(Base64.getDecoder().decode(base64));
+	}
+
+	/**
+	 * Read the given little-endian float32 values into an embedding vector.
+	 * @param bytes the little-endian float32 values
+	 * @return the embedding vector
+	 */
+	public static float[] fromLittleEndianBytes(byte[] bytes) {
+		Assert.notNull(bytes, "bytes cannot be null");
+		Assert.isTrue(bytes.length % Float.BYTES == 0,
+				() -> "The embedding byte length must be a multiple of " + Float.BYTES + " but was " + bytes.length);
+		if (bytes.length == 0) {
+			return EMPTY_FLOAT_ARRAY;
+		}
+		float[] result = new float[bytes.length / Float.BYTES];
+		ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(result);
+		return result;
+	}
+
 	public static List<Float> toList(float[] floats) {
 
 		List<Float> output = new ArrayList<Float>();
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.model;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.Base64Variants;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.std.PrimitiveArrayDeserializers;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+/**
+ * Jackson deserializer for embedding vectors returned either as a JSON array of numbers
+ * or, with the {@code base64} encoding format of the OpenAI compatible embedding APIs, as
+ * a base64 string of little-endian float32 values. Base64 values are decoded straight
+ * from the parser into a {@code float[]}, without intermediate boxed values.
+ *
+ * @since 1.0.0
+ */
+public class EmbeddingVectorDeserializer extends StdDeserializer<float[]> {
+
+	private static final JsonDeserializer<?> FLOAT_ARRAY_DESERIALIZER = PrimitiveArrayDeserializers.forType(Float.TYPE);
+
+	public EmbeddingVectorDeserializer() {
+		super(float[].class);
+	}
+
+	@Override
+	public float[] deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+		if (parser.currentToken() == JsonToken.VALUE_STRING) {
+			// The standard base64 alphabet, without line feeds.
+			byte[] bytes = parser.getBinaryValue(Base64Variants.MIME_NO_LINEFEEDS);
+			if (bytes.length % Float.BYTES != 0) {
+				return context.reportInputMismatch(this, "The base64 embedding length must be a multiple of %d bytes",
+						Float.BYTES);
+			}
+			return EmbeddingUtils.fromLittleEndianBytes(bytes);
+		}
+		return (float[]) FLOAT_ARRAY_DESERIALIZER.deserialize(parser, context);
+	}
+
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Base64;
+
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.MimeType;
+
+/**
+ * {@link Media} data read lazily from a {@link Resource}. Unlike a {@code byte[]} data,
+ * the content is not held in memory: the model clients supporting it Base64-encode the
+ * resource as a stream, straight into the serialized request body, see
+ * {@link Base64MediaContent}.
+ * <p>
+ * An optional {@link Base64MediaCache} keeps the encoded payload, so that media reused
+ * across the turns of a conversation are not read and encoded again for every request.
+ *
+ * <pre>{@code
+ * var media = Media.builder()
+ * 	.mimeType(MimeTypeUtils.IMAGE_PNG)
+ * 	.data(new LazyMediaData(new FileSystemResource("image.png")))
+ * 	.build();
+ * }</pre>
+ *
+ * @since 1.0.0
+ */
+public final class LazyMediaData {
+
+	private final Resource resource;
+
+	@Nullable
+	private final Base64MediaCache cache;
+
+	/**
+	 * Create a lazy media data, encoded again for every request.
+	 * @param resource the media resource
+	 */
+	public LazyMediaData(Resource resource) {
+		this(resource, null);
+	}
+
+	/**
+	 * Create a lazy media data, which encoded payload is kept in the given cache.
+	 * @param resource the media resource
+	 * @param cache the cache of the encoded payloads, or null to encode the resource
+	 * for every request
+	 */
+	public LazyMediaData(Resource resource, @Nullable Base64MediaCache cache) {
+		Assert.notNull(resource, "Resource must not be null");
+		this.resource = resource;
+		this.cache = cache;
+	}
+
+	public Resource getResource() {
+		return this.resource;
+	}
+
+	/**
+	 * Read the whole content of the resource, for the model clients that do not support
+	 * the streamed encoding.
+	 * @return the content of the resource
+	 */
+	public byte[] getContentAsByteArray() {
+		try {
+			return this.resource.getContentAsByteArray();
+		}
+		catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * {@return the content serialized as a plain Base64 JSON string}
+	 */
+	public Base64MediaContent toBase64() {
+		return new Base64MediaContent("", this);
+	}
+
+	/**
+	 * Serialize the content as a {@code data:} URL JSON string, e.g.
+	 * {@code data:image/png;base64,...}.
+	 * @param mimeType the MIME type of the content
+	 * @return the content serialized as a data URL
+	 */
+	public Base64MediaContent toDataUrl(MimeType mimeType) {
+		Assert.notNull(mimeType, "MimeType must not be null");
+		return new Base64MediaContent("data:" + mimeType + ";base64,", this);
+	}
+
+	/**
+	 * Open a reader of the Base64 encoded content, served from the cache when enabled.
+	 */
+	Reader openBase64Reader() throws IOException {
+		if (this.cache != null) {
+			String encoded = this.cache.get(this);
+			if (encoded != null) {
+				return new StringReader(encoded);
+			}
+			long contentLength = contentLength();
+			if (contentLength >= 0 && this.cache.accepts(Base64MediaCache.encodedLength(contentLength))) {
+				encoded = Base64.getEncoder().encodeToString(this.resource.getContentAsByteArray());
+				this.cache.put(this, encoded);
+				return new StringReader(encoded);
+			}
+		}
+		return new Base64EncodingReader(this.resource.getInputStream());
+	}
+
+	private long contentLength() {
+		try {
+			return this.resource.contentLength();
+		}
+		catch (IOException e) {
+			// Unknown length, the content is streamed
+			return -1;
+		}
+	}
+
+	/**
+	 * Reads the Base64 encoding of an input stream, one chunk at a time.
+	 */
+	private static final class Base64EncodingReader extends Reader {
+
+		// A multiple of 3, so that no padding is emitted before the end of the stream.
+		private static final int CHUNK_SIZE = 3 * 1024;
+
+		private final InputStream inputStream;
+
+		private final byte[] chunk = new byte[CHUNK_SIZE];
+
+		private final byte[] encodedChunk = new byte[CHUNK_SIZE / 3 * 4];
+
+		private int encodedLength;
+
+		private int position;
+
+		private boolean endOfStream;
+
+		Base64EncodingReader(InputStream inputStream) {
+			this.inputStream = inputStream;
+		}
+
+		@Override
+		public int read(char[] buffer, int offset, int length) throws IOException {
+			if (length == 0) {
+				return 0;
+			}
+			if (this.position == this.encodedLength && !fill()) {
+				return -1;
+			}
+			int count = Math.min(length, this.encodedLength - this.position);
+			for (int i = 0; i < count; i++) {
+				buffer[offset + i] = (char) this.encodedChunk[this.position + i];
+			}
+			this.position += count;
+			return count;
+		}
+
+		private boolean fill() throws IOException {
+			if (this.endOfStream) {
+				return false;
+			}
+			int read = this.inputStream.readNBytes(this.chunk, 0, CHUNK_SIZE);
+			if (read < CHUNK_SIZE) {
+				this.endOfStream = true;
+			}
+			if (read == 0) {
+				return false;
+			}
+			byte[] source = (read == CHUNK_SIZE) ? this.chunk : Arrays.copyOf(this.chunk, read);
+			this.encodedLength = Base64.getEncoder().encode(source, this.encodedChunk);
+			this.position = 0;
+			return true;
+		}
+
+		@Override
+		public void close() throws IOException {
+			this.inputStream.close();
+		}
+
+	}
+
+}
@@ -201,13 +201,16 @@ public class Media {
 	}
 
 	/**
-	 * Get the media data as a byte array
+	 * Get the media data as a byte array. A {@link LazyMediaData} is read fully.
 	 * @return the media data as a byte array
 	 */
 	public byte[] getDataAsByteArray() {
 		if (this.data instanceof byte[]) {
 			return (byte[]) this.data;
 		}
+		else if (this.data instanceof LazyMediaData lazyMediaData) {
+			return lazyMediaData.getContentAsByteArray();
+		}
 		else {
 			throw new IllegalStateException("Media data is not a byte[]");
 		}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.model.function;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+
+/**
+ * Accumulates the tool calls streamed by a model in linear time. Each tool call keeps a
+ * single mutable buffer for its arguments, the deltas are appended to it as they arrive
+ * and the immutable {@link ToolCall} records are only created by {@link #getToolCalls()},
+ * once the streamed window is complete.
+ * <p>
+ * A delta is attributed to a tool call as follows:
+ * <ul>
+ * <li>a delta with an id not seen before starts a new tool call,</li>
+ * <li>a delta with a known id continues the tool call with that id,</li>
+ * <li>a delta without an id continues the tool call with the same index, or the last tool
+ * call if the index is unknown or not provided.</li>
+ * </ul>
+ * <p>
+ * This class is not thread-safe, a new instance is expected per streamed window.
+ *
+ * @since 1.0.0
+ */
+public class StreamingToolCallAccumulator {
+
+	private final List<Entry> entries = new ArrayList<>();
+
+	private final Map<String, Entry> entriesById = new HashMap<>();
+
+	private final Map<Integer, Entry> entriesByIndex = new HashMap<>();
+
+	/**
+	 * Append a streamed tool call delta.
+	 * @param index the tool call index, if provided by the model
+	 * @param id the tool call id, usually only present on the first delta
+	 * @param type the tool call type
+	 * @param name the function name, usually only present on the first delta
+	 * @param argumentsDelta the next fragment of the JSON arguments
+	 */
+	public void append(@Nullable Integer index, @Nullable String id, @Nullable String type, @Nullable String name,
+			@Nullable String argumentsDelta) {
+		Entry entry = resolve(index, id);
+		if (id != null) {
+			entry.id = id;
+		}
+		if (type != null) {
+			entry.type = type;
+		}
+		if (StringUtils.hasLength(name)) {
+			entry.name = name;
+		}
+		if (argumentsDelta != null) {
+			entry.arguments.append(argumentsDelta);
+		}
+	}
+
+	private Entry resolve(@Nullable Integer index, @Nullable String id) {
+		Entry entry = null;
+		if (id != null) {
+			entry = this.entriesById.get(id);
+		}
+		else if (index != null) {
+			entry = this.entriesByIndex.get(index);
+		}
+		if (entry == null && id == null && !this.entries.isEmpty()) {
+			entry = this.entries.get(this.entries.size() - 1);
+		}
+		if (entry == null) {
+			entry = new Entry(index);
+			this.entries.add(entry);
+			if (index != null) {
+				this.entriesByIndex.put(index, entry);
+			}
+		}
+		if (id != null) {
+			this.entriesById.putIfAbsent(id, entry);
+		}
+		return entry;
+	}
+
+	/**
+	 * @return true if no tool call delta has been appended.
+	 */
+	public boolean isEmpty() {
+		return this.entries.isEmpty();
+	}
+
+	/**
+	 * @return the number of accumulated tool calls.
+	 */
+	public int size() {
+		return this.entries.size();
+	}
+
+	/**
+	 * Build the accumulated tool calls, in the order they were first streamed.
+	 * @return the accumulated tool calls
+	 */
+	public List<ToolCall> getToolCalls() {
+		List<ToolCall> toolCalls = new ArrayList<>(this.entries.size());
+		for (Entry entry : this.entries) {
+			toolCalls.add(new ToolCall(entry.index, entry.id, entry.type, entry.name, entry.arguments.toString()));
+		}
+		return toolCalls;
+	}
+
+	/**
+	 * Discard the accumulated tool calls.
+	 */
+	public void clear() {
+		this.entries.clear();
+		this.entriesById.clear();
+		this.entriesByIndex.clear();
+	}
+
+	/**
+	 * An accumulated tool call.
+	 *
+	 * @param index the tool call index, or null if not provided by the model
+	 * @param id the tool call id, or null if not provided by the model
+	 * @param type the tool call type
+	 * @param name the function name
+	 * @param arguments the complete JSON arguments
+	 */
+	public record ToolCall(@Nullable Integer index, @Nullable String id, @Nullable String type, @Nullable String name,
+			String arguments) {
+
+	}
+
+	private static final class Entry {
+
+		private final Integer index;
+
+		private String id;
+
+		private String type;
+
+		private String name;
+
+		private final StringBuilder arguments = new StringBuilder();
+
+		private Entry(Integer index) {
+			this.index = index;
+		}
+
+	}
+
+}
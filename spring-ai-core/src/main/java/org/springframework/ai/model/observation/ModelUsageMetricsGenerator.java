@@ -29,9 +29,15 @@ import org.springframework.ai.chat.metadata.Usage;
 import org.springframework.ai.observation.conventions.AiObservationMetricAttributes;
 import org.springframework.ai.observation.conventions.AiObservationMetricNames;
 import org.springframework.ai.observation.conventions.AiTokenType;
+import org.springframework.util.Assert;
 
 /**
  * Generate metrics about the model usage in the context of an AI operation.
+ * <p>
+ * An instance of the generator caches the counters registered for the low cardinality
+ * key values of the observations, see {@link ObservationMeterCache}, while the static
+ * {@link #generate(Usage, Observation.Context, MeterRegistry)} method builds and
+ * registers them for each call.
  *
  * @author Thomas Vitale
  * @since 1.0.0
@@ -40,7 +46,51 @@ public final class ModelUsageMetricsGenerator {
 
 	private static final String DESCRIPTION = "Measures number of input and output tokens used";
 
-	private ModelUsageMetricsGenerator() {
+	private final ObservationMeterCache<Counter> inputTokens;
+
+	private final ObservationMeterCache<Counter> outputTokens;
+
+	private final ObservationMeterCache<Counter> totalTokens;
+
+	/**
+	 * Create a generator caching the counters it registers on the given registry.
+	 * @param meterRegistry the meter registry
+	 */
+	public ModelUsageMetricsGenerator(MeterRegistry meterRegistry) {
+		this(meterRegistry, ObservationMeterCache.DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Create a generator caching the counters it registers on the given registry.
+	 * @param meterRegistry the meter registry
+	 * @param cacheCapacity the maximum number of low cardinality key value sets whose
+	 * counters are cached
+	 */
+	public ModelUsageMetricsGenerator(MeterRegistry meterRegistry, int cacheCapacity) {
+		Assert.notNull(meterRegistry, "meterRegistry cannot be null");
+		this.inputTokens = new ObservationMeterCache<>(cacheCapacity,
+				tags -> counter(AiTokenType.INPUT, tags, meterRegistry));
+		this.outputTokens = new ObservationMeterCache<>(cacheCapacity,
+				tags -> counter(AiTokenType.OUTPUT, tags, meterRegistry));
+		this.totalTokens = new ObservationMeterCache<>(cacheCapacity,
+				tags -> counter(AiTokenType.TOTAL, tags, meterRegistry));
+	}
+
+	/**
+	 * Increment the token usage counters of the given observation context.
+	 * @param usage the model usage
+	 * @param context the observation context
+	 */
+	public void generate(Usage usage, Observation.Context context) {
+		if (usage.getPromptTokens() != null) {
+			this.inputTokens.get(context).increment(usage.getPromptTokens());
+		}
+		if (usage.getGenerationTokens() != null) {
+			this.outputTokens.get(context).increment(usage.getGenerationTokens());
+		}
+		if (usage.getTotalTokens() != null) {
+			this.totalTokens.get(context).increment(usage.getTotalTokens());
+		}
 	}
 
 	public static void generate(Usage usage, Observation.Context context, MeterRegistry meterRegistry) {
@@ -74,6 +124,14 @@ public final class ModelUsageMetricsGenerator {
 
 	}
 
+	private static Counter counter(AiTokenType tokenType, List<Tag> tags, MeterRegistry meterRegistry) {
+		return Counter.builder(AiObservationMetricNames.TOKEN_USAGE.value())
+			.tag(AiObservationMetricAttributes.TOKEN_TYPE.value(), tokenType.value())
+			.description(DESCRIPTION)
+			.tags(tags)
+			.register(meterRegistry);
+	}
+
 	private static List<Tag> createTags(Observation.Context context) {
 		List<Tag> tags = new ArrayList<>();
 		for (KeyValue keyValue : context.getLowCardinalityKeyValues()) {
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.model.observation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.observation.Observation;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
+
+/**
+ * Cache of the meters registered for the low cardinality key values of an observation.
+ * The meters are looked up by the key values of the observation context instead of being
+ * built and registered again for each observation.
+ * <p>
+ * The cache holds up to the given number of key value sets, evicting the least recently
+ * used one when full. An evicted meter stays registered in its registry, and is resolved
+ * again the next time its key values are observed.
+ *
+ * @param <M> the type of the meters
+ * @since 1.0.0
+ */
+public final class ObservationMeterCache<M extends Meter> {
+
+	/**
+	 * The default number of key value sets held in the cache.
+	 */
+	public static final int DEFAULT_CAPACITY = 256;
+
+	private final ConcurrentLruCache<KeyValues, M> cache;
+
+	/**
+	 * Create a cache holding up to {@link #DEFAULT_CAPACITY} key value sets.
+	 * @param meterFactory the function registering the meter for the given tags
+	 */
+	public ObservationMeterCache(Function<List<Tag>, M> meterFactory) {
+		this(DEFAULT_CAPACITY, meterFactory);
+	}
+
+	/**
+	 * Create a cache holding up to the given number of key value sets.
+	 * @param capacity the maximum number of key value sets held in the cache
+	 * @param meterFactory the function registering the meter for the given tags
+	 */
+	public ObservationMeterCache(int capacity, Function<List<Tag>, M> meterFactory) {
+		Assert.isTrue(capacity > 0, "capacity must be greater than 0");
+		Assert.notNull(meterFactory, "meterFactory cannot be null");
+		this.cache = new ConcurrentLruCache<>(capacity, keyValues -> meterFactory.apply(createTags(keyValues)));
+	}
+
+	/**
+	 * Get the meter for the low cardinality key values of the given observation context,
+	 * registering it on the first use of the key values.
+	 * @param context the observation context
+	 * @return the meter
+	 */
+	public M get(Observation.Context context) {
+		return this.cache.get(context.getLowCardinalityKeyValues());
+	}
+
+	/**
+	 * {@return the number of key value sets held in the cache}
+	 */
+	public int size() {
+		return this.cache.size();
+	}
+
+	private static List<Tag> createTags(KeyValues keyValues) {
+		List<Tag> tags = new ArrayList<>();
+		for (KeyValue keyValue : keyValues) {
+			tags.add(Tag.of(keyValue.getKey(), keyValue.getValue()));
+		}
+		return tags;
+	}
+
+}
@@ -0,0 +1,346 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.model.sse;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.PooledDataBuffer;
+import org.springframework.util.Assert;
+
+/**
+ * Decodes a stream of server-sent events whose data are JSON documents, straight from the
+ * response {@link DataBuffer}s. The events are tokenized at the byte level and the bytes
+ * of the {@code data} fields are fed as they arrive to a Jackson non-blocking parser,
+ * without decoding the events into intermediate Strings.
+ * <p>
+ * The stream completes when an event with the {@code [DONE]} sentinel as data is
+ * received. The {@code data} lines of an event are joined with a line feed, as in the
+ * specification, and event fields other than {@code data} are ignored.
+ *
+ * @param <T> the type of the decoded events
+ * @since 1.0.0
+ */
+public class ServerSentEventJsonDecoder<T> {
+
+	private static final byte[] DATA_FIELD = "data".getBytes(StandardCharsets.US_ASCII);
+
+	private static final byte[] DONE_SENTINEL = "[DONE]".getBytes(StandardCharsets.US_ASCII);
+
+	private static final byte[] LINE_FEED = { '\n' };
+
+	private final ObjectMapper objectMapper;
+
+	private final JavaType type;
+
+	/**
+	 * Create a decoder for the given event type.
+	 * @param objectMapper the object mapper used to deserialize the event data
+	 * @param type the type of the decoded events
+	 */
+	public ServerSentEventJsonDecoder(ObjectMapper objectMapper, Class<T> type) {
+		Assert.notNull(objectMapper, "objectMapper cannot be null");
+		Assert.notNull(type, "type cannot be null");
+		this.objectMapper = objectMapper;
+		this.type = objectMapper.constructType(type);
+	}
+
+	/**
+	 * Decode the given response body into the events it contains. The data buffers are
+	 * released once decoded.
+	 * @param body the response body
+	 * @return the decoded events
+	 */
+	public Flux<T> decode(Flux<DataBuffer> body) {
+		return Flux.defer(() -> {
+			Tokenizer tokenizer = new Tokenizer();
+			return body.map(tokenizer::decode)
+				// cancels the response body after the "[DONE]" sentinel is received.
+				.takeUntil(events -> tokenizer.isDone())
+				.concatWith(Mono.fromCallable(tokenizer::complete))
+				.concatMapIterable(events -> events)
+				.doOnDiscard(PooledDataBuffer.class, DataBufferUtils::release);
+		});
+	}
+
+	private enum State {
+
+		/**
+		 * Reading the field name at the beginning of a line.
+		 */
+		FIELD,
+
+		/**
+		 * Right after the colon of a data field, an optional space may follow.
+		 */
+		DATA_START,
+
+		/**
+		 * Reading a data value that may still be the sentinel.
+		 */
+		DATA_PREFIX,
+
+		/**
+		 * Reading a data value that is fed to the parser.
+		 */
+		DATA,
+
+		/**
+		 * Skipping a comment or a field other than data.
+		 */
+		SKIP
+
+	}
+
+	/**
+	 * Per subscription state, the data buffers of a response are decoded in sequence.
+	 */
+	private final class Tokenizer {
+
+		private final JsonParser parser;
+
+		private final ByteBufferFeeder feeder;
+
+		private State state = State.FIELD;
+
+		private int lineLength;
+
+		private boolean dataField = true;
+
+		private int sentinelLength;
+
+		private boolean carriageReturn;
+
+		private boolean eventData;
+
+		private boolean done;
+
+		private int depth;
+
+		private TokenBuffer tokenBuffer;
+
+		Tokenizer() {
+			try {
+				this.parser = ServerSentEventJsonDecoder.this.objectMapper.getFactory()
+					.createNonBlockingByteBufferParser();
+			}
+			catch (IOException ex) {
+				throw new IllegalStateException("Failed to create the non-blocking JSON parser", ex);
+			}
+			this.feeder = (ByteBufferFeeder) this.parser.getNonBlockingInputFeeder();
+		}
+
+		boolean isDone() {
+			return this.done;
+		}
+
+		List<T> decode(DataBuffer dataBuffer) {
+			List<T> events = new ArrayList<>(1);
+			try (DataBuffer.ByteBufferIterator iterator = dataBuffer.readableByteBuffers()) {
+				while (iterator.hasNext() && !this.done) {
+					decode(iterator.next(), events);
+				}
+			}
+			catch (IOException ex) {
+				throw new DecodingException("Failed to decode the server-sent event data", ex);
+			}
+			finally {
+				DataBufferUtils.release(dataBuffer);
+			}
+			return events;
+		}
+
+		private void decode(ByteBuffer buffer, List<T> events) throws IOException {
+			int limit = buffer.limit();
+			int segmentStart = buffer.position();
+			for (int i = buffer.position(); i < limit; i++) {
+				byte b = buffer.get(i);
+				if (this.carriageReturn) {
+					this.carriageReturn = false;
+					if (b == '\n') {
+						segmentStart = i + 1;
+						continue;
+					}
+				}
+				if (b == '\r' || b == '\n') {
+					this.carriageReturn = (b == '\r');
+					if (this.state == State.DATA) {
+						feed(buffer, segmentStart, i, events);
+					}
+					else if (this.state == State.DATA_PREFIX) {
+						if (this.sentinelLength == DONE_SENTINEL.length) {
+							this.done = true;
+							return;
+						}
+						flushSentinelPrefix(events);
+					}
+					else if (this.state == State.DATA_START) {
+						startDataValue(events);
+					}
+					else if (this.state == State.FIELD && this.lineLength == 0) {
+						endOfEvent();
+					}
+					this.state = State.FIELD;
+					this.lineLength = 0;
+					this.dataField = true;
+					segmentStart = i + 1;
+					continue;
+				}
+				switch (this.state) {
+					case FIELD -> {
+						if (b == ':') {
+							boolean data = this.dataField && this.lineLength == DATA_FIELD.length;
+							this.state = data ? State.DATA_START : State.SKIP;
+							this.sentinelLength = 0;
+						}
+						else {
+							this.dataField = this.dataField && this.lineLength < DATA_FIELD.length
+									&& DATA_FIELD[this.lineLength] == b;
+							this.lineLength++;
+						}
+					}
+					case DATA_START -> {
+						if (startDataValue(events)) {
+							// Only the first data line of an event may be the sentinel.
+							this.state = State.DATA;
+							segmentStart = (b != ' ') ? i : i + 1;
+						}
+						else {
+							this.state = State.DATA_PREFIX;
+							if (b != ' ') {
+								segmentStart = dataPrefix(b, i, segmentStart, events);
+							}
+						}
+					}
+					case DATA_PREFIX -> segmentStart = dataPrefix(b, i, segmentStart, events);
+					default -> {
+						// DATA bytes are fed by segment, SKIP bytes are ignored.
+					}
+				}
+			}
+			if (this.state == State.DATA) {
+				feed(buffer, segmentStart, limit, events);
+			}
+		}
+
+		/**
+		 * Start the value of a data field, feeding the line feed that joins it to the
+		 * previous data line of the event.
+		 * @return whether the event had a previous data line
+		 */
+		private boolean startDataValue(List<T> events) throws IOException {
+			if (!this.eventData) {
+				this.eventData = true;
+				return false;
+			}
+			feed(ByteBuffer.wrap(LINE_FEED), events);
+			return true;
+		}
+
+		private int dataPrefix(byte b, int index, int segmentStart, List<T> events) throws IOException {
+			if (this.sentinelLength < DONE_SENTINEL.length && DONE_SENTINEL[this.sentinelLength] == b) {
+				this.sentinelLength++;
+				return segmentStart;
+			}
+			flushSentinelPrefix(events);
+			this.state = State.DATA;
+			return index;
+		}
+
+		private void flushSentinelPrefix(List<T> events) throws IOException {
+			if (this.sentinelLength > 0) {
+				// The bytes read so far matched the sentinel and are fed from it.
+				feed(ByteBuffer.wrap(DONE_SENTINEL, 0, this.sentinelLength), events);
+				this.sentinelLength = 0;
+			}
+		}
+
+		private void feed(ByteBuffer buffer, int start, int end, List<T> events) throws IOException {
+			if (start < end) {
+				feed(buffer.slice(start, end - start), events);
+			}
+		}
+
+		private void feed(ByteBuffer segment, List<T> events) throws IOException {
+			this.feeder.feedInput(segment);
+			drain(events);
+		}
+
+		private void drain(List<T> events) throws IOException {
+			JsonToken token;
+			while ((token = this.parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+				if (this.tokenBuffer == null) {
+					this.tokenBuffer = new TokenBuffer(this.parser);
+				}
+				this.tokenBuffer.copyCurrentEvent(this.parser);
+				if (token.isStructStart()) {
+					this.depth++;
+				}
+				else if (token.isStructEnd()) {
+					this.depth--;
+				}
+				if (this.depth == 0) {
+					ObjectMapper objectMapper = ServerSentEventJsonDecoder.this.objectMapper;
+					events.add(objectMapper.readValue(this.tokenBuffer.asParser(objectMapper),
+							ServerSentEventJsonDecoder.this.type));
+					this.tokenBuffer = null;
+				}
+			}
+		}
+
+		private void endOfEvent() {
+			this.eventData = false;
+			if (this.tokenBuffer != null) {
+				throw new DecodingException("Incomplete JSON data in server-sent event");
+			}
+		}
+
+		List<T> complete() throws IOException {
+			List<T> events = new ArrayList<>(1);
+			if (this.done) {
+				return events;
+			}
+			if (this.state == State.DATA_PREFIX) {
+				if (this.sentinelLength == DONE_SENTINEL.length) {
+					return events;
+				}
+				flushSentinelPrefix(events);
+			}
+			this.feeder.endOfInput();
+			drain(events);
+			endOfEvent();
+			return events;
+		}
+
+	}
+
+}
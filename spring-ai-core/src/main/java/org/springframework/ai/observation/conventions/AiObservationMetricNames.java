@@ -36,7 +36,23 @@ public enum AiObservationMetricNames {
 	/**
 	 * The number of AI operations.
 	 */
-	TOKEN_USAGE("gen_ai.client.token.usage");
+	TOKEN_USAGE("gen_ai.client.token.usage"),
+	/**
+	 * The time to the first chunk of a streamed response.
+	 */
+	TIME_TO_FIRST_TOKEN("gen_ai.client.time_to_first_token"),
+	/**
+	 * The latency between consecutive chunks of a streamed response.
+	 */
+	TIME_PER_OUTPUT_CHUNK("gen_ai.client.time_per_output_chunk"),
+	/**
+	 * The number of output tokens per second of a streamed response.
+	 */
+	OUTPUT_TOKEN_RATE("gen_ai.client.output_token.rate"),
+	/**
+	 * The number of streamed responses cancelled before they completed.
+	 */
+	STREAM_CANCELLATIONS("gen_ai.client.stream.cancellations");
 
 	private final String value;
 
@@ -17,12 +17,20 @@
 package org.springframework.ai.reader;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -89,6 +97,43 @@ public class JsonReader implements DocumentReader {
 		}
 	}
 
+	/**
+	 * Read the documents with the Jackson streaming API: the elements of a top level
+	 * array are parsed one at a time, as the stream is consumed, rather than the whole
+	 * resource being read in a tree upfront.
+	 * @return the stream of documents, to be closed once consumed
+	 */
+	@Override
+	public Stream<Document> stream() {
+		JsonParser parser;
+		JsonToken rootToken;
+		try {
+			parser = this.objectMapper.createParser(this.resource.getInputStream());
+			rootToken = parser.nextToken();
+			if (rootToken != JsonToken.START_ARRAY) {
+				try (parser) {
+					return (rootToken != null)
+							? Stream.of(parseJsonNode(this.objectMapper.readTree(parser), this.objectMapper))
+							: Stream.empty();
+				}
+			}
+		}
+		catch (IOException e) {
+			throw new RuntimeException("Error reading JSON resource", e);
+		}
+		Iterator<Document> documents = new JsonArrayIterator(parser);
+		return StreamSupport
+			.stream(Spliterators.spliteratorUnknownSize(documents, Spliterator.ORDERED | Spliterator.NONNULL), false)
+			.onClose(() -> {
+				try {
+					parser.close();
+				}
+				catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+	}
+
 	private Document parseJsonNode(JsonNode jsonNode, ObjectMapper objectMapper) {
 		Map<String, Object> item = objectMapper.convertValue(jsonNode, new TypeReference<Map<String, Object>>() {
 
@@ -137,4 +182,48 @@ public class JsonReader implements DocumentReader {
 		}
 	}
 
+	/**
+	 * Iterates over the elements of a top level JSON array, the parser being positioned
+	 * on the start of the array.
+	 */
+	private final class JsonArrayIterator implements Iterator<Document> {
+
+		private final JsonParser parser;
+
+		private JsonToken nextToken;
+
+		JsonArrayIterator(JsonParser parser) {
+			this.parser = parser;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (this.nextToken == null) {
+				try {
+					this.nextToken = this.parser.nextToken();
+				}
+				catch (IOException e) {
+					throw new RuntimeException("Error reading JSON resource", e);
+				}
+			}
+			return this.nextToken != null && this.nextToken != JsonToken.END_ARRAY;
+		}
+
+		@Override
+		public Document next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			try {
+				JsonNode jsonNode = JsonReader.this.objectMapper.readTree(this.parser);
+				this.nextToken = null;
+				return parseJsonNode(jsonNode, JsonReader.this.objectMapper);
+			}
+			catch (IOException e) {
+				throw new RuntimeException("Error reading JSON resource", e);
+			}
+		}
+
+	}
+
 }
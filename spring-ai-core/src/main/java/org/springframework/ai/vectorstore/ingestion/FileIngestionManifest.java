@@ -0,0 +1,177 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore.ingestion;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link IngestionManifest} persisted in a local file.
+ * <p>
+ * The manifest is held in memory and every change is appended to the file as one JSON
+ * line, so that the cost of a change is proportional to the documents of the changed
+ * source rather than to the whole manifest. The file is replayed when the manifest is
+ * created, and compacted to one line per source once the superseded lines outnumber the
+ * live ones.
+ *
+ * @since 1.0.0
+ */
+public class FileIngestionManifest implements IngestionManifest {
+
+	private static final Logger logger = LoggerFactory.getLogger(FileIngestionManifest.class);
+
+	private static final int MIN_COMPACTION_LINES = 1024;
+
+	private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+	private final Path file;
+
+	private final Map<String, Map<String, String>> sources = new HashMap<>();
+
+	private int lines;
+
+	/**
+	 * Create a manifest persisted in the given file, loading its content if the file
+	 * exists.
+	 * @param file the manifest file
+	 */
+	public FileIngestionManifest(Path file) {
+		Assert.notNull(file, "file cannot be null");
+		this.file = file;
+		load();
+	}
+
+	@Override
+	public synchronized Map<String, String> get(String source) {
+		Assert.notNull(source, "source cannot be null");
+		return this.sources.getOrDefault(source, Map.of());
+	}
+
+	@Override
+	public synchronized void put(String source, Map<String, String> documentIds) {
+		Assert.notNull(source, "source cannot be null");
+		Assert.notNull(documentIds, "documentIds cannot be null");
+		Map<String, String> copy = Map.copyOf(documentIds);
+		append(new Entry(source, copy));
+		this.sources.put(source, copy);
+	}
+
+	@Override
+	public synchronized void remove(String source) {
+		Assert.notNull(source, "source cannot be null");
+		if (this.sources.containsKey(source)) {
+			append(new Entry(source, null));
+			this.sources.remove(source);
+		}
+	}
+
+	@Override
+	public synchronized Set<String> sources() {
+		return Set.copyOf(this.sources.keySet());
+	}
+
+	private void load() {
+		if (!Files.exists(this.file)) {
+			return;
+		}
+		try (BufferedReader reader = Files.newBufferedReader(this.file, StandardCharsets.UTF_8)) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.isBlank()) {
+					continue;
+				}
+				Entry entry = this.objectMapper.readValue(line, Entry.class);
+				if (entry.documentIds() != null) {
+					this.sources.put(entry.source(), Map.copyOf(entry.documentIds()));
+				}
+				else {
+					this.sources.remove(entry.source());
+				}
+				this.lines++;
+			}
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to load the ingestion manifest " + this.file, ex);
+		}
+		compactIfNeeded();
+	}
+
+	private void append(Entry entry) {
+		try {
+			byte[] line = (this.objectMapper.writeValueAsString(entry) + "\n").getBytes(StandardCharsets.UTF_8);
+			Files.write(this.file, line, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+			this.lines++;
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to update the ingestion manifest " + this.file, ex);
+		}
+		compactIfNeeded();
+	}
+
+	private void compactIfNeeded() {
+		if (this.lines < MIN_COMPACTION_LINES || this.lines <= 2 * this.sources.size()) {
+			return;
+		}
+		Path compacted = this.file.resolveSibling(this.file.getFileName() + ".tmp");
+		try {
+			try (BufferedWriter writer = Files.newBufferedWriter(compacted, StandardCharsets.UTF_8)) {
+				for (Map.Entry<String, Map<String, String>> source : this.sources.entrySet()) {
+					writer.write(this.objectMapper.writeValueAsString(new Entry(source.getKey(), source.getValue())));
+					writer.newLine();
+				}
+			}
+			Files.move(compacted, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			logger.debug("Compacted the ingestion manifest {} from {} to {} lines", this.file, this.lines,
+					this.sources.size());
+			this.lines = this.sources.size();
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to compact the ingestion manifest " + this.file, ex);
+		}
+	}
+
+	/**
+	 * A manifest file line, the documents of a source or, without documents, the removal
+	 * of a source.
+	 */
+	@JsonInclude(Include.NON_NULL)
+	record Entry(@JsonProperty("s") String source, @JsonProperty("d") @Nullable Map<String, String> documentIds) {
+
+	}
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore.ingestion;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link IngestionManifest} kept in memory, for the lifetime of the application.
+ *
+ * @since 1.0.0
+ */
+public class InMemoryIngestionManifest implements IngestionManifest {
+
+	private final Map<String, Map<String, String>> sources = new ConcurrentHashMap<>();
+
+	@Override
+	public Map<String, String> get(String source) {
+		Assert.notNull(source, "source cannot be null");
+		return this.sources.getOrDefault(source, Map.of());
+	}
+
+	@Override
+	public void put(String source, Map<String, String> documentIds) {
+		Assert.notNull(source, "source cannot be null");
+		Assert.notNull(documentIds, "documentIds cannot be null");
+		this.sources.put(source, Map.copyOf(documentIds));
+	}
+
+	@Override
+	public void remove(String source) {
+		Assert.notNull(source, "source cannot be null");
+		this.sources.remove(source);
+	}
+
+	@Override
+	public Set<String> sources() {
+		return Set.copyOf(this.sources.keySet());
+	}
+
+}
@@ -0,0 +1,286 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore.ingestion;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.document.DocumentWriter;
+import org.springframework.ai.model.Media;
+import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.util.Assert;
+
+/**
+ * {@link DocumentWriter} that re-ingests sources incrementally into a
+ * {@link VectorStore}. It sits at the end of an ETL pipeline, after the
+ * {@link org.springframework.ai.document.DocumentTransformer}s, in place of the vector
+ * store itself.
+ * <p>
+ * The documents are grouped by source, read from the {@code source} metadata by default,
+ * and compared by content hash with the documents written for the same source by previous
+ * ingestions, as recorded in an {@link IngestionManifest}:
+ * <ul>
+ * <li>documents with an unchanged content hash are skipped, neither embedded nor
+ * written;</li>
+ * <li>new and changed documents are added to the vector store;</li>
+ * <li>documents that are no longer part of the source are deleted from the vector
+ * store.</li>
+ * </ul>
+ * Each write is expected to contain all the documents of the sources it contains. Sources
+ * not part of a write are left untouched, use {@link #deleteSource(String)} to delete a
+ * source altogether. Documents without a source are always added. The manifest is updated
+ * once the vector store was updated, so that a failed write is attempted again by the
+ * next ingestion.
+ *
+ * @since 1.0.0
+ */
+public class IncrementalDocumentWriter implements DocumentWriter {
+
+	/**
+	 * Default metadata key identifying the source of a document.
+	 */
+	public static final String DEFAULT_SOURCE_METADATA_KEY = "source";
+
+	private static final Logger logger = LoggerFactory.getLogger(IncrementalDocumentWriter.class);
+
+	private final VectorStore vectorStore;
+
+	private final IngestionManifest manifest;
+
+	private final String sourceMetadataKey;
+
+	private final Function<Document, String> contentHasher;
+
+	protected IncrementalDocumentWriter(Builder builder) {
+		this.vectorStore = builder.vectorStore;
+		this.manifest = builder.manifest;
+		this.sourceMetadataKey = builder.sourceMetadataKey;
+		this.contentHasher = builder.contentHasher;
+	}
+
+	public static Builder builder(VectorStore vectorStore) {
+		return new Builder(vectorStore);
+	}
+
+	@Override
+	public void accept(List<Document> documents) {
+		ingest(documents);
+	}
+
+	/**
+	 * Write the changes of the given documents to the vector store.
+	 * @param documents all the documents of the sources to ingest
+	 * @return the number of added, unchanged and deleted documents
+	 */
+	public Result ingest(List<Document> documents) {
+		Assert.notNull(documents, "documents cannot be null");
+
+		Map<String, List<Document>> documentsBySource = new LinkedHashMap<>();
+		List<Document> added = new ArrayList<>();
+		for (Document document : documents) {
+			Object source = document.getMetadata().get(this.sourceMetadataKey);
+			if (source != null) {
+				documentsBySource.computeIfAbsent(source.toString(), key -> new ArrayList<>()).add(document);
+			}
+			else {
+				added.add(document);
+			}
+		}
+
+		Map<String, Map<String, String>> updatedSources = new LinkedHashMap<>();
+		List<String> deletedIds = new ArrayList<>();
+		int unchanged = 0;
+		for (Map.Entry<String, List<Document>> source : documentsBySource.entrySet()) {
+			Map<String, String> previousIds = this.manifest.get(source.getKey());
+			Map<String, String> currentIds = new LinkedHashMap<>();
+			for (Document document : source.getValue()) {
+				String hash = this.contentHasher.apply(document);
+				if (currentIds.containsKey(hash)) {
+					// Duplicated content within the source, written once.
+					continue;
+				}
+				String previousId = previousIds.get(hash);
+				if (previousId != null) {
+					currentIds.put(hash, previousId);
+					unchanged++;
+				}
+				else {
+					currentIds.put(hash, document.getId());
+					added.add(document);
+				}
+			}
+			for (Map.Entry<String, String> previous : previousIds.entrySet()) {
+				if (!currentIds.containsKey(previous.getKey())) {
+					deletedIds.add(previous.getValue());
+				}
+			}
+			updatedSources.put(source.getKey(), currentIds);
+		}
+
+		if (!added.isEmpty()) {
+			this.vectorStore.add(added);
+			// Documents rewritten with the id of a removed document replaced it.
+			Set<String> addedIds = new HashSet<>();
+			added.forEach(document -> addedIds.add(document.getId()));
+			deletedIds.removeIf(addedIds::contains);
+		}
+		if (!deletedIds.isEmpty()) {
+			this.vectorStore.delete(deletedIds);
+		}
+		updatedSources.forEach(this.manifest::put);
+
+		logger.debug("Ingested {} sources: {} documents added, {} unchanged, {} deleted", updatedSources.size(),
+				added.size(), unchanged, deletedIds.size());
+		return new Result(added.size(), unchanged, deletedIds.size());
+	}
+
+	/**
+	 * Delete all the documents written for the given source.
+	 * @param source the source to delete
+	 * @return the number of deleted documents
+	 */
+	public int deleteSource(String source) {
+		Assert.notNull(source, "source cannot be null");
+		List<String> ids = List.copyOf(this.manifest.get(source).values());
+		if (!ids.isEmpty()) {
+			this.vectorStore.delete(ids);
+		}
+		this.manifest.remove(source);
+		return ids.size();
+	}
+
+	/**
+	 * Default content hash of a document: the SHA-256 of its text or media and of its
+	 * metadata, base64url encoded.
+	 * @param document the document to hash
+	 * @return the content hash
+	 */
+	public static String contentHash(Document document) {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException(ex);
+		}
+		if (document.isText()) {
+			update(digest, document.getText());
+		}
+		else {
+			Media media = document.getMedia();
+			update(digest, media.getMimeType().toString());
+			if (media.getData() instanceof byte[] bytes) {
+				digest.update(bytes);
+			}
+			else {
+				update(digest, String.valueOf(media.getData()));
+			}
+		}
+		for (Map.Entry<String, Object> entry : new TreeMap<>(document.getMetadata()).entrySet()) {
+			update(digest, entry.getKey());
+			update(digest, String.valueOf(entry.getValue()));
+		}
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest());
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		digest.update(value.getBytes(StandardCharsets.UTF_8));
+		// Separator, so that adjacent values cannot be shifted into each other.
+		digest.update((byte) 0);
+	}
+
+	/**
+	 * The outcome of an ingestion.
+	 *
+	 * @param added the number of new or changed documents added to the vector store
+	 * @param unchanged the number of unchanged documents skipped
+	 * @param deleted the number of documents deleted from the vector store
+	 */
+	public record Result(int added, int unchanged, int deleted) {
+
+	}
+
+	public static class Builder {
+
+		private final VectorStore vectorStore;
+
+		private IngestionManifest manifest = new InMemoryIngestionManifest();
+
+		private String sourceMetadataKey = DEFAULT_SOURCE_METADATA_KEY;
+
+		private Function<Document, String> contentHasher = IncrementalDocumentWriter::contentHash;
+
+		protected Builder(VectorStore vectorStore) {
+			Assert.notNull(vectorStore, "vectorStore cannot be null");
+			this.vectorStore = vectorStore;
+		}
+
+		/**
+		 * Manifest of the written documents, kept in memory by default.
+		 * @param manifest the manifest to use
+		 * @return this builder
+		 */
+		public Builder manifest(IngestionManifest manifest) {
+			Assert.notNull(manifest, "manifest cannot be null");
+			this.manifest = manifest;
+			return this;
+		}
+
+		/**
+		 * Metadata key identifying the source of a document, {@code source} by default.
+		 * @param sourceMetadataKey the source metadata key
+		 * @return this builder
+		 */
+		public Builder sourceMetadataKey(String sourceMetadataKey) {
+			Assert.hasText(sourceMetadataKey, "sourceMetadataKey cannot be null or empty");
+			this.sourceMetadataKey = sourceMetadataKey;
+			return this;
+		}
+
+		/**
+		 * Function computing the content hash of a document, for instance to ignore
+		 * volatile metadata. Defaults to {@link IncrementalDocumentWriter#contentHash}.
+		 * @param contentHasher the content hash function
+		 * @return this builder
+		 */
+		public Builder contentHasher(Function<Document, String> contentHasher) {
+			Assert.notNull(contentHasher, "contentHasher cannot be null");
+			this.contentHasher = contentHasher;
+			return this;
+		}
+
+		public IncrementalDocumentWriter build() {
+			return new IncrementalDocumentWriter(this);
+		}
+
+	}
+
+}
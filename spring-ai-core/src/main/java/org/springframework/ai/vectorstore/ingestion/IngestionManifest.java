@@ -0,0 +1,59 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore.ingestion;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Records, per source, the content hashes of the documents written to a vector store and
+ * the ids they were written with. Used by the {@link IncrementalDocumentWriter} to only
+ * write the documents that changed since the previous ingestion of a source.
+ *
+ * @since 1.0.0
+ * @see InMemoryIngestionManifest
+ * @see FileIngestionManifest
+ */
+public interface IngestionManifest {
+
+	/**
+	 * Return the documents written for the given source.
+	 * @param source the source the documents were read from
+	 * @return the document ids by content hash, empty if the source is unknown
+	 */
+	Map<String, String> get(String source);
+
+	/**
+	 * Replace the documents written for the given source.
+	 * @param source the source the documents were read from
+	 * @param documentIds the document ids by content hash
+	 */
+	void put(String source, Map<String, String> documentIds);
+
+	/**
+	 * Forget the documents written for the given source.
+	 * @param source the source the documents were read from
+	 */
+	void remove(String source);
+
+	/**
+	 * Return the sources with written documents.
+	 * @return the known sources
+	 */
+	Set<String> sources();
+
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.chat.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.observation.ObservationRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import org.springframework.ai.chat.client.advisor.AroundAdvisorPipeline;
+import org.springframework.ai.chat.client.advisor.DefaultAroundAdvisorChain;
+import org.springframework.ai.chat.client.advisor.api.AdvisedRequest;
+import org.springframework.ai.chat.client.advisor.api.AdvisedResponse;
+import org.springframework.ai.chat.client.advisor.api.Advisor;
+import org.springframework.ai.chat.client.advisor.api.CallAroundAdvisor;
+import org.springframework.ai.chat.client.advisor.api.CallAroundAdvisorChain;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+
+/**
+ * JMH benchmark of the per-request overhead of the {@link ChatClient} advisors, with a
+ * chat model answering immediately:
+ * <ul>
+ * <li>{@code chatClientCall}: a whole {@link ChatClient} call, with the advisors
+ * compiled once when the client is built.</li>
+ * <li>{@code compiledPipeline}: running the advisors through a cursor over the
+ * precompiled {@link AroundAdvisorPipeline}.</li>
+ * <li>{@code perRequestChainAssembly}: running the advisors through a chain sorted again
+ * for each request, as the client used to do.</li>
+ * </ul>
+ *
+ * <p>
+ * Run from the IDE or with the test classpath: {@code java -cp ...
+ * org.springframework.ai.chat.client.AdvisorChainBenchmark -prof gc}.
+ * </p>
+ *
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AdvisorChainBenchmark {
+
+	/**
+	 * Number of pass-through advisors, in addition to the model call advisor.
+	 */
+	@Param({ "0", "3", "8" })
+	public int advisorCount;
+
+	private ChatClient chatClient;
+
+	private List<Advisor> advisors;
+
+	private AroundAdvisorPipeline pipeline;
+
+	private AdvisedRequest advisedRequest;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		ChatResponse chatResponse = new ChatResponse(List.of(new Generation(new AssistantMessage("Hello"))));
+		ChatModel chatModel = prompt -> chatResponse;
+
+		List<Advisor> passThroughAdvisors = new ArrayList<>();
+		for (int i = 0; i < this.advisorCount; i++) {
+			passThroughAdvisors.add(new PassThroughAdvisor("advisor-" + i, i));
+		}
+
+		this.chatClient = ChatClient.builder(chatModel).defaultAdvisors(passThroughAdvisors).build();
+
+		this.advisors = new ArrayList<>(passThroughAdvisors);
+		this.advisors.add(new ModelCallAdvisor(chatResponse));
+		this.pipeline = AroundAdvisorPipeline.compile(ObservationRegistry.NOOP, this.advisors);
+		this.advisedRequest = AdvisedRequest.builder().chatModel(chatModel).userText("Hi").build();
+	}
+
+	@Benchmark
+	public ChatResponse chatClientCall() {
+		return this.chatClient.prompt().user("Hi").call().chatResponse();
+	}
+
+	@Benchmark
+	public AdvisedResponse compiledPipeline() {
+		return this.pipeline.newChain().nextAroundCall(this.advisedRequest);
+	}
+
+	@Benchmark
+	public AdvisedResponse perRequestChainAssembly() {
+		return DefaultAroundAdvisorChain.builder(ObservationRegistry.NOOP)
+			.pushAll(this.advisors)
+			.build()
+			.nextAroundCall(this.advisedRequest);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(AdvisorChainBenchmark.class.getSimpleName())
+			.addProfiler("gc")
+			.build()).run();
+	}
+
+	private record PassThroughAdvisor(String name, int order) implements CallAroundAdvisor {
+
+		@Override
+		public String getName() {
+			return this.name;
+		}
+
+		@Override
+		public int getOrder() {
+			return this.order;
+		}
+
+		@Override
+		public AdvisedResponse aroundCall(AdvisedRequest advisedRequest, CallAroundAdvisorChain chain) {
+			return chain.nextAroundCall(advisedRequest);
+		}
+
+	}
+
+	private record ModelCallAdvisor(ChatResponse chatResponse) implements CallAroundAdvisor {
+
+		@Override
+		public String getName() {
+			return "model-call";
+		}
+
+		@Override
+		public int getOrder() {
+			return LOWEST_PRECEDENCE;
+		}
+
+		@Override
+		public AdvisedResponse aroundCall(AdvisedRequest advisedRequest, CallAroundAdvisorChain chain) {
+			return new AdvisedResponse(this.chatResponse, Map.of());
+		}
+
+	}
+
+}
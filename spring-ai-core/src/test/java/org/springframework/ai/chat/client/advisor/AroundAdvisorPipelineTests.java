@@ -0,0 +1,240 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.chat.client.advisor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.ai.chat.client.advisor.api.AdvisedRequest;
+import org.springframework.ai.chat.client.advisor.api.AdvisedResponse;
+import org.springframework.ai.chat.client.advisor.api.Advisor;
+import org.springframework.ai.chat.client.advisor.api.CallAroundAdvisor;
+import org.springframework.ai.chat.client.advisor.api.CallAroundAdvisorChain;
+import org.springframework.ai.chat.client.advisor.api.StreamAroundAdvisor;
+import org.springframework.ai.chat.client.advisor.api.StreamAroundAdvisorChain;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for {@link AroundAdvisorPipeline}.
+ *
+ * @since 1.0.0
+ */
+class AroundAdvisorPipelineTests {
+
+	private final Scheduler modelScheduler = Schedulers.newSingle("model-thread", true);
+
+	@AfterEach
+	void disposeModelScheduler() {
+		this.modelScheduler.dispose();
+	}
+
+	@Test
+	void advisorsAreSortedByOrderThenByReverseInsertionOrder() {
+		var first = new RecordingAdvisor("first", 1, new ArrayList<>());
+		var second = new RecordingAdvisor("second", 0, new ArrayList<>());
+		var third = new RecordingAdvisor("third", 1, new ArrayList<>());
+
+		var pipeline = AroundAdvisorPipeline.compile(ObservationRegistry.NOOP, List.of(first, second, third));
+
+		assertThat(pipeline.getCallAroundAdvisors()).containsExactly(second, third, first);
+		assertThat(pipeline.getStreamAroundAdvisors()).containsExactly(second, third, first);
+	}
+
+	@Test
+	void chainBuilderKeepsTheOrderingAcrossSeveralPushes() {
+		var executed = new ArrayList<String>();
+		var advisors = List.<Advisor>of(new RecordingAdvisor("a", 2, executed), new RecordingAdvisor("b", 1, executed),
+				new RecordingAdvisor("c", 2, executed), new RecordingAdvisor("d", 1, executed),
+				new RecordingAdvisor("e", 3, executed));
+
+		DefaultAroundAdvisorChain.builder(ObservationRegistry.NOOP)
+			.pushAll(advisors.subList(0, 2))
+			.pushAll(advisors.subList(2, 5))
+			.push(terminal(executed))
+			.build()
+			.nextAroundCall(request());
+
+		assertThat(executed).containsExactly("d", "b", "c", "a", "e", "model");
+	}
+
+	@Test
+	void eachChainIsAnIndependentCursorOverTheSharedPipeline() {
+		var executed = new ArrayList<String>();
+		var pipeline = AroundAdvisorPipeline.compile(ObservationRegistry.NOOP,
+				List.of(new RecordingAdvisor("outer", 0, executed), new RecordingAdvisor("inner", 1, executed),
+						terminal(executed)));
+
+		pipeline.newChain().nextAroundCall(request());
+		pipeline.newChain().nextAroundStream(request()).blockLast();
+
+		assertThat(executed).containsExactly("outer", "inner", "model", "outer", "inner", "model");
+	}
+
+	@Test
+	void exhaustedChainFails() {
+		var chain = AroundAdvisorPipeline.compile(ObservationRegistry.NOOP, List.of()).newChain();
+
+		assertThatThrownBy(() -> chain.nextAroundCall(request())).isInstanceOf(IllegalStateException.class)
+			.hasMessage("No AroundAdvisor available to execute");
+		assertThatThrownBy(() -> chain.nextAroundStream(request()).blockLast())
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("No AroundAdvisor available to execute");
+	}
+
+	@Test
+	void nonBlockingStreamAdvisorsRunOnTheModelThreads() {
+		var pipeline = AroundAdvisorPipeline.compile(ObservationRegistry.NOOP,
+				List.of(new RecordingAdvisor("logger", 0, new ArrayList<>(), false), modelOnScheduler()));
+		var chain = pipeline.newChain();
+
+		var threads = chain.nextAroundStream(request())
+			.map(response -> Thread.currentThread().getName())
+			.subscribeOn(Schedulers.parallel())
+			.collectList()
+			.block();
+
+		assertThat(pipeline.isStreamBlocking()).isFalse();
+		assertThat(threads).allMatch(thread -> thread.startsWith("model-thread"));
+		assertThat(chain.getSchedulerHops()).isZero();
+	}
+
+	@Test
+	void blockingStreamAdvisorsAreOffloadedAtTheEdges() {
+		var pipeline = AroundAdvisorPipeline.compile(ObservationRegistry.NOOP,
+				List.of(new RecordingAdvisor("memory", 0, new ArrayList<>(), true),
+						new RecordingAdvisor("logger", 1, new ArrayList<>(), false), modelOnScheduler()));
+
+		var chain = pipeline.newChain();
+		var threads = chain.nextAroundStream(request())
+			.map(response -> Thread.currentThread().getName())
+			.subscribeOn(Schedulers.parallel())
+			.collectList()
+			.block();
+
+		assertThat(pipeline.isStreamBlocking()).isTrue();
+		assertThat(threads).allMatch(thread -> thread.startsWith("boundedElastic"));
+		assertThat(chain.getSchedulerHops()).isEqualTo(2);
+
+		// Entered from a blocking thread, only the responses are offloaded
+		var blockingThreadChain = pipeline.newChain();
+		blockingThreadChain.nextAroundStream(request()).blockLast();
+		assertThat(blockingThreadChain.getSchedulerHops()).isEqualTo(1);
+	}
+
+	private static AdvisedRequest request() {
+		return AdvisedRequest.builder().chatModel(mock(ChatModel.class)).userText("Hello").build();
+	}
+
+	private static RecordingAdvisor terminal(List<String> executed) {
+		return new RecordingAdvisor("model", Integer.MAX_VALUE, executed) {
+
+			@Override
+			public AdvisedResponse aroundCall(AdvisedRequest advisedRequest, CallAroundAdvisorChain chain) {
+				executed.add(getName());
+				return response();
+			}
+
+			@Override
+			public Flux<AdvisedResponse> aroundStream(AdvisedRequest advisedRequest, StreamAroundAdvisorChain chain) {
+				executed.add(getName());
+				return Flux.just(response());
+			}
+
+		};
+	}
+
+	private StreamAroundAdvisor modelOnScheduler() {
+		return new RecordingAdvisor("model", Integer.MAX_VALUE, new ArrayList<>(), false) {
+
+			@Override
+			public Flux<AdvisedResponse> aroundStream(AdvisedRequest advisedRequest, StreamAroundAdvisorChain chain) {
+				return Flux.just(response(), response()).publishOn(AroundAdvisorPipelineTests.this.modelScheduler);
+			}
+
+		};
+	}
+
+	private static AdvisedResponse response() {
+		return new AdvisedResponse(new ChatResponse(List.of(new Generation(new AssistantMessage("Hi")))), Map.of());
+	}
+
+	private static class RecordingAdvisor implements CallAroundAdvisor, StreamAroundAdvisor {
+
+		private final String name;
+
+		private final int order;
+
+		private final List<String> executed;
+
+		private final boolean blocking;
+
+		RecordingAdvisor(String name, int order, List<String> executed) {
+			this(name, order, executed, true);
+		}
+
+		RecordingAdvisor(String name, int order, List<String> executed, boolean blocking) {
+			this.name = name;
+			this.order = order;
+			this.executed = executed;
+			this.blocking = blocking;
+		}
+
+		@Override
+		public String getName() {
+			return this.name;
+		}
+
+		@Override
+		public int getOrder() {
+			return this.order;
+		}
+
+		@Override
+		public boolean isBlocking() {
+			return this.blocking;
+		}
+
+		@Override
+		public AdvisedResponse aroundCall(AdvisedRequest advisedRequest, CallAroundAdvisorChain chain) {
+			this.executed.add(this.name);
+			return chain.nextAroundCall(advisedRequest);
+		}
+
+		@Override
+		public Flux<AdvisedResponse> aroundStream(AdvisedRequest advisedRequest, StreamAroundAdvisorChain chain) {
+			this.executed.add(this.name);
+			return chain.nextAroundStream(advisedRequest);
+		}
+
+	}
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.chat.client.observation;
+
+import java.util.List;
+import java.util.Map;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.ai.chat.client.DefaultChatClient.DefaultChatClientRequestSpec;
+import org.springframework.ai.chat.client.observation.ChatClientObservationDocumentation.LowCardinalityKeyNames;
+import org.springframework.ai.chat.model.ChatModel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link ChatClientMeterObservationHandler}.
+ *
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+class ChatClientMeterObservationHandlerTests {
+
+	@Mock
+	ChatModel chatModel;
+
+	private MeterRegistry meterRegistry;
+
+	private ObservationRegistry observationRegistry;
+
+	private DefaultChatClientRequestSpec request;
+
+	@BeforeEach
+	void setUp() {
+		this.meterRegistry = new SimpleMeterRegistry();
+		this.observationRegistry = ObservationRegistry.create();
+		this.observationRegistry.observationConfig()
+			.observationHandler(new ChatClientMeterObservationHandler(this.meterRegistry));
+		this.request = new DefaultChatClientRequestSpec(this.chatModel, "", Map.of(), "", Map.of(), List.of(),
+				List.of(), List.of(), List.of(), null, List.of(), Map.of(), ObservationRegistry.NOOP, null, Map.of());
+	}
+
+	@Test
+	void recordsTheSchedulerHopsOfStreamedRequests() {
+		observe(true, 2);
+		observe(true, 0);
+
+		DistributionSummary schedulerHops = this.meterRegistry
+			.get(ChatClientMeterObservationHandler.STREAM_SCHEDULER_HOPS_METRIC_NAME)
+			.tag(LowCardinalityKeyNames.STREAM.asString(), "true")
+			.summary();
+		assertThat(schedulerHops.count()).isEqualTo(2);
+		assertThat(schedulerHops.totalAmount()).isEqualTo(2);
+	}
+
+	@Test
+	void ignoresCalls() {
+		observe(false, 0);
+
+		assertThat(this.meterRegistry.find(ChatClientMeterObservationHandler.STREAM_SCHEDULER_HOPS_METRIC_NAME)
+			.summaries()).isEmpty();
+	}
+
+	private void observe(boolean stream, int schedulerHops) {
+		ChatClientObservationContext observationContext = ChatClientObservationContext.builder()
+			.withRequest(this.request)
+			.withStream(stream)
+			.build();
+		Observation observation = Observation
+			.createNotStarted(new DefaultChatClientObservationConvention(), () -> observationContext,
+					this.observationRegistry)
+			.start();
+		observationContext.setSchedulerHops(schedulerHops);
+		observation.stop();
+	}
+
+}
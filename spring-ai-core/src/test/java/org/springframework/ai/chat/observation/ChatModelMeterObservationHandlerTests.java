@@ -16,7 +16,9 @@
 
 package org.springframework.ai.chat.observation;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
@@ -24,6 +26,7 @@ import io.micrometer.observation.Observation;
 import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
 
 import org.springframework.ai.chat.messages.AssistantMessage;
 import org.springframework.ai.chat.metadata.ChatResponseMetadata;
@@ -91,6 +94,74 @@ class ChatModelMeterObservationHandlerTests {
 			.meters()).hasSize(1);
 	}
 
+	@Test
+	void shouldCreateStreamMetersDuringAStreamObservation() {
+		var observationContext = generateObservationContext();
+		var observation = Observation
+			.createNotStarted(new DefaultChatModelObservationConvention(), () -> observationContext,
+					this.observationRegistry)
+			.start();
+
+		Flux<ChatResponse> chunks = Flux.interval(Duration.ofMillis(10))
+			.take(3)
+			.map(i -> new ChatResponse(List.of(new Generation(new AssistantMessage("chunk" + i))),
+					ChatResponseMetadata.builder().model("mistral-42").usage(new TestUsage()).build()));
+		var lastChunk = ChatModelStreamTimings.observe(chunks, observationContext).blockLast();
+		observationContext.setResponse(lastChunk);
+
+		observation.stop();
+
+		var timings = observationContext.getStreamTimings();
+		assertThat(timings).isNotNull();
+		assertThat(timings.getChunkCount()).isEqualTo(3);
+		assertThat(timings.isCancelled()).isFalse();
+
+		var timeToFirstToken = this.meterRegistry.get(AiObservationMetricNames.TIME_TO_FIRST_TOKEN.value())
+			.tag(LowCardinalityKeyNames.AI_PROVIDER.asString(), "superprovider")
+			.tag(LowCardinalityKeyNames.RESPONSE_MODEL.asString(), "mistral-42")
+			.timer();
+		assertThat(timeToFirstToken.count()).isEqualTo(1);
+		assertThat(timeToFirstToken.totalTime(TimeUnit.MILLISECONDS)).isGreaterThan(0);
+		assertThat(this.meterRegistry.get(AiObservationMetricNames.TIME_PER_OUTPUT_CHUNK.value()).timer().count())
+			.isEqualTo(2);
+		assertThat(this.meterRegistry.get(AiObservationMetricNames.OUTPUT_TOKEN_RATE.value()).summary().count())
+			.isEqualTo(1);
+		assertThat(this.meterRegistry.find(AiObservationMetricNames.STREAM_CANCELLATIONS.value()).counter()).isNull();
+	}
+
+	@Test
+	void shouldCountCancelledStreams() {
+		var observationContext = generateObservationContext();
+		var observation = Observation
+			.createNotStarted(new DefaultChatModelObservationConvention(), () -> observationContext,
+					this.observationRegistry)
+			.start();
+
+		Flux<ChatResponse> chunks = Flux.interval(Duration.ofMillis(10))
+			.map(i -> new ChatResponse(List.of(new Generation(new AssistantMessage("chunk" + i)))));
+		ChatModelStreamTimings.observe(chunks, observationContext).take(2).blockLast();
+
+		observation.stop();
+
+		assertThat(this.meterRegistry.get(AiObservationMetricNames.STREAM_CANCELLATIONS.value()).counter().count())
+			.isEqualTo(1);
+		assertThat(this.meterRegistry.get(AiObservationMetricNames.TIME_TO_FIRST_TOKEN.value()).timer().count())
+			.isEqualTo(1);
+	}
+
+	@Test
+	void shouldNotCreateStreamMetersForACall() {
+		var observationContext = generateObservationContext();
+		Observation
+			.createNotStarted(new DefaultChatModelObservationConvention(), () -> observationContext,
+					this.observationRegistry)
+			.start()
+			.stop();
+
+		assertThat(observationContext.getStreamTimings()).isNull();
+		assertThat(this.meterRegistry.find(AiObservationMetricNames.TIME_TO_FIRST_TOKEN.value()).timer()).isNull();
+	}
+
 	private ChatModelObservationContext generateObservationContext() {
 		return ChatModelObservationContext.builder()
 			.prompt(generatePrompt())
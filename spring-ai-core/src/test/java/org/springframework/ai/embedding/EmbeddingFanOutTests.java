@@ -0,0 +1,117 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.embedding;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import org.springframework.ai.chat.metadata.DefaultUsage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link EmbeddingFanOut}.
+ */
+class EmbeddingFanOutTests {
+
+	private static final List<String> INPUTS = IntStream.range(0, 50).mapToObj(String::valueOf).toList();
+
+	@Test
+	void preservesInputOrderAndLimitsConcurrency() {
+		AtomicInteger inFlight = new AtomicInteger();
+		AtomicInteger maxInFlight = new AtomicInteger();
+		EmbeddingFanOut fanOut = EmbeddingFanOut.builder().parallelism(4).build();
+
+		EmbeddingResponse response = fanOut.embed(INPUTS, input -> Mono.defer(() -> {
+			maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+			return Mono.delay(Duration.ofMillis(ThreadLocalRandom.current().nextInt(1, 10)))
+				.map(tick -> new EmbeddingFanOut.Result(new float[] { Float.parseFloat(input) }, null))
+				.doOnNext(result -> inFlight.decrementAndGet());
+		}), "test-model");
+
+		assertThat(response.getResults()).hasSize(INPUTS.size());
+		for (int i = 0; i < INPUTS.size(); i++) {
+			assertThat(response.getResults().get(i).getIndex()).isEqualTo(i);
+			assertThat(response.getResults().get(i).getOutput()).containsExactly((float) i);
+		}
+		assertThat(maxInFlight.get()).isBetween(2, 4);
+		assertThat(response.getMetadata().getModel()).isEqualTo("test-model");
+	}
+
+	@Test
+	void retriesFailedCallsOnTheirOwn() {
+		Map<String, AtomicInteger> attempts = new ConcurrentHashMap<>();
+		EmbeddingFanOut fanOut = EmbeddingFanOut.builder().retry(Retry.max(2)).build();
+
+		EmbeddingResponse response = fanOut.embedBlocking(List.of("a", "b", "c"), input -> {
+			int attempt = attempts.computeIfAbsent(input, key -> new AtomicInteger()).incrementAndGet();
+			if (input.equals("b") && attempt < 3) {
+				throw new IllegalStateException("Transient failure");
+			}
+			return new EmbeddingFanOut.Result(new float[] { attempt }, null);
+		}, "test-model");
+
+		assertThat(response.getResults()).extracting(Embedding::getOutput)
+			.containsExactly(new float[] { 1 }, new float[] { 3 }, new float[] { 1 });
+		assertThat(attempts).containsOnlyKeys("a", "b", "c");
+		assertThat(attempts.get("a")).hasValue(1);
+		assertThat(attempts.get("b")).hasValue(3);
+	}
+
+	@Test
+	void failsWithoutRetry() {
+		EmbeddingFanOut fanOut = EmbeddingFanOut.builder().build();
+
+		assertThatThrownBy(() -> fanOut.embedBlocking(List.of("a", "b"), input -> {
+			throw new IllegalStateException("Failure for " + input);
+		}, "test-model")).isInstanceOf(IllegalStateException.class).hasMessageStartingWith("Failure for");
+	}
+
+	@Test
+	void failsOnEmptyResult() {
+		EmbeddingFanOut fanOut = EmbeddingFanOut.builder().build();
+
+		assertThatThrownBy(() -> fanOut.embed(List.of("a"), input -> Mono.empty(), "test-model"))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("No embedding returned for input 0");
+	}
+
+	@Test
+	void aggregatesUsage() {
+		EmbeddingFanOut fanOut = EmbeddingFanOut.builder().build();
+
+		EmbeddingResponse response = fanOut.embedBlocking(List.of("a", "bb", "ccc"),
+				input -> new EmbeddingFanOut.Result(new float[] { 1 },
+						input.equals("bb") ? null : new DefaultUsage((long) input.length(), 0L)),
+				"test-model");
+
+		assertThat(response.getMetadata().getUsage().getPromptTokens()).isEqualTo(4L);
+		assertThat(response.getMetadata().getUsage().getGenerationTokens()).isZero();
+		assertThat(response.getMetadata().getUsage().getTotalTokens()).isEqualTo(4L);
+	}
+
+}
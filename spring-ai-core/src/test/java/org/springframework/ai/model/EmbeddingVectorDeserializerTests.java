@@ -0,0 +1,83 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.model;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Base64;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link EmbeddingVectorDeserializer}.
+ */
+class EmbeddingVectorDeserializerTests {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	void deserializesFloatArray() throws Exception {
+		Item item = this.objectMapper.readValue("{\"embedding\":[0.5,-1.25,3]}", Item.class);
+
+		assertThat(item.embedding()).containsExactly(0.5f, -1.25f, 3f);
+	}
+
+	@Test
+	void deserializesBase64LittleEndianFloats() throws Exception {
+		float[] expected = { 0.5f, -1.25f, 3.1415927f, Float.MIN_VALUE };
+		String json = "{\"embedding\":\"" + base64(expected) + "\"}";
+
+		Item item = this.objectMapper.readValue(json, Item.class);
+
+		assertThat(item.embedding()).containsExactly(expected);
+		assertThat(EmbeddingUtils.fromBase64(base64(expected))).containsExactly(expected);
+	}
+
+	@Test
+	void deserializesEmptyAndNullValues() throws Exception {
+		assertThat(this.objectMapper.readValue("{\"embedding\":\"\"}", Item.class).embedding()).isEmpty();
+		assertThat(this.objectMapper.readValue("{\"embedding\":null}", Item.class).embedding()).isNull();
+	}
+
+	@Test
+	void failsOnTruncatedBase64Floats() {
+		String json = "{\"embedding\":\"" + Base64.getEncoder().encodeToString(new byte[] { 1, 2, 3 }) + "\"}";
+
+		assertThatThrownBy(() -> this.objectMapper.readValue(json, Item.class))
+			.isInstanceOf(MismatchedInputException.class)
+			.hasMessageContaining("multiple of 4 bytes");
+	}
+
+	private static String base64(float[] values) {
+		ByteBuffer buffer = ByteBuffer.allocate(values.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.asFloatBuffer().put(values);
+		return Base64.getEncoder().encodeToString(buffer.array());
+	}
+
+	record Item(
+			@JsonProperty("embedding") @JsonDeserialize(using = EmbeddingVectorDeserializer.class) float[] embedding) {
+
+	}
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.ai.model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.util.MimeTypeUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LazyMediaDataTests {
+
+	@ParameterizedTest
+	@ValueSource(ints = { 0, 1, 2, 3, 3071, 3072, 3073, 100_000 })
+	void serializeAsBase64(int size) throws IOException {
+		byte[] content = content(size);
+		var data = new LazyMediaData(new ByteArrayResource(content));
+
+		String json = ModelOptionsUtils.OBJECT_MAPPER.writeValueAsString(Map.of("data", data.toBase64()));
+
+		assertThat(json).isEqualTo("{\"data\":\"" + Base64.getEncoder().encodeToString(content) + "\"}");
+	}
+
+	@Test
+	void serializeAsDataUrl() throws IOException {
+		byte[] content = content(10_000);
+		var data = new LazyMediaData(new ByteArrayResource(content));
+
+		String json = ModelOptionsUtils.OBJECT_MAPPER
+			.writeValueAsString(Map.of("url", data.toDataUrl(MimeTypeUtils.IMAGE_PNG)));
+
+		assertThat(json)
+			.isEqualTo("{\"url\":\"data:image/png;base64," + Base64.getEncoder().encodeToString(content) + "\"}");
+	}
+
+	@Test
+	void encodedPayloadIsCached() throws IOException {
+		var resource = new CountingResource(content(1_000));
+		var cache = new Base64MediaCache(10_000);
+		var data = new LazyMediaData(resource, cache);
+
+		String first = ModelOptionsUtils.OBJECT_MAPPER.writeValueAsString(data.toBase64());
+		String second = ModelOptionsUtils.OBJECT_MAPPER.writeValueAsString(data.toBase64());
+
+		assertThat(second).isEqualTo(first);
+		assertThat(resource.reads.get()).isEqualTo(1);
+		assertThat(cache.size()).isEqualTo(Base64MediaCache.encodedLength(1_000));
+	}
+
+	@Test
+	void payloadsLargerThanTheCacheAreStreamed() throws IOException {
+		var resource = new CountingResource(content(1_000));
+		var cache = new Base64MediaCache(100);
+		var data = new LazyMediaData(resource, cache);
+
+		ModelOptionsUtils.OBJECT_MAPPER.writeValueAsString(data.toBase64());
+		ModelOptionsUtils.OBJECT_MAPPER.writeValueAsString(data.toBase64());
+
+		assertThat(resource.reads.get()).isEqualTo(2);
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	void leastRecentlyUsedPayloadsAreEvicted() throws IOException {
+		var cache = new Base64MediaCache(2 * Base64MediaCache.encodedLength(1_000));
+		var first = new LazyMediaData(new ByteArrayResource(content(1_000)), cache);
+		var second = new LazyMediaData(new ByteArrayResource(content(1_000)), cache);
+		var third = new LazyMediaData(new ByteArrayResource(content(1_000)), cache);
+
+		ModelOptionsUtils.OBJECT_MAPPER.writeValueAsString(first.toBase64());
+		ModelOptionsUtils.OBJECT_MAPPER.writeValueAsString(second.toBase64());
+		ModelOptionsUtils.OBJECT_MAPPER.writeValueAsString(first.toBase64());
+		ModelOptionsUtils.OBJECT_MAPPER.writeValueAsString(third.toBase64());
+
+		assertThat(cache.get(first)).isNotNull();
+		assertThat(cache.get(second)).isNull();
+		assertThat(cache.get(third)).isNotNull();
+		assertThat(cache.size()).isEqualTo(2 * Base64MediaCache.encodedLength(1_000));
+	}
+
+	@Test
+	void mediaDataAsByteArray() {
+		byte[] content = content(100);
+		var media = Media.builder()
+			.mimeType(MimeTypeUtils.IMAGE_PNG)
+			.data(new LazyMediaData(new ByteArrayResource(content)))
+			.build();
+
+		assertThat(media.getDataAsByteArray()).isEqualTo(content);
+	}
+
+	private static byte[] content(int size) {
+		byte[] content = new byte[size];
+		new Random(size).nextBytes(content);
+		return content;
+	}
+
+	private static final class CountingResource extends ByteArrayResource {
+
+		private final AtomicInteger reads = new AtomicInteger();
+
+		CountingResource(byte[] content) {
+			super(content);
+		}
+
+		@Override
+		public InputStream getInputStream() throws IOException {
+			this.reads.incrementAndGet();
+			return super.getInputStream();
+		}
+
+		@Override
+		public byte[] getContentAsByteArray() throws IOException {
+			this.reads.incrementAndGet();
+			return super.getContentAsByteArray();
+		}
+
+	}
+
+}
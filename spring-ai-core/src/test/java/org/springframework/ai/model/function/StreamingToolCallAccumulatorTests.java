@@ -0,0 +1,90 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.model.function;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.model.function.StreamingToolCallAccumulator.ToolCall;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link StreamingToolCallAccumulator}.
+ */
+class StreamingToolCallAccumulatorTests {
+
+	private final StreamingToolCallAccumulator accumulator = new StreamingToolCallAccumulator();
+
+	@Test
+	void emptyByDefault() {
+		assertThat(this.accumulator.isEmpty()).isTrue();
+		assertThat(this.accumulator.getToolCalls()).isEmpty();
+	}
+
+	@Test
+	void deltasWithoutIdContinueTheLastToolCall() {
+		this.accumulator.append(null, "call_1", "function", "getWeather", "{\"loc");
+		this.accumulator.append(null, null, null, null, "ation\":");
+		this.accumulator.append(null, null, null, "", "\"Paris\"}");
+
+		assertThat(this.accumulator.getToolCalls())
+			.containsExactly(new ToolCall(null, "call_1", "function", "getWeather", "{\"location\":\"Paris\"}"));
+	}
+
+	@Test
+	void newIdStartsANewToolCall() {
+		this.accumulator.append(null, "call_1", "function", "getWeather", "{\"location\":");
+		this.accumulator.append(null, null, null, null, "\"Paris\"}");
+		this.accumulator.append(null, "call_2", "function", "getTime", "{}");
+
+		assertThat(this.accumulator.getToolCalls()).containsExactly(
+				new ToolCall(null, "call_1", "function", "getWeather", "{\"location\":\"Paris\"}"),
+				new ToolCall(null, "call_2", "function", "getTime", "{}"));
+	}
+
+	@Test
+	void repeatedIdContinuesTheToolCall() {
+		this.accumulator.append(null, "call_1", "function", "getWeather", "{\"location\":");
+		this.accumulator.append(null, "call_1", null, "", "\"Paris\"}");
+
+		assertThat(this.accumulator.getToolCalls())
+			.containsExactly(new ToolCall(null, "call_1", "function", "getWeather", "{\"location\":\"Paris\"}"));
+	}
+
+	@Test
+	void interleavedDeltasAreAttributedByIndex() {
+		this.accumulator.append(0, "call_1", "function", "getWeather", "{\"location\":");
+		this.accumulator.append(1, "call_2", "function", "getWeather", "{\"location\":");
+		this.accumulator.append(0, null, null, null, "\"Paris\"}");
+		this.accumulator.append(1, null, null, null, "\"Rome\"}");
+
+		assertThat(this.accumulator.size()).isEqualTo(2);
+		assertThat(this.accumulator.getToolCalls()).containsExactly(
+				new ToolCall(0, "call_1", "function", "getWeather", "{\"location\":\"Paris\"}"),
+				new ToolCall(1, "call_2", "function", "getWeather", "{\"location\":\"Rome\"}"));
+	}
+
+	@Test
+	void clearDiscardsTheToolCalls() {
+		this.accumulator.append(0, "call_1", "function", "getWeather", "{}");
+		this.accumulator.clear();
+		this.accumulator.append(null, null, null, "getTime", "{}");
+
+		assertThat(this.accumulator.getToolCalls()).containsExactly(new ToolCall(null, null, null, "getTime", "{}"));
+	}
+
+}
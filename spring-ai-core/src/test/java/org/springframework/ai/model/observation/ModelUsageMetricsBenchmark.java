@@ -0,0 +1,107 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.model.observation;
+
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.Observation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import org.springframework.ai.chat.metadata.DefaultUsage;
+import org.springframework.ai.chat.metadata.Usage;
+
+/**
+ * JMH benchmark of the token usage metrics generated for each model call, from several
+ * threads sharing the same meter registry:
+ * <ul>
+ * <li>{@code cachedCounters}: counters looked up in the {@link ObservationMeterCache} of
+ * a {@link ModelUsageMetricsGenerator} instance.</li>
+ * <li>{@code registerPerCall}: counters built and registered again for each call, with
+ * the static {@link ModelUsageMetricsGenerator#generate(Usage, Observation.Context,
+ * MeterRegistry)}.</li>
+ * </ul>
+ *
+ * <p>
+ * Run from the IDE or with the test classpath: {@code java -cp ...
+ * org.springframework.ai.model.observation.ModelUsageMetricsBenchmark -prof gc}.
+ * </p>
+ *
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class ModelUsageMetricsBenchmark {
+
+	private MeterRegistry meterRegistry;
+
+	private ModelUsageMetricsGenerator generator;
+
+	private Observation.Context context;
+
+	private Usage usage;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		this.meterRegistry = new SimpleMeterRegistry();
+		this.generator = new ModelUsageMetricsGenerator(this.meterRegistry);
+		this.context = new Observation.Context();
+		this.context.addLowCardinalityKeyValue(KeyValue.of("gen_ai.operation.name", "chat"));
+		this.context.addLowCardinalityKeyValue(KeyValue.of("gen_ai.system", "openai"));
+		this.context.addLowCardinalityKeyValue(KeyValue.of("gen_ai.request.model", "gpt-4o"));
+		this.context.addLowCardinalityKeyValue(KeyValue.of("gen_ai.response.model", "gpt-4o-2024-08-06"));
+		this.usage = new DefaultUsage(1000L, 500L);
+	}
+
+	@Benchmark
+	public void cachedCounters() {
+		this.generator.generate(this.usage, this.context);
+	}
+
+	@Benchmark
+	public void registerPerCall() {
+		ModelUsageMetricsGenerator.generate(this.usage, this.context, this.meterRegistry);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(ModelUsageMetricsBenchmark.class.getSimpleName())
+			.addProfiler("gc")
+			.build()).run();
+	}
+
+}
@@ -73,6 +73,50 @@ class ModelUsageMetricsGeneratorTests {
 			.count()).isEqualTo(1000);
 	}
 
+	@Test
+	void whenCachedGeneratorThenCountersAreReusedPerKeyValues() {
+		var meterRegistry = new SimpleMeterRegistry();
+		var generator = new ModelUsageMetricsGenerator(meterRegistry);
+		var usage = new TestUsage(1000L, 500L, 1500L);
+		generator.generate(usage, buildContext());
+		generator.generate(usage, buildContext());
+
+		var otherContext = new Observation.Context();
+		otherContext.addLowCardinalityKeyValue(KeyValue.of("key1", "other"));
+		generator.generate(usage, otherContext);
+
+		assertThat(meterRegistry.get(AiObservationMetricNames.TOKEN_USAGE.value()).meters()).hasSize(6);
+		assertThat(meterRegistry.get(AiObservationMetricNames.TOKEN_USAGE.value())
+			.tag(AiObservationMetricAttributes.TOKEN_TYPE.value(), AiTokenType.INPUT.value())
+			.tag("key2", "value2")
+			.counter()
+			.count()).isEqualTo(2000);
+		assertThat(meterRegistry.get(AiObservationMetricNames.TOKEN_USAGE.value())
+			.tag(AiObservationMetricAttributes.TOKEN_TYPE.value(), AiTokenType.TOTAL.value())
+			.tag("key1", "other")
+			.counter()
+			.count()).isEqualTo(1500);
+	}
+
+	@Test
+	void whenCacheIsFullThenEvictedCountersAreResolvedAgain() {
+		var meterRegistry = new SimpleMeterRegistry();
+		var generator = new ModelUsageMetricsGenerator(meterRegistry, 1);
+		var usage = new TestUsage(10L, null, null);
+		var otherContext = new Observation.Context();
+		otherContext.addLowCardinalityKeyValue(KeyValue.of("key1", "other"));
+
+		generator.generate(usage, buildContext());
+		generator.generate(usage, otherContext);
+		generator.generate(usage, buildContext());
+
+		assertThat(meterRegistry.get(AiObservationMetricNames.TOKEN_USAGE.value()).meters()).hasSize(2);
+		assertThat(meterRegistry.get(AiObservationMetricNames.TOKEN_USAGE.value())
+			.tag("key2", "value2")
+			.counter()
+			.count()).isEqualTo(20);
+	}
+
 	private Observation.Context buildContext() {
 		var context = new Observation.Context();
 		context.addLowCardinalityKeyValue(KeyValue.of("key1", "value1"));
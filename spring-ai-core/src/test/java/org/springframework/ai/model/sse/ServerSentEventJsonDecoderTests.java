@@ -0,0 +1,134 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.model.sse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import reactor.core.publisher.Flux;
+
+import org.springframework.ai.model.ModelOptionsUtils;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link ServerSentEventJsonDecoder}.
+ */
+class ServerSentEventJsonDecoderTests {
+
+	private static final String EVENTS = """
+			: keep-alive comment
+
+			event: message
+			data: {"id":"1","text":"Hello"}
+
+			data: {"id":"2",
+			data: "text":" wörld"}
+
+			id: 3
+			data:{"id":"3","text":"[DONE] is not the end"}
+
+			data: [DONE]
+
+			data: {"id":"4","text":"after the end"}
+
+			""";
+
+	private final ServerSentEventJsonDecoder<Chunk> decoder = new ServerSentEventJsonDecoder<>(
+			ModelOptionsUtils.OBJECT_MAPPER, Chunk.class);
+
+	@ParameterizedTest
+	@ValueSource(ints = { 1, 2, 3, 7, 16, 1024 })
+	void decodesEventsSplitAcrossBuffers(int bufferSize) {
+		List<Chunk> chunks = this.decoder.decode(buffers(EVENTS, bufferSize)).collectList().block();
+
+		assertThat(chunks).containsExactly(new Chunk("1", "Hello"), new Chunk("2", " wörld"),
+				new Chunk("3", "[DONE] is not the end"));
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 1, 5, 1024 })
+	void decodesCarriageReturnLineEndings(int bufferSize) {
+		String events = "data: {\"id\":\"1\",\"text\":\"a\"}\r\n\r\ndata: {\"id\":\"2\",\"text\":\"b\"}\r\rdata: [DONE]\r\n\r\n";
+
+		List<Chunk> chunks = this.decoder.decode(buffers(events, bufferSize)).collectList().block();
+
+		assertThat(chunks).containsExactly(new Chunk("1", "a"), new Chunk("2", "b"));
+	}
+
+	@Test
+	void decodesArrayDataStartingLikeTheSentinel() {
+		ServerSentEventJsonDecoder<Chunk[]> arrayDecoder = new ServerSentEventJsonDecoder<>(
+				ModelOptionsUtils.OBJECT_MAPPER, Chunk[].class);
+
+		List<Chunk[]> chunks = arrayDecoder.decode(buffers("data: [{\"id\":\"1\",\"text\":\"a\"}]\n\n", 1))
+			.collectList()
+			.block();
+
+		assertThat(chunks).singleElement().satisfies(array -> assertThat(array).containsExactly(new Chunk("1", "a")));
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 1, 4, 1024 })
+	void joinsDataLinesWithLineFeeds(int bufferSize) {
+		Flux<Chunk> chunks = this.decoder
+			.decode(buffers("data: {\"id\":\"1\",\"text\":nu\ndata:ll}\n\ndata: [DONE]\n\n", bufferSize));
+
+		assertThatThrownBy(() -> chunks.collectList().block()).isInstanceOf(DecodingException.class);
+	}
+
+	@Test
+	void completesWithoutSentinel() {
+		List<Chunk> chunks = this.decoder.decode(buffers("data: {\"id\":\"1\",\"text\":\"a\"}", 4))
+			.collectList()
+			.block();
+
+		assertThat(chunks).containsExactly(new Chunk("1", "a"));
+	}
+
+	@Test
+	void failsOnIncompleteData() {
+		Flux<Chunk> chunks = this.decoder.decode(buffers("data: {\"id\":\"1\",\n\ndata: [DONE]\n\n", 8));
+
+		assertThatThrownBy(() -> chunks.collectList().block()).isInstanceOf(DecodingException.class);
+	}
+
+	private static Flux<DataBuffer> buffers(String events, int bufferSize) {
+		byte[] bytes = events.getBytes(StandardCharsets.UTF_8);
+		List<DataBuffer> buffers = new ArrayList<>();
+		for (int i = 0; i < bytes.length; i += bufferSize) {
+			int length = Math.min(bufferSize, bytes.length - i);
+			DataBuffer buffer = DefaultDataBufferFactory.sharedInstance.allocateBuffer(length);
+			buffer.write(bytes, i, length);
+			buffers.add(buffer);
+		}
+		return Flux.fromIterable(buffers);
+	}
+
+	record Chunk(String id, String text) {
+
+	}
+
+}
@@ -17,6 +17,7 @@
 package org.springframework.ai.reader;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 
@@ -83,4 +84,30 @@ public class JsonReaderTests {
 		assertThat(documents.get(0).getText()).contains("name: Bike Shop");
 	}
 
+	@Test
+	void streamJsonArray() {
+		JsonReader jsonReader = new JsonReader(this.arrayResource, "description");
+		List<String> texts = jsonReader.get().stream().map(Document::getText).toList();
+		try (Stream<Document> documents = jsonReader.stream()) {
+			assertThat(documents.map(Document::getText).toList()).isNotEmpty().isEqualTo(texts);
+		}
+	}
+
+	@Test
+	void streamJsonArrayLazily() {
+		JsonReader jsonReader = new JsonReader(this.arrayResource, "description");
+		try (Stream<Document> documents = jsonReader.stream()) {
+			assertThat(documents.limit(1).map(Document::getText).toList())
+				.containsExactly(jsonReader.get().get(0).getText());
+		}
+	}
+
+	@Test
+	void streamJsonObject() {
+		JsonReader jsonReader = new JsonReader(this.ObjectResource, "description");
+		try (Stream<Document> documents = jsonReader.stream()) {
+			assertThat(documents.map(Document::getText).toList()).containsExactly(jsonReader.get().get(0).getText());
+		}
+	}
+
 }
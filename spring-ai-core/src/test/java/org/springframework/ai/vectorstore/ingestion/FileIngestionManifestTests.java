@@ -0,0 +1,68 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore.ingestion;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link FileIngestionManifest}.
+ */
+class FileIngestionManifestTests {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void reloadsChanges() {
+		Path file = this.tempDir.resolve("manifest.jsonl");
+		FileIngestionManifest manifest = new FileIngestionManifest(file);
+		manifest.put("a.txt", Map.of("h1", "1", "h2", "2"));
+		manifest.put("b.txt", Map.of("h3", "3"));
+		manifest.put("a.txt", Map.of("h1", "1", "h4", "4"));
+		manifest.remove("b.txt");
+
+		FileIngestionManifest reloaded = new FileIngestionManifest(file);
+
+		assertThat(reloaded.sources()).containsExactly("a.txt");
+		assertThat(reloaded.get("a.txt")).isEqualTo(Map.of("h1", "1", "h4", "4"));
+		assertThat(reloaded.get("b.txt")).isEmpty();
+	}
+
+	@Test
+	void compactsSupersededLines() throws IOException {
+		Path file = this.tempDir.resolve("manifest.jsonl");
+		FileIngestionManifest manifest = new FileIngestionManifest(file);
+		for (int i = 0; i < 3000; i++) {
+			manifest.put("source-" + (i % 10), Map.of("h" + i, String.valueOf(i)));
+		}
+
+		assertThat(Files.readAllLines(file)).hasSizeLessThan(1100);
+
+		FileIngestionManifest reloaded = new FileIngestionManifest(file);
+		assertThat(reloaded.sources()).hasSize(10);
+		assertThat(reloaded.get("source-9")).isEqualTo(Map.of("h2999", "2999"));
+	}
+
+}
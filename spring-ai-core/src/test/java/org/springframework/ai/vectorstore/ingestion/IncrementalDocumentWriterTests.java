@@ -0,0 +1,154 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore.ingestion;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.vectorstore.VectorStore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for {@link IncrementalDocumentWriter}.
+ */
+class IncrementalDocumentWriterTests {
+
+	private final VectorStore vectorStore = mock(VectorStore.class);
+
+	private final InMemoryIngestionManifest manifest = new InMemoryIngestionManifest();
+
+	private final IncrementalDocumentWriter writer = IncrementalDocumentWriter.builder(this.vectorStore)
+		.manifest(this.manifest)
+		.build();
+
+	@Test
+	void addsAllDocumentsOnFirstIngestion() {
+		IncrementalDocumentWriter.Result result = this.writer
+			.ingest(List.of(document("1", "a.txt", "alpha"), document("2", "a.txt", "beta")));
+
+		assertThat(result).isEqualTo(new IncrementalDocumentWriter.Result(2, 0, 0));
+		assertThat(addedIds()).containsExactly("1", "2");
+		verify(this.vectorStore, never()).delete(anyList());
+		assertThat(this.manifest.get("a.txt")).hasSize(2).containsValues("1", "2");
+	}
+
+	@Test
+	void writesOnlyTheDelta() {
+		this.writer.ingest(List.of(document("1", "a.txt", "alpha"), document("2", "a.txt", "beta"),
+				document("3", "b.txt", "gamma")));
+		clearInvocations(this.vectorStore);
+
+		// beta changed into delta, gamma untouched as b.txt is not re-ingested.
+		IncrementalDocumentWriter.Result result = this.writer
+			.ingest(List.of(document("4", "a.txt", "alpha"), document("5", "a.txt", "delta")));
+
+		assertThat(result).isEqualTo(new IncrementalDocumentWriter.Result(1, 1, 1));
+		assertThat(addedIds()).containsExactly("5");
+		verify(this.vectorStore).delete(List.of("2"));
+		assertThat(this.manifest.get("a.txt"))
+			.containsOnlyKeys(IncrementalDocumentWriter.contentHash(document("1", "a.txt", "alpha")),
+					IncrementalDocumentWriter.contentHash(document("5", "a.txt", "delta")))
+			.containsValues("1", "5");
+		assertThat(this.manifest.get("b.txt")).containsValues("3");
+	}
+
+	@Test
+	void skipsUnchangedSources() {
+		List<Document> documents = List.of(document("1", "a.txt", "alpha"), document("2", "a.txt", "beta"));
+		this.writer.ingest(documents);
+		clearInvocations(this.vectorStore);
+
+		IncrementalDocumentWriter.Result result = this.writer.ingest(documents);
+
+		assertThat(result).isEqualTo(new IncrementalDocumentWriter.Result(0, 2, 0));
+		verify(this.vectorStore, never()).add(anyList());
+		verify(this.vectorStore, never()).delete(anyList());
+	}
+
+	@Test
+	void rewritesDocumentsWithChangedMetadata() {
+		this.writer.ingest(List.of(document("1", "a.txt", "alpha")));
+		clearInvocations(this.vectorStore);
+
+		Document retitled = new Document("1", "alpha", Map.of("source", "a.txt", "title", "Alpha"));
+		IncrementalDocumentWriter.Result result = this.writer.ingest(List.of(retitled));
+
+		// Same id, the document is replaced in place and not deleted.
+		assertThat(result).isEqualTo(new IncrementalDocumentWriter.Result(1, 0, 0));
+		assertThat(addedIds()).containsExactly("1");
+		verify(this.vectorStore, never()).delete(anyList());
+	}
+
+	@Test
+	void alwaysAddsDocumentsWithoutSource() {
+		Document document = new Document("1", "alpha", Map.of());
+		this.writer.ingest(List.of(document));
+		this.writer.ingest(List.of(document));
+
+		verify(this.vectorStore, times(2)).add(List.of(document));
+		assertThat(this.manifest.sources()).isEmpty();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void deletesSource() {
+		this.writer.ingest(List.of(document("1", "a.txt", "alpha"), document("2", "a.txt", "beta")));
+
+		assertThat(this.writer.deleteSource("a.txt")).isEqualTo(2);
+
+		ArgumentCaptor<List<String>> captor = ArgumentCaptor.forClass(List.class);
+		verify(this.vectorStore).delete(captor.capture());
+		assertThat(captor.getValue()).containsExactlyInAnyOrder("1", "2");
+		assertThat(this.manifest.sources()).isEmpty();
+	}
+
+	@Test
+	void keepsManifestWhenTheVectorStoreFails() {
+		this.writer.ingest(List.of(document("1", "a.txt", "alpha")));
+		willThrow(new IllegalStateException("Store unavailable")).given(this.vectorStore).add(anyList());
+
+		assertThatThrownBy(() -> this.writer.ingest(List.of(document("2", "a.txt", "beta"))))
+			.isInstanceOf(IllegalStateException.class);
+
+		assertThat(this.manifest.get("a.txt").values()).containsExactly("1");
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<String> addedIds() {
+		ArgumentCaptor<List<Document>> captor = ArgumentCaptor.forClass(List.class);
+		verify(this.vectorStore).add(captor.capture());
+		return captor.getValue().stream().map(Document::getId).toList();
+	}
+
+	private static Document document(String id, String source, String text) {
+		return new Document(id, text, Map.of("source", source));
+	}
+
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.loadtest;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.util.Assert;
+import org.springframework.util.CustomizableThreadFactory;
+
+/**
+ * Closed loop load driver: a fixed number of workers execute a {@link LoadScenario}
+ * back to back, first during a warmup period, then during the measurement period
+ * reported in the {@link LoadReport}.
+ * <p>
+ * The allocation rate is the sum of the bytes allocated by the live threads of the
+ * process over the measurement period, as reported by the HotSpot
+ * {@link com.sun.management.ThreadMXBean}. The allocations of the threads terminated
+ * during the measurement period are not counted.
+ *
+ * @since 1.0.0
+ */
+public class LoadDriver {
+
+	private static final Logger logger = LoggerFactory.getLogger(LoadDriver.class);
+
+	private final int concurrency;
+
+	private final Duration warmup;
+
+	private final Duration duration;
+
+	public LoadDriver(int concurrency, Duration warmup, Duration duration) {
+		Assert.isTrue(concurrency > 0, "concurrency must be greater than 0");
+		Assert.isTrue(!warmup.isNegative(), "warmup cannot be negative");
+		Assert.isTrue(!duration.isNegative() && !duration.isZero(), "duration must be positive");
+		this.concurrency = concurrency;
+		this.warmup = warmup;
+		this.duration = duration;
+	}
+
+	/**
+	 * Run the given scenario.
+	 * @param name the name of the scenario, in the report
+	 * @param scenario the scenario
+	 * @return the report of the measurement period
+	 */
+	public LoadReport run(String name, LoadScenario scenario) {
+		ExecutorService workers = Executors.newFixedThreadPool(this.concurrency,
+				new CustomizableThreadFactory("load-" + name + "-"));
+		try {
+			long measurementStart = System.nanoTime() + this.warmup.toNanos();
+			long measurementEnd = measurementStart + this.duration.toNanos();
+
+			List<Future<Worker>> futures = new ArrayList<>(this.concurrency);
+			for (int i = 0; i < this.concurrency; i++) {
+				Worker worker = new Worker(scenario, measurementStart, measurementEnd);
+				futures.add(workers.submit(worker, worker));
+			}
+
+			sleepUntil(measurementStart);
+			Map<Long, Long> allocationsAtStart = threadAllocatedBytes();
+			sleepUntil(measurementEnd);
+			Map<Long, Long> allocationsAtEnd = threadAllocatedBytes();
+
+			long requests = 0;
+			long errors = 0;
+			LongList latencies = new LongList();
+			LongList timesToFirstToken = new LongList();
+			for (Future<Worker> future : futures) {
+				Worker worker = future.get();
+				requests += worker.latencies.size;
+				errors += worker.errors;
+				latencies.addAll(worker.latencies);
+				timesToFirstToken.addAll(worker.timesToFirstToken);
+			}
+
+			return new LoadReport(name, this.concurrency, this.duration, requests, errors, latencies.sorted(),
+					timesToFirstToken.sorted(), allocatedBytes(allocationsAtStart, allocationsAtEnd));
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while running the " + name + " scenario", ex);
+		}
+		catch (ExecutionException ex) {
+			throw new IllegalStateException("Failed to run the " + name + " scenario", ex.getCause());
+		}
+		finally {
+			workers.shutdownNow();
+		}
+	}
+
+	private static void sleepUntil(long deadlineNanos) throws InterruptedException {
+		long remaining = deadlineNanos - System.nanoTime();
+		if (remaining > 0) {
+			TimeUnit.NANOSECONDS.sleep(remaining);
+		}
+	}
+
+	private static Map<Long, Long> threadAllocatedBytes() {
+		Map<Long, Long> allocations = new HashMap<>();
+		if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadMXBean
+				&& threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled()) {
+			long[] threadIds = threadMXBean.getAllThreadIds();
+			long[] allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadIds);
+			for (int i = 0; i < threadIds.length; i++) {
+				if (allocatedBytes[i] >= 0) {
+					allocations.put(threadIds[i], allocatedBytes[i]);
+				}
+			}
+		}
+		return allocations;
+	}
+
+	private static long allocatedBytes(Map<Long, Long> atStart, Map<Long, Long> atEnd) {
+		long allocatedBytes = 0;
+		for (Map.Entry<Long, Long> thread : atEnd.entrySet()) {
+			allocatedBytes += thread.getValue() - atStart.getOrDefault(thread.getKey(), 0L);
+		}
+		return allocatedBytes;
+	}
+
+	private static final class Worker implements Runnable {
+
+		private final LoadScenario scenario;
+
+		private final long measurementStart;
+
+		private final long measurementEnd;
+
+		private final LongList latencies = new LongList();
+
+		private final LongList timesToFirstToken = new LongList();
+
+		private long errors;
+
+		private Worker(LoadScenario scenario, long measurementStart, long measurementEnd) {
+			this.scenario = scenario;
+			this.measurementStart = measurementStart;
+			this.measurementEnd = measurementEnd;
+		}
+
+		@Override
+		public void run() {
+			long start = System.nanoTime();
+			while (start < this.measurementEnd && !Thread.currentThread().isInterrupted()) {
+				try {
+					long timeToFirstToken = this.scenario.execute();
+					long end = System.nanoTime();
+					// Only the requests started and completed during the measurement period
+					if (start >= this.measurementStart && end <= this.measurementEnd) {
+						this.latencies.add(end - start);
+						if (timeToFirstToken != LoadScenario.NO_FIRST_TOKEN) {
+							this.timesToFirstToken.add(timeToFirstToken);
+						}
+					}
+				}
+				catch (RuntimeException ex) {
+					if (start >= this.measurementStart) {
+						this.errors++;
+					}
+					logger.debug("Request failed", ex);
+				}
+				start = System.nanoTime();
+			}
+		}
+
+	}
+
+	private static final class LongList {
+
+		private long[] values = new long[1024];
+
+		private int size;
+
+		void add(long value) {
+			if (this.size == this.values.length) {
+				this.values = Arrays.copyOf(this.values, this.size * 2);
+			}
+			this.values[this.size++] = value;
+		}
+
+		void addAll(LongList other) {
+			for (int i = 0; i < other.size; i++) {
+				add(other.values[i]);
+			}
+		}
+
+		long[] sorted() {
+			long[] sorted = Arrays.copyOf(this.values, this.size);
+			Arrays.sort(sorted);
+			return sorted;
+		}
+
+	}
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Results of a {@link LoadDriver} run, over its measurement period.
+ *
+ * @param scenario the name of the scenario
+ * @param concurrency the number of concurrent requests
+ * @param duration the measurement period
+ * @param requests the number of requests completed successfully
+ * @param errors the number of failed requests
+ * @param latencyNanos the sorted latencies of the successful requests, in nanoseconds
+ * @param timeToFirstTokenNanos the sorted times to first token of the successful
+ * streamed requests, in nanoseconds
+ * @param allocatedBytes the bytes allocated by the threads of the process
+ * @since 1.0.0
+ */
+public record LoadReport(String scenario, int concurrency, Duration duration, long requests, long errors,
+		long[] latencyNanos, long[] timeToFirstTokenNanos, long allocatedBytes) {
+
+	/**
+	 * {@return the successful requests per second}
+	 */
+	public double throughput() {
+		return this.requests * 1_000_000_000.0 / this.duration.toNanos();
+	}
+
+	/**
+	 * Get a percentile of the request latencies.
+	 * @param percentile the percentile, between 0 and 1
+	 * @return the latency, or null if no request completed
+	 */
+	@Nullable
+	public Duration latency(double percentile) {
+		return percentile(this.latencyNanos, percentile);
+	}
+
+	/**
+	 * Get a percentile of the times to first token of the streamed requests.
+	 * @param percentile the percentile, between 0 and 1
+	 * @return the time to first token, or null if no streamed request completed
+	 */
+	@Nullable
+	public Duration timeToFirstToken(double percentile) {
+		return percentile(this.timeToFirstTokenNanos, percentile);
+	}
+
+	/**
+	 * {@return the bytes allocated per second}
+	 */
+	public double allocationRate() {
+		return this.allocatedBytes * 1_000_000_000.0 / this.duration.toNanos();
+	}
+
+	@Nullable
+	private static Duration percentile(long[] sortedNanos, double percentile) {
+		if (sortedNanos.length == 0) {
+			return null;
+		}
+		int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+		return Duration.ofNanos(sortedNanos[Math.max(0, Math.min(index, sortedNanos.length - 1))]);
+	}
+
+	private static String format(@Nullable Duration duration) {
+		return (duration != null) ? String.format("%.2f ms", duration.toNanos() / 1_000_000.0) : "-";
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof LoadReport that)) {
+			return false;
+		}
+		return this.scenario.equals(that.scenario) && this.concurrency == that.concurrency
+				&& this.duration.equals(that.duration) && this.requests == that.requests
+				&& this.errors == that.errors && Arrays.equals(this.latencyNanos, that.latencyNanos)
+				&& Arrays.equals(this.timeToFirstTokenNanos, that.timeToFirstTokenNanos)
+				&& this.allocatedBytes == that.allocatedBytes;
+	}
+
+	@Override
+	public int hashCode() {
+		int result = this.scenario.hashCode();
+		result = 31 * result + Long.hashCode(this.requests);
+		result = 31 * result + Arrays.hashCode(this.latencyNanos);
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+				"%-10s concurrency=%-4d requests=%-7d errors=%-5d throughput=%.1f req/s latency p50=%s p99=%s "
+						+ "ttft p50=%s p99=%s allocation=%.1f MB/s",
+				this.scenario, this.concurrency, this.requests, this.errors, throughput(), format(latency(0.5)),
+				format(latency(0.99)), format(timeToFirstToken(0.5)), format(timeToFirstToken(0.99)),
+				allocationRate() / (1024 * 1024));
+	}
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.loadtest;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.util.Assert;
+
+/**
+ * A request executed repeatedly by the {@link LoadDriver}.
+ *
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface LoadScenario {
+
+	/**
+	 * Value returned by the scenarios without a first token.
+	 */
+	long NO_FIRST_TOKEN = -1L;
+
+	/**
+	 * Execute a single request, blocking until it completes.
+	 * @return the time to the first token of the response, in nanoseconds, or
+	 * {@link #NO_FIRST_TOKEN} when the response is not streamed
+	 */
+	long execute();
+
+	/**
+	 * A blocking {@link ChatClient} call.
+	 * @param chatClient the chat client
+	 * @param userText the user message
+	 * @return the scenario
+	 */
+	static LoadScenario call(ChatClient chatClient, String userText) {
+		Assert.notNull(chatClient, "chatClient cannot be null");
+		Assert.hasText(userText, "userText cannot be empty");
+		return () -> {
+			chatClient.prompt().user(userText).call().chatResponse();
+			return NO_FIRST_TOKEN;
+		};
+	}
+
+	/**
+	 * A streamed {@link ChatClient} request, consumed until its last chunk.
+	 * @param chatClient the chat client
+	 * @param userText the user message
+	 * @return the scenario
+	 */
+	static LoadScenario stream(ChatClient chatClient, String userText) {
+		Assert.notNull(chatClient, "chatClient cannot be null");
+		Assert.hasText(userText, "userText cannot be empty");
+		return () -> {
+			long start = System.nanoTime();
+			AtomicLong firstChunk = new AtomicLong();
+			chatClient.prompt()
+				.user(userText)
+				.stream()
+				.chatResponse()
+				.doOnNext(chatResponse -> firstChunk.compareAndSet(0, System.nanoTime()))
+				.blockLast();
+			return (firstChunk.get() != 0) ? firstChunk.get() - start : NO_FIRST_TOKEN;
+		};
+	}
+
+}
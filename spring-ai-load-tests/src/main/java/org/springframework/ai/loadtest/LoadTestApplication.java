@@ -0,0 +1,165 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.loadtest;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.client.advisor.RetrievalAugmentationAdvisor;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.model.function.FunctionCallback;
+import org.springframework.ai.openai.OpenAiChatModel;
+import org.springframework.ai.openai.OpenAiChatOptions;
+import org.springframework.ai.openai.OpenAiEmbeddingModel;
+import org.springframework.ai.openai.api.OpenAiApi;
+import org.springframework.ai.rag.retrieval.search.VectorStoreDocumentRetriever;
+import org.springframework.ai.vectorstore.SimpleVectorStore;
+
+/**
+ * Command line load test of the {@link ChatClient} and {@link OpenAiChatModel} stack
+ * against a local {@link MockOpenAiServer}. The scenarios are:
+ * <ul>
+ * <li>{@code call}: blocking chat client calls.</li>
+ * <li>{@code stream}: streamed chat client requests.</li>
+ * <li>{@code rag}: blocking calls through a {@link RetrievalAugmentationAdvisor},
+ * retrieving documents from a {@link SimpleVectorStore} embedded by the mock server.</li>
+ * </ul>
+ * With {@code --tool-calls=true}, the chat client registers a function the mock server
+ * calls before answering. The options are passed as {@code --name=value} arguments, see
+ * {@link #DEFAULTS}.
+ *
+ * @since 1.0.0
+ */
+public final class LoadTestApplication {
+
+	/**
+	 * The options and their default values.
+	 */
+	static final Map<String, String> DEFAULTS = Map.ofEntries(Map.entry("scenarios", "call,stream,rag"),
+			Map.entry("concurrency", "16"), Map.entry("warmup", "10s"), Map.entry("duration", "30s"),
+			Map.entry("ttft", "200ms"), Map.entry("tokens-per-second", "50"), Map.entry("completion-tokens", "100"),
+			Map.entry("embedding-latency", "20ms"), Map.entry("embedding-dimensions", "1536"),
+			Map.entry("documents", "500"), Map.entry("tool-calls", "false"), Map.entry("error-rate", "0"),
+			Map.entry("error-status", "500"));
+
+	private static final String USER_TEXT = "What is the throughput of the mocked model?";
+
+	private LoadTestApplication() {
+	}
+
+	public static void main(String[] args) throws IOException {
+		Map<String, String> options = parseOptions(args);
+
+		MockOpenAiServerSettings settings = MockOpenAiServerSettings.builder()
+			.timeToFirstToken(duration(options.get("ttft")))
+			.tokensPerSecond(Double.parseDouble(options.get("tokens-per-second")))
+			.completionTokens(Integer.parseInt(options.get("completion-tokens")))
+			.embeddingLatency(duration(options.get("embedding-latency")))
+			.embeddingDimensions(Integer.parseInt(options.get("embedding-dimensions")))
+			.toolCalls(Boolean.parseBoolean(options.get("tool-calls")))
+			.errorRate(Double.parseDouble(options.get("error-rate")))
+			.errorStatus(Integer.parseInt(options.get("error-status")))
+			.build();
+
+		try (MockOpenAiServer server = new MockOpenAiServer(settings).start()) {
+			OpenAiApi openAiApi = new OpenAiApi(server.getBaseUrl(), "mock-api-key");
+			OpenAiChatModel chatModel = new OpenAiChatModel(openAiApi,
+					OpenAiChatOptions.builder().model("gpt-4o-mini").streamUsage(true).build());
+			ChatClient.Builder chatClientBuilder = ChatClient.builder(chatModel);
+			if (settings.toolCalls()) {
+				chatClientBuilder.defaultFunctions(FunctionCallback.builder()
+					.function("currentLoad", () -> "The model serves 42 requests per second")
+					.description("Get the current load of the model")
+					.build());
+			}
+			ChatClient chatClient = chatClientBuilder.build();
+
+			LoadDriver driver = new LoadDriver(Integer.parseInt(options.get("concurrency")),
+					duration(options.get("warmup")), duration(options.get("duration")));
+
+			List<LoadReport> reports = new ArrayList<>();
+			for (String scenario : options.get("scenarios").split(",")) {
+				switch (scenario.trim()) {
+					case "call" -> reports.add(driver.run("call", LoadScenario.call(chatClient, USER_TEXT)));
+					case "stream" -> reports.add(driver.run("stream", LoadScenario.stream(chatClient, USER_TEXT)));
+					case "rag" -> reports.add(driver.run("rag", LoadScenario.call(ragChatClient(chatModel,
+							new OpenAiEmbeddingModel(openAiApi), Integer.parseInt(options.get("documents"))),
+							USER_TEXT)));
+					default -> throw new IllegalArgumentException("Unknown scenario: " + scenario);
+				}
+			}
+
+			System.out.println();
+			System.out.println("Options: " + options);
+			reports.forEach(System.out::println);
+			System.out.printf("Mock server: %d chat completions, %d embeddings, %d injected errors%n",
+					server.getChatCompletions(), server.getEmbeddings(), server.getInjectedErrors());
+		}
+	}
+
+	static ChatClient ragChatClient(OpenAiChatModel chatModel, OpenAiEmbeddingModel embeddingModel,
+			int documentCount) {
+		SimpleVectorStore vectorStore = SimpleVectorStore.builder(embeddingModel).build();
+		List<Document> documents = new ArrayList<>(documentCount);
+		for (int i = 0; i < documentCount; i++) {
+			documents.add(new Document("Document " + i + " describes the latency and the throughput of model " + i
+					+ " when serving " + (i * 10) + " concurrent requests.", Map.of("model", i)));
+		}
+		vectorStore.add(documents);
+		return ChatClient.builder(chatModel)
+			.defaultAdvisors(RetrievalAugmentationAdvisor.builder()
+				.documentRetriever(VectorStoreDocumentRetriever.builder()
+					.vectorStore(vectorStore)
+					.similarityThreshold(0.0)
+					.topK(4)
+					.build())
+				.build())
+			.build();
+	}
+
+	static Map<String, String> parseOptions(String[] args) {
+		Map<String, String> options = new TreeMap<>(DEFAULTS);
+		for (String arg : args) {
+			if (!arg.startsWith("--") || !arg.contains("=")) {
+				throw new IllegalArgumentException("Options must be passed as --name=value: " + arg);
+			}
+			String name = arg.substring(2, arg.indexOf('='));
+			if (!DEFAULTS.containsKey(name)) {
+				throw new IllegalArgumentException(
+						"Unknown option " + name + ", the options are " + DEFAULTS.keySet());
+			}
+			options.put(name, arg.substring(arg.indexOf('=') + 1));
+		}
+		return options;
+	}
+
+	static Duration duration(String value) {
+		if (value.endsWith("ms")) {
+			return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+		}
+		if (value.endsWith("s")) {
+			return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+		}
+		return Duration.ofMillis(Long.parseLong(value));
+	}
+
+}
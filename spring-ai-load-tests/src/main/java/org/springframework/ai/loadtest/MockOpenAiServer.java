@@ -0,0 +1,393 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.loadtest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.CustomizableThreadFactory;
+
+/**
+ * Local HTTP server mocking the OpenAI chat completions, streamed as server-sent events
+ * or not, and embeddings endpoints. The latency, token rate, tool calls and errors of its
+ * responses are set by the {@link MockOpenAiServerSettings}. The server runs on the JDK
+ * HTTP server, with a thread per pending request, so that its latency does not depend on
+ * the load.
+ *
+ * @since 1.0.0
+ */
+public class MockOpenAiServer implements AutoCloseable {
+
+	private static final Logger logger = LoggerFactory.getLogger(MockOpenAiServer.class);
+
+	private static final String[] TOKENS = { " The", " model", " answers", " with", " a", " mocked", " token",
+			" stream", ",", " one", " chunk", " at", " a", " time", "." };
+
+	private static final String MODEL = "gpt-4o-mini-mock";
+
+	private static final byte[] DONE_EVENT = "data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8);
+
+	private final MockOpenAiServerSettings settings;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final ExecutorService executor;
+
+	private final HttpServer server;
+
+	private final AtomicLong chatCompletions = new AtomicLong();
+
+	private final AtomicLong embeddings = new AtomicLong();
+
+	private final AtomicLong injectedErrors = new AtomicLong();
+
+	private final AtomicLong ids = new AtomicLong();
+
+	private final String completionText;
+
+	public MockOpenAiServer(MockOpenAiServerSettings settings) throws IOException {
+		Assert.notNull(settings, "settings cannot be null");
+		this.settings = settings;
+		this.completionText = completionText(settings.completionTokens());
+		this.executor = Executors.newCachedThreadPool(daemonThreadFactory());
+		this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), settings.port()),
+				1024);
+		this.server.setExecutor(this.executor);
+		this.server.createContext("/v1/chat/completions", this::handle);
+		this.server.createContext("/v1/embeddings", this::handle);
+	}
+
+	/**
+	 * Start the server.
+	 * @return this server
+	 */
+	public MockOpenAiServer start() {
+		this.server.start();
+		logger.info("Mock OpenAI server listening on {}", getBaseUrl());
+		return this;
+	}
+
+	/**
+	 * {@return the base URL of the server, to configure the OpenAI API client with}
+	 */
+	public String getBaseUrl() {
+		return "http://" + this.server.getAddress().getHostString() + ":" + this.server.getAddress().getPort();
+	}
+
+	/**
+	 * {@return the number of chat completion requests received}
+	 */
+	public long getChatCompletions() {
+		return this.chatCompletions.get();
+	}
+
+	/**
+	 * {@return the number of embedding requests received}
+	 */
+	public long getEmbeddings() {
+		return this.embeddings.get();
+	}
+
+	/**
+	 * {@return the number of requests failed on purpose}
+	 */
+	public long getInjectedErrors() {
+		return this.injectedErrors.get();
+	}
+
+	@Override
+	public void close() {
+		this.server.stop(0);
+		this.executor.shutdownNow();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try {
+			if (!"POST".equals(exchange.getRequestMethod())) {
+				exchange.sendResponseHeaders(405, -1);
+				return;
+			}
+			JsonNode request = this.objectMapper.readTree(exchange.getRequestBody());
+			boolean embeddingRequest = exchange.getRequestURI().getPath().endsWith("/embeddings");
+			(embeddingRequest ? this.embeddings : this.chatCompletions).incrementAndGet();
+
+			if (this.settings.errorRate() > 0 && ThreadLocalRandom.current().nextDouble() < this.settings.errorRate()) {
+				this.injectedErrors.incrementAndGet();
+				sendError(exchange);
+			}
+			else if (embeddingRequest) {
+				sleep(this.settings.embeddingLatency().toNanos());
+				sendJson(exchange, embeddingResponse(request));
+			}
+			else if (request.path("stream").asBoolean(false)) {
+				streamChatCompletion(exchange, request);
+			}
+			else {
+				sleep(this.settings.timeToFirstToken().toNanos()
+						+ (this.settings.completionTokens() - 1) * this.settings.interTokenNanos());
+				sendJson(exchange, chatCompletion(request));
+			}
+		}
+		catch (IOException ex) {
+			// The client went away
+			logger.debug("Failed to answer {}", exchange.getRequestURI(), ex);
+		}
+		finally {
+			exchange.close();
+		}
+	}
+
+	private ObjectNode chatCompletion(JsonNode request) {
+		ObjectNode completion = this.objectMapper.createObjectNode()
+			.put("id", "chatcmpl-mock-" + this.ids.incrementAndGet())
+			.put("object", "chat.completion")
+			.put("created", System.currentTimeMillis() / 1000)
+			.put("model", MODEL);
+		ObjectNode choice = completion.putArray("choices").addObject().put("index", 0);
+		ObjectNode message = choice.putObject("message").put("role", "assistant");
+		String toolName = toolToCall(request);
+		if (toolName != null) {
+			message.putNull("content");
+			toolCall(message.putArray("tool_calls").addObject(), toolName);
+			choice.put("finish_reason", "tool_calls");
+		}
+		else {
+			message.put("content", this.completionText);
+			choice.put("finish_reason", "stop");
+		}
+		usage(completion, request, (toolName != null) ? 1 : this.settings.completionTokens());
+		return completion;
+	}
+
+	private void streamChatCompletion(HttpExchange exchange, JsonNode request) throws IOException {
+		String id = "chatcmpl-mock-" + this.ids.incrementAndGet();
+		long created = System.currentTimeMillis() / 1000;
+		String toolName = toolToCall(request);
+
+		sleep(this.settings.timeToFirstToken().toNanos());
+		exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+		exchange.sendResponseHeaders(200, 0);
+		OutputStream body = exchange.getResponseBody();
+
+		if (toolName != null) {
+			ObjectNode chunk = chunk(id, created);
+			ObjectNode delta = chunk.putArray("choices").addObject().put("index", 0).putObject("delta");
+			delta.put("role", "assistant");
+			toolCall(delta.putArray("tool_calls").addObject().put("index", 0), toolName);
+			sendEvent(body, chunk);
+		}
+		else {
+			for (int i = 0; i < this.settings.completionTokens(); i++) {
+				if (i > 0) {
+					sleep(this.settings.interTokenNanos());
+				}
+				ObjectNode chunk = chunk(id, created);
+				ObjectNode choice = chunk.putArray("choices").addObject().put("index", 0);
+				ObjectNode delta = choice.putObject("delta");
+				if (i == 0) {
+					delta.put("role", "assistant");
+				}
+				delta.put("content", TOKENS[i % TOKENS.length]);
+				choice.putNull("finish_reason");
+				sendEvent(body, chunk);
+			}
+		}
+
+		ObjectNode lastChunk = chunk(id, created);
+		lastChunk.putArray("choices")
+			.addObject()
+			.put("index", 0)
+			.put("finish_reason", (toolName != null) ? "tool_calls" : "stop")
+			.putObject("delta");
+		sendEvent(body, lastChunk);
+
+		if (request.path("stream_options").path("include_usage").asBoolean(false)) {
+			ObjectNode usageChunk = chunk(id, created);
+			usageChunk.putArray("choices");
+			usage(usageChunk, request, (toolName != null) ? 1 : this.settings.completionTokens());
+			sendEvent(body, usageChunk);
+		}
+		body.write(DONE_EVENT);
+		body.flush();
+	}
+
+	private ObjectNode chunk(String id, long created) {
+		return this.objectMapper.createObjectNode()
+			.put("id", id)
+			.put("object", "chat.completion.chunk")
+			.put("created", created)
+			.put("model", MODEL);
+	}
+
+	private void toolCall(ObjectNode toolCall, String toolName) {
+		toolCall.put("id", "call_mock_" + this.ids.incrementAndGet())
+			.put("type", "function")
+			.putObject("function")
+			.put("name", toolName)
+			.put("arguments", this.settings.toolCallArguments());
+	}
+
+	// The first tool of the request, unless the request already contains a tool response
+	@Nullable
+	private String toolToCall(JsonNode request) {
+		if (!this.settings.toolCalls() || !request.path("tools").isArray() || request.path("tools").isEmpty()) {
+			return null;
+		}
+		for (JsonNode message : request.path("messages")) {
+			if ("tool".equals(message.path("role").asText())) {
+				return null;
+			}
+		}
+		return request.path("tools").get(0).path("function").path("name").asText();
+	}
+
+	private ObjectNode embeddingResponse(JsonNode request) {
+		List<String> inputs = new ArrayList<>();
+		if (request.path("input").isArray()) {
+			request.path("input").forEach(input -> inputs.add(input.asText()));
+		}
+		else {
+			inputs.add(request.path("input").asText());
+		}
+		boolean base64 = "base64".equals(request.path("encoding_format").asText());
+
+		ObjectNode response = this.objectMapper.createObjectNode().put("object", "list");
+		ArrayNode data = response.putArray("data");
+		int promptTokens = 0;
+		for (int i = 0; i < inputs.size(); i++) {
+			float[] embedding = embedding(inputs.get(i));
+			ObjectNode item = data.addObject().put("object", "embedding").put("index", i);
+			if (base64) {
+				ByteBuffer buffer = ByteBuffer.allocate(embedding.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+				buffer.asFloatBuffer().put(embedding);
+				item.put("embedding", Base64.getEncoder().encodeToString(buffer.array()));
+			}
+			else {
+				ArrayNode values = item.putArray("embedding");
+				for (float value : embedding) {
+					values.add(value);
+				}
+			}
+			promptTokens += Math.max(1, inputs.get(i).length() / 4);
+		}
+		response.put("model", request.path("model").asText(MODEL));
+		response.putObject("usage").put("prompt_tokens", promptTokens).put("total_tokens", promptTokens);
+		return response;
+	}
+
+	// A unit length embedding seeded by the text: the same text gets the same embedding
+	private float[] embedding(String text) {
+		Random random = new Random(text.hashCode());
+		float[] embedding = new float[this.settings.embeddingDimensions()];
+		double norm = 0;
+		for (int i = 0; i < embedding.length; i++) {
+			embedding[i] = (float) random.nextGaussian();
+			norm += embedding[i] * embedding[i];
+		}
+		float scale = (float) (1.0 / Math.sqrt(norm));
+		for (int i = 0; i < embedding.length; i++) {
+			embedding[i] *= scale;
+		}
+		return embedding;
+	}
+
+	private void usage(ObjectNode response, JsonNode request, int completionTokens) {
+		int promptTokens = Math.max(1, request.path("messages").toString().length() / 4);
+		response.putObject("usage")
+			.put("prompt_tokens", promptTokens)
+			.put("completion_tokens", completionTokens)
+			.put("total_tokens", promptTokens + completionTokens);
+	}
+
+	private void sendJson(HttpExchange exchange, JsonNode response) throws IOException {
+		byte[] body = this.objectMapper.writeValueAsBytes(response);
+		exchange.getResponseHeaders().set("Content-Type", "application/json");
+		exchange.sendResponseHeaders(200, body.length);
+		exchange.getResponseBody().write(body);
+	}
+
+	private void sendEvent(OutputStream body, JsonNode chunk) throws IOException {
+		body.write("data: ".getBytes(StandardCharsets.UTF_8));
+		body.write(this.objectMapper.writeValueAsBytes(chunk));
+		body.write("\n\n".getBytes(StandardCharsets.UTF_8));
+		body.flush();
+	}
+
+	private void sendError(HttpExchange exchange) throws IOException {
+		ObjectNode error = this.objectMapper.createObjectNode();
+		error.putObject("error")
+			.put("message", "Error injected by the mock OpenAI server")
+			.put("type", (this.settings.errorStatus() == 429) ? "rate_limit_exceeded" : "server_error")
+			.putNull("code");
+		byte[] body = this.objectMapper.writeValueAsBytes(error);
+		exchange.getResponseHeaders().set("Content-Type", "application/json");
+		exchange.sendResponseHeaders(this.settings.errorStatus(), body.length);
+		exchange.getResponseBody().write(body);
+	}
+
+	private static String completionText(int completionTokens) {
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < completionTokens; i++) {
+			text.append(TOKENS[i % TOKENS.length]);
+		}
+		return text.toString().trim();
+	}
+
+	private static CustomizableThreadFactory daemonThreadFactory() {
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("mock-openai-");
+		threadFactory.setDaemon(true);
+		return threadFactory;
+	}
+
+	private static void sleep(long nanos) {
+		if (nanos <= 0) {
+			return;
+		}
+		try {
+			TimeUnit.NANOSECONDS.sleep(nanos);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
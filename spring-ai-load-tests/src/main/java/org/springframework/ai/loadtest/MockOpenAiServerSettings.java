@@ -0,0 +1,150 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.loadtest;
+
+import java.time.Duration;
+
+import org.springframework.util.Assert;
+
+/**
+ * Behavior of the {@link MockOpenAiServer}: the latency and token rate of its responses,
+ * the tool calls it requests and the errors it injects.
+ *
+ * @param port the port of the server, {@code 0} for a random port
+ * @param timeToFirstToken the time before the first token of a chat completion
+ * @param tokensPerSecond the rate of the following tokens, {@code 0} to send them at once
+ * @param completionTokens the number of tokens of a chat completion
+ * @param embeddingLatency the time to compute the embeddings of a request
+ * @param embeddingDimensions the number of dimensions of the embeddings
+ * @param toolCalls whether a chat completion request with tools is answered with a call to
+ * its first tool, until the request contains the tool response
+ * @param toolCallArguments the JSON arguments of the tool calls
+ * @param errorRate the probability, between 0 and 1, that a request fails
+ * @param errorStatus the HTTP status of the failed requests
+ * @since 1.0.0
+ */
+public record MockOpenAiServerSettings(int port, Duration timeToFirstToken, double tokensPerSecond,
+		int completionTokens, Duration embeddingLatency, int embeddingDimensions, boolean toolCalls,
+		String toolCallArguments, double errorRate, int errorStatus) {
+
+	public MockOpenAiServerSettings {
+		Assert.isTrue(port >= 0, "port must be positive");
+		Assert.notNull(timeToFirstToken, "timeToFirstToken cannot be null");
+		Assert.isTrue(tokensPerSecond >= 0, "tokensPerSecond must be positive");
+		Assert.isTrue(completionTokens > 0, "completionTokens must be greater than 0");
+		Assert.notNull(embeddingLatency, "embeddingLatency cannot be null");
+		Assert.isTrue(embeddingDimensions > 0, "embeddingDimensions must be greater than 0");
+		Assert.hasText(toolCallArguments, "toolCallArguments cannot be empty");
+		Assert.isTrue(errorRate >= 0 && errorRate <= 1, "errorRate must be between 0 and 1");
+		Assert.isTrue(errorStatus >= 400 && errorStatus < 600, "errorStatus must be an HTTP error status");
+	}
+
+	/**
+	 * {@return the time between two tokens of a chat completion, in nanoseconds}
+	 */
+	long interTokenNanos() {
+		return (this.tokensPerSecond > 0) ? (long) (1_000_000_000L / this.tokensPerSecond) : 0L;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	public static final class Builder {
+
+		private int port = 0;
+
+		private Duration timeToFirstToken = Duration.ofMillis(200);
+
+		private double tokensPerSecond = 50;
+
+		private int completionTokens = 100;
+
+		private Duration embeddingLatency = Duration.ofMillis(20);
+
+		private int embeddingDimensions = 1536;
+
+		private boolean toolCalls = false;
+
+		private String toolCallArguments = "{}";
+
+		private double errorRate = 0;
+
+		private int errorStatus = 500;
+
+		private Builder() {
+		}
+
+		public Builder port(int port) {
+			this.port = port;
+			return this;
+		}
+
+		public Builder timeToFirstToken(Duration timeToFirstToken) {
+			this.timeToFirstToken = timeToFirstToken;
+			return this;
+		}
+
+		public Builder tokensPerSecond(double tokensPerSecond) {
+			this.tokensPerSecond = tokensPerSecond;
+			return this;
+		}
+
+		public Builder completionTokens(int completionTokens) {
+			this.completionTokens = completionTokens;
+			return this;
+		}
+
+		public Builder embeddingLatency(Duration embeddingLatency) {
+			this.embeddingLatency = embeddingLatency;
+			return this;
+		}
+
+		public Builder embeddingDimensions(int embeddingDimensions) {
+			this.embeddingDimensions = embeddingDimensions;
+			return this;
+		}
+
+		public Builder toolCalls(boolean toolCalls) {
+			this.toolCalls = toolCalls;
+			return this;
+		}
+
+		public Builder toolCallArguments(String toolCallArguments) {
+			this.toolCallArguments = toolCallArguments;
+			return this;
+		}
+
+		public Builder errorRate(double errorRate) {
+			this.errorRate = errorRate;
+			return this;
+		}
+
+		public Builder errorStatus(int errorStatus) {
+			this.errorStatus = errorStatus;
+			return this;
+		}
+
+		public MockOpenAiServerSettings build() {
+			return new MockOpenAiServerSettings(this.port, this.timeToFirstToken, this.tokensPerSecond,
+					this.completionTokens, this.embeddingLatency, this.embeddingDimensions, this.toolCalls,
+					this.toolCallArguments, this.errorRate, this.errorStatus);
+		}
+
+	}
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.loadtest;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.openai.OpenAiChatModel;
+import org.springframework.ai.openai.OpenAiChatOptions;
+import org.springframework.ai.openai.OpenAiEmbeddingModel;
+import org.springframework.ai.openai.api.OpenAiApi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link LoadDriver}, with short runs against the {@link MockOpenAiServer}.
+ *
+ * @since 1.0.0
+ */
+class LoadDriverTests {
+
+	private final LoadDriver driver = new LoadDriver(4, Duration.ofMillis(200), Duration.ofMillis(500));
+
+	@Test
+	void reportsTheCallAndStreamScenarios() throws IOException {
+		try (MockOpenAiServer server = new MockOpenAiServer(settings().build()).start()) {
+			OpenAiChatModel chatModel = chatModel(server);
+			ChatClient chatClient = ChatClient.create(chatModel);
+
+			LoadReport call = this.driver.run("call", LoadScenario.call(chatClient, "Hello"));
+			LoadReport stream = this.driver.run("stream", LoadScenario.stream(chatClient, "Hello"));
+
+			assertThat(call.requests()).isPositive();
+			assertThat(call.errors()).isZero();
+			assertThat(call.throughput()).isPositive();
+			assertThat(call.latency(0.5)).isGreaterThanOrEqualTo(Duration.ofMillis(5));
+			assertThat(call.timeToFirstToken(0.5)).isNull();
+
+			assertThat(stream.requests()).isPositive();
+			assertThat(stream.timeToFirstToken(0.5)).isGreaterThanOrEqualTo(Duration.ofMillis(5))
+				.isLessThanOrEqualTo(stream.latency(0.5));
+			assertThat(stream.toString()).contains("stream", "throughput=", "ttft p50=");
+		}
+	}
+
+	@Test
+	void reportsTheRagScenario() throws IOException {
+		try (MockOpenAiServer server = new MockOpenAiServer(settings().build()).start()) {
+			OpenAiApi openAiApi = new OpenAiApi(server.getBaseUrl(), "mock-api-key");
+			ChatClient chatClient = LoadTestApplication.ragChatClient(chatModel(server),
+					new OpenAiEmbeddingModel(openAiApi), 10);
+
+			LoadReport rag = this.driver.run("rag", LoadScenario.call(chatClient, "Hello"));
+
+			assertThat(rag.requests()).isPositive();
+			assertThat(rag.errors()).isZero();
+			assertThat(server.getEmbeddings()).isGreaterThan(10);
+		}
+	}
+
+	@Test
+	void countsTheFailedRequests() throws IOException {
+		try (MockOpenAiServer server = new MockOpenAiServer(settings().errorRate(1).errorStatus(400).build())
+			.start()) {
+			LoadReport call = this.driver.run("call", LoadScenario.call(ChatClient.create(chatModel(server)), "Hello"));
+
+			assertThat(call.requests()).isZero();
+			assertThat(call.errors()).isPositive();
+			assertThat(call.latency(0.99)).isNull();
+		}
+	}
+
+	private static MockOpenAiServerSettings.Builder settings() {
+		return MockOpenAiServerSettings.builder()
+			.timeToFirstToken(Duration.ofMillis(5))
+			.tokensPerSecond(1000)
+			.completionTokens(5)
+			.embeddingLatency(Duration.ZERO)
+			.embeddingDimensions(8);
+	}
+
+	private static OpenAiChatModel chatModel(MockOpenAiServer server) {
+		return new OpenAiChatModel(new OpenAiApi(server.getBaseUrl(), "mock-api-key"),
+				OpenAiChatOptions.builder().model("gpt-4o-mini").streamUsage(true).build());
+	}
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.loadtest;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.model.function.FunctionCallback;
+import org.springframework.ai.openai.OpenAiChatModel;
+import org.springframework.ai.openai.OpenAiChatOptions;
+import org.springframework.ai.openai.OpenAiEmbeddingModel;
+import org.springframework.ai.openai.OpenAiEmbeddingOptions;
+import org.springframework.ai.openai.api.OpenAiApi;
+import org.springframework.ai.retry.NonTransientAiException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link MockOpenAiServer}, through the OpenAI client.
+ *
+ * @since 1.0.0
+ */
+class MockOpenAiServerTests {
+
+	private static MockOpenAiServerSettings.Builder fastSettings() {
+		return MockOpenAiServerSettings.builder()
+			.timeToFirstToken(Duration.ZERO)
+			.tokensPerSecond(0)
+			.completionTokens(10)
+			.embeddingLatency(Duration.ZERO)
+			.embeddingDimensions(8);
+	}
+
+	private static ChatClient chatClient(MockOpenAiServer server) {
+		return ChatClient.create(new OpenAiChatModel(new OpenAiApi(server.getBaseUrl(), "mock-api-key"),
+				OpenAiChatOptions.builder().model("gpt-4o-mini").streamUsage(true).build()));
+	}
+
+	@Test
+	void answersChatCompletions() throws IOException {
+		try (MockOpenAiServer server = new MockOpenAiServer(fastSettings().build()).start()) {
+			ChatResponse response = chatClient(server).prompt().user("Hello").call().chatResponse();
+
+			assertThat(response.getResult().getOutput().getText()).startsWith("The model answers");
+			assertThat(response.getMetadata().getUsage().getGenerationTokens()).isEqualTo(10L);
+			assertThat(server.getChatCompletions()).isEqualTo(1);
+		}
+	}
+
+	@Test
+	void streamsChatCompletionsWithUsage() throws IOException {
+		try (MockOpenAiServer server = new MockOpenAiServer(fastSettings().build()).start()) {
+			List<ChatResponse> chunks = chatClient(server).prompt()
+				.user("Hello")
+				.stream()
+				.chatResponse()
+				.collectList()
+				.block();
+
+			String text = chunks.stream()
+				.filter(chunk -> chunk.getResult() != null && chunk.getResult().getOutput().getText() != null)
+				.map(chunk -> chunk.getResult().getOutput().getText())
+				.reduce("", String::concat);
+			assertThat(text.trim()).startsWith("The model answers");
+			assertThat(chunks).anySatisfy(
+					chunk -> assertThat(chunk.getMetadata().getUsage().getGenerationTokens()).isEqualTo(10L));
+		}
+	}
+
+	@Test
+	void callsTheFirstToolUntilItGetsItsResponse() throws IOException {
+		AtomicInteger toolCalls = new AtomicInteger();
+		try (MockOpenAiServer server = new MockOpenAiServer(fastSettings().toolCalls(true).build()).start()) {
+			String content = chatClient(server).prompt()
+				.user("How loaded is the model?")
+				.functions(FunctionCallback.builder()
+					.function("currentLoad", () -> "load " + toolCalls.incrementAndGet())
+					.description("Get the current load of the model")
+					.build())
+				.call()
+				.content();
+
+			assertThat(content).startsWith("The model answers");
+			assertThat(toolCalls).hasValue(1);
+			assertThat(server.getChatCompletions()).isEqualTo(2);
+		}
+	}
+
+	@Test
+	void answersBase64AndFloatEmbeddings() throws IOException {
+		try (MockOpenAiServer server = new MockOpenAiServer(fastSettings().build()).start()) {
+			OpenAiApi openAiApi = new OpenAiApi(server.getBaseUrl(), "mock-api-key");
+
+			float[] base64Embedding = new OpenAiEmbeddingModel(openAiApi).embed("Hello");
+			float[] floatEmbedding = new OpenAiEmbeddingModel(openAiApi)
+				.call(new EmbeddingRequest(List.of("Hello"),
+						OpenAiEmbeddingOptions.builder().encodingFormat("float").build()))
+				.getResult()
+				.getOutput();
+
+			assertThat(base64Embedding).hasSize(8).containsExactly(floatEmbedding);
+			assertThat(server.getEmbeddings()).isEqualTo(2);
+		}
+	}
+
+	@Test
+	void injectsErrors() throws IOException {
+		try (MockOpenAiServer server = new MockOpenAiServer(fastSettings().errorRate(1).errorStatus(400).build())
+			.start()) {
+			assertThatThrownBy(() -> chatClient(server).prompt().user("Hello").call().content())
+				.isInstanceOf(NonTransientAiException.class);
+			assertThat(server.getInjectedErrors()).isEqualTo(1);
+		}
+	}
+
+}
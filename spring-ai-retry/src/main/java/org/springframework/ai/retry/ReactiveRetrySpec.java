@@ -0,0 +1,277 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.retry;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.Assert;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/**
+ * Non-blocking retry for streaming model calls. The reactive counterpart of the
+ * {@link RetryUtils#DEFAULT_RETRY_TEMPLATE}: waits out an exponential backoff with jitter
+ * on a timer instead of blocking the calling thread, so it is safe to use on event loop
+ * threads.
+ *
+ * <p>
+ * Failures are classified the same way as for blocking calls:
+ * {@link TransientAiException}s are retried, {@link NonTransientAiException}s are not.
+ * HTTP errors are retried for 5xx status codes and, unless configured otherwise, not for
+ * 4xx status codes. A {@code Retry-After} response header takes precedence over the
+ * computed backoff.
+ * </p>
+ *
+ * <p>
+ * A stream is only retried while it has not emitted any element yet, since a retry after
+ * the first token would replay the response from the beginning.
+ * </p>
+ *
+ * @since 1.0.0
+ * @see RetryUtils#DEFAULT_STREAM_RETRY
+ */
+public final class ReactiveRetrySpec extends Retry {
+
+	private static final Logger logger = LoggerFactory.getLogger(ReactiveRetrySpec.class);
+
+	private final int maxAttempts;
+
+	private final Duration initialInterval;
+
+	private final double multiplier;
+
+	private final Duration maxInterval;
+
+	private final double jitter;
+
+	private final boolean retryOnClientErrors;
+
+	private final Set<Integer> retryOnHttpCodes;
+
+	private final Set<Integer> excludeOnHttpCodes;
+
+	private ReactiveRetrySpec(Builder builder) {
+		this.maxAttempts = builder.maxAttempts;
+		this.initialInterval = builder.initialInterval;
+		this.multiplier = builder.multiplier;
+		this.maxInterval = builder.maxInterval;
+		this.jitter = builder.jitter;
+		this.retryOnClientErrors = builder.retryOnClientErrors;
+		this.retryOnHttpCodes = Set.copyOf(builder.retryOnHttpCodes);
+		this.excludeOnHttpCodes = Set.copyOf(builder.excludeOnHttpCodes);
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Applies the retry to the given stream. The stream is re-subscribed on transient
+	 * failures, as long as it has not emitted any element.
+	 * @param stream the stream to retry. Must be cold, so that every subscription
+	 * performs a new call.
+	 * @param <T> the element type.
+	 * @return the retrying stream.
+	 */
+	public <T> Flux<T> apply(Flux<T> stream) {
+		return Flux.defer(() -> {
+			AtomicBoolean emitted = new AtomicBoolean(false);
+			return stream.doOnNext(element -> emitted.set(true))
+				.retryWhen(Retry.from(signals -> generateCompanion(signals.handle((signal, sink) -> {
+					if (emitted.get()) {
+						sink.error(signal.failure());
+					}
+					else {
+						sink.next(signal);
+					}
+				}))));
+		});
+	}
+
+	@Override
+	public Publisher<?> generateCompanion(Flux<RetrySignal> retrySignals) {
+		return retrySignals.concatMap(signal -> {
+			Throwable failure = signal.failure();
+			long attempt = signal.totalRetries() + 1;
+			if (attempt >= this.maxAttempts || !isTransient(failure)) {
+				return Mono.error(failure);
+			}
+			Duration delay = retryAfter(failure);
+			if (delay == null) {
+				delay = backoff(signal.totalRetries());
+			}
+			logger.warn("Stream retry error. Retry count: {}, retrying in {} ms", attempt, delay.toMillis(), failure);
+			return Mono.delay(delay).thenReturn(attempt);
+		});
+	}
+
+	boolean isTransient(Throwable failure) {
+		if (failure instanceof NonTransientAiException) {
+			return false;
+		}
+		if (failure instanceof TransientAiException) {
+			return true;
+		}
+		if (failure instanceof WebClientResponseException responseException) {
+			int status = responseException.getStatusCode().value();
+			if (this.retryOnHttpCodes.contains(status)) {
+				return true;
+			}
+			if (this.excludeOnHttpCodes.contains(status)) {
+				return false;
+			}
+			return !responseException.getStatusCode().is4xxClientError() || this.retryOnClientErrors;
+		}
+		return failure instanceof WebClientRequestException || failure instanceof IOException
+				|| failure instanceof TimeoutException;
+	}
+
+	Duration backoff(long retries) {
+		double interval = this.initialInterval.toMillis() * Math.pow(this.multiplier, retries);
+		interval = Math.min(interval, this.maxInterval.toMillis());
+		if (this.jitter > 0) {
+			double offset = interval * this.jitter;
+			interval = interval - offset + ThreadLocalRandom.current().nextDouble() * 2 * offset;
+		}
+		return Duration.ofMillis(Math.round(Math.min(interval, this.maxInterval.toMillis())));
+	}
+
+	private Duration retryAfter(Throwable failure) {
+		if (!(failure instanceof WebClientResponseException responseException)) {
+			return null;
+		}
+		String retryAfter = responseException.getHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+		if (retryAfter == null || retryAfter.isBlank()) {
+			return null;
+		}
+		Duration delay;
+		try {
+			delay = Duration.ofSeconds(Long.parseLong(retryAfter.trim()));
+		}
+		catch (NumberFormatException ex) {
+			try {
+				ZonedDateTime retryAt = ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+				delay = Duration.between(ZonedDateTime.now(retryAt.getZone()), retryAt);
+			}
+			catch (DateTimeParseException parseException) {
+				logger.warn("Invalid Retry-After header value: {}", retryAfter);
+				return null;
+			}
+		}
+		if (delay.isNegative()) {
+			return Duration.ZERO;
+		}
+		return (delay.compareTo(this.maxInterval) > 0) ? this.maxInterval : delay;
+	}
+
+	public static final class Builder {
+
+		private int maxAttempts = 10;
+
+		private Duration initialInterval = Duration.ofMillis(2000);
+
+		private double multiplier = 5;
+
+		private Duration maxInterval = Duration.ofMillis(3 * 60000);
+
+		private double jitter = 0.5;
+
+		private boolean retryOnClientErrors = false;
+
+		private Set<Integer> retryOnHttpCodes = Set.of();
+
+		private Set<Integer> excludeOnHttpCodes = Set.of();
+
+		private Builder() {
+		}
+
+		/**
+		 * Maximum number of attempts, including the initial one.
+		 * @param maxAttempts the maximum number of attempts.
+		 * @return this builder.
+		 */
+		public Builder maxAttempts(int maxAttempts) {
+			Assert.isTrue(maxAttempts > 0, "maxAttempts must be greater than 0");
+			this.maxAttempts = maxAttempts;
+			return this;
+		}
+
+		public Builder exponentialBackoff(Duration initialInterval, double multiplier, Duration maxInterval) {
+			Assert.notNull(initialInterval, "initialInterval must not be null");
+			Assert.notNull(maxInterval, "maxInterval must not be null");
+			Assert.isTrue(multiplier >= 1, "multiplier must be greater than or equal to 1");
+			this.initialInterval = initialInterval;
+			this.multiplier = multiplier;
+			this.maxInterval = maxInterval;
+			return this;
+		}
+
+		public Builder fixedBackoff(Duration interval) {
+			return exponentialBackoff(interval, 1, interval);
+		}
+
+		/**
+		 * Randomization factor applied to the backoff, between 0 (none) and 1.
+		 * @param jitter the jitter factor.
+		 * @return this builder.
+		 */
+		public Builder jitter(double jitter) {
+			Assert.isTrue(jitter >= 0 && jitter <= 1, "jitter must be between 0 and 1");
+			this.jitter = jitter;
+			return this;
+		}
+
+		public Builder retryOnClientErrors(boolean retryOnClientErrors) {
+			this.retryOnClientErrors = retryOnClientErrors;
+			return this;
+		}
+
+		public Builder retryOnHttpCodes(Set<Integer> retryOnHttpCodes) {
+			Assert.notNull(retryOnHttpCodes, "retryOnHttpCodes must not be null");
+			this.retryOnHttpCodes = retryOnHttpCodes;
+			return this;
+		}
+
+		public Builder excludeOnHttpCodes(Set<Integer> excludeOnHttpCodes) {
+			Assert.notNull(excludeOnHttpCodes, "excludeOnHttpCodes must not be null");
+			this.excludeOnHttpCodes = excludeOnHttpCodes;
+			return this;
+		}
+
+		public ReactiveRetrySpec build() {
+			return new ReactiveRetrySpec(this);
+		}
+
+	}
+
+}
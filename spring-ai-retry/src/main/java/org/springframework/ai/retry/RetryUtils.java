@@ -34,7 +34,8 @@ import org.springframework.web.client.ResponseErrorHandler;
 
 /**
  * RetryUtils is a utility class for configuring and handling retry operations. It
- * provides a default RetryTemplate and a default ResponseErrorHandler.
+ * provides a default RetryTemplate, a default non-blocking retry for streaming calls and
+ * a default ResponseErrorHandler.
  *
  * @author Christian Tzolov
  * @since 0.8.1
@@ -101,4 +102,23 @@ public abstract class RetryUtils {
 		})
 		.build();
 
+	/**
+	 * Non-blocking retry for streaming calls, with the same attempts and backoff as the
+	 * {@link #DEFAULT_RETRY_TEMPLATE} plus jitter.
+	 */
+	public static final ReactiveRetrySpec DEFAULT_STREAM_RETRY = ReactiveRetrySpec.builder()
+		.maxAttempts(10)
+		.exponentialBackoff(Duration.ofMillis(2000), 5, Duration.ofMillis(3 * 60000))
+		.jitter(0.5)
+		.build();
+
+	/**
+	 * Useful in testing scenarios where you don't want to wait long for retry.
+	 */
+	public static final ReactiveRetrySpec SHORT_STREAM_RETRY = ReactiveRetrySpec.builder()
+		.maxAttempts(10)
+		.fixedBackoff(Duration.ofMillis(100))
+		.jitter(0)
+		.build();
+
 }
@@ -0,0 +1,303 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.retry.ratelimit;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Mono;
+
+import org.springframework.ai.chat.metadata.RateLimit;
+import org.springframework.ai.retry.TransientAiException;
+import org.springframework.util.Assert;
+
+/**
+ * Client side, rate limit aware request throttler. Keeps a request and a token bucket per
+ * API key and model. The buckets are synchronized with the rate limit reported by the
+ * provider (e.g. the {@code x-ratelimit-*} response headers) and consumed with local
+ * token estimates, so that requests are paced before the provider starts rejecting them.
+ *
+ * <p>
+ * Callers reserve capacity before sending a request. Reservations are granted in arrival
+ * order, each one pushing the next free slot further into the future. A reservation that
+ * would have to wait longer than the configured maximum wait is rejected with a
+ * {@link TransientAiException}, without consuming any capacity.
+ * </p>
+ *
+ * <p>
+ * Until the first rate limit is reported for a key, requests are not throttled.
+ * </p>
+ *
+ * @since 1.0.0
+ */
+public class RateLimitThrottler {
+
+	/**
+	 * Name of the timer recording how long requests were held back by the throttler.
+	 */
+	public static final String THROTTLE_WAIT_METRIC_NAME = "spring.ai.client.throttle.wait";
+
+	/**
+	 * Name of the counter of the requests rejected because they would have to wait longer
+	 * than the maximum wait.
+	 */
+	public static final String THROTTLE_REJECTED_METRIC_NAME = "spring.ai.client.throttle.rejected";
+
+	public static final Duration DEFAULT_MAX_WAIT = Duration.ofMinutes(1);
+
+	/**
+	 * Window used to estimate the replenish rate when the provider does not report a
+	 * reset time. Most providers use per-minute limits.
+	 */
+	private static final long DEFAULT_WINDOW_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+	private final Map<String, Buckets> buckets = new ConcurrentHashMap<>();
+
+	private final Map<String, Timer> waitTimers = new ConcurrentHashMap<>();
+
+	private final Map<String, Counter> rejectionCounters = new ConcurrentHashMap<>();
+
+	private final Duration maxWait;
+
+	private final MeterRegistry meterRegistry;
+
+	private final LongSupplier nanoClock;
+
+	public RateLimitThrottler() {
+		this(DEFAULT_MAX_WAIT);
+	}
+
+	public RateLimitThrottler(Duration maxWait) {
+		this(maxWait, Metrics.globalRegistry);
+	}
+
+	public RateLimitThrottler(Duration maxWait, MeterRegistry meterRegistry) {
+		this(maxWait, meterRegistry, System::nanoTime);
+	}
+
+	RateLimitThrottler(Duration maxWait, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+		Assert.notNull(maxWait, "maxWait must not be null");
+		Assert.isTrue(!maxWait.isNegative(), "maxWait must not be negative");
+		Assert.notNull(meterRegistry, "meterRegistry must not be null");
+		Assert.notNull(nanoClock, "nanoClock must not be null");
+		this.maxWait = maxWait;
+		this.meterRegistry = meterRegistry;
+		this.nanoClock = nanoClock;
+	}
+
+	/**
+	 * Reserves capacity for one request with the estimated number of tokens and blocks
+	 * the calling thread until the reservation becomes due.
+	 * @param apiKey the API key the limits apply to.
+	 * @param model the model the limits apply to.
+	 * @param estimatedTokens the locally estimated number of tokens of the request.
+	 * @throws TransientAiException if the request would have to wait longer than the
+	 * maximum wait.
+	 */
+	public void acquire(String apiKey, String model, long estimatedTokens) {
+		Duration wait = reserve(apiKey, model, estimatedTokens);
+		if (!wait.isZero()) {
+			try {
+				Thread.sleep(wait.toMillis(), wait.toNanosPart() % 1_000_000);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new TransientAiException("Interrupted while waiting for the rate limit of model " + model, ex);
+			}
+		}
+	}
+
+	/**
+	 * Non-blocking variant of {@link #acquire(String, String, long)}. The reservation is
+	 * made on subscription and the returned {@link Mono} completes once it is due,
+	 * without blocking any thread while waiting.
+	 * @param apiKey the API key the limits apply to.
+	 * @param model the model the limits apply to.
+	 * @param estimatedTokens the locally estimated number of tokens of the request.
+	 * @return a {@link Mono} completing when the request may be sent, or failing with a
+	 * {@link TransientAiException} if it would have to wait longer than the maximum wait.
+	 */
+	public Mono<Void> acquireAsync(String apiKey, String model, long estimatedTokens) {
+		return Mono.defer(() -> {
+			Duration wait = reserve(apiKey, model, estimatedTokens);
+			return wait.isZero() ? Mono.empty() : Mono.delay(wait).then();
+		});
+	}
+
+	/**
+	 * Reserves capacity for one request with the estimated number of tokens.
+	 * @param apiKey the API key the limits apply to.
+	 * @param model the model the limits apply to.
+	 * @param estimatedTokens the locally estimated number of tokens of the request.
+	 * @return the time the caller has to wait before sending the request.
+	 * @throws TransientAiException if the request would have to wait longer than the
+	 * maximum wait.
+	 */
+	public Duration reserve(String apiKey, String model, long estimatedTokens) {
+		Buckets modelBuckets = this.buckets.get(key(apiKey, model));
+		long waitNanos = (modelBuckets != null)
+				? modelBuckets.reserve(Math.max(0, estimatedTokens), this.nanoClock.getAsLong(), this.maxWait.toNanos())
+				: 0;
+		if (waitNanos < 0) {
+			rejectionCounter(model).increment();
+			throw new TransientAiException(
+					"Rate limit for model " + model + " would be exceeded for longer than " + this.maxWait);
+		}
+		Duration wait = Duration.ofNanos(waitNanos);
+		waitTimer(model).record(wait);
+		return wait;
+	}
+
+	/**
+	 * Synchronizes the buckets of the given API key and model with the rate limit
+	 * reported by the provider.
+	 * @param apiKey the API key the limits apply to.
+	 * @param model the model the limits apply to.
+	 * @param rateLimit the rate limit reported by the provider. Ignored if null.
+	 */
+	public void update(String apiKey, String model, RateLimit rateLimit) {
+		if (rateLimit == null) {
+			return;
+		}
+		this.buckets.computeIfAbsent(key(apiKey, model), k -> new Buckets())
+			.update(rateLimit, this.nanoClock.getAsLong());
+	}
+
+	private Timer waitTimer(String model) {
+		return this.waitTimers.computeIfAbsent(String.valueOf(model),
+				m -> Timer.builder(THROTTLE_WAIT_METRIC_NAME)
+					.description("Time requests were held back by the client side rate limit throttler")
+					.tag("gen_ai.request.model", m)
+					.register(this.meterRegistry));
+	}
+
+	private Counter rejectionCounter(String model) {
+		return this.rejectionCounters.computeIfAbsent(String.valueOf(model),
+				m -> Counter.builder(THROTTLE_REJECTED_METRIC_NAME)
+					.description("Requests rejected by the client side rate limit throttler")
+					.tag("gen_ai.request.model", m)
+					.register(this.meterRegistry));
+	}
+
+	private static String key(String apiKey, String model) {
+		// Avoid holding on to the raw API key.
+		return Integer.toHexString(String.valueOf(apiKey).hashCode()) + ":" + model;
+	}
+
+	/**
+	 * Request and token buckets of a single API key and model.
+	 */
+	private static final class Buckets {
+
+		private final Bucket requests = new Bucket();
+
+		private final Bucket tokens = new Bucket();
+
+		synchronized long reserve(long estimatedTokens, long now, long maxWaitNanos) {
+			long wait = Math.max(this.requests.waitFor(1, now), this.tokens.waitFor(estimatedTokens, now));
+			if (wait > maxWaitNanos) {
+				return -1;
+			}
+			this.requests.consume(1);
+			this.tokens.consume(estimatedTokens);
+			return wait;
+		}
+
+		synchronized void update(RateLimit rateLimit, long now) {
+			this.requests.update(rateLimit.getRequestsLimit(), rateLimit.getRequestsRemaining(),
+					rateLimit.getRequestsReset(), now);
+			this.tokens.update(rateLimit.getTokensLimit(), rateLimit.getTokensRemaining(), rateLimit.getTokensReset(),
+					now);
+		}
+
+	}
+
+	/**
+	 * Continuously refilling bucket. The available permits may become negative, which
+	 * represents capacity that is already reserved by waiting callers.
+	 */
+	private static final class Bucket {
+
+		private long limit = -1;
+
+		private double available;
+
+		private double refillPerNano;
+
+		private long lastRefill;
+
+		long waitFor(long permits, long now) {
+			if (this.limit <= 0) {
+				return 0;
+			}
+			refill(now);
+			double deficit = Math.min(permits, this.limit) - this.available;
+			if (deficit <= 0) {
+				return 0;
+			}
+			return (long) Math.ceil(deficit / this.refillPerNano);
+		}
+
+		void consume(long permits) {
+			if (this.limit > 0) {
+				this.available -= Math.min(permits, this.limit);
+			}
+		}
+
+		void update(Long limit, Long remaining, Duration reset, long now) {
+			if (limit == null || limit <= 0 || remaining == null) {
+				return;
+			}
+			// The capacity promised to the callers still waiting is not part of what the
+			// provider reports as remaining, since their requests are not sent yet.
+			double reserved = 0;
+			if (this.limit > 0) {
+				refill(now);
+				reserved = Math.max(0, -this.available);
+			}
+			this.limit = limit;
+			// A zero reset time means that the limit has already been replenished.
+			double reported = (reset != null && reset.isZero()) ? limit : Math.min(remaining, limit);
+			this.available = reported - reserved;
+			this.lastRefill = now;
+			long missing = limit - remaining;
+			if (reset != null && !reset.isZero() && missing > 0) {
+				// The reset time is the time until the bucket is fully replenished.
+				this.refillPerNano = (double) missing / reset.toNanos();
+			}
+			else {
+				this.refillPerNano = (double) limit / DEFAULT_WINDOW_NANOS;
+			}
+		}
+
+		private void refill(long now) {
+			if (now > this.lastRefill) {
+				this.available = Math.min(this.limit, this.available + (now - this.lastRefill) * this.refillPerNano);
+				this.lastRefill = now;
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.retry;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link ReactiveRetrySpec}.
+ */
+class ReactiveRetrySpecTests {
+
+	private final ReactiveRetrySpec retry = ReactiveRetrySpec.builder()
+		.maxAttempts(3)
+		.exponentialBackoff(Duration.ofSeconds(1), 2, Duration.ofSeconds(10))
+		.jitter(0)
+		.build();
+
+	@Test
+	void retriesTransientFailuresBeforeFirstElement() {
+		AtomicInteger subscriptions = new AtomicInteger();
+		Flux<String> stream = Flux.defer(() -> subscriptions.incrementAndGet() < 3
+				? Flux.error(new TransientAiException("overloaded")) : Flux.just("a", "b"));
+
+		StepVerifier.withVirtualTime(() -> this.retry.apply(stream))
+			.expectSubscription()
+			.expectNoEvent(Duration.ofSeconds(1))
+			.thenAwait(Duration.ofSeconds(2))
+			.expectNext("a", "b")
+			.verifyComplete();
+
+		assertThat(subscriptions).hasValue(3);
+	}
+
+	@Test
+	void givesUpAfterMaxAttempts() {
+		AtomicInteger subscriptions = new AtomicInteger();
+		Flux<String> stream = Flux.defer(() -> {
+			subscriptions.incrementAndGet();
+			return Flux.error(new TransientAiException("overloaded"));
+		});
+
+		StepVerifier.withVirtualTime(() -> this.retry.apply(stream))
+			.thenAwait(Duration.ofSeconds(10))
+			.verifyError(TransientAiException.class);
+
+		assertThat(subscriptions).hasValue(3);
+	}
+
+	@Test
+	void doesNotRetryNonTransientFailures() {
+		AtomicInteger subscriptions = new AtomicInteger();
+		Flux<String> stream = Flux.defer(() -> {
+			subscriptions.incrementAndGet();
+			return Flux.error(new NonTransientAiException("invalid api key"));
+		});
+
+		StepVerifier.create(this.retry.apply(stream)).verifyError(NonTransientAiException.class);
+
+		assertThat(subscriptions).hasValue(1);
+	}
+
+	@Test
+	void doesNotRetryAfterFirstElement() {
+		AtomicInteger subscriptions = new AtomicInteger();
+		Flux<String> stream = Flux.defer(() -> {
+			subscriptions.incrementAndGet();
+			return Flux.concat(Flux.just("a"), Flux.error(new TransientAiException("connection reset")));
+		});
+
+		StepVerifier.create(this.retry.apply(stream)).expectNext("a").verifyError(TransientAiException.class);
+
+		assertThat(subscriptions).hasValue(1);
+	}
+
+	@Test
+	void honoursRetryAfterHeader() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.add(HttpHeaders.RETRY_AFTER, "7");
+		WebClientResponseException unavailable = WebClientResponseException.create(
+				HttpStatus.SERVICE_UNAVAILABLE.value(), "Service Unavailable", headers, new byte[0],
+				StandardCharsets.UTF_8);
+
+		AtomicInteger subscriptions = new AtomicInteger();
+		Flux<String> stream = Flux
+			.defer(() -> subscriptions.incrementAndGet() < 2 ? Flux.error(unavailable) : Flux.just("a"));
+
+		StepVerifier.withVirtualTime(() -> this.retry.apply(stream))
+			.expectSubscription()
+			.expectNoEvent(Duration.ofSeconds(6))
+			.thenAwait(Duration.ofSeconds(1))
+			.expectNext("a")
+			.verifyComplete();
+	}
+
+	@Test
+	void classifiesHttpStatusCodes() {
+		assertThat(this.retry.isTransient(responseException(HttpStatus.BAD_GATEWAY))).isTrue();
+		assertThat(this.retry.isTransient(responseException(HttpStatus.TOO_MANY_REQUESTS))).isFalse();
+
+		ReactiveRetrySpec retryOn429 = ReactiveRetrySpec.builder()
+			.retryOnHttpCodes(Set.of(429))
+			.excludeOnHttpCodes(Set.of(501))
+			.build();
+		assertThat(retryOn429.isTransient(responseException(HttpStatus.TOO_MANY_REQUESTS))).isTrue();
+		assertThat(retryOn429.isTransient(responseException(HttpStatus.NOT_IMPLEMENTED))).isFalse();
+	}
+
+	@Test
+	void backoffIsBoundedAndJittered() {
+		ReactiveRetrySpec jittered = ReactiveRetrySpec.builder()
+			.exponentialBackoff(Duration.ofSeconds(1), 2, Duration.ofSeconds(5))
+			.jitter(0.5)
+			.build();
+
+		for (int i = 0; i < 100; i++) {
+			assertThat(jittered.backoff(0).toMillis()).isBetween(500L, 1500L);
+			assertThat(jittered.backoff(10).toMillis()).isBetween(2500L, 5000L);
+		}
+	}
+
+	private static WebClientResponseException responseException(HttpStatus status) {
+		return WebClientResponseException.create(status.value(), status.getReasonPhrase(), HttpHeaders.EMPTY,
+				new byte[0], StandardCharsets.UTF_8);
+	}
+
+}
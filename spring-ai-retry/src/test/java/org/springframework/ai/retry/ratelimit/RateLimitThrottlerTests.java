@@ -0,0 +1,181 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.retry.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import org.springframework.ai.chat.metadata.RateLimit;
+import org.springframework.ai.retry.TransientAiException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Unit tests for {@link RateLimitThrottler}.
+ */
+class RateLimitThrottlerTests {
+
+	private final AtomicLong clock = new AtomicLong();
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final RateLimitThrottler throttler = new RateLimitThrottler(Duration.ofSeconds(10), this.meterRegistry,
+			this.clock::get);
+
+	@Test
+	void doesNotThrottleUnknownLimits() {
+		assertThat(this.throttler.reserve("key", "gpt-4o", 1_000_000)).isZero();
+	}
+
+	@Test
+	void waitsForRequestCapacity() {
+		// 1 request left out of 10, fully replenished in 10 seconds
+		this.throttler.update("key", "gpt-4o", rateLimit(10L, 1L, Duration.ofSeconds(10), null, null, null));
+
+		assertThat(this.throttler.reserve("key", "gpt-4o", 0)).isZero();
+		// 9 missing requests are replenished in 10 seconds
+		assertThat(this.throttler.reserve("key", "gpt-4o", 0).toMillis()).isBetween(1110L, 1112L);
+		assertThat(this.throttler.reserve("key", "gpt-4o", 0).toMillis()).isBetween(2221L, 2223L);
+
+		this.clock.addAndGet(Duration.ofSeconds(10).toNanos());
+		assertThat(this.throttler.reserve("key", "gpt-4o", 0)).isZero();
+	}
+
+	@Test
+	void waitsForTokenCapacity() {
+		this.throttler.update("key", "gpt-4o", rateLimit(null, null, null, 1000L, 100L, Duration.ofSeconds(9)));
+
+		assertThat(this.throttler.reserve("key", "gpt-4o", 100)).isZero();
+		// 900 missing tokens are replenished in 9 seconds
+		assertThat(this.throttler.reserve("key", "gpt-4o", 100).toMillis()).isEqualTo(1000);
+	}
+
+	@Test
+	void limitsAreScopedPerApiKeyAndModel() {
+		this.throttler.update("key", "gpt-4o", rateLimit(1L, 0L, Duration.ofSeconds(5), null, null, null));
+
+		assertThat(this.throttler.reserve("key", "gpt-4o", 0).toMillis()).isEqualTo(5000);
+		assertThat(this.throttler.reserve("key", "gpt-4o-mini", 0)).isZero();
+		assertThat(this.throttler.reserve("other-key", "gpt-4o", 0)).isZero();
+	}
+
+	@Test
+	void rejectsReservationsBeyondMaxWait() {
+		this.throttler.update("key", "gpt-4o", rateLimit(1L, 0L, Duration.ofSeconds(30), null, null, null));
+
+		assertThatThrownBy(() -> this.throttler.reserve("key", "gpt-4o", 0)).isInstanceOf(TransientAiException.class);
+
+		// The rejected reservation did not consume any capacity.
+		this.clock.addAndGet(Duration.ofSeconds(30).toNanos());
+		assertThat(this.throttler.reserve("key", "gpt-4o", 0)).isZero();
+
+		assertThat(this.meterRegistry.get(RateLimitThrottler.THROTTLE_REJECTED_METRIC_NAME)
+			.tag("gen_ai.request.model", "gpt-4o")
+			.counter()
+			.count()).isEqualTo(1);
+		// Only the granted reservation is recorded as a wait.
+		assertThat(this.meterRegistry.get(RateLimitThrottler.THROTTLE_WAIT_METRIC_NAME).timer().count())
+			.isEqualTo(1);
+	}
+
+	@Test
+	void recordsWaitTime() {
+		this.throttler.update("key", "gpt-4o", rateLimit(1L, 0L, Duration.ofSeconds(2), null, null, null));
+
+		this.throttler.reserve("key", "gpt-4o", 0);
+
+		var timer = this.meterRegistry.get(RateLimitThrottler.THROTTLE_WAIT_METRIC_NAME)
+			.tag("gen_ai.request.model", "gpt-4o")
+			.timer();
+		assertThat(timer.count()).isEqualTo(1);
+		assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isCloseTo(2000.0, within(1.0));
+	}
+
+	@Test
+	void updateKeepsTheCapacityReservedByWaitingCallers() {
+		// 1 request left out of 10, fully replenished in 9 seconds
+		this.throttler.update("key", "gpt-4o", rateLimit(10L, 1L, Duration.ofSeconds(9), null, null, null));
+
+		assertThat(this.throttler.reserve("key", "gpt-4o", 0)).isZero();
+		// Two callers are waiting, for 1 and 2 seconds
+		assertThat(this.throttler.reserve("key", "gpt-4o", 0).toMillis()).isEqualTo(1000);
+		assertThat(this.throttler.reserve("key", "gpt-4o", 0).toMillis()).isEqualTo(2000);
+
+		// The response of the first request reports the same remaining capacity, which
+		// does not include the requests of the waiting callers.
+		this.throttler.update("key", "gpt-4o", rateLimit(10L, 1L, Duration.ofSeconds(9), null, null, null));
+
+		// A new caller does not jump ahead of the waiting ones: the remaining request is
+		// added to the queue, which still holds the 2 waiting requests.
+		assertThat(this.throttler.reserve("key", "gpt-4o", 0).toMillis()).isEqualTo(2000);
+	}
+
+	@Test
+	void acquireAsyncDelaysWithoutBlocking() {
+		this.throttler.update("key", "gpt-4o", rateLimit(1L, 0L, Duration.ofSeconds(5), null, null, null));
+
+		StepVerifier.withVirtualTime(() -> this.throttler.acquireAsync("key", "gpt-4o", 0))
+			.expectSubscription()
+			.expectNoEvent(Duration.ofSeconds(4))
+			.thenAwait(Duration.ofSeconds(1))
+			.verifyComplete();
+	}
+
+	private static RateLimit rateLimit(Long requestsLimit, Long requestsRemaining, Duration requestsReset,
+			Long tokensLimit, Long tokensRemaining, Duration tokensReset) {
+		return new RateLimit() {
+
+			@Override
+			public Long getRequestsLimit() {
+				return requestsLimit;
+			}
+
+			@Override
+			public Long getRequestsRemaining() {
+				return requestsRemaining;
+			}
+
+			@Override
+			public Duration getRequestsReset() {
+				return requestsReset;
+			}
+
+			@Override
+			public Long getTokensLimit() {
+				return tokensLimit;
+			}
+
+			@Override
+			public Long getTokensRemaining() {
+				return tokensRemaining;
+			}
+
+			@Override
+			public Duration getTokensReset() {
+				return tokensReset;
+			}
+		};
+	}
+
+}
@@ -25,6 +25,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.springframework.ai.chat.client.advisor.observation.AdvisorObservationContext;
+import org.springframework.ai.chat.client.observation.ChatClientMeterObservationHandler;
 import org.springframework.ai.chat.client.observation.ChatClientObservationContext;
 import org.springframework.ai.chat.model.ChatModel;
 import org.springframework.ai.chat.observation.ChatModelCompletionObservationFilter;
@@ -79,6 +80,13 @@ public class ChatObservationAutoConfiguration {
 		return new ChatModelMeterObservationHandler(meterRegistry.getObject());
 	}
 
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnBean(MeterRegistry.class)
+	ChatClientMeterObservationHandler chatClientMeterObservationHandler(ObjectProvider<MeterRegistry> meterRegistry) {
+		return new ChatClientMeterObservationHandler(meterRegistry.getObject());
+	}
+
 	/**
 	 * The chat content is typically too big to be included in an observation as span
 	 * attributes. That's why the preferred way to store it is as span events, which are
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.autoconfigure.http.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.util.zip.GZIPInputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Requests gzip compressed responses and decompresses them, for the JDK HttpClient which
+ * does not handle content encoding on its own.
+ *
+ * @since 1.0.0
+ */
+final class GzipDecompressingInterceptor implements ClientHttpRequestInterceptor {
+
+	private static final String GZIP = "gzip";
+
+	@Override
+	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+			throws IOException {
+		if (!request.getHeaders().containsKey(HttpHeaders.ACCEPT_ENCODING)) {
+			request.getHeaders().set(HttpHeaders.ACCEPT_ENCODING, GZIP);
+		}
+		ClientHttpResponse response = execution.execute(request, body);
+		if (GZIP.equalsIgnoreCase(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING))) {
+			return new GzipClientHttpResponse(response);
+		}
+		return response;
+	}
+
+	private static final class GzipClientHttpResponse implements ClientHttpResponse {
+
+		private final ClientHttpResponse delegate;
+
+		private final HttpHeaders headers;
+
+		private InputStream body;
+
+		GzipClientHttpResponse(ClientHttpResponse delegate) {
+			this.delegate = delegate;
+			HttpHeaders headers = new HttpHeaders();
+			headers.putAll(delegate.getHeaders());
+			// The decompressed body no longer matches the encoding and length headers.
+			headers.remove(HttpHeaders.CONTENT_ENCODING);
+			headers.remove(HttpHeaders.CONTENT_LENGTH);
+			this.headers = HttpHeaders.readOnlyHttpHeaders(headers);
+		}
+
+		@Override
+		public HttpStatusCode getStatusCode() throws IOException {
+			return this.delegate.getStatusCode();
+		}
+
+		@Override
+		public String getStatusText() throws IOException {
+			return this.delegate.getStatusText();
+		}
+
+		@Override
+		public HttpHeaders getHeaders() {
+			return this.headers;
+		}
+
+		@Override
+		public InputStream getBody() throws IOException {
+			if (this.body == null) {
+				PushbackInputStream compressed = new PushbackInputStream(this.delegate.getBody());
+				int first = compressed.read();
+				if (first == -1) {
+					// Empty body, e.g. for a 204 response
+					this.body = InputStream.nullInputStream();
+				}
+				else {
+					compressed.unread(first);
+					this.body = new GZIPInputStream(compressed);
+				}
+			}
+			return this.body;
+		}
+
+		@Override
+		public void close() {
+			this.delegate.close();
+		}
+
+	}
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.autoconfigure.http.client;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Mono;
+
+import org.springframework.ai.model.observation.ObservationMeterCache;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.ConcurrentLruCache;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+
+/**
+ * Records the latency of the model API requests per remote host, up to the reception of
+ * the response headers. For streaming responses this is the time to the first byte. The
+ * timers are cached by their tags instead of being registered again for each request.
+ *
+ * @since 1.0.0
+ */
+final class HttpClientRequestMetrics {
+
+	/**
+	 * Name of the timer recording the model API request latency.
+	 */
+	static final String METRIC_NAME = "spring.ai.http.client.requests";
+
+	private static final String NONE = "none";
+
+	private final ConcurrentLruCache<TimerKey, Timer> timers;
+
+	HttpClientRequestMetrics(MeterRegistry meterRegistry) {
+		this.timers = new ConcurrentLruCache<>(ObservationMeterCache.DEFAULT_CAPACITY,
+				key -> Timer.builder(METRIC_NAME)
+					.description("Latency of the model API requests up to the response headers")
+					.tag("server.address", key.host())
+					.tag("http.request.method", key.method())
+					.tag("http.response.status_code", (key.status() > 0) ? String.valueOf(key.status()) : NONE)
+					.tag("error", key.error())
+					.register(meterRegistry));
+	}
+
+	ClientHttpRequestInterceptor interceptor() {
+		return (request, body, execution) -> {
+			long start = System.nanoTime();
+			try {
+				ClientHttpResponse response = execution.execute(request, body);
+				record(request.getURI(), request.getMethod().name(), response.getStatusCode().value(), null, start);
+				return response;
+			}
+			catch (IOException | RuntimeException ex) {
+				record(request.getURI(), request.getMethod().name(), 0, ex, start);
+				throw ex;
+			}
+		};
+	}
+
+	ExchangeFilterFunction exchangeFilter() {
+		return (request, next) -> Mono.defer(() -> {
+			long start = System.nanoTime();
+			return next.exchange(request)
+				.doOnSuccess(response -> record(request.url(), request.method().name(), response.statusCode().value(),
+						null, start))
+				.doOnError(ex -> record(request.url(), request.method().name(), 0, ex, start));
+		});
+	}
+
+	void record(URI uri, String method, int status, Throwable error, long startNanos) {
+		TimerKey key = new TimerKey((uri.getHost() != null) ? uri.getHost() : NONE, method, status,
+				(error != null) ? error.getClass().getSimpleName() : NONE);
+		this.timers.get(key).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+	}
+
+	private record TimerKey(String host, String method, int status, String error) {
+
+	}
+
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.autoconfigure.http.client;
+
+import java.net.http.HttpClient.Redirect;
+import java.net.http.HttpClient.Version;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.web.client.RestClientAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.function.client.WebClientAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.client.RestClientCustomizer;
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.client.ReactorNettyClientRequestFactory;
+import org.springframework.http.client.reactive.JdkClientHttpConnector;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * {@link AutoConfiguration Auto-configuration} for a shared, pooled HTTP transport used
+ * by the model API clients. Customizes the auto-configured {@link RestClient.Builder} and
+ * {@link WebClient.Builder} so that all the model API clients built from them share the
+ * same connection pool.
+ *
+ * @since 1.0.0
+ */
+@AutoConfiguration(before = { RestClientAutoConfiguration.class, WebClientAutoConfiguration.class })
+@ConditionalOnClass(RestClient.class)
+@EnableConfigurationProperties(SpringAiHttpClientProperties.class)
+@ConditionalOnProperty(prefix = SpringAiHttpClientProperties.CONFIG_PREFIX, name = "enabled", havingValue = "true")
+public class SpringAiHttpClientAutoConfiguration {
+
+	private static HttpClientRequestMetrics requestMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+		return new HttpClientRequestMetrics(meterRegistry.getIfUnique(() -> Metrics.globalRegistry));
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(HttpClient.class)
+	@ConditionalOnProperty(prefix = SpringAiHttpClientProperties.CONFIG_PREFIX, name = "connector",
+			havingValue = "reactor-netty", matchIfMissing = true)
+	static class ReactorNettyTransportConfiguration {
+
+		@Bean(destroyMethod = "dispose")
+		@ConditionalOnMissingBean(name = "springAiConnectionProvider")
+		public ConnectionProvider springAiConnectionProvider(SpringAiHttpClientProperties properties) {
+			SpringAiHttpClientProperties.Pool pool = properties.getPool();
+			ConnectionProvider.Builder builder = ConnectionProvider.builder("spring-ai")
+				.maxConnections(pool.getMaxConnectionsPerHost())
+				.pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+				.maxIdleTime(pool.getMaxIdleTime())
+				.metrics(properties.isMetrics());
+			if (pool.getMaxLifeTime() != null) {
+				builder.maxLifeTime(pool.getMaxLifeTime());
+			}
+			if (pool.getEvictionInterval() != null) {
+				builder.evictInBackground(pool.getEvictionInterval());
+			}
+			return builder.build();
+		}
+
+		@Bean
+		public RestClientCustomizer springAiRestClientCustomizer(SpringAiHttpClientProperties properties,
+				ConnectionProvider springAiConnectionProvider, ObjectProvider<MeterRegistry> meterRegistry) {
+			ReactorNettyClientRequestFactory requestFactory = new ReactorNettyClientRequestFactory(
+					httpClient(properties, springAiConnectionProvider));
+			HttpClientRequestMetrics metrics = properties.isMetrics() ? requestMetrics(meterRegistry) : null;
+			return builder -> {
+				builder.requestFactory(requestFactory);
+				if (metrics != null) {
+					builder.requestInterceptor(metrics.interceptor());
+				}
+			};
+		}
+
+		private static HttpClient httpClient(SpringAiHttpClientProperties properties,
+				ConnectionProvider connectionProvider) {
+			HttpClient httpClient = HttpClient.create(connectionProvider)
+				.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+				.compress(properties.isCompression());
+			if (properties.isHttp2()) {
+				// HTTP/2 is negotiated with ALPN over TLS, plain text connections use
+				// HTTP/1.1.
+				httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+			}
+			if (properties.getResponseTimeout() != null) {
+				httpClient = httpClient.responseTimeout(properties.getResponseTimeout());
+			}
+			if (properties.getReadTimeout() != null) {
+				long readTimeoutMillis = properties.getReadTimeout().toMillis();
+				// Added per request, the handler is removed when the connection is
+				// released to the pool.
+				httpClient = httpClient.doOnRequest((request, connection) -> connection
+					.addHandlerLast(new ReadTimeoutHandler(readTimeoutMillis, TimeUnit.MILLISECONDS)));
+			}
+			return httpClient;
+		}
+
+		@Configuration(proxyBeanMethods = false)
+		@ConditionalOnClass(WebClient.class)
+		static class WebClientConfiguration {
+
+			@Bean
+			public WebClientCustomizer springAiWebClientCustomizer(SpringAiHttpClientProperties properties,
+					ConnectionProvider springAiConnectionProvider, ObjectProvider<MeterRegistry> meterRegistry) {
+				ReactorClientHttpConnector connector = new ReactorClientHttpConnector(
+						httpClient(properties, springAiConnectionProvider));
+				HttpClientRequestMetrics metrics = properties.isMetrics() ? requestMetrics(meterRegistry) : null;
+				return builder -> {
+					builder.clientConnector(connector);
+					if (metrics != null) {
+						builder.filter(metrics.exchangeFilter());
+					}
+				};
+			}
+
+		}
+
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnProperty(prefix = SpringAiHttpClientProperties.CONFIG_PREFIX, name = "connector", havingValue = "jdk")
+	static class JdkTransportConfiguration {
+
+		@Bean
+		@ConditionalOnMissingBean(name = "springAiJdkHttpClient")
+		public java.net.http.HttpClient springAiJdkHttpClient(SpringAiHttpClientProperties properties) {
+			return java.net.http.HttpClient.newBuilder()
+				.version(properties.isHttp2() ? Version.HTTP_2 : Version.HTTP_1_1)
+				.connectTimeout(properties.getConnectTimeout())
+				.followRedirects(Redirect.NORMAL)
+				.build();
+		}
+
+		@Bean
+		public RestClientCustomizer springAiRestClientCustomizer(SpringAiHttpClientProperties properties,
+				java.net.http.HttpClient springAiJdkHttpClient, ObjectProvider<MeterRegistry> meterRegistry) {
+			JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(springAiJdkHttpClient);
+			if (properties.getResponseTimeout() != null) {
+				requestFactory.setReadTimeout(properties.getResponseTimeout());
+			}
+			HttpClientRequestMetrics metrics = properties.isMetrics() ? requestMetrics(meterRegistry) : null;
+			return builder -> {
+				builder.requestFactory(requestFactory);
+				if (properties.isCompression()) {
+					builder.requestInterceptor(new GzipDecompressingInterceptor());
+				}
+				if (metrics != null) {
+					builder.requestInterceptor(metrics.interceptor());
+				}
+			};
+		}
+
+		@Configuration(proxyBeanMethods = false)
+		@ConditionalOnClass(WebClient.class)
+		static class WebClientConfiguration {
+
+			@Bean
+			public WebClientCustomizer springAiWebClientCustomizer(SpringAiHttpClientProperties properties,
+					java.net.http.HttpClient springAiJdkHttpClient, ObjectProvider<MeterRegistry> meterRegistry) {
+				JdkClientHttpConnector connector = new JdkClientHttpConnector(springAiJdkHttpClient);
+				HttpClientRequestMetrics metrics = properties.isMetrics() ? requestMetrics(meterRegistry) : null;
+				return builder -> {
+					builder.clientConnector(connector);
+					if (properties.getResponseTimeout() != null) {
+						builder
+							.filter((request, next) -> next.exchange(request).timeout(properties.getResponseTimeout()));
+					}
+					if (metrics != null) {
+						builder.filter(metrics.exchangeFilter());
+					}
+				};
+			}
+
+		}
+
+	}
+
+}
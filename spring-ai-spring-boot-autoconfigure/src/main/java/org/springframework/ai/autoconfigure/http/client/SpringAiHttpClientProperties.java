@@ -0,0 +1,239 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.autoconfigure.http.client;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
+
+/**
+ * Properties for the shared HTTP transport of the model API clients.
+ *
+ * @since 1.0.0
+ */
+@ConfigurationProperties(SpringAiHttpClientProperties.CONFIG_PREFIX)
+public class SpringAiHttpClientProperties {
+
+	public static final String CONFIG_PREFIX = "spring.ai.http-client";
+
+	/**
+	 * Enable the shared, pooled HTTP transport for the RestClient and WebClient builders
+	 * used by the model API clients.
+	 */
+	private boolean enabled = false;
+
+	/**
+	 * HTTP connector backing the RestClient and WebClient.
+	 */
+	private Connector connector = Connector.REACTOR_NETTY;
+
+	/**
+	 * Negotiate HTTP/2 when the server supports it, falling back to HTTP/1.1.
+	 */
+	private boolean http2 = true;
+
+	/**
+	 * Request gzip compressed responses and transparently decompress them.
+	 */
+	private boolean compression = true;
+
+	/**
+	 * Connection timeout.
+	 */
+	private Duration connectTimeout = Duration.ofSeconds(10);
+
+	/**
+	 * Maximum time to wait for the response headers. Streaming responses are not limited
+	 * once the headers are received. No limit if not set.
+	 */
+	private Duration responseTimeout;
+
+	/**
+	 * Maximum time between two reads of the response body. Applies to the Reactor Netty
+	 * connector only. No limit if not set.
+	 */
+	private Duration readTimeout;
+
+	/**
+	 * Record per host request latency and connection pool metrics with Micrometer.
+	 */
+	private boolean metrics = true;
+
+	/**
+	 * Connection pool properties. Apply to the Reactor Netty connector only, the JDK
+	 * HttpClient manages its pool through the jdk.httpclient.* system properties.
+	 */
+	@NestedConfigurationProperty
+	private Pool pool = new Pool();
+
+	public boolean isEnabled() {
+		return this.enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public Connector getConnector() {
+		return this.connector;
+	}
+
+	public void setConnector(Connector connector) {
+		this.connector = connector;
+	}
+
+	public boolean isHttp2() {
+		return this.http2;
+	}
+
+	public void setHttp2(boolean http2) {
+		this.http2 = http2;
+	}
+
+	public boolean isCompression() {
+		return this.compression;
+	}
+
+	public void setCompression(boolean compression) {
+		this.compression = compression;
+	}
+
+	public Duration getConnectTimeout() {
+		return this.connectTimeout;
+	}
+
+	public void setConnectTimeout(Duration connectTimeout) {
+		this.connectTimeout = connectTimeout;
+	}
+
+	public Duration getResponseTimeout() {
+		return this.responseTimeout;
+	}
+
+	public void setResponseTimeout(Duration responseTimeout) {
+		this.responseTimeout = responseTimeout;
+	}
+
+	public Duration getReadTimeout() {
+		return this.readTimeout;
+	}
+
+	public void setReadTimeout(Duration readTimeout) {
+		this.readTimeout = readTimeout;
+	}
+
+	public boolean isMetrics() {
+		return this.metrics;
+	}
+
+	public void setMetrics(boolean metrics) {
+		this.metrics = metrics;
+	}
+
+	public Pool getPool() {
+		return this.pool;
+	}
+
+	public enum Connector {
+
+		/**
+		 * Reactor Netty HttpClient, shared by the RestClient and the WebClient.
+		 */
+		REACTOR_NETTY,
+
+		/**
+		 * JDK java.net.http.HttpClient, shared by the RestClient and the WebClient.
+		 */
+		JDK
+
+	}
+
+	/**
+	 * Connection pool properties.
+	 */
+	public static class Pool {
+
+		/**
+		 * Maximum number of connections per remote host.
+		 */
+		private int maxConnectionsPerHost = 50;
+
+		/**
+		 * Maximum time to wait for a free connection when the pool is exhausted.
+		 */
+		private Duration pendingAcquireTimeout = Duration.ofSeconds(45);
+
+		/**
+		 * Time an idle connection is kept alive before it is closed.
+		 */
+		private Duration maxIdleTime = Duration.ofSeconds(30);
+
+		/**
+		 * Maximum lifetime of a connection. No limit if not set.
+		 */
+		private Duration maxLifeTime;
+
+		/**
+		 * Interval of the background eviction of idle and expired connections. Disabled
+		 * if not set.
+		 */
+		private Duration evictionInterval = Duration.ofSeconds(30);
+
+		public int getMaxConnectionsPerHost() {
+			return this.maxConnectionsPerHost;
+		}
+
+		public void setMaxConnectionsPerHost(int maxConnectionsPerHost) {
+			this.maxConnectionsPerHost = maxConnectionsPerHost;
+		}
+
+		public Duration getPendingAcquireTimeout() {
+			return this.pendingAcquireTimeout;
+		}
+
+		public void setPendingAcquireTimeout(Duration pendingAcquireTimeout) {
+			this.pendingAcquireTimeout = pendingAcquireTimeout;
+		}
+
+		public Duration getMaxIdleTime() {
+			return this.maxIdleTime;
+		}
+
+		public void setMaxIdleTime(Duration maxIdleTime) {
+			this.maxIdleTime = maxIdleTime;
+		}
+
+		public Duration getMaxLifeTime() {
+			return this.maxLifeTime;
+		}
+
+		public void setMaxLifeTime(Duration maxLifeTime) {
+			this.maxLifeTime = maxLifeTime;
+		}
+
+		public Duration getEvictionInterval() {
+			return this.evictionInterval;
+		}
+
+		public void setEvictionInterval(Duration evictionInterval) {
+			this.evictionInterval = evictionInterval;
+		}
+
+	}
+
+}
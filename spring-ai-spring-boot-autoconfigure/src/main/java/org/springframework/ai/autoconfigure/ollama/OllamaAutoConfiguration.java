@@ -16,6 +16,7 @@
 
 package org.springframework.ai.autoconfigure.ollama;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import io.micrometer.observation.ObservationRegistry;
@@ -30,6 +31,7 @@ import org.springframework.ai.ollama.OllamaEmbeddingModel;
 import org.springframework.ai.ollama.api.OllamaApi;
 import org.springframework.ai.ollama.management.ModelManagementOptions;
 import org.springframework.ai.ollama.management.PullModelStrategy;
+import org.springframework.ai.retry.ReactiveRetrySpec;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
@@ -41,6 +43,7 @@ import org.springframework.boot.autoconfigure.web.reactive.function.client.WebCl
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
+import org.springframework.util.StringUtils;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.reactive.function.client.WebClient;
 
@@ -82,7 +85,8 @@ public class OllamaAutoConfiguration {
 	public OllamaChatModel ollamaChatModel(OllamaApi ollamaApi, OllamaChatProperties properties,
 			OllamaInitializationProperties initProperties, List<FunctionCallback> toolFunctionCallbacks,
 			FunctionCallbackResolver functionCallbackResolver, ObjectProvider<ObservationRegistry> observationRegistry,
-			ObjectProvider<ChatModelObservationConvention> observationConvention) {
+			ObjectProvider<ChatModelObservationConvention> observationConvention,
+			ObjectProvider<ReactiveRetrySpec> streamRetry) {
 		var chatModelPullStrategy = initProperties.getChat().isInclude() ? initProperties.getPullModelStrategy()
 				: PullModelStrategy.NEVER;
 
@@ -92,12 +96,12 @@ public class OllamaAutoConfiguration {
 			.functionCallbackResolver(functionCallbackResolver)
 			.toolFunctionCallbacks(toolFunctionCallbacks)
 			.observationRegistry(observationRegistry.getIfUnique(() -> ObservationRegistry.NOOP))
-			.modelManagementOptions(
-					new ModelManagementOptions(chatModelPullStrategy, initProperties.getChat().getAdditionalModels(),
-							initProperties.getTimeout(), initProperties.getMaxRetries()))
+			.modelManagementOptions(modelManagementOptions(chatModelPullStrategy, initProperties.getChat(),
+					properties.getModel(), initProperties))
 			.build();
 
 		observationConvention.ifAvailable(chatModel::setObservationConvention);
+		streamRetry.ifAvailable(chatModel::setStreamRetry);
 
 		return chatModel;
 	}
@@ -116,9 +120,8 @@ public class OllamaAutoConfiguration {
 			.ollamaApi(ollamaApi)
 			.defaultOptions(properties.getOptions())
 			.observationRegistry(observationRegistry.getIfUnique(() -> ObservationRegistry.NOOP))
-			.modelManagementOptions(new ModelManagementOptions(embeddingModelPullStrategy,
-					initProperties.getEmbedding().getAdditionalModels(), initProperties.getTimeout(),
-					initProperties.getMaxRetries()))
+			.modelManagementOptions(modelManagementOptions(embeddingModelPullStrategy, initProperties.getEmbedding(),
+					properties.getModel(), initProperties))
 			.build();
 
 		observationConvention.ifAvailable(embeddingModel::setObservationConvention);
@@ -126,6 +129,27 @@ public class OllamaAutoConfiguration {
 		return embeddingModel;
 	}
 
+	private static ModelManagementOptions modelManagementOptions(PullModelStrategy pullModelStrategy,
+			OllamaInitializationProperties.ModelTypeInit modelTypeInit, String defaultModel,
+			OllamaInitializationProperties initProperties) {
+		List<String> preloadModels = new ArrayList<>();
+		if (modelTypeInit.isPreload()) {
+			if (StringUtils.hasText(defaultModel)) {
+				preloadModels.add(defaultModel);
+			}
+			preloadModels.addAll(modelTypeInit.getAdditionalModels());
+		}
+		return ModelManagementOptions.builder()
+			.pullModelStrategy(pullModelStrategy)
+			.additionalModels(modelTypeInit.getAdditionalModels())
+			.timeout(initProperties.getTimeout())
+			.maxRetries(initProperties.getMaxRetries())
+			.preloadModels(preloadModels)
+			.keepAlive(initProperties.getKeepAlive())
+			.keepWarmInterval(initProperties.getKeepWarmInterval())
+			.build();
+	}
+
 	@Bean
 	@ConditionalOnMissingBean
 	public FunctionCallbackResolver springAiFunctionManager(ApplicationContext context) {
@@ -17,7 +17,9 @@
 package org.springframework.ai.autoconfigure.ollama;
 
 import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.ai.ollama.management.PullModelStrategy;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -58,6 +60,18 @@ public class OllamaInitializationProperties {
 	 */
 	private int maxRetries = 0;
 
+	/**
+	 * How long each model stays loaded in memory after a request, keyed by model name. A
+	 * negative duration keeps the model loaded indefinitely.
+	 */
+	private Map<String, Duration> keepAlive = new HashMap<>();
+
+	/**
+	 * Interval between the pings keeping the preloaded and kept alive models loaded in
+	 * memory. Disabled when not set.
+	 */
+	private Duration keepWarmInterval;
+
 	public PullModelStrategy getPullModelStrategy() {
 		return this.pullModelStrategy;
 	}
@@ -90,6 +104,22 @@ public class OllamaInitializationProperties {
 		this.maxRetries = maxRetries;
 	}
 
+	public Map<String, Duration> getKeepAlive() {
+		return this.keepAlive;
+	}
+
+	public void setKeepAlive(Map<String, Duration> keepAlive) {
+		this.keepAlive = keepAlive;
+	}
+
+	public Duration getKeepWarmInterval() {
+		return this.keepWarmInterval;
+	}
+
+	public void setKeepWarmInterval(Duration keepWarmInterval) {
+		this.keepWarmInterval = keepWarmInterval;
+	}
+
 	public static class ModelTypeInit {
 
 		/**
@@ -103,6 +133,11 @@ public class OllamaInitializationProperties {
 		 */
 		private List<String> additionalModels = List.of();
 
+		/**
+		 * Load the default and additional models of this type in memory at startup.
+		 */
+		private boolean preload = false;
+
 		public boolean isInclude() {
 			return this.include;
 		}
@@ -119,6 +154,14 @@ public class OllamaInitializationProperties {
 			this.additionalModels = additionalModels;
 		}
 
+		public boolean isPreload() {
+			return this.preload;
+		}
+
+		public void setPreload(boolean preload) {
+			this.preload = preload;
+		}
+
 	}
 
 }
@@ -40,6 +40,8 @@ import org.springframework.ai.openai.api.OpenAiApi;
 import org.springframework.ai.openai.api.OpenAiAudioApi;
 import org.springframework.ai.openai.api.OpenAiImageApi;
 import org.springframework.ai.openai.api.OpenAiModerationApi;
+import org.springframework.ai.retry.ReactiveRetrySpec;
+import org.springframework.ai.retry.ratelimit.RateLimitThrottler;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
@@ -116,16 +118,19 @@ public class OpenAiAutoConfiguration {
 			ObjectProvider<WebClient.Builder> webClientBuilderProvider, List<FunctionCallback> toolFunctionCallbacks,
 			FunctionCallbackResolver functionCallbackResolver, RetryTemplate retryTemplate,
 			ResponseErrorHandler responseErrorHandler, ObjectProvider<ObservationRegistry> observationRegistry,
-			ObjectProvider<ChatModelObservationConvention> observationConvention) {
+			ObjectProvider<ChatModelObservationConvention> observationConvention,
+			ObjectProvider<ReactiveRetrySpec> streamRetry, ObjectProvider<RateLimitThrottler> rateLimitThrottler) {
 
 		var openAiApi = openAiApi(chatProperties, commonProperties,
 				restClientBuilderProvider.getIfAvailable(RestClient::builder),
-				webClientBuilderProvider.getIfAvailable(WebClient::builder), responseErrorHandler, "chat");
+				webClientBuilderProvider.getIfAvailable(WebClient::builder), responseErrorHandler,
+				rateLimitThrottler.getIfAvailable(), "chat");
 
 		var chatModel = new OpenAiChatModel(openAiApi, chatProperties.getOptions(), functionCallbackResolver,
 				toolFunctionCallbacks, retryTemplate, observationRegistry.getIfUnique(() -> ObservationRegistry.NOOP));
 
 		observationConvention.ifAvailable(chatModel::setObservationConvention);
+		streamRetry.ifAvailable(chatModel::setStreamRetry);
 
 		return chatModel;
 	}
@@ -138,11 +143,13 @@ public class OpenAiAutoConfiguration {
 			OpenAiEmbeddingProperties embeddingProperties, ObjectProvider<RestClient.Builder> restClientBuilderProvider,
 			ObjectProvider<WebClient.Builder> webClientBuilderProvider, RetryTemplate retryTemplate,
 			ResponseErrorHandler responseErrorHandler, ObjectProvider<ObservationRegistry> observationRegistry,
-			ObjectProvider<EmbeddingModelObservationConvention> observationConvention) {
+			ObjectProvider<EmbeddingModelObservationConvention> observationConvention,
+			ObjectProvider<RateLimitThrottler> rateLimitThrottler) {
 
 		var openAiApi = openAiApi(embeddingProperties, commonProperties,
 				restClientBuilderProvider.getIfAvailable(RestClient::builder),
-				webClientBuilderProvider.getIfAvailable(WebClient::builder), responseErrorHandler, "embedding");
+				webClientBuilderProvider.getIfAvailable(WebClient::builder), responseErrorHandler,
+				rateLimitThrottler.getIfAvailable(), "embedding");
 
 		var embeddingModel = new OpenAiEmbeddingModel(openAiApi, embeddingProperties.getMetadataMode(),
 				embeddingProperties.getOptions(), retryTemplate,
@@ -155,26 +162,27 @@ public class OpenAiAutoConfiguration {
 
 	private OpenAiApi openAiApi(OpenAiChatProperties chatProperties, OpenAiConnectionProperties commonProperties,
 			RestClient.Builder restClientBuilder, WebClient.Builder webClientBuilder,
-			ResponseErrorHandler responseErrorHandler, String modelType) {
+			ResponseErrorHandler responseErrorHandler, RateLimitThrottler rateLimitThrottler, String modelType) {
 
 		ResolvedConnectionProperties resolved = resolveConnectionProperties(commonProperties, chatProperties,
 				modelType);
 
 		return new OpenAiApi(resolved.baseUrl(), resolved.apiKey(), resolved.headers(),
 				chatProperties.getCompletionsPath(), OpenAiEmbeddingProperties.DEFAULT_EMBEDDINGS_PATH,
-				restClientBuilder, webClientBuilder, responseErrorHandler);
+				restClientBuilder, webClientBuilder, responseErrorHandler, rateLimitThrottler);
 	}
 
 	private OpenAiApi openAiApi(OpenAiEmbeddingProperties embeddingProperties,
 			OpenAiConnectionProperties commonProperties, RestClient.Builder restClientBuilder,
-			WebClient.Builder webClientBuilder, ResponseErrorHandler responseErrorHandler, String modelType) {
+			WebClient.Builder webClientBuilder, ResponseErrorHandler responseErrorHandler,
+			RateLimitThrottler rateLimitThrottler, String modelType) {
 
 		ResolvedConnectionProperties resolved = resolveConnectionProperties(commonProperties, embeddingProperties,
 				modelType);
 
 		return new OpenAiApi(resolved.baseUrl(), resolved.apiKey(), resolved.headers(),
 				OpenAiChatProperties.DEFAULT_COMPLETIONS_PATH, embeddingProperties.getEmbeddingsPath(),
-				restClientBuilder, webClientBuilder, responseErrorHandler);
+				restClientBuilder, webClientBuilder, responseErrorHandler, rateLimitThrottler);
 	}
 
 	@Bean
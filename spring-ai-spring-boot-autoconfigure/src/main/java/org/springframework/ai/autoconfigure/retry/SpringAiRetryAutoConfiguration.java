@@ -18,16 +18,23 @@ package org.springframework.ai.autoconfigure.retry;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Set;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.ai.retry.ReactiveRetrySpec;
 import org.springframework.ai.retry.RetryUtils;
 import org.springframework.ai.retry.TransientAiException;
+import org.springframework.ai.retry.ratelimit.RateLimitThrottler;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.http.client.ClientHttpResponse;
@@ -71,6 +78,19 @@ public class SpringAiRetryAutoConfiguration {
 			.build();
 	}
 
+	@Bean
+	@ConditionalOnMissingBean
+	public ReactiveRetrySpec reactiveRetrySpec(SpringAiRetryProperties properties) {
+		return ReactiveRetrySpec.builder()
+			.maxAttempts(properties.getMaxAttempts())
+			.exponentialBackoff(properties.getBackoff().getInitialInterval(), properties.getBackoff().getMultiplier(),
+					properties.getBackoff().getMaxInterval())
+			.retryOnClientErrors(properties.isOnClientErrors())
+			.retryOnHttpCodes(Set.copyOf(properties.getOnHttpCodes()))
+			.excludeOnHttpCodes(Set.copyOf(properties.getExcludeOnHttpCodes()))
+			.build();
+	}
+
 	@Bean
 	@ConditionalOnMissingBean
 	public ResponseErrorHandler responseErrorHandler(SpringAiRetryProperties properties) {
@@ -111,4 +131,14 @@ public class SpringAiRetryAutoConfiguration {
 		};
 	}
 
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnProperty(prefix = SpringAiRetryProperties.CONFIG_PREFIX, name = "rate-limit.enabled",
+			havingValue = "true")
+	public RateLimitThrottler rateLimitThrottler(SpringAiRetryProperties properties,
+			ObjectProvider<MeterRegistry> meterRegistry) {
+		return new RateLimitThrottler(properties.getRateLimit().getMaxWait(),
+				meterRegistry.getIfUnique(() -> Metrics.globalRegistry));
+	}
+
 }
@@ -20,6 +20,7 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.springframework.ai.retry.ratelimit.RateLimitThrottler;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
@@ -62,6 +63,12 @@ public class SpringAiRetryProperties {
 	 */
 	private List<Integer> onHttpCodes = new ArrayList<>();
 
+	/**
+	 * Client side rate limit throttling properties.
+	 */
+	@NestedConfigurationProperty
+	private RateLimit rateLimit = new RateLimit();
+
 	public int getMaxAttempts() {
 		return this.maxAttempts;
 	}
@@ -98,6 +105,10 @@ public class SpringAiRetryProperties {
 		this.onHttpCodes = onHttpCodes;
 	}
 
+	public RateLimit getRateLimit() {
+		return this.rateLimit;
+	}
+
 	/**
 	 * Exponential Backoff properties.
 	 */
@@ -144,4 +155,39 @@ public class SpringAiRetryProperties {
 
 	}
 
+	/**
+	 * Client side rate limit throttling properties.
+	 */
+	public static class RateLimit {
+
+		/**
+		 * Pace the requests according to the rate limits reported by the provider,
+		 * instead of waiting for 429 responses. False by default.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * Maximum time a request may be held back. Requests that would have to wait
+		 * longer fail with a TransientAiException.
+		 */
+		private Duration maxWait = RateLimitThrottler.DEFAULT_MAX_WAIT;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Duration getMaxWait() {
+			return this.maxWait;
+		}
+
+		public void setMaxWait(Duration maxWait) {
+			this.maxWait = maxWait;
+		}
+
+	}
+
 }
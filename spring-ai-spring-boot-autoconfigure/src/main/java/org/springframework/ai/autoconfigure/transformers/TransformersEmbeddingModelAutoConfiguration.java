@@ -63,6 +63,16 @@ public class TransformersEmbeddingModelAutoConfiguration {
 
 		embeddingModel.setModelOutputName(properties.getOnnx().getModelOutputName());
 
+		embeddingModel.setIntraOpNumThreads(properties.getOnnx().getIntraOpNumThreads());
+		embeddingModel.setInterOpNumThreads(properties.getOnnx().getInterOpNumThreads());
+		embeddingModel.setOptimizationLevel(properties.getOnnx().getOptimizationLevel());
+		embeddingModel.setExecutionMode(properties.getOnnx().getExecutionMode());
+		embeddingModel.setCpuArenaAllocator(properties.getOnnx().getCpuArenaAllocator());
+		embeddingModel.setMemoryPatternOptimization(properties.getOnnx().getMemoryPatternOptimization());
+
+		embeddingModel.setLengthBucketing(properties.getOnnx().isLengthBucketing());
+		embeddingModel.setBucketSize(properties.getOnnx().getBucketSize());
+
 		observationConvention.ifAvailable(embeddingModel::setObservationConvention);
 
 		return embeddingModel;
@@ -22,6 +22,8 @@ import java.util.List;
 import java.util.Map;
 
 import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
+import ai.onnxruntime.OrtSession.SessionOptions.ExecutionMode;
+import ai.onnxruntime.OrtSession.SessionOptions.OptLevel;
 
 import org.springframework.ai.document.Document;
 import org.springframework.ai.document.MetadataMode;
@@ -190,6 +192,52 @@ public class TransformersEmbeddingModelProperties {
 		 */
 		private int gpuDeviceId = -1;
 
+		/**
+		 * Number of threads used to parallelize the execution within nodes. Only
+		 * applicable if > 0. Uses the ONNX runtime default otherwise.
+		 */
+		private int intraOpNumThreads = -1;
+
+		/**
+		 * Number of threads used to parallelize the execution of the graph (across
+		 * nodes). Only applicable if > 0 and the execution mode is PARALLEL.
+		 */
+		private int interOpNumThreads = -1;
+
+		/**
+		 * Graph optimization level: NO_OPT, BASIC_OPT, EXTENDED_OPT or ALL_OPT. Uses the
+		 * ONNX runtime default if not set.
+		 */
+		private OptLevel optimizationLevel;
+
+		/**
+		 * Graph execution mode: SEQUENTIAL or PARALLEL. Uses the ONNX runtime default if
+		 * not set.
+		 */
+		private ExecutionMode executionMode;
+
+		/**
+		 * Enable the CPU memory arena. Uses the ONNX runtime default if not set.
+		 */
+		private Boolean cpuArenaAllocator;
+
+		/**
+		 * Enable the memory pattern optimization. Uses the ONNX runtime default if not
+		 * set.
+		 */
+		private Boolean memoryPatternOptimization;
+
+		/**
+		 * Sort the inputs by length and embed them in buckets padded to their own longest
+		 * sequence.
+		 */
+		private boolean lengthBucketing = false;
+
+		/**
+		 * Maximum number of sequences per length bucket.
+		 */
+		private int bucketSize = TransformersEmbeddingModel.DEFAULT_BUCKET_SIZE;
+
 		public String getModelUri() {
 			return this.modelUri;
 		}
@@ -214,6 +262,70 @@ public class TransformersEmbeddingModelProperties {
 			this.modelOutputName = modelOutputName;
 		}
 
+		public int getIntraOpNumThreads() {
+			return this.intraOpNumThreads;
+		}
+
+		public void setIntraOpNumThreads(int intraOpNumThreads) {
+			this.intraOpNumThreads = intraOpNumThreads;
+		}
+
+		public int getInterOpNumThreads() {
+			return this.interOpNumThreads;
+		}
+
+		public void setInterOpNumThreads(int interOpNumThreads) {
+			this.interOpNumThreads = interOpNumThreads;
+		}
+
+		public OptLevel getOptimizationLevel() {
+			return this.optimizationLevel;
+		}
+
+		public void setOptimizationLevel(OptLevel optimizationLevel) {
+			this.optimizationLevel = optimizationLevel;
+		}
+
+		public ExecutionMode getExecutionMode() {
+			return this.executionMode;
+		}
+
+		public void setExecutionMode(ExecutionMode executionMode) {
+			this.executionMode = executionMode;
+		}
+
+		public Boolean getCpuArenaAllocator() {
+			return this.cpuArenaAllocator;
+		}
+
+		public void setCpuArenaAllocator(Boolean cpuArenaAllocator) {
+			this.cpuArenaAllocator = cpuArenaAllocator;
+		}
+
+		public Boolean getMemoryPatternOptimization() {
+			return this.memoryPatternOptimization;
+		}
+
+		public void setMemoryPatternOptimization(Boolean memoryPatternOptimization) {
+			this.memoryPatternOptimization = memoryPatternOptimization;
+		}
+
+		public boolean isLengthBucketing() {
+			return this.lengthBucketing;
+		}
+
+		public void setLengthBucketing(boolean lengthBucketing) {
+			this.lengthBucketing = lengthBucketing;
+		}
+
+		public int getBucketSize() {
+			return this.bucketSize;
+		}
+
+		public void setBucketSize(int bucketSize) {
+			this.bucketSize = bucketSize;
+		}
+
 	}
 
 }
@@ -24,6 +24,7 @@ import org.springframework.ai.embedding.BatchingStrategy;
 import org.springframework.ai.embedding.EmbeddingModel;
 import org.springframework.ai.embedding.TokenCountBatchingStrategy;
 import org.springframework.ai.vectorstore.pgvector.PgVectorStore;
+import org.springframework.ai.vectorstore.pgvector.PgVectorStore.PgSearchEffort;
 import org.springframework.ai.vectorstore.observation.VectorStoreObservationConvention;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
@@ -62,7 +63,7 @@ public class PgVectorStoreAutoConfiguration {
 
 		var initializeSchema = properties.isInitializeSchema();
 
-		return PgVectorStore.builder(jdbcTemplate, embeddingModel)
+		PgVectorStore.PgVectorStoreBuilder builder = PgVectorStore.builder(jdbcTemplate, embeddingModel)
 			.schemaName(properties.getSchemaName())
 			.vectorTableName(properties.getTableName())
 			.vectorTableValidationsEnabled(properties.isSchemaValidation())
@@ -75,7 +76,16 @@ public class PgVectorStoreAutoConfiguration {
 			.customObservationConvention(customObservationConvention.getIfAvailable(() -> null))
 			.batchingStrategy(batchingStrategy)
 			.maxDocumentBatchSize(properties.getMaxDocumentBatchSize())
-			.build();
+			.bulkCopyThreshold(properties.getBulkCopyThreshold())
+			.metadataType(properties.getMetadataType())
+			.embeddingStorage(properties.getEmbeddingStorage())
+			.oversampling(properties.getOversampling())
+			.hnswM(properties.getHnswM())
+			.hnswEfConstruction(properties.getHnswEfConstruction())
+			.ivfflatLists(properties.getIvfflatLists())
+			.searchEffort(new PgSearchEffort(properties.getEfSearch(), properties.getProbes()));
+		properties.getMetadataColumns().forEach(builder::metadataColumn);
+		return builder.build();
 	}
 
 }
@@ -16,10 +16,16 @@
 
 package org.springframework.ai.autoconfigure.vectorstore.pgvector;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import org.springframework.ai.autoconfigure.vectorstore.CommonVectorStoreProperties;
 import org.springframework.ai.vectorstore.pgvector.PgVectorStore;
 import org.springframework.ai.vectorstore.pgvector.PgVectorStore.PgDistanceType;
+import org.springframework.ai.vectorstore.pgvector.PgVectorStore.PgEmbeddingStorage;
 import org.springframework.ai.vectorstore.pgvector.PgVectorStore.PgIndexType;
+import org.springframework.ai.vectorstore.pgvector.PgVectorStore.PgMetadataColumnType;
+import org.springframework.ai.vectorstore.pgvector.PgVectorStore.PgMetadataType;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -51,6 +57,27 @@ public class PgVectorStoreProperties extends CommonVectorStoreProperties {
 
 	private int maxDocumentBatchSize = PgVectorStore.MAX_DOCUMENT_BATCH_SIZE;
 
+	private int bulkCopyThreshold = PgVectorStore.BULK_COPY_DISABLED;
+
+	private PgMetadataType metadataType = PgMetadataType.JSON;
+
+	private Map<String, PgMetadataColumnType> metadataColumns = new LinkedHashMap<>();
+
+	private PgEmbeddingStorage embeddingStorage = PgEmbeddingStorage.VECTOR;
+
+	private int oversampling = PgVectorStore.DEFAULT_OVERSAMPLING;
+
+	// Zero uses the pgvector defaults for the index build and search parameters
+	private int hnswM = 0;
+
+	private int hnswEfConstruction = 0;
+
+	private int ivfflatLists = 0;
+
+	private int efSearch = 0;
+
+	private int probes = 0;
+
 	public int getDimensions() {
 		return this.dimensions;
 	}
@@ -115,4 +142,85 @@ public class PgVectorStoreProperties extends CommonVectorStoreProperties {
 		this.maxDocumentBatchSize = maxDocumentBatchSize;
 	}
 
+	public int getBulkCopyThreshold() {
+		return this.bulkCopyThreshold;
+	}
+
+	public void setBulkCopyThreshold(int bulkCopyThreshold) {
+		this.bulkCopyThreshold = bulkCopyThreshold;
+	}
+
+	public PgMetadataType getMetadataType() {
+		return this.metadataType;
+	}
+
+	public void setMetadataType(PgMetadataType metadataType) {
+		this.metadataType = metadataType;
+	}
+
+	public Map<String, PgMetadataColumnType> getMetadataColumns() {
+		return this.metadataColumns;
+	}
+
+	public void setMetadataColumns(Map<String, PgMetadataColumnType> metadataColumns) {
+		this.metadataColumns = metadataColumns;
+	}
+
+
+	public PgEmbeddingStorage getEmbeddingStorage() {
+		return this.embeddingStorage;
+	}
+
+	public void setEmbeddingStorage(PgEmbeddingStorage embeddingStorage) {
+		this.embeddingStorage = embeddingStorage;
+	}
+
+	public int getOversampling() {
+		return this.oversampling;
+	}
+
+	public void setOversampling(int oversampling) {
+		this.oversampling = oversampling;
+	}
+
+	public int getHnswM() {
+		return this.hnswM;
+	}
+
+	public void setHnswM(int hnswM) {
+		this.hnswM = hnswM;
+	}
+
+	public int getHnswEfConstruction() {
+		return this.hnswEfConstruction;
+	}
+
+	public void setHnswEfConstruction(int hnswEfConstruction) {
+		this.hnswEfConstruction = hnswEfConstruction;
+	}
+
+	public int getIvfflatLists() {
+		return this.ivfflatLists;
+	}
+
+	public void setIvfflatLists(int ivfflatLists) {
+		this.ivfflatLists = ivfflatLists;
+	}
+
+	public int getEfSearch() {
+		return this.efSearch;
+	}
+
+	public void setEfSearch(int efSearch) {
+		this.efSearch = efSearch;
+	}
+
+	public int getProbes() {
+		return this.probes;
+	}
+
+	public void setProbes(int probes) {
+		this.probes = probes;
+	}
+
 }
@@ -61,6 +61,11 @@ public class PineconeVectorStoreAutoConfiguration {
 			.contentFieldName(properties.getContentFieldName())
 			.distanceMetadataFieldName(properties.getDistanceMetadataFieldName())
 			.serverSideTimeout(properties.getServerSideTimeout())
+			.maxBatchSize(properties.getMaxBatchSize())
+			.maxRequestBytes(properties.getMaxRequestBytes())
+			.maxConcurrentRequests(properties.getMaxConcurrentRequests())
+			.maxAttempts(properties.getMaxAttempts())
+			.retryBackoff(properties.getRetryBackoff())
 			.observationRegistry(observationRegistry.getIfUnique(() -> ObservationRegistry.NOOP))
 			.customObservationConvention(customObservationConvention.getIfAvailable(() -> null))
 			.batchingStrategy(batchingStrategy)
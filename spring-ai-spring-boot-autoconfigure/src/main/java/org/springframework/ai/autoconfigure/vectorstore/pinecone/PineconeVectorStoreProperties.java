@@ -49,6 +49,16 @@ public class PineconeVectorStoreProperties {
 
 	private Duration serverSideTimeout = Duration.ofSeconds(20);
 
+	private int maxBatchSize = PineconeVectorStore.DEFAULT_MAX_BATCH_SIZE;
+
+	private int maxRequestBytes = PineconeVectorStore.DEFAULT_MAX_REQUEST_BYTES;
+
+	private int maxConcurrentRequests = PineconeVectorStore.DEFAULT_MAX_CONCURRENT_REQUESTS;
+
+	private int maxAttempts = PineconeVectorStore.DEFAULT_MAX_ATTEMPTS;
+
+	private Duration retryBackoff = Duration.ofMillis(500);
+
 	public String getApiKey() {
 		return this.apiKey;
 	}
@@ -113,4 +123,44 @@ public class PineconeVectorStoreProperties {
 		this.distanceMetadataFieldName = distanceMetadataFieldName;
 	}
 
+	public int getMaxBatchSize() {
+		return this.maxBatchSize;
+	}
+
+	public void setMaxBatchSize(int maxBatchSize) {
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	public int getMaxRequestBytes() {
+		return this.maxRequestBytes;
+	}
+
+	public void setMaxRequestBytes(int maxRequestBytes) {
+		this.maxRequestBytes = maxRequestBytes;
+	}
+
+	public int getMaxConcurrentRequests() {
+		return this.maxConcurrentRequests;
+	}
+
+	public void setMaxConcurrentRequests(int maxConcurrentRequests) {
+		this.maxConcurrentRequests = maxConcurrentRequests;
+	}
+
+	public int getMaxAttempts() {
+		return this.maxAttempts;
+	}
+
+	public void setMaxAttempts(int maxAttempts) {
+		this.maxAttempts = maxAttempts;
+	}
+
+	public Duration getRetryBackoff() {
+		return this.retryBackoff;
+	}
+
+	public void setRetryBackoff(Duration retryBackoff) {
+		this.retryBackoff = retryBackoff;
+	}
+
 }
@@ -16,6 +16,7 @@
 
 package org.springframework.ai.autoconfigure.watsonxai;
 
+import org.springframework.ai.retry.ReactiveRetrySpec;
 import org.springframework.ai.watsonx.WatsonxAiChatModel;
 import org.springframework.ai.watsonx.WatsonxAiEmbeddingModel;
 import org.springframework.ai.watsonx.api.WatsonxAiApi;
@@ -58,8 +59,11 @@ public class WatsonxAiAutoConfiguration {
 	@ConditionalOnMissingBean
 	@ConditionalOnProperty(prefix = WatsonxAiChatProperties.CONFIG_PREFIX, name = "enabled", havingValue = "true",
 			matchIfMissing = true)
-	public WatsonxAiChatModel watsonxChatModel(WatsonxAiApi watsonxApi, WatsonxAiChatProperties chatProperties) {
-		return new WatsonxAiChatModel(watsonxApi, chatProperties.getOptions());
+	public WatsonxAiChatModel watsonxChatModel(WatsonxAiApi watsonxApi, WatsonxAiChatProperties chatProperties,
+			ObjectProvider<ReactiveRetrySpec> streamRetry) {
+		var chatModel = new WatsonxAiChatModel(watsonxApi, chatProperties.getOptions());
+		streamRetry.ifAvailable(chatModel::setStreamRetry);
+		return chatModel;
 	}
 
 	@Bean
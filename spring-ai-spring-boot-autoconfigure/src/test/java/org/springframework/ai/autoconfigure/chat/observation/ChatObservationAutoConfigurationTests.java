@@ -22,6 +22,7 @@ import io.micrometer.tracing.otel.bridge.OtelTracer;
 import io.opentelemetry.api.OpenTelemetry;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.ai.chat.client.observation.ChatClientMeterObservationHandler;
 import org.springframework.ai.chat.observation.ChatModelCompletionObservationFilter;
 import org.springframework.ai.chat.observation.ChatModelCompletionObservationHandler;
 import org.springframework.ai.chat.observation.ChatModelMeterObservationHandler;
@@ -53,6 +54,18 @@ class ChatObservationAutoConfigurationTests {
 		this.contextRunner.run(context -> assertThat(context).doesNotHaveBean(ChatModelMeterObservationHandler.class));
 	}
 
+	@Test
+	void chatClientMeterObservationHandlerEnabled() {
+		this.contextRunner.withBean(CompositeMeterRegistry.class)
+			.run(context -> assertThat(context).hasSingleBean(ChatClientMeterObservationHandler.class));
+	}
+
+	@Test
+	void chatClientMeterObservationHandlerDisabled() {
+		this.contextRunner
+			.run(context -> assertThat(context).doesNotHaveBean(ChatClientMeterObservationHandler.class));
+	}
+
 	@Test
 	void promptFilterDefault() {
 		this.contextRunner
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.autoconfigure.http.client;
+
+import java.io.IOException;
+import java.net.URI;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link HttpClientRequestMetrics}.
+ *
+ * @since 1.0.0
+ */
+class HttpClientRequestMetricsTests {
+
+	private static final URI URL = URI.create("https://api.openai.com/v1/chat/completions");
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final HttpClientRequestMetrics metrics = new HttpClientRequestMetrics(this.meterRegistry);
+
+	@Test
+	void reusesTheTimerOfTheSameTags() {
+		this.metrics.record(URL, "POST", 200, null, System.nanoTime());
+		Timer timer = this.meterRegistry.get(HttpClientRequestMetrics.METRIC_NAME).timer();
+		// A timer registered again would be a new instance once removed from the registry.
+		this.meterRegistry.remove(timer);
+
+		this.metrics.record(URL, "POST", 200, null, System.nanoTime());
+
+		assertThat(timer.count()).isEqualTo(2);
+		assertThat(this.meterRegistry.find(HttpClientRequestMetrics.METRIC_NAME).timers()).isEmpty();
+	}
+
+	@Test
+	void registersATimerPerTags() {
+		this.metrics.record(URL, "POST", 200, null, System.nanoTime());
+		this.metrics.record(URL, "POST", 429, null, System.nanoTime());
+		this.metrics.record(URL, "POST", 0, new IOException(), System.nanoTime());
+
+		assertThat(this.meterRegistry.get(HttpClientRequestMetrics.METRIC_NAME)
+			.tag("server.address", "api.openai.com")
+			.tag("http.request.method", "POST")
+			.tag("http.response.status_code", "429")
+			.tag("error", "none")
+			.timer()
+			.count()).isEqualTo(1);
+		assertThat(this.meterRegistry.get(HttpClientRequestMetrics.METRIC_NAME)
+			.tag("http.response.status_code", "none")
+			.tag("error", "IOException")
+			.timer()
+			.count()).isEqualTo(1);
+		assertThat(this.meterRegistry.find(HttpClientRequestMetrics.METRIC_NAME).timers()).hasSize(3);
+	}
+
+}
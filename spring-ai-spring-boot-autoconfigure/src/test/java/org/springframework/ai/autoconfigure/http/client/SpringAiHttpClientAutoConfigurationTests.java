@@ -0,0 +1,162 @@
+/*
+ * Copyright 2023-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.autoconfigure.http.client;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.netty.resources.ConnectionProvider;
+
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.web.client.RestClientAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.function.client.WebClientAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.ApplicationContext;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link SpringAiHttpClientAutoConfiguration}.
+ */
+class SpringAiHttpClientAutoConfigurationTests {
+
+	private static final String BODY = "{\"object\":\"list\",\"data\":[]}";
+
+	private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+		.withConfiguration(AutoConfigurations.of(SpringAiHttpClientAutoConfiguration.class,
+				RestClientAutoConfiguration.class, WebClientAutoConfiguration.class))
+		.withBean(MeterRegistry.class, SimpleMeterRegistry::new);
+
+	private HttpServer server;
+
+	private String baseUrl;
+
+	@BeforeEach
+	void startServer() throws IOException {
+		this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		this.server.createContext("/v1/models", exchange -> {
+			boolean gzip = String.valueOf(exchange.getRequestHeaders().getFirst("Accept-Encoding")).contains("gzip");
+			byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+			if (gzip) {
+				ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+				try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+					out.write(body);
+				}
+				body = compressed.toByteArray();
+				exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+			}
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(body);
+			}
+		});
+		this.server.start();
+		this.baseUrl = "http://localhost:" + this.server.getAddress().getPort();
+	}
+
+	@AfterEach
+	void stopServer() {
+		this.server.stop(0);
+	}
+
+	@Test
+	void disabledByDefault() {
+		this.contextRunner.run(context -> {
+			assertThat(context).doesNotHaveBean(ConnectionProvider.class);
+			assertThat(context).doesNotHaveBean("springAiRestClientCustomizer");
+		});
+	}
+
+	@Test
+	void reactorNettyTransport() {
+		this.contextRunner.withPropertyValues("spring.ai.http-client.enabled=true").run(context -> {
+			assertThat(context).hasSingleBean(ConnectionProvider.class);
+			assertThat(context).doesNotHaveBean(java.net.http.HttpClient.class);
+			assertRequestsSucceed(context);
+		});
+	}
+
+	@Test
+	void jdkTransport() {
+		this.contextRunner
+			.withPropertyValues("spring.ai.http-client.enabled=true", "spring.ai.http-client.connector=jdk")
+			.run(context -> {
+				assertThat(context).hasSingleBean(java.net.http.HttpClient.class);
+				assertThat(context).doesNotHaveBean(ConnectionProvider.class);
+				assertRequestsSucceed(context);
+			});
+	}
+
+	@Test
+	void metricsCanBeDisabled() {
+		this.contextRunner
+			.withPropertyValues("spring.ai.http-client.enabled=true", "spring.ai.http-client.metrics=false")
+			.run(context -> {
+				String body = context.getBean(RestClient.Builder.class)
+					.build()
+					.get()
+					.uri(this.baseUrl + "/v1/models")
+					.retrieve()
+					.body(String.class);
+
+				assertThat(body).isEqualTo(BODY);
+				assertThat(context.getBean(MeterRegistry.class).find(HttpClientRequestMetrics.METRIC_NAME).timer())
+					.isNull();
+			});
+	}
+
+	private void assertRequestsSucceed(ApplicationContext context) {
+		String blocking = context.getBean(RestClient.Builder.class)
+			.build()
+			.get()
+			.uri(this.baseUrl + "/v1/models")
+			.retrieve()
+			.body(String.class);
+		String reactive = context.getBean(WebClient.Builder.class)
+			.build()
+			.get()
+			.uri(this.baseUrl + "/v1/models")
+			.retrieve()
+			.bodyToMono(String.class)
+			.block();
+
+		// Compressed responses are transparently decompressed by the client.
+		assertThat(blocking).isEqualTo(BODY);
+		assertThat(reactive).isEqualTo(BODY);
+
+		var timer = context.getBean(MeterRegistry.class)
+			.get(HttpClientRequestMetrics.METRIC_NAME)
+			.tag("server.address", "localhost")
+			.tag("http.response.status_code", "200")
+			.timer();
+		assertThat(timer.count()).isEqualTo(2);
+	}
+
+}
@@ -18,6 +18,7 @@ package org.springframework.ai.autoconfigure.retry;
 
 import org.junit.jupiter.api.Test;
 
+import org.springframework.ai.retry.ReactiveRetrySpec;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.autoconfigure.web.client.RestClientAutoConfiguration;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
@@ -39,6 +40,7 @@ public class SpringAiRetryAutoConfigurationIT {
 		this.contextRunner.run(context -> {
 			assertThat(context).hasSingleBean(RetryTemplate.class);
 			assertThat(context).hasSingleBean(ResponseErrorHandler.class);
+			assertThat(context).hasSingleBean(ReactiveRetrySpec.class);
 		});
 	}
 
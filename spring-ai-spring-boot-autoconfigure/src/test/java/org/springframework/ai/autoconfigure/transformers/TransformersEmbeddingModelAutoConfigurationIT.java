@@ -19,6 +19,8 @@ package org.springframework.ai.autoconfigure.transformers;
 import java.io.File;
 import java.util.List;
 
+import ai.onnxruntime.OrtSession.SessionOptions.ExecutionMode;
+import ai.onnxruntime.OrtSession.SessionOptions.OptLevel;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
@@ -90,6 +92,34 @@ public class TransformersEmbeddingModelAutoConfigurationIT {
 			});
 	}
 
+	@Test
+	void onnxRuntimeOptions() {
+		this.contextRunner
+			.withPropertyValues("spring.ai.embedding.transformer.onnx.intraOpNumThreads=4",
+					"spring.ai.embedding.transformer.onnx.interOpNumThreads=2",
+					"spring.ai.embedding.transformer.onnx.optimizationLevel=ALL_OPT",
+					"spring.ai.embedding.transformer.onnx.executionMode=PARALLEL",
+					"spring.ai.embedding.transformer.onnx.cpuArenaAllocator=false",
+					"spring.ai.embedding.transformer.onnx.memoryPatternOptimization=false",
+					"spring.ai.embedding.transformer.onnx.lengthBucketing=true",
+					"spring.ai.embedding.transformer.onnx.bucketSize=16")
+			.run(context -> {
+				var properties = context.getBean(TransformersEmbeddingModelProperties.class);
+				assertThat(properties.getOnnx().getIntraOpNumThreads()).isEqualTo(4);
+				assertThat(properties.getOnnx().getInterOpNumThreads()).isEqualTo(2);
+				assertThat(properties.getOnnx().getOptimizationLevel()).isEqualTo(OptLevel.ALL_OPT);
+				assertThat(properties.getOnnx().getExecutionMode()).isEqualTo(ExecutionMode.PARALLEL);
+				assertThat(properties.getOnnx().getCpuArenaAllocator()).isFalse();
+				assertThat(properties.getOnnx().getMemoryPatternOptimization()).isFalse();
+				assertThat(properties.getOnnx().isLengthBucketing()).isTrue();
+				assertThat(properties.getOnnx().getBucketSize()).isEqualTo(16);
+
+				EmbeddingModel embeddingModel = context.getBean(EmbeddingModel.class);
+				List<float[]> embeddings = embeddingModel.embed(List.of("Spring Framework", "Spring AI"));
+				assertThat(embeddings.size()).isEqualTo(2);
+			});
+	}
+
 	@Test
 	void embeddingActivation() {
 		this.contextRunner.withPropertyValues("spring.ai.embedding.transformer.enabled=false").run(context -> {
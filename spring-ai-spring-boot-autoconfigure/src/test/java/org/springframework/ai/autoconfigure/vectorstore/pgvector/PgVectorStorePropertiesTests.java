@@ -16,11 +16,16 @@
 
 package org.springframework.ai.autoconfigure.vectorstore.pgvector;
 
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 
 import org.springframework.ai.vectorstore.pgvector.PgVectorStore;
 import org.springframework.ai.vectorstore.pgvector.PgVectorStore.PgDistanceType;
+import org.springframework.ai.vectorstore.pgvector.PgVectorStore.PgEmbeddingStorage;
 import org.springframework.ai.vectorstore.pgvector.PgVectorStore.PgIndexType;
+import org.springframework.ai.vectorstore.pgvector.PgVectorStore.PgMetadataColumnType;
+import org.springframework.ai.vectorstore.pgvector.PgVectorStore.PgMetadataType;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -40,6 +45,16 @@ public class PgVectorStorePropertiesTests {
 		assertThat(props.isSchemaValidation()).isFalse();
 		assertThat(props.getSchemaName()).isEqualTo(PgVectorStore.DEFAULT_SCHEMA_NAME);
 		assertThat(props.getTableName()).isEqualTo(PgVectorStore.DEFAULT_TABLE_NAME);
+		assertThat(props.getBulkCopyThreshold()).isEqualTo(PgVectorStore.BULK_COPY_DISABLED);
+		assertThat(props.getMetadataType()).isEqualTo(PgMetadataType.JSON);
+		assertThat(props.getMetadataColumns()).isEmpty();
+		assertThat(props.getEmbeddingStorage()).isEqualTo(PgEmbeddingStorage.VECTOR);
+		assertThat(props.getOversampling()).isEqualTo(PgVectorStore.DEFAULT_OVERSAMPLING);
+		assertThat(props.getHnswM()).isZero();
+		assertThat(props.getHnswEfConstruction()).isZero();
+		assertThat(props.getIvfflatLists()).isZero();
+		assertThat(props.getEfSearch()).isZero();
+		assertThat(props.getProbes()).isZero();
 
 	}
 
@@ -55,6 +70,16 @@ public class PgVectorStorePropertiesTests {
 		props.setSchemaValidation(true);
 		props.setSchemaName("my_vector_schema");
 		props.setTableName("my_vector_table");
+		props.setBulkCopyThreshold(5000);
+		props.setMetadataType(PgMetadataType.JSONB);
+		props.setMetadataColumns(Map.of("tenant", PgMetadataColumnType.TEXT));
+		props.setEmbeddingStorage(PgEmbeddingStorage.BINARY_QUANTIZED);
+		props.setOversampling(8);
+		props.setHnswM(32);
+		props.setHnswEfConstruction(128);
+		props.setIvfflatLists(1000);
+		props.setEfSearch(200);
+		props.setProbes(20);
 
 		assertThat(props.getDimensions()).isEqualTo(1536);
 		assertThat(props.getDistanceType()).isEqualTo(PgDistanceType.EUCLIDEAN_DISTANCE);
@@ -64,6 +89,16 @@ public class PgVectorStorePropertiesTests {
 		assertThat(props.isSchemaValidation()).isTrue();
 		assertThat(props.getSchemaName()).isEqualTo("my_vector_schema");
 		assertThat(props.getTableName()).isEqualTo("my_vector_table");
+		assertThat(props.getBulkCopyThreshold()).isEqualTo(5000);
+		assertThat(props.getMetadataType()).isEqualTo(PgMetadataType.JSONB);
+		assertThat(props.getMetadataColumns()).containsEntry("tenant", PgMetadataColumnType.TEXT);
+		assertThat(props.getEmbeddingStorage()).isEqualTo(PgEmbeddingStorage.BINARY_QUANTIZED);
+		assertThat(props.getOversampling()).isEqualTo(8);
+		assertThat(props.getHnswM()).isEqualTo(32);
+		assertThat(props.getHnswEfConstruction()).isEqualTo(128);
+		assertThat(props.getIvfflatLists()).isEqualTo(1000);
+		assertThat(props.getEfSearch()).isEqualTo(200);
+		assertThat(props.getProbes()).isEqualTo(20);
 	}
 
 }
@@ -42,6 +42,11 @@ public class PineconeVectorStorePropertiesTests {
 		assertThat(props.getServerSideTimeout()).isEqualTo(Duration.ofSeconds(20));
 		assertThat(props.getContentFieldName()).isEqualTo(PineconeVectorStore.CONTENT_FIELD_NAME);
 		assertThat(props.getDistanceMetadataFieldName()).isEqualTo(DocumentMetadata.DISTANCE.value());
+		assertThat(props.getMaxBatchSize()).isEqualTo(PineconeVectorStore.DEFAULT_MAX_BATCH_SIZE);
+		assertThat(props.getMaxRequestBytes()).isEqualTo(PineconeVectorStore.DEFAULT_MAX_REQUEST_BYTES);
+		assertThat(props.getMaxConcurrentRequests()).isEqualTo(PineconeVectorStore.DEFAULT_MAX_CONCURRENT_REQUESTS);
+		assertThat(props.getMaxAttempts()).isEqualTo(PineconeVectorStore.DEFAULT_MAX_ATTEMPTS);
+		assertThat(props.getRetryBackoff()).isEqualTo(Duration.ofMillis(500));
 	}
 
 	@Test
@@ -55,6 +60,11 @@ public class PineconeVectorStorePropertiesTests {
 		props.setServerSideTimeout(Duration.ofSeconds(60));
 		props.setContentFieldName("article");
 		props.setDistanceMetadataFieldName("distance2");
+		props.setMaxBatchSize(100);
+		props.setMaxRequestBytes(1024 * 1024);
+		props.setMaxConcurrentRequests(8);
+		props.setMaxAttempts(5);
+		props.setRetryBackoff(Duration.ofSeconds(1));
 
 		assertThat(props.getEnvironment()).isEqualTo("env");
 		assertThat(props.getNamespace()).isEqualTo("namespace");
@@ -64,6 +74,11 @@ public class PineconeVectorStorePropertiesTests {
 		assertThat(props.getServerSideTimeout()).isEqualTo(Duration.ofSeconds(60));
 		assertThat(props.getContentFieldName()).isEqualTo("article");
 		assertThat(props.getDistanceMetadataFieldName()).isEqualTo("distance2");
+		assertThat(props.getMaxBatchSize()).isEqualTo(100);
+		assertThat(props.getMaxRequestBytes()).isEqualTo(1024 * 1024);
+		assertThat(props.getMaxConcurrentRequests()).isEqualTo(8);
+		assertThat(props.getMaxAttempts()).isEqualTo(5);
+		assertThat(props.getRetryBackoff()).isEqualTo(Duration.ofSeconds(1));
 	}
 
 }
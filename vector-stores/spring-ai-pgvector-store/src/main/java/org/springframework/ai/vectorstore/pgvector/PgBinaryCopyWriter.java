@@ -0,0 +1,92 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore.pgvector;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Writes the {@code (id uuid, content text, metadata text, embedding vector)} rows of a
+ * {@code COPY ... FROM STDIN (FORMAT BINARY)} statement, in the PostgreSQL binary copy
+ * format. The {@code vector} values use the binary representation of the pgvector
+ * extension: the number of dimensions and an unused field as 16-bit integers, followed
+ * by the 32-bit floats.
+ *
+ * @since 1.0.0
+ * @see <a href="https://www.postgresql.org/docs/current/sql-copy.html">COPY</a>
+ */
+final class PgBinaryCopyWriter {
+
+	private static final byte[] SIGNATURE = { 'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0 };
+
+	private static final short FIELD_COUNT = 4;
+
+	private static final int UUID_LENGTH = 16;
+
+	private final DataOutputStream out;
+
+	PgBinaryCopyWriter(OutputStream out) throws IOException {
+		this.out = new DataOutputStream(out);
+		this.out.write(SIGNATURE);
+		// Flags, then the length of the header extension area
+		this.out.writeInt(0);
+		this.out.writeInt(0);
+	}
+
+	void writeRow(UUID id, @Nullable String content, String metadata, float[] embedding) throws IOException {
+		this.out.writeShort(FIELD_COUNT);
+
+		this.out.writeInt(UUID_LENGTH);
+		this.out.writeLong(id.getMostSignificantBits());
+		this.out.writeLong(id.getLeastSignificantBits());
+
+		writeText(content);
+		writeText(metadata);
+
+		this.out.writeInt(4 + embedding.length * Float.BYTES);
+		this.out.writeShort(embedding.length);
+		this.out.writeShort(0);
+		for (float value : embedding) {
+			this.out.writeFloat(value);
+		}
+	}
+
+	/**
+	 * Write the file trailer and close the underlying stream, which completes the copy.
+	 * @throws IOException if the trailer cannot be written or the copy fails
+	 */
+	void finish() throws IOException {
+		this.out.writeShort(-1);
+		this.out.close();
+	}
+
+	private void writeText(@Nullable String text) throws IOException {
+		if (text == null) {
+			this.out.writeInt(-1);
+			return;
+		}
+		byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+		this.out.writeInt(bytes.length);
+		this.out.write(bytes);
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2023-2024 the original author or authors.
+ * Copyright 2023-2025 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,23 +16,146 @@
 
 package org.springframework.ai.vectorstore.pgvector;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.ai.vectorstore.filter.Filter;
 import org.springframework.ai.vectorstore.filter.Filter.Expression;
 import org.springframework.ai.vectorstore.filter.Filter.Group;
 import org.springframework.ai.vectorstore.filter.Filter.Key;
+import org.springframework.ai.vectorstore.filter.Filter.Operand;
 import org.springframework.ai.vectorstore.filter.converter.AbstractFilterExpressionConverter;
+import org.springframework.ai.vectorstore.pgvector.PgVectorStore.PgMetadataColumnType;
+import org.springframework.util.Assert;
 
 /**
  * Converts {@link Expression} into PgVector metadata filter expression format.
  * (https://www.postgresql.org/docs/current/functions-json.html)
+ * <p>
+ * {@link #convertToSqlFilter(Expression, String)} converts an expression into a SQL
+ * condition with bind parameters: the JSON path expressions are bound as
+ * {@code jsonpath} parameters of the {@code @@} operator, which a GIN index on a
+ * {@code jsonb} metadata column can serve, and the comparisons of the metadata keys
+ * stored in their own columns are pushed down to these columns, with the values cast to
+ * the column types.
  *
  * @author Muthukumaran Navaneethakrishnan
  * @author Christian Tzolov
  */
 public class PgVectorFilterExpressionConverter extends AbstractFilterExpressionConverter {
 
+	private final Map<String, PgMetadataColumnType> metadataColumns;
+
+	public PgVectorFilterExpressionConverter() {
+		this(Map.of());
+	}
+
+	/**
+	 * Create a converter pushing down the comparisons of the given metadata keys to the
+	 * columns of the same name.
+	 * @param metadataColumns the types of the columns of the metadata keys stored in
+	 * their own columns
+	 */
+	public PgVectorFilterExpressionConverter(Map<String, PgMetadataColumnType> metadataColumns) {
+		Assert.notNull(metadataColumns, "metadataColumns must not be null");
+		this.metadataColumns = Map.copyOf(metadataColumns);
+	}
+
+	/**
+	 * Convert the given expression into a SQL condition. The maximal sub-expressions
+	 * without metadata column keys are converted into a single
+	 * {@code <metadata> @@ ?::jsonpath} condition.
+	 * @param expression the expression to convert
+	 * @param metadata the SQL expression of the {@code jsonb} metadata, for instance
+	 * {@code metadata} or {@code metadata::jsonb}
+	 * @return the SQL condition and its bind parameters
+	 */
+	public SqlFilter convertToSqlFilter(Expression expression, String metadata) {
+		StringBuilder sql = new StringBuilder();
+		List<Object> parameters = new ArrayList<>();
+		toSql(expression, metadata, sql, parameters);
+		return new SqlFilter(sql.toString(), List.copyOf(parameters));
+	}
+
+	private void toSql(Operand operand, String metadata, StringBuilder sql, List<Object> parameters) {
+		if (!referencesMetadataColumn(operand)) {
+			sql.append(metadata).append(" @@ ?::jsonpath");
+			parameters.add(convertOperand(operand));
+		}
+		else if (operand instanceof Group group) {
+			sql.append("(");
+			toSql(group.content(), metadata, sql, parameters);
+			sql.append(")");
+		}
+		else if (operand instanceof Expression expression) {
+			switch (expression.type()) {
+				case AND, OR -> {
+					sql.append("(");
+					toSql(expression.left(), metadata, sql, parameters);
+					sql.append((expression.type() == Filter.ExpressionType.AND) ? ") AND (" : ") OR (");
+					toSql(expression.right(), metadata, sql, parameters);
+					sql.append(")");
+				}
+				case NOT -> {
+					sql.append("NOT (");
+					toSql(expression.left(), metadata, sql, parameters);
+					sql.append(")");
+				}
+				default -> columnComparison(expression, sql, parameters);
+			}
+		}
+		else {
+			throw new IllegalArgumentException("Unexpected operand: " + operand);
+		}
+	}
+
+	private void columnComparison(Expression expression, StringBuilder sql, List<Object> parameters) {
+		if (!(expression.left() instanceof Key key) || !(expression.right() instanceof Filter.Value value)) {
+			throw new IllegalArgumentException("Expected a key and a value, but got: " + expression);
+		}
+		String column = columnKey(key);
+		// The values are cast to the column type, a text column may be compared to a number.
+		String parameter = "?::" + this.metadataColumns.get(column).sqlType;
+		sql.append('"').append(column).append('"');
+		if (expression.type() == Filter.ExpressionType.IN || expression.type() == Filter.ExpressionType.NIN) {
+			if (!(value.value() instanceof List<?> values) || values.isEmpty()) {
+				throw new IllegalArgumentException("Expected a non empty List, but got: " + value.value());
+			}
+			sql.append((expression.type() == Filter.ExpressionType.IN) ? " IN (" : " NOT IN (");
+			for (int i = 0; i < values.size(); i++) {
+				sql.append((i > 0) ? ", " : "").append(parameter);
+				parameters.add(values.get(i));
+			}
+			sql.append(")");
+		}
+		else {
+			sql.append(getSqlOperationSymbol(expression)).append(parameter);
+			parameters.add(value.value());
+		}
+	}
+
+	private boolean referencesMetadataColumn(Operand operand) {
+		if (this.metadataColumns.isEmpty()) {
+			return false;
+		}
+		if (operand instanceof Key key) {
+			return this.metadataColumns.containsKey(columnKey(key));
+		}
+		if (operand instanceof Group group) {
+			return referencesMetadataColumn(group.content());
+		}
+		if (operand instanceof Expression expression) {
+			return referencesMetadataColumn(expression.left())
+					|| (expression.right() != null && referencesMetadataColumn(expression.right()));
+		}
+		return false;
+	}
+
+	private String columnKey(Key key) {
+		return hasOuterQuotes(key.key()) ? removeOuterQuotes(key.key().trim()) : key.key();
+	}
+
 	@Override
 	protected void doExpression(Expression expression, StringBuilder context) {
 		if (expression.type() == Filter.ExpressionType.IN) {
@@ -77,6 +200,18 @@ public class PgVectorFilterExpressionConverter extends AbstractFilterExpressionC
 		context.append(")");
 	}
 
+	private String getSqlOperationSymbol(Expression exp) {
+		return switch (exp.type()) {
+			case EQ -> " = ";
+			case NE -> " <> ";
+			case LT -> " < ";
+			case LTE -> " <= ";
+			case GT -> " > ";
+			case GTE -> " >= ";
+			default -> throw new IllegalArgumentException("Not supported expression type: " + exp.type());
+		};
+	}
+
 	private String getOperationSymbol(Expression exp) {
 		switch (exp.type()) {
 			case AND:
@@ -100,6 +235,24 @@ public class PgVectorFilterExpressionConverter extends AbstractFilterExpressionC
 		}
 	}
 
+	@Override
+	protected void doSingleValue(Object value, StringBuilder context) {
+		if (value instanceof String text) {
+			context.append('"');
+			for (int i = 0; i < text.length(); i++) {
+				char c = text.charAt(i);
+				if (c == '"' || c == '\\') {
+					context.append('\\');
+				}
+				context.append(c);
+			}
+			context.append('"');
+		}
+		else {
+			super.doSingleValue(value, context);
+		}
+	}
+
 	@Override
 	protected void doKey(Key key, StringBuilder context) {
 		context.append("$." + key.key());
@@ -115,4 +268,14 @@ public class PgVectorFilterExpressionConverter extends AbstractFilterExpressionC
 		context.append(")");
 	}
 
+	/**
+	 * A SQL condition and its bind parameters.
+	 *
+	 * @param sql the SQL condition
+	 * @param parameters the bind parameters, in order
+	 */
+	public record SqlFilter(String sql, List<Object> parameters) {
+
+	}
+
 }
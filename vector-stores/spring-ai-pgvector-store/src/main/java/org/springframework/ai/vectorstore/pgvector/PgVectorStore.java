@@ -16,19 +16,27 @@
 
 package org.springframework.ai.vectorstore.pgvector;
 
+import java.io.IOException;
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.pgvector.PGvector;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
 import org.postgresql.util.PGobject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -48,14 +56,17 @@ import org.springframework.ai.vectorstore.VectorStore;
 import org.springframework.ai.vectorstore.filter.FilterExpressionConverter;
 import org.springframework.ai.vectorstore.observation.AbstractObservationVectorStore;
 import org.springframework.ai.vectorstore.observation.VectorStoreObservationContext;
+import org.springframework.ai.vectorstore.pgvector.PgVectorFilterExpressionConverter.SqlFilter;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.RowMapperResultSetExtractor;
 import org.springframework.jdbc.core.SqlTypeValue;
 import org.springframework.jdbc.core.StatementCreatorUtils;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
-import org.springframework.util.StringUtils;
 
 /**
  * PostgreSQL-based vector store implementation using the pgvector extension.
@@ -73,9 +84,12 @@ import org.springframework.util.StringUtils;
  * <li>Automatic schema initialization with configurable table and index creation</li>
  * <li>Support for different distance metrics: Cosine, Euclidean, and Inner Product</li>
  * <li>Flexible indexing options: HNSW (default), IVFFlat, or exact search (no index)</li>
- * <li>Metadata filtering using JSON path expressions</li>
+ * <li>Metadata filtering using JSON path expressions, bound as parameters</li>
+ * <li>Optional {@code jsonb} metadata with a GIN index, and metadata keys stored in their
+ * own indexed columns</li>
  * <li>Configurable similarity thresholds for search results</li>
  * <li>Batch processing support with configurable batch sizes</li>
+ * <li>Bulk loading of large additions with {@code COPY ... FROM STDIN (FORMAT BINARY)}</li>
  * </ul>
  *
  * <p>
@@ -114,6 +128,12 @@ import org.springframework.util.StringUtils;
  *     .removeExistingVectorStoreTable(true)
  *     .initializeSchema(true)
  *     .maxDocumentBatchSize(1000)
+ *     .bulkCopyThreshold(5000)
+ *     .metadataType(PgMetadataType.JSONB)
+ *     .metadataColumn("tenant", PgMetadataColumnType.TEXT)
+ *     .hnswM(16)
+ *     .hnswEfConstruction(128)
+ *     .searchEffort(request -> new PgSearchEffort(request.getTopK() * 4, 0))
  *     .build();
  * }</pre>
  *
@@ -123,8 +143,8 @@ import org.springframework.util.StringUtils;
  * <ul>
  * <li>PostgreSQL with pgvector extension installed</li>
  * <li>Required extensions: vector, hstore, uuid-ossp</li>
- * <li>Table schema with id (uuid), content (text), metadata (json), and embedding
- * (vector) columns</li>
+ * <li>Table schema with id (uuid), content (text), metadata (json or jsonb), and
+ * embedding (vector) columns</li>
  * </ul>
  *
  * <p>
@@ -145,6 +165,38 @@ import org.springframework.util.StringUtils;
  * <li>IVFFLAT: Faster builds, less memory, but lower query performance</li>
  * <li>NONE: Exact search without indexing</li>
  * </ul>
+ * The index build parameters ({@code m} and {@code ef_construction} for HNSW,
+ * {@code lists} for IVFFlat) and the search effort ({@code hnsw.ef_search} or
+ * {@code ivfflat.probes}, set with {@code SET LOCAL} in the query transaction and
+ * restored after the query when the transaction is the caller's, possibly per
+ * {@link SearchRequest}) are configurable.
+ *
+ * <p>
+ * Embedding Storage:
+ * </p>
+ * <ul>
+ * <li>VECTOR: Default, full precision {@code vector} column and index</li>
+ * <li>HALFVEC: Half precision {@code halfvec} column and index, using half the memory and
+ * storage</li>
+ * <li>BINARY_QUANTIZED: Full precision {@code vector} column with an index of the binary
+ * quantized embeddings. The index returns an oversampled set of candidates, re-ranked
+ * with the exact distance</li>
+ * </ul>
+ *
+ * <p>
+ * Metadata Filtering:
+ * </p>
+ * <ul>
+ * <li>The filter expressions are converted into JSON path expressions, bound as
+ * parameters of the {@code @@} operator</li>
+ * <li>With {@link PgMetadataType#JSONB}, the metadata column is created as {@code jsonb}
+ * with a GIN ({@code jsonb_path_ops}) index, instead of being cast to {@code jsonb} for
+ * each row</li>
+ * <li>The metadata keys declared with
+ * {@link PgVectorStoreBuilder#metadataColumn(String, PgMetadataColumnType)} are stored in
+ * generated, B-tree indexed columns of the same name, and the comparisons of these keys
+ * are pushed down to the columns</li>
+ * </ul>
  *
  * @author Christian Tzolov
  * @author Josh Long
@@ -170,6 +222,22 @@ public class PgVectorStore extends AbstractObservationVectorStore implements Ini
 
 	public static final int MAX_DOCUMENT_BATCH_SIZE = 10_000;
 
+	public static final int BULK_COPY_DISABLED = -1;
+
+	public static final int DEFAULT_OVERSAMPLING = 4;
+
+	/**
+	 * The pgvector default of {@code hnsw.ef_search}, which is also the maximum number of
+	 * rows returned by an HNSW index scan.
+	 */
+	private static final int HNSW_DEFAULT_EF_SEARCH = 40;
+
+	private static final int HNSW_MAX_EF_SEARCH = 1000;
+
+	private static final String HNSW_EF_SEARCH = "hnsw.ef_search";
+
+	private static final String IVFFLAT_PROBES = "ivfflat.probes";
+
 	private static final Logger logger = LoggerFactory.getLogger(PgVectorStore.class);
 
 	private static Map<PgDistanceType, VectorStoreSimilarityMetric> SIMILARITY_TYPE_MAPPING = Map.of(
@@ -177,7 +245,11 @@ public class PgVectorStore extends AbstractObservationVectorStore implements Ini
 			VectorStoreSimilarityMetric.EUCLIDEAN, PgDistanceType.NEGATIVE_INNER_PRODUCT,
 			VectorStoreSimilarityMetric.DOT);
 
-	public final FilterExpressionConverter filterExpressionConverter = new PgVectorFilterExpressionConverter();
+	private static final Set<String> TABLE_COLUMNS = Set.of("id", "content", "metadata", "embedding");
+
+	public final FilterExpressionConverter filterExpressionConverter;
+
+	private final PgVectorFilterExpressionConverter pgFilterExpressionConverter;
 
 	private final String vectorTableName;
 
@@ -205,6 +277,24 @@ public class PgVectorStore extends AbstractObservationVectorStore implements Ini
 
 	private final int maxDocumentBatchSize;
 
+	private final int bulkCopyThreshold;
+
+	private final PgMetadataType metadataType;
+
+	private final Map<String, PgMetadataColumnType> metadataColumns;
+
+	private final PgEmbeddingStorage embeddingStorage;
+
+	private final int oversampling;
+
+	private final int hnswM;
+
+	private final int hnswEfConstruction;
+
+	private final int ivfflatLists;
+
+	private final Function<SearchRequest, PgSearchEffort> searchEffort;
+
 	/**
 	 * @param builder {@link VectorStore.Builder} for pg vector store
 	 */
@@ -234,6 +324,19 @@ public class PgVectorStore extends AbstractObservationVectorStore implements Ini
 		this.initializeSchema = builder.initializeSchema;
 		this.schemaValidator = new PgVectorSchemaValidator(this.jdbcTemplate);
 		this.maxDocumentBatchSize = builder.maxDocumentBatchSize;
+		this.bulkCopyThreshold = builder.bulkCopyThreshold;
+		this.metadataType = builder.metadataType;
+		this.metadataColumns = new LinkedHashMap<>(builder.metadataColumns);
+
+		this.embeddingStorage = builder.embeddingStorage;
+		this.oversampling = builder.oversampling;
+		this.hnswM = builder.hnswM;
+		this.hnswEfConstruction = builder.hnswEfConstruction;
+		this.ivfflatLists = builder.ivfflatLists;
+		this.searchEffort = builder.searchEffort;
+
+		this.pgFilterExpressionConverter = new PgVectorFilterExpressionConverter(this.metadataColumns);
+		this.filterExpressionConverter = this.pgFilterExpressionConverter;
 	}
 
 	public PgDistanceType getDistanceType() {
@@ -249,22 +352,22 @@ public class PgVectorStore extends AbstractObservationVectorStore implements Ini
 		List<float[]> embeddings = this.embeddingModel.embed(documents, EmbeddingOptionsBuilder.builder().build(),
 				this.batchingStrategy);
 
-		List<List<Document>> batchedDocuments = batchDocuments(documents);
-		batchedDocuments.forEach(batchDocument -> insertOrUpdateBatch(batchDocument, documents, embeddings));
-	}
+		if (this.bulkCopyThreshold > 0 && documents.size() >= this.bulkCopyThreshold) {
+			copyAndMerge(documents, embeddings);
+			return;
+		}
 
-	private List<List<Document>> batchDocuments(List<Document> documents) {
-		List<List<Document>> batches = new ArrayList<>();
-		for (int i = 0; i < documents.size(); i += this.maxDocumentBatchSize) {
-			batches.add(documents.subList(i, Math.min(i + this.maxDocumentBatchSize, documents.size())));
+		for (int offset = 0; offset < documents.size(); offset += this.maxDocumentBatchSize) {
+			List<Document> batch = documents.subList(offset,
+					Math.min(offset + this.maxDocumentBatchSize, documents.size()));
+			insertOrUpdateBatch(batch, offset, embeddings);
 		}
-		return batches;
 	}
 
-	private void insertOrUpdateBatch(List<Document> batch, List<Document> documents, List<float[]> embeddings) {
+	private void insertOrUpdateBatch(List<Document> batch, int offset, List<float[]> embeddings) {
 		String sql = "INSERT INTO " + getFullyQualifiedTableName()
 				+ " (id, content, metadata, embedding) VALUES (?, ?, ?::jsonb, ?) " + "ON CONFLICT (id) DO "
-				+ "UPDATE SET content = ? , metadata = ?::jsonb , embedding = ? ";
+				+ "UPDATE SET content = EXCLUDED.content, metadata = EXCLUDED.metadata, embedding = EXCLUDED.embedding";
 
 		this.jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
 
@@ -272,19 +375,14 @@ public class PgVectorStore extends AbstractObservationVectorStore implements Ini
 			public void setValues(PreparedStatement ps, int i) throws SQLException {
 
 				var document = batch.get(i);
-				var content = document.getText();
-				var json = toJson(document.getMetadata());
-				var embedding = embeddings.get(documents.indexOf(document));
-				var pGvector = new PGvector(embedding);
+				var embedding = embeddings.get(offset + i);
 
 				StatementCreatorUtils.setParameterValue(ps, 1, SqlTypeValue.TYPE_UNKNOWN,
 						UUID.fromString(document.getId()));
-				StatementCreatorUtils.setParameterValue(ps, 2, SqlTypeValue.TYPE_UNKNOWN, content);
-				StatementCreatorUtils.setParameterValue(ps, 3, SqlTypeValue.TYPE_UNKNOWN, json);
-				StatementCreatorUtils.setParameterValue(ps, 4, SqlTypeValue.TYPE_UNKNOWN, pGvector);
-				StatementCreatorUtils.setParameterValue(ps, 5, SqlTypeValue.TYPE_UNKNOWN, content);
-				StatementCreatorUtils.setParameterValue(ps, 6, SqlTypeValue.TYPE_UNKNOWN, json);
-				StatementCreatorUtils.setParameterValue(ps, 7, SqlTypeValue.TYPE_UNKNOWN, pGvector);
+				StatementCreatorUtils.setParameterValue(ps, 2, SqlTypeValue.TYPE_UNKNOWN, document.getText());
+				StatementCreatorUtils.setParameterValue(ps, 3, SqlTypeValue.TYPE_UNKNOWN,
+						toJson(document.getMetadata()));
+				StatementCreatorUtils.setParameterValue(ps, 4, SqlTypeValue.TYPE_UNKNOWN, new PGvector(embedding));
 			}
 
 			@Override
@@ -294,6 +392,81 @@ public class PgVectorStore extends AbstractObservationVectorStore implements Ini
 		});
 	}
 
+	/**
+	 * Stream the documents into a temporary staging table with a binary {@code COPY},
+	 * then merge the staging table into the vector table with a single
+	 * {@code INSERT ... SELECT ... ON CONFLICT} statement. When several documents have
+	 * the same id, the last one wins, as with the batched inserts.
+	 */
+	private void copyAndMerge(List<Document> documents, List<float[]> embeddings) {
+		Map<String, Integer> lastIndexById = new LinkedHashMap<>();
+		for (int i = 0; i < documents.size(); i++) {
+			lastIndexById.put(documents.get(i).getId(), i);
+		}
+
+		String stagingTableName = this.vectorTableName + "_copy";
+		String createStagingTable = "CREATE TEMPORARY TABLE " + stagingTableName
+				+ " (id uuid, content text, metadata text, embedding vector) ON COMMIT DROP";
+		String copy = "COPY " + stagingTableName + " (id, content, metadata, embedding) FROM STDIN (FORMAT BINARY)";
+		String merge = "INSERT INTO " + getFullyQualifiedTableName() + " (id, content, metadata, embedding) "
+				+ "SELECT id, content, metadata::jsonb, embedding FROM " + stagingTableName + " ON CONFLICT (id) DO "
+				+ "UPDATE SET content = EXCLUDED.content, metadata = EXCLUDED.metadata, embedding = EXCLUDED.embedding";
+
+		// The staging table only lives until the end of the transaction
+		this.jdbcTemplate.execute((ConnectionCallback<Void>) connection -> inTransaction(connection, () -> {
+			execute(connection, createStagingTable);
+			PGCopyOutputStream copyStream = new PGCopyOutputStream(connection.unwrap(PGConnection.class), copy);
+			try {
+				PgBinaryCopyWriter writer = new PgBinaryCopyWriter(copyStream);
+				for (int index : lastIndexById.values()) {
+					Document document = documents.get(index);
+					writer.writeRow(UUID.fromString(document.getId()), document.getText(),
+							toJson(document.getMetadata()), embeddings.get(index));
+				}
+				writer.finish();
+			}
+			catch (IOException ex) {
+				if (copyStream.isActive()) {
+					copyStream.cancelCopy();
+				}
+				throw new SQLException("Failed to copy the documents into " + stagingTableName, ex);
+			}
+			execute(connection, merge);
+			execute(connection, "DROP TABLE " + stagingTableName);
+			return null;
+		}));
+	}
+
+	/**
+	 * Run the given callback in a transaction of its own, unless the connection is
+	 * already in a transaction.
+	 */
+	private static <T> T inTransaction(Connection connection, TransactionCallback<T> callback) throws SQLException {
+		boolean autoCommit = connection.getAutoCommit();
+		if (!autoCommit) {
+			return callback.doInTransaction();
+		}
+		connection.setAutoCommit(false);
+		try {
+			T result = callback.doInTransaction();
+			connection.commit();
+			return result;
+		}
+		catch (SQLException | RuntimeException ex) {
+			connection.rollback();
+			throw ex;
+		}
+		finally {
+			connection.setAutoCommit(true);
+		}
+	}
+
+	private static void execute(Connection connection, String sql) throws SQLException {
+		try (Statement statement = connection.createStatement()) {
+			statement.execute(sql);
+		}
+	}
+
 	private String toJson(Map<String, Object> map) {
 		try {
 			return this.objectMapper.writeValueAsString(map);
@@ -305,11 +478,18 @@ public class PgVectorStore extends AbstractObservationVectorStore implements Ini
 
 	@Override
 	public Optional<Boolean> doDelete(List<String> idList) {
+		String sql = "DELETE FROM " + getFullyQualifiedTableName() + " WHERE id = ANY(?)";
 		int updateCount = 0;
-		for (String id : idList) {
-			int count = this.jdbcTemplate.update("DELETE FROM " + getFullyQualifiedTableName() + " WHERE id = ?",
-					UUID.fromString(id));
-			updateCount = updateCount + count;
+		for (int offset = 0; offset < idList.size(); offset += this.maxDocumentBatchSize) {
+			UUID[] ids = idList.subList(offset, Math.min(offset + this.maxDocumentBatchSize, idList.size()))
+				.stream()
+				.map(UUID::fromString)
+				.toArray(UUID[]::new);
+			updateCount += this.jdbcTemplate.update(connection -> {
+				PreparedStatement ps = connection.prepareStatement(sql);
+				ps.setArray(1, connection.createArrayOf("uuid", ids));
+				return ps;
+			});
 		}
 
 		return Optional.of(updateCount == idList.size());
@@ -318,28 +498,162 @@ public class PgVectorStore extends AbstractObservationVectorStore implements Ini
 	@Override
 	public List<Document> doSimilaritySearch(SearchRequest request) {
 
-		String nativeFilterExpression = (request.getFilterExpression() != null)
-				? this.filterExpressionConverter.convertExpression(request.getFilterExpression()) : "";
+		double distance = 1 - request.getSimilarityThreshold();
+
+		PGvector queryEmbedding = getQueryEmbedding(request.getQuery());
 
-		String jsonPathFilter = "";
+		SqlFilter filter = null;
+		if (request.getFilterExpression() != null) {
+			String metadata = (this.metadataType == PgMetadataType.JSONB) ? "metadata" : "metadata::jsonb";
+			filter = this.pgFilterExpressionConverter.convertToSqlFilter(request.getFilterExpression(), metadata);
+		}
 
-		if (StringUtils.hasText(nativeFilterExpression)) {
-			jsonPathFilter = " AND metadata::jsonb @@ '" + nativeFilterExpression + "'::jsonpath ";
+		String sql;
+		List<Object> parameters = new ArrayList<>();
+		int indexScanLimit;
+		if (this.embeddingStorage == PgEmbeddingStorage.BINARY_QUANTIZED) {
+			// Rank an oversampled set of candidates by the Hamming distance of their binary
+			// quantized embeddings, served by the index, then re-rank them exactly.
+			indexScanLimit = request.getTopK() * this.oversampling;
+			String exactDistance = this.distanceType.distanceExpression("embedding", "?");
+			String quantizedEmbedding = binaryQuantizedEmbedding();
+			sql = "SELECT *, " + exactDistance + " AS distance FROM (SELECT * FROM " + getFullyQualifiedTableName()
+					+ ((filter != null) ? " WHERE " + filter.sql() : "") + " ORDER BY " + quantizedEmbedding
+					+ " <~> binary_quantize(?::vector) LIMIT ?) AS candidates WHERE " + exactDistance
+					+ " < ? ORDER BY distance LIMIT ?";
+			parameters.add(queryEmbedding);
+			if (filter != null) {
+				parameters.addAll(filter.parameters());
+			}
+			parameters.add(queryEmbedding);
+			parameters.add(indexScanLimit);
+			parameters.add(queryEmbedding);
+		}
+		else {
+			indexScanLimit = request.getTopK();
+			String sqlFilter = (filter != null) ? " AND " + filter.sql() + " " : "";
+			if (this.embeddingStorage == PgEmbeddingStorage.HALFVEC) {
+				String distanceExpression = this.distanceType.distanceExpression("embedding", "?::halfvec");
+				sql = "SELECT *, " + distanceExpression + " AS distance FROM " + getFullyQualifiedTableName()
+						+ " WHERE " + distanceExpression + " < ? " + sqlFilter + "ORDER BY distance LIMIT ? ";
+			}
+			else {
+				sql = String.format(this.getDistanceType().similaritySearchSqlTemplate, getFullyQualifiedTableName(),
+						sqlFilter);
+			}
+			parameters.add(queryEmbedding);
+			parameters.add(queryEmbedding);
 		}
+		parameters.add(distance);
+		if (filter != null && this.embeddingStorage != PgEmbeddingStorage.BINARY_QUANTIZED) {
+			parameters.addAll(filter.parameters());
+		}
+		parameters.add(request.getTopK());
 
-		double distance = 1 - request.getSimilarityThreshold();
+		return query(sql, parameters, searchEffort(request, indexScanLimit));
+	}
 
-		PGvector queryEmbedding = getQueryEmbedding(request.getQuery());
+	/**
+	 * Resolve the search effort of the given request. An HNSW index scan returns at most
+	 * {@code hnsw.ef_search} rows, so it is raised to the number of rows the query needs
+	 * from the index.
+	 */
+	private PgSearchEffort searchEffort(SearchRequest request, int indexScanLimit) {
+		PgSearchEffort effort = this.searchEffort.apply(request);
+		if (this.createIndexMethod == PgIndexType.HNSW) {
+			int efSearch = effort.efSearch();
+			int effectiveEfSearch = (efSearch > 0) ? efSearch : HNSW_DEFAULT_EF_SEARCH;
+			if (effectiveEfSearch < indexScanLimit) {
+				efSearch = Math.min(indexScanLimit, HNSW_MAX_EF_SEARCH);
+			}
+			return new PgSearchEffort(efSearch, 0);
+		}
+		if (this.createIndexMethod == PgIndexType.IVFFLAT) {
+			return new PgSearchEffort(0, effort.probes());
+		}
+		return PgSearchEffort.DEFAULT;
+	}
 
-		return this.jdbcTemplate.query(
-				String.format(this.getDistanceType().similaritySearchSqlTemplate, getFullyQualifiedTableName(),
-						jsonPathFilter),
-				new DocumentRowMapper(this.objectMapper), queryEmbedding, queryEmbedding, distance, request.getTopK());
+	private List<Document> query(String sql, List<Object> parameters, PgSearchEffort effort) {
+		DocumentRowMapper rowMapper = new DocumentRowMapper(this.objectMapper);
+		if (effort.efSearch() <= 0 && effort.probes() <= 0) {
+			return this.jdbcTemplate.query(sql, rowMapper, parameters.toArray());
+		}
+		return this.jdbcTemplate.execute((ConnectionCallback<List<Document>>) connection -> {
+			if (connection.getAutoCommit()) {
+				// SET LOCAL only applies until the end of the transaction of the query
+				return inTransaction(connection, () -> query(connection, sql, parameters, rowMapper, effort));
+			}
+			// In a transaction of the caller, the previous settings are restored after the
+			// query so that they apply to its later statements. A failed query aborts the
+			// transaction, whose rollback discards the settings.
+			String efSearch = (effort.efSearch() > 0) ? currentSetting(connection, HNSW_EF_SEARCH) : null;
+			String probes = (effort.probes() > 0) ? currentSetting(connection, IVFFLAT_PROBES) : null;
+			List<Document> documents = query(connection, sql, parameters, rowMapper, effort);
+			if (effort.efSearch() > 0) {
+				restoreSetting(connection, HNSW_EF_SEARCH, efSearch);
+			}
+			if (effort.probes() > 0) {
+				restoreSetting(connection, IVFFLAT_PROBES, probes);
+			}
+			return documents;
+		});
+	}
+
+	private static List<Document> query(Connection connection, String sql, List<Object> parameters,
+			DocumentRowMapper rowMapper, PgSearchEffort effort) throws SQLException {
+		if (effort.efSearch() > 0) {
+			execute(connection, "SET LOCAL " + HNSW_EF_SEARCH + " = " + effort.efSearch());
+		}
+		if (effort.probes() > 0) {
+			execute(connection, "SET LOCAL " + IVFFLAT_PROBES + " = " + effort.probes());
+		}
+		try (PreparedStatement ps = connection.prepareStatement(sql)) {
+			for (int i = 0; i < parameters.size(); i++) {
+				StatementCreatorUtils.setParameterValue(ps, i + 1, SqlTypeValue.TYPE_UNKNOWN, parameters.get(i));
+			}
+			try (ResultSet rs = ps.executeQuery()) {
+				return new RowMapperResultSetExtractor<>(rowMapper).extractData(rs);
+			}
+		}
+	}
+
+	/**
+	 * Return the current value of the given setting, or null when it is not defined
+	 * because the pgvector library is not loaded yet.
+	 */
+	@Nullable
+	private static String currentSetting(Connection connection, String name) throws SQLException {
+		try (PreparedStatement ps = connection.prepareStatement("SELECT current_setting(?, true)")) {
+			ps.setString(1, name);
+			try (ResultSet rs = ps.executeQuery()) {
+				return rs.next() ? rs.getString(1) : null;
+			}
+		}
+	}
+
+	/**
+	 * Restore the given setting until the end of the transaction, a null value resets it
+	 * to its default.
+	 */
+	private static void restoreSetting(Connection connection, String name, @Nullable String value)
+			throws SQLException {
+		try (PreparedStatement ps = connection.prepareStatement("SELECT set_config(?, ?, true)")) {
+			ps.setString(1, name);
+			ps.setString(2, value);
+			ps.execute();
+		}
+	}
+
+	private String binaryQuantizedEmbedding() {
+		return "binary_quantize(embedding)::bit(" + this.embeddingDimensions() + ")";
 	}
 
 	public List<Double> embeddingDistance(String query) {
 		return this.jdbcTemplate.query(
-				"SELECT embedding " + this.comparisonOperator() + " ? AS distance FROM " + getFullyQualifiedTableName(),
+				"SELECT embedding " + this.comparisonOperator()
+						+ ((this.embeddingStorage == PgEmbeddingStorage.HALFVEC) ? " ?::halfvec" : " ?")
+						+ " AS distance FROM " + getFullyQualifiedTableName(),
 				new RowMapper<Double>() {
 
 					@Override
@@ -395,17 +709,60 @@ public class PgVectorStore extends AbstractObservationVectorStore implements Ini
 				CREATE TABLE IF NOT EXISTS %s (
 					id uuid DEFAULT uuid_generate_v4() PRIMARY KEY,
 					content text,
-					metadata json,
-					embedding vector(%d)
+					metadata %s,
+					embedding %s(%d)
 				)
-				""", this.getFullyQualifiedTableName(), this.embeddingDimensions()));
+				""", this.getFullyQualifiedTableName(), (this.metadataType == PgMetadataType.JSONB) ? "jsonb" : "json",
+				(this.embeddingStorage == PgEmbeddingStorage.HALFVEC) ? "halfvec" : "vector",
+				this.embeddingDimensions()));
+
+		if (this.metadataType == PgMetadataType.JSONB) {
+			this.jdbcTemplate.execute(String.format("""
+					CREATE INDEX IF NOT EXISTS %s ON %s USING gin (metadata jsonb_path_ops)
+					""", this.vectorTableName + "_metadata_index", this.getFullyQualifiedTableName()));
+		}
+
+		// The metadata columns are generated from the metadata, so that both the batched
+		// inserts and the bulk copies populate them.
+		this.metadataColumns.forEach((key, type) -> {
+			this.jdbcTemplate.execute(String.format("""
+					ALTER TABLE %s ADD COLUMN IF NOT EXISTS "%s" %s
+					GENERATED ALWAYS AS ((metadata ->> '%s')::%s) STORED
+					""", this.getFullyQualifiedTableName(), key, type.sqlType, key, type.sqlType));
+			this.jdbcTemplate.execute(String.format("CREATE INDEX IF NOT EXISTS %s ON %s (\"%s\")",
+					this.vectorTableName + "_" + key + "_index", this.getFullyQualifiedTableName(), key));
+		});
 
 		if (this.createIndexMethod != PgIndexType.NONE) {
 			this.jdbcTemplate.execute(String.format("""
-					CREATE INDEX IF NOT EXISTS %s ON %s USING %s (embedding %s)
+					CREATE INDEX IF NOT EXISTS %s ON %s USING %s (%s)%s
 					""", this.getVectorIndexName(), this.getFullyQualifiedTableName(), this.createIndexMethod,
-					this.getDistanceType().index));
+					indexedEmbedding(), indexParameters()));
+		}
+	}
+
+	private String indexedEmbedding() {
+		return switch (this.embeddingStorage) {
+			case VECTOR -> "embedding " + this.getDistanceType().index;
+			case HALFVEC -> "embedding " + this.getDistanceType().index.replace("vector_", "halfvec_");
+			case BINARY_QUANTIZED -> "(" + binaryQuantizedEmbedding() + ") bit_hamming_ops";
+		};
+	}
+
+	private String indexParameters() {
+		List<String> parameters = new ArrayList<>();
+		if (this.createIndexMethod == PgIndexType.HNSW) {
+			if (this.hnswM > 0) {
+				parameters.add("m = " + this.hnswM);
+			}
+			if (this.hnswEfConstruction > 0) {
+				parameters.add("ef_construction = " + this.hnswEfConstruction);
+			}
 		}
+		else if (this.createIndexMethod == PgIndexType.IVFFLAT && this.ivfflatLists > 0) {
+			parameters.add("lists = " + this.ivfflatLists);
+		}
+		return parameters.isEmpty() ? "" : " WITH (" + String.join(", ", parameters) + ")";
 	}
 
 	private String getFullyQualifiedTableName() {
@@ -489,6 +846,97 @@ public class PgVectorStore extends AbstractObservationVectorStore implements Ini
 
 	}
 
+	/**
+	 * The storage of the embeddings, trading memory for recall.
+	 */
+	public enum PgEmbeddingStorage {
+
+		/**
+		 * Full precision {@code vector} column and index.
+		 */
+		VECTOR,
+		/**
+		 * Half precision {@code halfvec} column and index, using half the memory and
+		 * storage of {@code vector}, with a slightly lower precision. Requires pgvector
+		 * 0.7.0 or later.
+		 */
+		HALFVEC,
+		/**
+		 * Full precision {@code vector} column, with an index of the binary quantized
+		 * embeddings, a bit per dimension. The index returns the candidates closest by
+		 * Hamming distance, oversampled, re-ranked with the exact distance of the full
+		 * precision embeddings. Works best with normalized embeddings of many dimensions.
+		 * Requires pgvector 0.7.0 or later.
+		 */
+		BINARY_QUANTIZED
+
+	}
+
+	/**
+	 * The search effort of the approximate nearest neighbor index scans, set with
+	 * {@code SET LOCAL} in the query transaction. In a transaction of the caller, the
+	 * previous settings are restored after the query.
+	 *
+	 * @param efSearch the size of the dynamic candidate list of HNSW index scans
+	 * ({@code hnsw.ef_search}), or 0 for the server setting. It is raised to the number
+	 * of rows the query needs from the index.
+	 * @param probes the number of lists probed by IVFFlat index scans
+	 * ({@code ivfflat.probes}), or 0 for the server setting
+	 */
+	public record PgSearchEffort(int efSearch, int probes) {
+
+		/**
+		 * The server settings.
+		 */
+		public static final PgSearchEffort DEFAULT = new PgSearchEffort(0, 0);
+
+		public PgSearchEffort {
+			Assert.isTrue(efSearch >= 0, "efSearch must not be negative");
+			Assert.isTrue(probes >= 0, "probes must not be negative");
+		}
+
+	}
+
+	@FunctionalInterface
+	private interface TransactionCallback<T> {
+
+		T doInTransaction() throws SQLException;
+
+	}
+
+	/**
+	 * The type of the metadata column.
+	 */
+	public enum PgMetadataType {
+
+		/**
+		 * The metadata is stored as {@code json} and cast to {@code jsonb} when
+		 * filtering, which rules out indexes on the metadata.
+		 */
+		JSON,
+		/**
+		 * The metadata is stored as {@code jsonb}, with a GIN ({@code jsonb_path_ops})
+		 * index serving the JSON path filters.
+		 */
+		JSONB
+
+	}
+
+	/**
+	 * The SQL types of the metadata columns.
+	 */
+	public enum PgMetadataColumnType {
+
+		TEXT("text"), BIGINT("bigint"), DOUBLE_PRECISION("double precision"), BOOLEAN("boolean");
+
+		public final String sqlType;
+
+		PgMetadataColumnType(String sqlType) {
+			this.sqlType = sqlType;
+		}
+
+	}
+
 	/**
 	 * Defaults to CosineDistance. But if vectors are normalized to length 1 (like OpenAI
 	 * embeddings), use inner product (NegativeInnerProduct) for best performance.
@@ -524,6 +972,11 @@ public class PgVectorStore extends AbstractObservationVectorStore implements Ini
 			this.similaritySearchSqlTemplate = sqlTemplate;
 		}
 
+		String distanceExpression(String embedding, String queryEmbedding) {
+			String distance = embedding + " " + this.operator + " " + queryEmbedding;
+			return (this == NEGATIVE_INNER_PRODUCT) ? "(1 + (" + distance + "))" : distance;
+		}
+
 	}
 
 	private static class DocumentRowMapper implements RowMapper<Document> {
@@ -598,6 +1051,24 @@ public class PgVectorStore extends AbstractObservationVectorStore implements Ini
 
 		private int maxDocumentBatchSize = MAX_DOCUMENT_BATCH_SIZE;
 
+		private int bulkCopyThreshold = BULK_COPY_DISABLED;
+
+		private PgMetadataType metadataType = PgMetadataType.JSON;
+
+		private final Map<String, PgMetadataColumnType> metadataColumns = new LinkedHashMap<>();
+
+		private PgEmbeddingStorage embeddingStorage = PgEmbeddingStorage.VECTOR;
+
+		private int oversampling = DEFAULT_OVERSAMPLING;
+
+		private int hnswM;
+
+		private int hnswEfConstruction;
+
+		private int ivfflatLists;
+
+		private Function<SearchRequest, PgSearchEffort> searchEffort = request -> PgSearchEffort.DEFAULT;
+
 		private PgVectorStoreBuilder(JdbcTemplate jdbcTemplate, EmbeddingModel embeddingModel) {
 			super(embeddingModel);
 			Assert.notNull(jdbcTemplate, "JdbcTemplate must not be null");
@@ -649,6 +1120,133 @@ public class PgVectorStore extends AbstractObservationVectorStore implements Ini
 			return this;
 		}
 
+		/**
+		 * Load the additions of at least the given number of documents with a binary
+		 * {@code COPY} into a temporary staging table, merged into the vector table with
+		 * a single {@code INSERT ... SELECT ... ON CONFLICT} statement, instead of
+		 * batched {@code INSERT} statements. Disabled by default.
+		 * @param bulkCopyThreshold the minimum number of documents loaded with
+		 * {@code COPY}, or {@link PgVectorStore#BULK_COPY_DISABLED}
+		 * @return this builder
+		 */
+		public PgVectorStoreBuilder bulkCopyThreshold(int bulkCopyThreshold) {
+			Assert.isTrue(bulkCopyThreshold > 0 || bulkCopyThreshold == BULK_COPY_DISABLED,
+					"bulkCopyThreshold must be greater than 0 or BULK_COPY_DISABLED");
+			this.bulkCopyThreshold = bulkCopyThreshold;
+			return this;
+		}
+
+		/**
+		 * Set the type of the metadata column of the tables created by the store.
+		 * Defaults to {@link PgMetadataType#JSON}.
+		 * @param metadataType the metadata column type
+		 * @return this builder
+		 */
+		public PgVectorStoreBuilder metadataType(PgMetadataType metadataType) {
+			Assert.notNull(metadataType, "metadataType must not be null");
+			this.metadataType = metadataType;
+			return this;
+		}
+
+		/**
+		 * Store the given metadata key in a column of the same name, generated from the
+		 * metadata and indexed with a B-tree index when the schema is initialized. The
+		 * filter comparisons of the key are pushed down to the column.
+		 * @param key the metadata key, also the column name
+		 * @param type the SQL type of the column
+		 * @return this builder
+		 */
+		public PgVectorStoreBuilder metadataColumn(String key, PgMetadataColumnType type) {
+			Assert.isTrue(PgVectorSchemaValidator.isValidNameForDatabaseObject(key),
+					"Metadata column keys should only contain alphanumeric characters and underscores");
+			Assert.isTrue(!TABLE_COLUMNS.contains(key), () -> "Metadata column key " + key + " is reserved");
+			Assert.notNull(type, "type must not be null");
+			this.metadataColumns.put(key, type);
+			return this;
+		}
+
+		/**
+		 * Set the storage of the embeddings. Defaults to
+		 * {@link PgEmbeddingStorage#VECTOR}.
+		 * @param embeddingStorage the embedding storage
+		 * @return this builder
+		 */
+		public PgVectorStoreBuilder embeddingStorage(PgEmbeddingStorage embeddingStorage) {
+			Assert.notNull(embeddingStorage, "embeddingStorage must not be null");
+			this.embeddingStorage = embeddingStorage;
+			return this;
+		}
+
+		/**
+		 * Set the number of candidates, per requested result, returned by the index of
+		 * the {@link PgEmbeddingStorage#BINARY_QUANTIZED} embeddings and re-ranked with
+		 * the exact distance. Defaults to {@link PgVectorStore#DEFAULT_OVERSAMPLING}.
+		 * @param oversampling the oversampling factor
+		 * @return this builder
+		 */
+		public PgVectorStoreBuilder oversampling(int oversampling) {
+			Assert.isTrue(oversampling > 0, "oversampling must be greater than 0");
+			this.oversampling = oversampling;
+			return this;
+		}
+
+		/**
+		 * Set the maximum number of connections per layer of the HNSW index.
+		 * @param hnswM the {@code m} parameter, or 0 for the pgvector default (16)
+		 * @return this builder
+		 */
+		public PgVectorStoreBuilder hnswM(int hnswM) {
+			Assert.isTrue(hnswM >= 0, "hnswM must not be negative");
+			this.hnswM = hnswM;
+			return this;
+		}
+
+		/**
+		 * Set the size of the dynamic candidate list used to build the HNSW index.
+		 * @param hnswEfConstruction the {@code ef_construction} parameter, or 0 for the
+		 * pgvector default (64)
+		 * @return this builder
+		 */
+		public PgVectorStoreBuilder hnswEfConstruction(int hnswEfConstruction) {
+			Assert.isTrue(hnswEfConstruction >= 0, "hnswEfConstruction must not be negative");
+			this.hnswEfConstruction = hnswEfConstruction;
+			return this;
+		}
+
+		/**
+		 * Set the number of lists of the IVFFlat index.
+		 * @param ivfflatLists the {@code lists} parameter, or 0 for the pgvector default
+		 * (100)
+		 * @return this builder
+		 */
+		public PgVectorStoreBuilder ivfflatLists(int ivfflatLists) {
+			Assert.isTrue(ivfflatLists >= 0, "ivfflatLists must not be negative");
+			this.ivfflatLists = ivfflatLists;
+			return this;
+		}
+
+		/**
+		 * Set the search effort of all the similarity searches.
+		 * @param searchEffort the search effort
+		 * @return this builder
+		 */
+		public PgVectorStoreBuilder searchEffort(PgSearchEffort searchEffort) {
+			Assert.notNull(searchEffort, "searchEffort must not be null");
+			return searchEffort(request -> searchEffort);
+		}
+
+		/**
+		 * Set the function resolving the search effort of each similarity search, for
+		 * instance from its top k or from the presence of a filter expression.
+		 * @param searchEffort the search effort function
+		 * @return this builder
+		 */
+		public PgVectorStoreBuilder searchEffort(Function<SearchRequest, PgSearchEffort> searchEffort) {
+			Assert.notNull(searchEffort, "searchEffort must not be null");
+			this.searchEffort = searchEffort;
+			return this;
+		}
+
 		public PgVectorStore build() {
 			return new PgVectorStore(this);
 		}
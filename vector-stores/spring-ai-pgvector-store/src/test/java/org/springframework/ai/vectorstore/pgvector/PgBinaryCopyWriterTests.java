@@ -0,0 +1,83 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore.pgvector;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link PgBinaryCopyWriter}.
+ *
+ * @since 1.0.0
+ */
+class PgBinaryCopyWriterTests {
+
+	@Test
+	void writesTheHeaderTheRowsAndTheTrailer() throws IOException {
+		UUID id = UUID.randomUUID();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		PgBinaryCopyWriter writer = new PgBinaryCopyWriter(out);
+		writer.writeRow(id, "héllo", "{}", new float[] { 1.0f, -0.5f });
+		writer.writeRow(id, null, "{\"a\":1}", new float[] { 0.25f });
+		writer.finish();
+
+		ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+		byte[] signature = new byte[11];
+		buffer.get(signature);
+		assertThat(signature).containsExactly('P', 'G', 'C', 'O', 'P', 'Y', '\n', 0xFF, '\r', '\n', 0);
+		assertThat(buffer.getInt()).as("flags").isZero();
+		assertThat(buffer.getInt()).as("header extension length").isZero();
+
+		assertThat(buffer.getShort()).as("field count").isEqualTo((short) 4);
+		assertThat(buffer.getInt()).isEqualTo(16);
+		assertThat(new UUID(buffer.getLong(), buffer.getLong())).isEqualTo(id);
+		assertThat(text(buffer)).isEqualTo("héllo");
+		assertThat(text(buffer)).isEqualTo("{}");
+		assertThat(buffer.getInt()).isEqualTo(12);
+		assertThat(buffer.getShort()).as("dimensions").isEqualTo((short) 2);
+		assertThat(buffer.getShort()).as("unused").isZero();
+		assertThat(buffer.getFloat()).isEqualTo(1.0f);
+		assertThat(buffer.getFloat()).isEqualTo(-0.5f);
+
+		assertThat(buffer.getShort()).as("field count").isEqualTo((short) 4);
+		buffer.position(buffer.position() + 4 + 16);
+		assertThat(buffer.getInt()).as("null content").isEqualTo(-1);
+		assertThat(text(buffer)).isEqualTo("{\"a\":1}");
+		assertThat(buffer.getInt()).isEqualTo(8);
+		assertThat(buffer.getShort()).isEqualTo((short) 1);
+		assertThat(buffer.getShort()).isZero();
+		assertThat(buffer.getFloat()).isEqualTo(0.25f);
+
+		assertThat(buffer.getShort()).as("trailer").isEqualTo((short) -1);
+		assertThat(buffer.hasRemaining()).isFalse();
+	}
+
+	private static String text(ByteBuffer buffer) {
+		byte[] bytes = new byte[buffer.getInt()];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+}
@@ -17,6 +17,7 @@
 package org.springframework.ai.vectorstore.pgvector;
 
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
@@ -25,6 +26,8 @@ import org.springframework.ai.vectorstore.filter.Filter.Group;
 import org.springframework.ai.vectorstore.filter.Filter.Key;
 import org.springframework.ai.vectorstore.filter.Filter.Value;
 import org.springframework.ai.vectorstore.filter.FilterExpressionConverter;
+import org.springframework.ai.vectorstore.pgvector.PgVectorFilterExpressionConverter.SqlFilter;
+import org.springframework.ai.vectorstore.pgvector.PgVectorStore.PgMetadataColumnType;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.ai.vectorstore.filter.Filter.ExpressionType.AND;
@@ -34,6 +37,7 @@ import static org.springframework.ai.vectorstore.filter.Filter.ExpressionType.IN
 import static org.springframework.ai.vectorstore.filter.Filter.ExpressionType.LTE;
 import static org.springframework.ai.vectorstore.filter.Filter.ExpressionType.NE;
 import static org.springframework.ai.vectorstore.filter.Filter.ExpressionType.NIN;
+import static org.springframework.ai.vectorstore.filter.Filter.ExpressionType.NOT;
 import static org.springframework.ai.vectorstore.filter.Filter.ExpressionType.OR;
 
 /**
@@ -119,4 +123,74 @@ public class PgVectorFilterExpressionConverterTests {
 		assertThat(vectorExpr).isEqualTo("$.\"country 1 2 3\" == \"BG\"");
 	}
 
+	@Test
+	public void testEscapedStrings() {
+		String vectorExpr = this.converter
+			.convertExpression(new Expression(EQ, new Key("title"), new Value("The \"Big\" \\ World")));
+		assertThat(vectorExpr).isEqualTo("$.title == \"The \\\"Big\\\" \\\\ World\"");
+	}
+
+	@Test
+	public void testSqlFilterBindsTheJsonPath() {
+		// country == "BG" AND year >= 2020
+		SqlFilter filter = new PgVectorFilterExpressionConverter().convertToSqlFilter(
+				new Expression(AND, new Expression(EQ, new Key("country"), new Value("BG")),
+						new Expression(GTE, new Key("year"), new Value(2020))),
+				"metadata");
+		assertThat(filter.sql()).isEqualTo("metadata @@ ?::jsonpath");
+		assertThat(filter.parameters()).containsExactly("$.country == \"BG\" && $.year >= 2020");
+	}
+
+	@Test
+	public void testSqlFilterPushesDownMetadataColumns() {
+		var converter = new PgVectorFilterExpressionConverter(
+				Map.of("tenant", PgMetadataColumnType.TEXT, "year", PgMetadataColumnType.BIGINT));
+
+		// tenant == "acme" AND (genre == "drama" OR year IN [2020, 2021]) AND NOT(city == "Sofia")
+		SqlFilter filter = converter.convertToSqlFilter(new Expression(AND,
+				new Expression(AND, new Expression(EQ, new Key("tenant"), new Value("acme")),
+						new Group(new Expression(OR, new Expression(EQ, new Key("genre"), new Value("drama")),
+								new Expression(IN, new Key("year"), new Value(List.of(2020, 2021)))))),
+				new Expression(NOT, new Group(new Expression(EQ, new Key("city"), new Value("Sofia"))), null)),
+				"metadata::jsonb");
+
+		assertThat(filter.sql())
+			.isEqualTo("((\"tenant\" = ?::text) AND (((metadata::jsonb @@ ?::jsonpath)"
+					+ " OR (\"year\" IN (?::bigint, ?::bigint)))))"
+					+ " AND (metadata::jsonb @@ ?::jsonpath)");
+		assertThat(filter.parameters()).containsExactly("acme", "$.genre == \"drama\"", 2020, 2021,
+				"($.city != \"Sofia\")");
+	}
+
+	@Test
+	public void testSqlFilterNegatesMetadataColumns() {
+		var converter = new PgVectorFilterExpressionConverter(Map.of("country", PgMetadataColumnType.TEXT));
+
+		// NOT(country NIN ["BG", "NL"] OR country != "US")
+		SqlFilter filter = converter.convertToSqlFilter(new Expression(NOT,
+				new Group(new Expression(OR,
+						new Expression(NIN, new Key("\"country\""), new Value(List.of("BG", "NL"))),
+						new Expression(NE, new Key("country"), new Value("US")))),
+				null), "metadata");
+
+		assertThat(filter.sql())
+			.isEqualTo("NOT (((\"country\" NOT IN (?::text, ?::text)) OR (\"country\" <> ?::text)))");
+		assertThat(filter.parameters()).containsExactly("BG", "NL", "US");
+	}
+
+	@Test
+	public void testSqlFilterCastsValuesToTheColumnTypes() {
+		var converter = new PgVectorFilterExpressionConverter(
+				Map.of("year", PgMetadataColumnType.TEXT, "draft", PgMetadataColumnType.BOOLEAN));
+
+		// year == 2020 AND draft == "false"
+		SqlFilter filter = converter.convertToSqlFilter(
+				new Expression(AND, new Expression(EQ, new Key("year"), new Value(2020)),
+						new Expression(EQ, new Key("draft"), new Value("false"))),
+				"metadata");
+
+		assertThat(filter.sql()).isEqualTo("(\"year\" = ?::text) AND (\"draft\" = ?::boolean)");
+		assertThat(filter.parameters()).containsExactly(2020, "false");
+	}
+
 }
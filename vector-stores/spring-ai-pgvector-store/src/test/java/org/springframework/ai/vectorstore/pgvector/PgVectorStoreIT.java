@@ -29,9 +29,11 @@ import javax.sql.DataSource;
 
 import com.zaxxer.hikari.HikariDataSource;
 import org.junit.Assert;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.testcontainers.containers.PostgreSQLContainer;
@@ -46,7 +48,12 @@ import org.springframework.ai.openai.api.OpenAiApi;
 import org.springframework.ai.vectorstore.SearchRequest;
 import org.springframework.ai.vectorstore.VectorStore;
 import org.springframework.ai.vectorstore.filter.FilterExpressionTextParser.FilterExpressionParseException;
+import org.springframework.ai.vectorstore.pgvector.PgVectorStore.PgEmbeddingStorage;
 import org.springframework.ai.vectorstore.pgvector.PgVectorStore.PgIndexType;
+import org.springframework.ai.vectorstore.pgvector.PgVectorStore.PgMetadataColumnType;
+import org.springframework.ai.vectorstore.pgvector.PgVectorStore.PgMetadataType;
+import org.springframework.ai.vectorstore.pgvector.PgVectorStore.PgSearchEffort;
+import org.springframework.ai.vectorstore.pgvector.PgVectorStore.PgVectorStoreBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringBootConfiguration;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
@@ -59,6 +66,8 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.CollectionUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -81,6 +90,10 @@ public class PgVectorStoreIT {
 	private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
 		.withUserConfiguration(TestApplication.class)
 		.withPropertyValues("test.spring.ai.vectorstore.pgvector.distanceType=COSINE_DISTANCE",
+				"test.spring.ai.vectorstore.pgvector.bulkCopyThreshold=-1",
+				"test.spring.ai.vectorstore.pgvector.metadataType=JSON",
+				"test.spring.ai.vectorstore.pgvector.metadataColumns=false",
+				"test.spring.ai.vectorstore.pgvector.embeddingStorage=VECTOR",
 
 				// JdbcTemplate configuration
 				String.format("app.datasource.url=jdbc:postgresql://%s:%d/%s", postgresContainer.getHost(),
@@ -166,6 +179,80 @@ public class PgVectorStoreIT {
 			});
 	}
 
+	@ParameterizedTest(name = "{0}, {1} : {displayName} ")
+	@CsvSource({ "HALFVEC, COSINE_DISTANCE", "HALFVEC, EUCLIDEAN_DISTANCE", "HALFVEC, NEGATIVE_INNER_PRODUCT",
+			"BINARY_QUANTIZED, COSINE_DISTANCE", "BINARY_QUANTIZED, EUCLIDEAN_DISTANCE",
+			"BINARY_QUANTIZED, NEGATIVE_INNER_PRODUCT" })
+	public void addAndSearchWithEmbeddingStorage(String embeddingStorage, String distanceType) {
+		this.contextRunner
+			.withPropertyValues("test.spring.ai.vectorstore.pgvector.embeddingStorage=" + embeddingStorage,
+					"test.spring.ai.vectorstore.pgvector.distanceType=" + distanceType)
+			.run(context -> {
+
+				VectorStore vectorStore = context.getBean(VectorStore.class);
+
+				vectorStore.add(this.documents);
+
+				List<Document> results = vectorStore
+					.similaritySearch(SearchRequest.builder().query("What is Great Depression").topK(1).build());
+
+				assertThat(results).hasSize(1);
+				assertThat(results.get(0).getId()).isEqualTo(this.documents.get(2).getId());
+
+				results = vectorStore.similaritySearch(SearchRequest.builder()
+					.query("What is Great Depression")
+					.topK(5)
+					.filterExpression("meta2 == 'meta2'")
+					.build());
+
+				assertThat(results).extracting(Document::getId).containsExactly(this.documents.get(2).getId());
+
+				dropTable(context);
+			});
+	}
+
+	@ParameterizedTest(name = "{0} : {displayName} ")
+	@ValueSource(strings = { "COSINE_DISTANCE", "EUCLIDEAN_DISTANCE", "NEGATIVE_INNER_PRODUCT" })
+	public void bulkCopyAddUpdateAndDelete(String distanceType) {
+		this.contextRunner
+			.withPropertyValues("test.spring.ai.vectorstore.pgvector.distanceType=" + distanceType,
+					"test.spring.ai.vectorstore.pgvector.bulkCopyThreshold=1")
+			.run(context -> {
+
+				VectorStore vectorStore = context.getBean(VectorStore.class);
+
+				vectorStore.add(this.documents);
+
+				List<Document> results = vectorStore
+					.similaritySearch(SearchRequest.builder().query("What is Great Depression").topK(1).build());
+
+				assertThat(results).hasSize(1);
+				assertThat(results.get(0).getId()).isEqualTo(this.documents.get(2).getId());
+				assertThat(results.get(0).getMetadata()).containsKeys("meta2", DocumentMetadata.DISTANCE.value());
+
+				Document sameIdDocument = new Document(this.documents.get(2).getId(),
+						"The World is Big and Salvation Lurks Around the Corner",
+						Collections.singletonMap("meta3", "meta3"));
+				vectorStore.add(List.of(sameIdDocument));
+
+				results = vectorStore.similaritySearch(
+						SearchRequest.builder().query("Salvation Lurks Around the Corner").topK(1).build());
+
+				assertThat(results).hasSize(1);
+				assertThat(results.get(0).getId()).isEqualTo(sameIdDocument.getId());
+				assertThat(results.get(0).getText()).isEqualTo(sameIdDocument.getText());
+				assertThat(results.get(0).getMetadata()).containsKey("meta3").doesNotContainKey("meta2");
+
+				vectorStore.delete(this.documents.stream().map(Document::getId).toList());
+
+				results = vectorStore
+					.similaritySearch(SearchRequest.builder().query("Great Depression").topK(1).build());
+				assertThat(results).isEmpty();
+
+				dropTable(context);
+			});
+	}
+
 	@ParameterizedTest(name = "Filter expression {0} should return {1} records ")
 	@MethodSource("provideFilters")
 	public void searchWithInFilter(String expression, Integer expectedRecords) {
@@ -285,6 +372,97 @@ public class PgVectorStoreIT {
 			});
 	}
 
+	@ParameterizedTest(name = "{0}, metadata columns {1} : {displayName} ")
+	@CsvSource({ "JSON, true", "JSONB, false", "JSONB, true" })
+	public void searchWithFiltersOnMetadataTypesAndColumns(String metadataType, boolean metadataColumns) {
+
+		this.contextRunner
+			.withPropertyValues("test.spring.ai.vectorstore.pgvector.metadataType=" + metadataType,
+					"test.spring.ai.vectorstore.pgvector.metadataColumns=" + metadataColumns)
+			.run(context -> {
+
+				VectorStore vectorStore = context.getBean(VectorStore.class);
+
+				var bgDocument = new Document("The World is Big and Salvation Lurks Around the Corner",
+						Map.of("country", "BG", "year", 2020, "city", "Sofia"));
+				var nlDocument = new Document("The World is Big and Salvation Lurks Around the Corner",
+						Map.of("country", "NL", "city", "Amsterdam"));
+				var bgDocument2 = new Document("The World is Big and Salvation Lurks Around the Corner",
+						Map.of("country", "BG", "year", 2023, "city", "Plovdiv \"Old Town\""));
+
+				vectorStore.add(List.of(bgDocument, nlDocument, bgDocument2));
+
+				SearchRequest searchRequest = SearchRequest.builder()
+					.query("The World")
+					.topK(5)
+					.similarityThresholdAll()
+					.build();
+
+				List<Document> results = vectorStore.similaritySearch(
+						SearchRequest.from(searchRequest).filterExpression("country == 'BG' && year >= 2021").build());
+
+				assertThat(results).extracting(Document::getId).containsExactly(bgDocument2.getId());
+
+				results = vectorStore.similaritySearch(SearchRequest.from(searchRequest)
+					.filterExpression("(country == 'BG' && city == 'Sofia') || year in [2023]")
+					.build());
+
+				assertThat(results).extracting(Document::getId)
+					.containsExactlyInAnyOrder(bgDocument.getId(), bgDocument2.getId());
+
+				results = vectorStore.similaritySearch(SearchRequest.from(searchRequest)
+					.filterExpression("NOT((country == 'BG' && year == 2020) || (country == 'NL'))")
+					.build());
+
+				assertThat(results).extracting(Document::getId).containsExactly(bgDocument2.getId());
+
+				results = vectorStore.similaritySearch(SearchRequest.from(searchRequest)
+					.filterExpression("city == 'Plovdiv \"Old Town\"'")
+					.build());
+
+				assertThat(results).extracting(Document::getId).containsExactly(bgDocument2.getId());
+
+				if (metadataColumns) {
+					// The string literal is cast to the bigint column type.
+					results = vectorStore
+						.similaritySearch(SearchRequest.from(searchRequest).filterExpression("year == '2023'").build());
+
+					assertThat(results).extracting(Document::getId).containsExactly(bgDocument2.getId());
+				}
+
+				dropTable(context);
+			});
+	}
+
+	@Test
+	public void searchEffortDoesNotLeakIntoTheCallerTransaction() {
+		this.contextRunner.run(context -> {
+
+			JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+			VectorStore vectorStore = PgVectorStore.builder(jdbcTemplate, context.getBean(EmbeddingModel.class))
+				.searchEffort(request -> new PgSearchEffort(request.getTopK() * 100, 0))
+				.build();
+
+			context.getBean(VectorStore.class).add(this.documents);
+
+			TransactionTemplate transactionTemplate = new TransactionTemplate(
+					new DataSourceTransactionManager(context.getBean(DataSource.class)));
+			transactionTemplate.executeWithoutResult(status -> {
+				jdbcTemplate.execute("SET LOCAL hnsw.ef_search = 50");
+
+				assertThat(vectorStore.similaritySearch(SearchRequest.builder().query("Depression").topK(1).build()))
+					.hasSize(1);
+				assertThat(jdbcTemplate.queryForObject("SHOW hnsw.ef_search", String.class)).isEqualTo("50");
+
+				assertThat(vectorStore.similaritySearch(SearchRequest.builder().query("Depression").topK(2).build()))
+					.hasSize(2);
+				assertThat(jdbcTemplate.queryForObject("SHOW hnsw.ef_search", String.class)).isEqualTo("50");
+			});
+
+			dropTable(context);
+		});
+	}
+
 	@ParameterizedTest(name = "{0} : {displayName} ")
 	@ValueSource(strings = { "COSINE_DISTANCE", "EUCLIDEAN_DISTANCE", "NEGATIVE_INNER_PRODUCT" })
 	public void documentUpdate(String distanceType) {
@@ -371,15 +549,34 @@ public class PgVectorStoreIT {
 		@Value("${test.spring.ai.vectorstore.pgvector.distanceType}")
 		PgVectorStore.PgDistanceType distanceType;
 
+		@Value("${test.spring.ai.vectorstore.pgvector.bulkCopyThreshold}")
+		int bulkCopyThreshold;
+
+		@Value("${test.spring.ai.vectorstore.pgvector.metadataType}")
+		PgMetadataType metadataType;
+
+		@Value("${test.spring.ai.vectorstore.pgvector.metadataColumns}")
+		boolean metadataColumns;
+
+		@Value("${test.spring.ai.vectorstore.pgvector.embeddingStorage}")
+		PgEmbeddingStorage embeddingStorage;
+
 		@Bean
 		public VectorStore vectorStore(JdbcTemplate jdbcTemplate, EmbeddingModel embeddingModel) {
-			return PgVectorStore.builder(jdbcTemplate, embeddingModel)
+			PgVectorStoreBuilder builder = PgVectorStore.builder(jdbcTemplate, embeddingModel)
 				.dimensions(PgVectorStore.INVALID_EMBEDDING_DIMENSION)
 				.distanceType(this.distanceType)
 				.initializeSchema(true)
 				.indexType(PgIndexType.HNSW)
 				.removeExistingVectorStoreTable(true)
-				.build();
+				.bulkCopyThreshold(this.bulkCopyThreshold)
+				.metadataType(this.metadataType)
+				.embeddingStorage(this.embeddingStorage);
+			if (this.metadataColumns) {
+				builder.metadataColumn("country", PgMetadataColumnType.TEXT)
+					.metadataColumn("year", PgMetadataColumnType.BIGINT);
+			}
+			return builder.build();
 		}
 
 		@Bean
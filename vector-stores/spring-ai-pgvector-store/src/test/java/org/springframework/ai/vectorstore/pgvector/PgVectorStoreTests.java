@@ -16,7 +16,12 @@
 
 package org.springframework.ai.vectorstore.pgvector;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -25,17 +30,33 @@ import org.mockito.ArgumentCaptor;
 
 import org.springframework.ai.document.Document;
 import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.vectorstore.SearchRequest;
+import org.springframework.ai.vectorstore.pgvector.PgVectorStore.PgEmbeddingStorage;
+import org.springframework.ai.vectorstore.pgvector.PgVectorStore.PgIndexType;
+import org.springframework.ai.vectorstore.pgvector.PgVectorStore.PgMetadataColumnType;
+import org.springframework.ai.vectorstore.pgvector.PgVectorStore.PgMetadataType;
+import org.springframework.ai.vectorstore.pgvector.PgVectorStore.PgSearchEffort;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.only;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * @author Muthukumaran Navaneethakrishnan
@@ -104,4 +125,251 @@ public class PgVectorStoreTests {
 			});
 	}
 
+	@Test
+	void shouldCopyDocumentsAboveTheBulkCopyThreshold() {
+		var jdbcTemplate = mock(JdbcTemplate.class);
+		var embeddingModel = mock(EmbeddingModel.class);
+		var pgVectorStore = PgVectorStore.builder(jdbcTemplate, embeddingModel).bulkCopyThreshold(100).build();
+
+		pgVectorStore.doAdd(Collections.nCopies(100, new Document("foo")));
+
+		verify(jdbcTemplate, only()).execute(any(ConnectionCallback.class));
+	}
+
+	@Test
+	void shouldInsertDocumentsBelowTheBulkCopyThreshold() {
+		var jdbcTemplate = mock(JdbcTemplate.class);
+		var embeddingModel = mock(EmbeddingModel.class);
+		var pgVectorStore = PgVectorStore.builder(jdbcTemplate, embeddingModel).bulkCopyThreshold(100).build();
+
+		pgVectorStore.doAdd(Collections.nCopies(99, new Document("foo")));
+
+		verify(jdbcTemplate, only()).batchUpdate(anyString(), any(BatchPreparedStatementSetter.class));
+		verify(jdbcTemplate, never()).execute(any(ConnectionCallback.class));
+	}
+
+	@Test
+	void shouldRejectInvalidBulkCopyThreshold() {
+		var builder = PgVectorStore.builder(mock(JdbcTemplate.class), mock(EmbeddingModel.class));
+
+		assertThatIllegalArgumentException().isThrownBy(() -> builder.bulkCopyThreshold(0));
+	}
+
+	@Test
+	void shouldDeleteDocumentsInBatchesOfIds() {
+		var jdbcTemplate = mock(JdbcTemplate.class);
+		when(jdbcTemplate.update(any(PreparedStatementCreator.class))).thenReturn(2, 1);
+		var pgVectorStore = PgVectorStore.builder(jdbcTemplate, mock(EmbeddingModel.class))
+			.maxDocumentBatchSize(2)
+			.build();
+
+		var ids = List.of(new Document("foo").getId(), new Document("bar").getId(), new Document("baz").getId());
+
+		assertThat(pgVectorStore.doDelete(ids)).contains(true);
+		verify(jdbcTemplate, times(2)).update(any(PreparedStatementCreator.class));
+	}
+
+	@Test
+	void shouldBindTheFilterParameters() {
+		var jdbcTemplate = mock(JdbcTemplate.class);
+		var embeddingModel = mock(EmbeddingModel.class);
+		when(embeddingModel.embed("query")).thenReturn(new float[] { 1.0f, 0.0f });
+		var pgVectorStore = PgVectorStore.builder(jdbcTemplate, embeddingModel)
+			.metadataType(PgMetadataType.JSONB)
+			.metadataColumn("tenant", PgMetadataColumnType.TEXT)
+			.build();
+
+		pgVectorStore.doSimilaritySearch(SearchRequest.builder()
+			.query("query")
+			.topK(3)
+			.similarityThreshold(0.25)
+			.filterExpression("tenant == 'acme' && genre == 'drama'")
+			.build());
+
+		var sqlCaptor = ArgumentCaptor.forClass(String.class);
+		var argsCaptor = ArgumentCaptor.forClass(Object[].class);
+		verify(jdbcTemplate).query(sqlCaptor.capture(), any(RowMapper.class), argsCaptor.capture());
+
+		assertThat(sqlCaptor.getValue()).contains(" AND (\"tenant\" = ?) AND (metadata @@ ?::jsonpath) ")
+			.doesNotContain("acme", "drama");
+		assertThat(argsCaptor.getValue()).hasSize(6)
+			.containsSubsequence(0.75, "acme", "$.genre == \"drama\"", 3);
+	}
+
+	@Test
+	void shouldRejectReservedMetadataColumns() {
+		var builder = PgVectorStore.builder(mock(JdbcTemplate.class), mock(EmbeddingModel.class));
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> builder.metadataColumn("metadata", PgMetadataColumnType.TEXT));
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> builder.metadataColumn("tenant id", PgMetadataColumnType.TEXT));
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@CsvSource(delimiter = '|', value = { "VECTOR | vector(3) | embedding vector_cosine_ops",
+			"HALFVEC | halfvec(3) | embedding halfvec_cosine_ops",
+			"BINARY_QUANTIZED | vector(3) | (binary_quantize(embedding)::bit(3)) bit_hamming_ops" })
+	void shouldCreateTheEmbeddingColumnAndIndex(PgEmbeddingStorage embeddingStorage, String columnType,
+			String indexedEmbedding) {
+		var jdbcTemplate = mock(JdbcTemplate.class);
+		var pgVectorStore = PgVectorStore.builder(jdbcTemplate, mock(EmbeddingModel.class))
+			.dimensions(3)
+			.initializeSchema(true)
+			.embeddingStorage(embeddingStorage)
+			.hnswM(24)
+			.hnswEfConstruction(100)
+			.build();
+
+		pgVectorStore.afterPropertiesSet();
+
+		var sqlCaptor = ArgumentCaptor.forClass(String.class);
+		verify(jdbcTemplate, atLeastOnce()).execute(sqlCaptor.capture());
+		assertThat(sqlCaptor.getAllValues()).anySatisfy(sql -> assertThat(sql).contains("embedding " + columnType))
+			.anySatisfy(sql -> assertThat(sql).contains("USING HNSW (" + indexedEmbedding + ")"
+					+ " WITH (m = 24, ef_construction = 100)"));
+	}
+
+	@Test
+	void shouldCreateTheIvfflatIndexWithTheNumberOfLists() {
+		var jdbcTemplate = mock(JdbcTemplate.class);
+		var pgVectorStore = PgVectorStore.builder(jdbcTemplate, mock(EmbeddingModel.class))
+			.dimensions(3)
+			.initializeSchema(true)
+			.indexType(PgIndexType.IVFFLAT)
+			.hnswM(24)
+			.ivfflatLists(500)
+			.build();
+
+		pgVectorStore.afterPropertiesSet();
+
+		var sqlCaptor = ArgumentCaptor.forClass(String.class);
+		verify(jdbcTemplate, atLeastOnce()).execute(sqlCaptor.capture());
+		assertThat(sqlCaptor.getAllValues()).anySatisfy(sql -> assertThat(sql)
+			.contains("USING IVFFLAT (embedding vector_cosine_ops) WITH (lists = 500)"));
+	}
+
+	@Test
+	void shouldRerankTheBinaryQuantizedCandidates() {
+		var jdbcTemplate = mock(JdbcTemplate.class);
+		var embeddingModel = mock(EmbeddingModel.class);
+		when(embeddingModel.embed("query")).thenReturn(new float[] { 1.0f, 0.0f, 0.0f });
+		var pgVectorStore = PgVectorStore.builder(jdbcTemplate, embeddingModel)
+			.dimensions(3)
+			.embeddingStorage(PgEmbeddingStorage.BINARY_QUANTIZED)
+			.oversampling(4)
+			.build();
+
+		pgVectorStore.doSimilaritySearch(SearchRequest.builder()
+			.query("query")
+			.topK(5)
+			.similarityThreshold(0.25)
+			.filterExpression("a == 1")
+			.build());
+
+		var sqlCaptor = ArgumentCaptor.forClass(String.class);
+		var argsCaptor = ArgumentCaptor.forClass(Object[].class);
+		verify(jdbcTemplate).query(sqlCaptor.capture(), any(RowMapper.class), argsCaptor.capture());
+
+		assertThat(sqlCaptor.getValue()).isEqualTo("SELECT *, embedding <=> ? AS distance FROM "
+				+ "(SELECT * FROM public.vector_store WHERE metadata::jsonb @@ ?::jsonpath "
+				+ "ORDER BY binary_quantize(embedding)::bit(3) <~> binary_quantize(?::vector) LIMIT ?) AS candidates "
+				+ "WHERE embedding <=> ? < ? ORDER BY distance LIMIT ?");
+		assertThat(argsCaptor.getValue()).hasSize(7).containsSubsequence("$.a == 1", 20, 0.75, 5);
+	}
+
+	@Test
+	void shouldSetTheSearchEffortInTheQueryTransaction() throws Exception {
+		var jdbcTemplate = mock(JdbcTemplate.class);
+		var connection = mock(Connection.class);
+		var statement = mock(Statement.class);
+		var preparedStatement = mock(PreparedStatement.class);
+		when(connection.getAutoCommit()).thenReturn(true);
+		when(connection.createStatement()).thenReturn(statement);
+		when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+		when(preparedStatement.executeQuery()).thenReturn(mock(ResultSet.class));
+		when(jdbcTemplate.execute(any(ConnectionCallback.class)))
+			.thenAnswer(invocation -> invocation.<ConnectionCallback<?>>getArgument(0).doInConnection(connection));
+
+		var embeddingModel = mock(EmbeddingModel.class);
+		when(embeddingModel.embed("query")).thenReturn(new float[] { 1.0f, 0.0f, 0.0f });
+		var pgVectorStore = PgVectorStore.builder(jdbcTemplate, embeddingModel)
+			.searchEffort(request -> new PgSearchEffort(request.getTopK() * 2, 10))
+			.build();
+
+		assertThat(pgVectorStore.doSimilaritySearch(SearchRequest.builder().query("query").topK(30).build()))
+			.isEmpty();
+
+		verify(connection).setAutoCommit(false);
+		verify(statement).execute("SET LOCAL hnsw.ef_search = 60");
+		verify(statement, never()).execute("SET LOCAL ivfflat.probes = 10");
+		verify(preparedStatement).setObject(anyInt(), eq(30));
+		verify(connection).commit();
+		verify(connection).setAutoCommit(true);
+	}
+
+	@Test
+	void shouldRaiseEfSearchToTheNumberOfRequestedResults() throws Exception {
+		var jdbcTemplate = mock(JdbcTemplate.class);
+		var connection = mock(Connection.class);
+		var statement = mock(Statement.class);
+		var preparedStatement = mock(PreparedStatement.class);
+		when(connection.createStatement()).thenReturn(statement);
+		when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+		when(preparedStatement.executeQuery()).thenReturn(mock(ResultSet.class));
+		when(jdbcTemplate.execute(any(ConnectionCallback.class)))
+			.thenAnswer(invocation -> invocation.<ConnectionCallback<?>>getArgument(0).doInConnection(connection));
+
+		var embeddingModel = mock(EmbeddingModel.class);
+		when(embeddingModel.embed("query")).thenReturn(new float[] { 1.0f, 0.0f, 0.0f });
+		var pgVectorStore = PgVectorStore.builder(jdbcTemplate, embeddingModel).build();
+
+		pgVectorStore.doSimilaritySearch(SearchRequest.builder().query("query").topK(100).build());
+
+		verify(statement).execute("SET LOCAL hnsw.ef_search = 100");
+		verify(connection, never()).commit();
+	}
+
+	@Test
+	void shouldRestoreTheSearchEffortInTheCallerTransaction() throws Exception {
+		var jdbcTemplate = mock(JdbcTemplate.class);
+		var connection = mock(Connection.class);
+		var statement = mock(Statement.class);
+		var preparedStatement = mock(PreparedStatement.class);
+		var currentSetting = mock(PreparedStatement.class);
+		var currentSettingResult = mock(ResultSet.class);
+		var setConfig = mock(PreparedStatement.class);
+		when(connection.getAutoCommit()).thenReturn(false);
+		when(connection.createStatement()).thenReturn(statement);
+		when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+		when(connection.prepareStatement("SELECT current_setting(?, true)")).thenReturn(currentSetting);
+		when(connection.prepareStatement("SELECT set_config(?, ?, true)")).thenReturn(setConfig);
+		when(preparedStatement.executeQuery()).thenReturn(mock(ResultSet.class));
+		when(currentSetting.executeQuery()).thenReturn(currentSettingResult);
+		when(currentSettingResult.next()).thenReturn(true);
+		when(currentSettingResult.getString(1)).thenReturn("40");
+		when(jdbcTemplate.execute(any(ConnectionCallback.class)))
+			.thenAnswer(invocation -> invocation.<ConnectionCallback<?>>getArgument(0).doInConnection(connection));
+
+		var embeddingModel = mock(EmbeddingModel.class);
+		when(embeddingModel.embed("query")).thenReturn(new float[] { 1.0f, 0.0f, 0.0f });
+		var pgVectorStore = PgVectorStore.builder(jdbcTemplate, embeddingModel)
+			.searchEffort(request -> new PgSearchEffort(request.getTopK() * 10, 0))
+			.build();
+
+		pgVectorStore.doSimilaritySearch(SearchRequest.builder().query("query").topK(10).build());
+		pgVectorStore.doSimilaritySearch(SearchRequest.builder().query("query").topK(20).build());
+
+		var inOrder = inOrder(statement, setConfig);
+		inOrder.verify(statement).execute("SET LOCAL hnsw.ef_search = 100");
+		inOrder.verify(setConfig).setString(2, "40");
+		inOrder.verify(setConfig).execute();
+		inOrder.verify(statement).execute("SET LOCAL hnsw.ef_search = 200");
+		inOrder.verify(setConfig).setString(2, "40");
+		inOrder.verify(setConfig).execute();
+		verify(setConfig, times(2)).setString(1, "hnsw.ef_search");
+		verify(connection, never()).setAutoCommit(anyBoolean());
+		verify(connection, never()).commit();
+	}
+
 }
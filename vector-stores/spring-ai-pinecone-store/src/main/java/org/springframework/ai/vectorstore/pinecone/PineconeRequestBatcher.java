@@ -0,0 +1,206 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore.pinecone;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import io.grpc.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.util.Assert;
+
+/**
+ * Splits the vectors and ids of the Pinecone write requests into chunks that fit the
+ * request limits, and sends the chunks concurrently. A chunk failing with a transient
+ * gRPC status is retried on its own, without the chunks that succeeded.
+ *
+ * @since 1.0.0
+ */
+final class PineconeRequestBatcher {
+
+	private static final Logger logger = LoggerFactory.getLogger(PineconeRequestBatcher.class);
+
+	private static final Set<Status.Code> RETRYABLE_CODES = EnumSet.of(Status.Code.UNAVAILABLE,
+			Status.Code.DEADLINE_EXCEEDED, Status.Code.RESOURCE_EXHAUSTED, Status.Code.ABORTED);
+
+	private final int maxConcurrentRequests;
+
+	private final int maxAttempts;
+
+	private final Duration retryBackoff;
+
+	PineconeRequestBatcher(int maxConcurrentRequests, int maxAttempts, Duration retryBackoff) {
+		Assert.isTrue(maxConcurrentRequests > 0, "maxConcurrentRequests must be greater than zero");
+		Assert.isTrue(maxAttempts > 0, "maxAttempts must be greater than zero");
+		Assert.notNull(retryBackoff, "retryBackoff must not be null");
+		this.maxConcurrentRequests = maxConcurrentRequests;
+		this.maxAttempts = maxAttempts;
+		this.retryBackoff = retryBackoff;
+	}
+
+	/**
+	 * Split the items into chunks of at most {@code maxItems} items and
+	 * {@code maxBytes} serialized bytes. An item larger than {@code maxBytes} on its own
+	 * is sent in a chunk of its own, for Pinecone to reject it.
+	 * @param items the items to split
+	 * @param maxItems the maximum number of items of a chunk
+	 * @param maxBytes the maximum serialized size of a chunk
+	 * @param baseBytes the serialized size of the request without the items
+	 * @param itemBytes the serialized size of an item in the request
+	 * @return the chunks, in the order of the items
+	 */
+	static <T> List<List<T>> chunk(List<T> items, int maxItems, int maxBytes, int baseBytes,
+			ToIntFunction<T> itemBytes) {
+		List<List<T>> chunks = new ArrayList<>();
+		List<T> chunk = new ArrayList<>();
+		int chunkBytes = baseBytes;
+		for (T item : items) {
+			int size = itemBytes.applyAsInt(item);
+			if (!chunk.isEmpty() && (chunk.size() == maxItems || chunkBytes + size > maxBytes)) {
+				chunks.add(chunk);
+				chunk = new ArrayList<>();
+				chunkBytes = baseBytes;
+			}
+			chunk.add(item);
+			chunkBytes += size;
+		}
+		if (!chunk.isEmpty()) {
+			chunks.add(chunk);
+		}
+		return chunks;
+	}
+
+	/**
+	 * Send the requests with at most {@code maxConcurrentRequests} of them in flight, and
+	 * wait for their completion. The requests failing with a transient status are sent
+	 * again, up to {@code maxAttempts} times, even when other requests failed for good.
+	 * @param requests the requests to send
+	 * @param call sends a request, returning the future of its response
+	 * @throws RuntimeException once the retries are over, the failure of the first request
+	 * that could not be sent, with the failures of the other ones as suppressed exceptions
+	 */
+	<R> void executeAll(List<R> requests, Function<R, ListenableFuture<?>> call) {
+		Map<Integer, Throwable> failures = new TreeMap<>();
+		List<Integer> pending = IntStream.range(0, requests.size()).boxed().toList();
+		for (int attempt = 1; !pending.isEmpty(); attempt++) {
+			if (attempt > 1) {
+				logger.debug("Retrying {} of {} Pinecone requests after attempt {}", pending.size(), requests.size(),
+						attempt - 1);
+				sleep(this.retryBackoff.multipliedBy(attempt - 1));
+			}
+			List<Integer> retries = new ArrayList<>();
+			for (Map.Entry<Integer, Throwable> failure : execute(pending.stream().map(requests::get).toList(), call)
+				.entrySet()) {
+				Integer index = pending.get(failure.getKey());
+				if (attempt < this.maxAttempts && isRetryable(failure.getValue())) {
+					retries.add(index);
+				}
+				else {
+					failures.put(index, failure.getValue());
+				}
+			}
+			pending = retries;
+		}
+		if (!failures.isEmpty()) {
+			throw toException(failures, requests.size());
+		}
+	}
+
+	/**
+	 * Send the requests and return the failures, by the index of their request.
+	 */
+	private <R> Map<Integer, Throwable> execute(List<R> requests, Function<R, ListenableFuture<?>> call) {
+		Semaphore permits = new Semaphore(this.maxConcurrentRequests);
+		Map<Integer, Future<?>> futures = new LinkedHashMap<>();
+		Map<Integer, Throwable> failures = new TreeMap<>();
+		for (int i = 0; i < requests.size(); i++) {
+			acquire(permits);
+			try {
+				ListenableFuture<?> future = call.apply(requests.get(i));
+				future.addListener(permits::release, Runnable::run);
+				futures.put(i, future);
+			}
+			catch (RuntimeException ex) {
+				permits.release();
+				failures.put(i, ex);
+			}
+		}
+		futures.forEach((index, future) -> {
+			try {
+				future.get();
+			}
+			catch (ExecutionException ex) {
+				failures.put(index, ex.getCause());
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				failures.put(index, ex);
+			}
+		});
+		return failures;
+	}
+
+	private static boolean isRetryable(Throwable failure) {
+		return RETRYABLE_CODES.contains(Status.fromThrowable(failure).getCode());
+	}
+
+	private static RuntimeException toException(Map<?, Throwable> failures, int requestCount) {
+		List<Throwable> causes = new ArrayList<>(failures.values());
+		Throwable first = causes.get(0);
+		RuntimeException exception = (first instanceof RuntimeException runtimeException) ? runtimeException
+				: new IllegalStateException(
+						"Failed to send " + failures.size() + " of " + requestCount + " Pinecone requests", first);
+		causes.subList(1, causes.size()).forEach(exception::addSuppressed);
+		return exception;
+	}
+
+	private static void acquire(Semaphore permits) {
+		try {
+			permits.acquire();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for a Pinecone request to complete", ex);
+		}
+	}
+
+	private static void sleep(Duration duration) {
+		try {
+			Thread.sleep(duration.toMillis());
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting to retry the Pinecone requests", ex);
+		}
+	}
+
+}
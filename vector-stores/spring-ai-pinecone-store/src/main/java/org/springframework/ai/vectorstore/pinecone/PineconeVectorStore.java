@@ -17,15 +17,23 @@
 package org.springframework.ai.vectorstore.pinecone;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.protobuf.CodedOutputStream;
 import com.google.protobuf.Struct;
 import com.google.protobuf.Value;
 import com.google.protobuf.util.JsonFormat;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import io.pinecone.PineconeClient;
 import io.pinecone.PineconeClientConfig;
 import io.pinecone.PineconeConnection;
@@ -49,7 +57,10 @@ import org.springframework.ai.vectorstore.SearchRequest;
 import org.springframework.ai.vectorstore.filter.FilterExpressionConverter;
 import org.springframework.ai.vectorstore.filter.converter.PineconeFilterExpressionConverter;
 import org.springframework.ai.vectorstore.observation.AbstractObservationVectorStore;
+import org.springframework.ai.vectorstore.observation.DefaultVectorStoreObservationConvention;
 import org.springframework.ai.vectorstore.observation.VectorStoreObservationContext;
+import org.springframework.ai.vectorstore.observation.VectorStoreObservationConvention;
+import org.springframework.ai.vectorstore.observation.VectorStoreObservationDocumentation;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
@@ -59,6 +70,14 @@ import org.springframework.util.StringUtils;
  * store supports creating, updating, deleting, and similarity searching of documents in a
  * Pinecone index.
  *
+ * <p>
+ * The upserts and deletes are split into chunks of at most {@code maxBatchSize} vectors
+ * or ids and {@code maxRequestBytes} serialized bytes, sent concurrently on the future
+ * stub. The chunks failing with a transient gRPC status are retried on their own. Each
+ * chunk is observed as an {@value #UPSERT_CHUNK_OPERATION} or
+ * {@value #DELETE_CHUNK_OPERATION} vector store operation, nested in the observation of
+ * the add or delete, which records the latency of the chunk.
+ *
  * @author Christian Tzolov
  * @author Adam Bchouti
  * @author Soby Chacko
@@ -68,6 +87,26 @@ public class PineconeVectorStore extends AbstractObservationVectorStore {
 
 	public static final String CONTENT_FIELD_NAME = "document_content";
 
+	/**
+	 * Maximum number of vectors of an upsert, and ids of a delete, accepted by Pinecone.
+	 */
+	public static final int DEFAULT_MAX_BATCH_SIZE = 1000;
+
+	/**
+	 * Maximum size of an upsert request accepted by Pinecone.
+	 */
+	public static final int DEFAULT_MAX_REQUEST_BYTES = 2 * 1024 * 1024;
+
+	public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 4;
+
+	public static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+	public static final String UPSERT_CHUNK_OPERATION = "upsert_chunk";
+
+	public static final String DELETE_CHUNK_OPERATION = "delete_chunk";
+
+	private static final VectorStoreObservationConvention DEFAULT_OBSERVATION_CONVENTION = new DefaultVectorStoreObservationConvention();
+
 	public final FilterExpressionConverter filterExpressionConverter = new PineconeFilterExpressionConverter();
 
 	private final PineconeConnection pineconeConnection;
@@ -82,6 +121,17 @@ public class PineconeVectorStore extends AbstractObservationVectorStore {
 
 	private final ObjectMapper objectMapper;
 
+	private final int maxBatchSize;
+
+	private final int maxRequestBytes;
+
+	private final PineconeRequestBatcher requestBatcher;
+
+	private final ObservationRegistry observationRegistry;
+
+	@Nullable
+	private final VectorStoreObservationConvention customObservationConvention;
+
 	/**
 	 * Creates a new PineconeVectorStore using the builder pattern.
 	 * @param builder The configured builder instance
@@ -108,6 +158,13 @@ public class PineconeVectorStore extends AbstractObservationVectorStore {
 
 		this.pineconeConnection = new PineconeClient(clientConfig).connect(connectionConfig);
 		this.objectMapper = new ObjectMapper();
+
+		this.maxBatchSize = builder.maxBatchSize;
+		this.maxRequestBytes = builder.maxRequestBytes;
+		this.requestBatcher = new PineconeRequestBatcher(builder.maxConcurrentRequests, builder.maxAttempts,
+				builder.retryBackoff);
+		this.observationRegistry = builder.getObservationRegistry();
+		this.customObservationConvention = builder.getCustomObservationConvention();
 	}
 
 	/**
@@ -127,20 +184,27 @@ public class PineconeVectorStore extends AbstractObservationVectorStore {
 	public void add(List<Document> documents, String namespace) {
 		List<float[]> embeddings = this.embeddingModel.embed(documents, EmbeddingOptionsBuilder.builder().build(),
 				this.batchingStrategy);
-		List<Vector> upsertVectors = documents.stream()
-			.map(document -> Vector.newBuilder()
+		List<Vector> upsertVectors = new ArrayList<>(documents.size());
+		for (int i = 0; i < documents.size(); i++) {
+			Document document = documents.get(i);
+			upsertVectors.add(Vector.newBuilder()
 				.setId(document.getId())
-				.addAllValues(EmbeddingUtils.toList(embeddings.get(documents.indexOf(document))))
+				.addAllValues(EmbeddingUtils.toList(embeddings.get(i)))
 				.setMetadata(metadataToStruct(document))
-				.build())
-			.toList();
+				.build());
+		}
 
-		UpsertRequest upsertRequest = UpsertRequest.newBuilder()
-			.addAllVectors(upsertVectors)
-			.setNamespace(namespace)
-			.build();
+		List<UpsertRequest> upsertRequests = PineconeRequestBatcher
+			.chunk(upsertVectors, this.maxBatchSize, this.maxRequestBytes,
+					CodedOutputStream.computeStringSize(UpsertRequest.NAMESPACE_FIELD_NUMBER, namespace),
+					vector -> CodedOutputStream.computeMessageSize(UpsertRequest.VECTORS_FIELD_NUMBER, vector))
+			.stream()
+			.map(vectors -> UpsertRequest.newBuilder().addAllVectors(vectors).setNamespace(namespace).build())
+			.toList();
 
-		this.pineconeConnection.getBlockingStub().upsert(upsertRequest);
+		this.requestBatcher.executeAll(upsertRequests,
+				request -> observeChunk(UPSERT_CHUNK_OPERATION, namespace,
+						() -> this.pineconeConnection.getFutureStub().upsert(request)));
 	}
 
 	/**
@@ -188,13 +252,21 @@ public class PineconeVectorStore extends AbstractObservationVectorStore {
 	 */
 	public Optional<Boolean> delete(List<String> documentIds, String namespace) {
 
-		DeleteRequest deleteRequest = DeleteRequest.newBuilder()
-			.setNamespace(namespace) // ignored for free tier.
-			.addAllIds(documentIds)
-			.setDeleteAll(false)
-			.build();
+		List<DeleteRequest> deleteRequests = PineconeRequestBatcher
+			.chunk(documentIds, this.maxBatchSize, this.maxRequestBytes,
+					CodedOutputStream.computeStringSize(DeleteRequest.NAMESPACE_FIELD_NUMBER, namespace),
+					id -> CodedOutputStream.computeStringSize(DeleteRequest.IDS_FIELD_NUMBER, id))
+			.stream()
+			.map(ids -> DeleteRequest.newBuilder()
+				.setNamespace(namespace) // ignored for free tier.
+				.addAllIds(ids)
+				.setDeleteAll(false)
+				.build())
+			.toList();
 
-		this.pineconeConnection.getBlockingStub().delete(deleteRequest);
+		this.requestBatcher.executeAll(deleteRequests,
+				request -> observeChunk(DELETE_CHUNK_OPERATION, namespace,
+						() -> this.pineconeConnection.getFutureStub().delete(request)));
 
 		// The Pinecone delete API does not provide deletion status info.
 		return Optional.of(true);
@@ -210,6 +282,52 @@ public class PineconeVectorStore extends AbstractObservationVectorStore {
 		return delete(documentIds, this.pineconeNamespace);
 	}
 
+	/**
+	 * Send a chunk request, observed from its start to the completion of its response.
+	 * @param operationName the name of the chunk operation
+	 * @param namespace the namespace of the request
+	 * @param call sends the request
+	 * @return the future of the response
+	 */
+	private ListenableFuture<?> observeChunk(String operationName, String namespace,
+			Supplier<ListenableFuture<?>> call) {
+		VectorStoreObservationContext observationContext = this.createObservationContextBuilder(operationName)
+			.namespace(namespace)
+			.build();
+
+		Observation observation = VectorStoreObservationDocumentation.AI_VECTOR_STORE
+			.observation(this.customObservationConvention, DEFAULT_OBSERVATION_CONVENTION, () -> observationContext,
+					this.observationRegistry)
+			.start();
+
+		ListenableFuture<?> future;
+		try {
+			future = call.get();
+		}
+		catch (RuntimeException ex) {
+			observation.error(ex);
+			observation.stop();
+			throw ex;
+		}
+		ListenableFuture<?> response = future;
+		response.addListener(() -> {
+			try {
+				response.get();
+			}
+			catch (ExecutionException ex) {
+				observation.error(ex.getCause());
+			}
+			catch (CancellationException ex) {
+				observation.error(ex);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			observation.stop();
+		}, Runnable::run);
+		return response;
+	}
+
 	public List<Document> similaritySearch(SearchRequest request, String namespace) {
 
 		String nativeExpressionFilters = (request.getFilterExpression() != null)
@@ -314,6 +432,16 @@ public class PineconeVectorStore extends AbstractObservationVectorStore {
 
 		private Duration serverSideTimeout = Duration.ofSeconds(20);
 
+		private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+		private int maxRequestBytes = DEFAULT_MAX_REQUEST_BYTES;
+
+		private int maxConcurrentRequests = DEFAULT_MAX_CONCURRENT_REQUESTS;
+
+		private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+
+		private Duration retryBackoff = Duration.ofMillis(500);
+
 		private Builder(EmbeddingModel embeddingModel, String apiKey, String projectId, String environment,
 				String indexName) {
 			super(embeddingModel);
@@ -371,6 +499,65 @@ public class PineconeVectorStore extends AbstractObservationVectorStore {
 			return this;
 		}
 
+		/**
+		 * Sets the maximum number of vectors of an upsert request, and of ids of a delete
+		 * request. Larger additions and deletions are split into several requests.
+		 * @param maxBatchSize the maximum number of vectors or ids of a request
+		 * @return The builder instance
+		 */
+		public Builder maxBatchSize(int maxBatchSize) {
+			Assert.isTrue(maxBatchSize > 0, "MaxBatchSize must be greater than zero");
+			this.maxBatchSize = maxBatchSize;
+			return this;
+		}
+
+		/**
+		 * Sets the maximum serialized size of an upsert or delete request.
+		 * @param maxRequestBytes the maximum size of a request, in bytes
+		 * @return The builder instance
+		 */
+		public Builder maxRequestBytes(int maxRequestBytes) {
+			Assert.isTrue(maxRequestBytes > 0, "MaxRequestBytes must be greater than zero");
+			this.maxRequestBytes = maxRequestBytes;
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of upsert or delete requests in flight at once.
+		 * @param maxConcurrentRequests the maximum number of concurrent requests
+		 * @return The builder instance
+		 */
+		public Builder maxConcurrentRequests(int maxConcurrentRequests) {
+			Assert.isTrue(maxConcurrentRequests > 0, "MaxConcurrentRequests must be greater than zero");
+			this.maxConcurrentRequests = maxConcurrentRequests;
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of attempts of an upsert or delete request failing with
+		 * a transient gRPC status ({@code UNAVAILABLE}, {@code DEADLINE_EXCEEDED},
+		 * {@code RESOURCE_EXHAUSTED} or {@code ABORTED}).
+		 * @param maxAttempts the maximum number of attempts, 1 to disable the retries
+		 * @return The builder instance
+		 */
+		public Builder maxAttempts(int maxAttempts) {
+			Assert.isTrue(maxAttempts > 0, "MaxAttempts must be greater than zero");
+			this.maxAttempts = maxAttempts;
+			return this;
+		}
+
+		/**
+		 * Sets the backoff before the retries of the failed requests, multiplied by the
+		 * number of the failed attempt.
+		 * @param retryBackoff the retry backoff
+		 * @return The builder instance
+		 */
+		public Builder retryBackoff(Duration retryBackoff) {
+			Assert.notNull(retryBackoff, "RetryBackoff must not be null");
+			this.retryBackoff = retryBackoff;
+			return this;
+		}
+
 		/**
 		 * Builds a new PineconeVectorStore instance with the configured properties.
 		 * @return A new PineconeVectorStore instance
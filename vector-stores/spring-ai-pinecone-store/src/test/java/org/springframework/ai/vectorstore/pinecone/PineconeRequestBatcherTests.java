@@ -0,0 +1,153 @@
+/*
+ * Copyright 2023-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.ai.vectorstore.pinecone;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.SettableFuture;
+import io.grpc.Status;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Unit tests for {@link PineconeRequestBatcher}.
+ *
+ * @since 1.0.0
+ */
+class PineconeRequestBatcherTests {
+
+	private final PineconeRequestBatcher batcher = new PineconeRequestBatcher(2, 3, Duration.ZERO);
+
+	@Test
+	void chunksByItemCount() {
+		List<List<String>> chunks = PineconeRequestBatcher.chunk(List.of("a", "b", "c", "d", "e"), 2, 100, 0,
+				String::length);
+
+		assertThat(chunks).containsExactly(List.of("a", "b"), List.of("c", "d"), List.of("e"));
+	}
+
+	@Test
+	void chunksBySerializedSize() {
+		List<List<String>> chunks = PineconeRequestBatcher.chunk(List.of("aaa", "bbb", "cc", "dddddddddd", "e"), 10,
+				8, 2, String::length);
+
+		assertThat(chunks).containsExactly(List.of("aaa", "bbb"), List.of("cc"), List.of("dddddddddd"),
+				List.of("e"));
+	}
+
+	@Test
+	void retriesOnlyTheFailedRequests() {
+		Map<String, AtomicInteger> attempts = new ConcurrentHashMap<>();
+
+		this.batcher.executeAll(List.of("a", "b", "c"), request -> {
+			int attempt = attempts.computeIfAbsent(request, key -> new AtomicInteger()).incrementAndGet();
+			if (request.equals("b") && attempt < 3) {
+				return Futures.immediateFailedFuture(Status.UNAVAILABLE.asRuntimeException());
+			}
+			return Futures.immediateFuture(request);
+		});
+
+		assertThat(attempts).containsOnlyKeys("a", "b", "c");
+		assertThat(attempts.get("a")).hasValue(1);
+		assertThat(attempts.get("b")).hasValue(3);
+		assertThat(attempts.get("c")).hasValue(1);
+	}
+
+	@Test
+	void failsAfterTheLastAttempt() {
+		AtomicInteger attempts = new AtomicInteger();
+
+		assertThatExceptionOfType(RuntimeException.class).isThrownBy(() -> this.batcher.executeAll(List.of("a"), r -> {
+			attempts.incrementAndGet();
+			return Futures.immediateFailedFuture(Status.DEADLINE_EXCEEDED.asRuntimeException());
+		})).satisfies(ex -> assertThat(Status.fromThrowable(ex).getCode()).isEqualTo(Status.Code.DEADLINE_EXCEEDED));
+		assertThat(attempts).hasValue(3);
+	}
+
+	@Test
+	void doesNotRetryPermanentFailures() {
+		AtomicInteger attempts = new AtomicInteger();
+
+		assertThatExceptionOfType(RuntimeException.class).isThrownBy(() -> this.batcher.executeAll(List.of("a", "b"),
+				request -> {
+					attempts.incrementAndGet();
+					return request.equals("a")
+							? Futures.immediateFailedFuture(Status.INVALID_ARGUMENT.asRuntimeException())
+							: Futures.immediateFuture(request);
+				}))
+			.satisfies(ex -> assertThat(Status.fromThrowable(ex).getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT));
+		assertThat(attempts).hasValue(2);
+	}
+
+	@Test
+	void retriesTransientFailuresAlongsidePermanentFailures() {
+		Map<String, AtomicInteger> attempts = new ConcurrentHashMap<>();
+
+		assertThatExceptionOfType(RuntimeException.class).isThrownBy(() -> this.batcher
+			.executeAll(List.of("a", "b", "c"), request -> {
+				int attempt = attempts.computeIfAbsent(request, key -> new AtomicInteger()).incrementAndGet();
+				if (request.equals("a")) {
+					return Futures.immediateFailedFuture(Status.INVALID_ARGUMENT.asRuntimeException());
+				}
+				if (request.equals("c") || attempt < 2) {
+					return Futures.immediateFailedFuture(Status.UNAVAILABLE.asRuntimeException());
+				}
+				return Futures.immediateFuture(request);
+			}))
+			.satisfies(ex -> assertThat(Status.fromThrowable(ex).getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT))
+			.satisfies(ex -> assertThat(ex.getSuppressed()).singleElement()
+				.satisfies(suppressed -> assertThat(Status.fromThrowable(suppressed).getCode())
+					.isEqualTo(Status.Code.UNAVAILABLE)));
+		assertThat(attempts.get("a")).hasValue(1);
+		assertThat(attempts.get("b")).hasValue(2);
+		assertThat(attempts.get("c")).hasValue(3);
+	}
+
+	@Test
+	void limitsTheRequestsInFlight() {
+		ScheduledExecutorService executor = Executors.newScheduledThreadPool(4);
+		AtomicInteger inFlight = new AtomicInteger();
+		AtomicInteger maxInFlight = new AtomicInteger();
+		try {
+			this.batcher.executeAll(List.of(1, 2, 3, 4, 5, 6), request -> {
+				maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+				SettableFuture<Integer> future = SettableFuture.create();
+				executor.schedule(() -> {
+					inFlight.decrementAndGet();
+					future.set(request);
+				}, 20, TimeUnit.MILLISECONDS);
+				return future;
+			});
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(maxInFlight).hasValueBetween(1, 2);
+	}
+
+}
@@ -129,6 +129,14 @@ public class PineconeVectorStoreObservationIT {
 				.hasBeenStarted()
 				.hasBeenStopped();
 
+			TestObservationRegistryAssert.assertThat(observationRegistry)
+				.hasAnObservation(observation -> observation
+					.hasContextualNameEqualTo("%s %s".formatted(VectorStoreProvider.PINECONE.value(),
+							PineconeVectorStore.UPSERT_CHUNK_OPERATION))
+					.hasLowCardinalityKeyValue(LowCardinalityKeyNames.DB_OPERATION_NAME.asString(),
+							PineconeVectorStore.UPSERT_CHUNK_OPERATION)
+					.hasBeenStopped());
+
 			Awaitility.await()
 				.until(() -> vectorStore
 					.similaritySearch(SearchRequest.builder().query("What is Great Depression").topK(1).build()),